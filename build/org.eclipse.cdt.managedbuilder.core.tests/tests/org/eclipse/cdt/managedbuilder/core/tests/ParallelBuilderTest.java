@@ -0,0 +1,274 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.managedbuilder.core.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.eclipse.cdt.managedbuilder.buildmodel.IBuildCommand;
+import org.eclipse.cdt.managedbuilder.buildmodel.IBuildDescription;
+import org.eclipse.cdt.managedbuilder.buildmodel.IBuildResource;
+import org.eclipse.cdt.managedbuilder.buildmodel.IBuildStep;
+import org.eclipse.cdt.managedbuilder.core.IConfiguration;
+import org.eclipse.cdt.managedbuilder.internal.buildmodel.BuildProcessManager;
+import org.eclipse.cdt.managedbuilder.internal.buildmodel.BuildStepDurations;
+import org.eclipse.cdt.managedbuilder.internal.buildmodel.ParallelBuilder;
+import org.eclipse.cdt.managedbuilder.internal.buildmodel.ProcessLauncher;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.Path;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the scheduling of the build steps by the parallel internal builder.
+ * The build steps are stubs, only the processes of the last test are run.
+ */
+public class ParallelBuilderTest {
+	private File fTmpDir;
+	private IBuildDescription fDes;
+	private IBuildStep fInputStep;
+	private final Map<IBuildStep, List<IBuildResource>> fOutputs = new HashMap<>();
+	private final Map<IBuildResource, List<IBuildStep>> fDependents = new HashMap<>();
+
+	private class TestBuilder extends ParallelBuilder {
+		TestBuilder() {
+			super(new Path(fTmpDir.getAbsolutePath()), null, null, null, new NullProgressMonitor(), false, true, null,
+					fDes);
+			enqueueAll(fDes);
+			sortQueue();
+		}
+
+		List<IBuildStep> getQueuedSteps() {
+			return queue.stream().map(BuildQueueElement::getStep).collect(Collectors.toList());
+		}
+
+		List<IBuildStep> getDependents(IBuildStep step) {
+			return queueHash.get(step).getDependents().stream().map(BuildQueueElement::getStep)
+					.collect(Collectors.toList());
+		}
+
+		int getWaitingFor(IBuildStep step) {
+			return queueHash.get(step).getWaitingFor();
+		}
+
+		long getCriticalPath(IBuildStep step) {
+			return queueHash.get(step).getCriticalPath();
+		}
+
+		int dispatch() {
+			return dispatch(new BuildProcessManager(null, null, false, 2));
+		}
+	}
+
+	@BeforeEach
+	public void setUp() throws Exception {
+		fTmpDir = File.createTempFile("parallelBuilder", "");
+		fTmpDir.delete();
+		fTmpDir.mkdirs();
+		IConfiguration cfg = stub(IConfiguration.class, "cfg", Map.of());
+		fInputStep = step("input", false);
+		IBuildStep outputStep = step("output", false);
+		fDes = stub(IBuildDescription.class, "des",
+				Map.of("getConfiguration", cfg, "getInputStep", fInputStep, "getOutputStep", outputStep));
+	}
+
+	@AfterEach
+	public void tearDown() throws Exception {
+		for (File file : fTmpDir.listFiles()) {
+			file.delete();
+		}
+		fTmpDir.delete();
+	}
+
+	@Test
+	public void testDependenciesThroughUpToDateSteps() throws Exception {
+		// input -> a -> upToDate -> c, and a -> c directly
+		IBuildStep a = step("a", true);
+		IBuildStep upToDate = step("upToDate", false);
+		IBuildStep c = step("c", true);
+		connect(fInputStep, a);
+		connect(a, upToDate);
+		connect(upToDate, c);
+		connect(a, c);
+
+		TestBuilder builder = new TestBuilder();
+		assertEquals(List.of(a, c), builder.getQueuedSteps());
+		assertEquals(0, builder.getWaitingFor(a));
+		assertEquals(1, builder.getWaitingFor(c));
+		assertEquals(List.of(c), builder.getDependents(a));
+	}
+
+	@Test
+	public void testStepsOnLongestChainsFirst() throws Exception {
+		// input -> short, and input -> a -> b -> c, and input -> d -> e
+		IBuildStep shortStep = step("short", true);
+		IBuildStep a = step("a", true);
+		IBuildStep b = step("b", true);
+		IBuildStep c = step("c", true);
+		IBuildStep d = step("d", true);
+		IBuildStep e = step("e", true);
+		connect(fInputStep, shortStep);
+		connect(fInputStep, a);
+		connect(a, b);
+		connect(b, c);
+		connect(fInputStep, d);
+		connect(d, e);
+
+		TestBuilder builder = new TestBuilder();
+		long duration = builder.getCriticalPath(shortStep);
+		assertTrue(duration > 0);
+		assertEquals(3 * duration, builder.getCriticalPath(a));
+		assertEquals(2 * duration, builder.getCriticalPath(d));
+		assertEquals(2 * duration, builder.getCriticalPath(b));
+		// The chains of the same length by level
+		assertEquals(List.of(a, d, b, shortStep, e, c), builder.getQueuedSteps());
+	}
+
+	@Test
+	public void testStepsWaitingForEachOtherAreAnError() throws Exception {
+		// input -> a -> b -> a
+		IBuildStep a = step("a", true);
+		IBuildStep b = step("b", true);
+		connect(fInputStep, a);
+		connect(a, b);
+		connect(b, a);
+
+		TestBuilder builder = new TestBuilder();
+		assertEquals(1, builder.getWaitingFor(a));
+		assertEquals(1, builder.getWaitingFor(b));
+		assertEquals(ParallelBuilder.STATUS_ERROR, builder.dispatch());
+	}
+
+	@Test
+	public void testDurationsAreAveragedAndSaved() throws Exception {
+		File file = new File(fTmpDir, "test.durations");
+		IBuildStep a = step("a", true);
+		IBuildStep b = step("b", true);
+		IBuildStep noOutput = stub(IBuildStep.class, "noOutput", Map.of("getOutputResources", new IBuildResource[0]));
+		BuildStepDurations durations = BuildStepDurations.load(file);
+		assertEquals(42, durations.getDuration(a, 42));
+		assertEquals(42, durations.getAverageDuration(42));
+
+		durations.record(a, 100);
+		durations.record(a, 300);
+		durations.record(b, 1000);
+		durations.record(noOutput, 5000);
+		assertEquals(200, durations.getDuration(a, 42));
+		assertEquals(1000, durations.getDuration(b, 42));
+		assertEquals(42, durations.getDuration(noOutput, 42));
+		assertEquals(600, durations.getAverageDuration(42));
+		durations.save();
+
+		BuildStepDurations loaded = BuildStepDurations.load(file);
+		assertEquals(200, loaded.getDuration(a, 42));
+		assertEquals(1000, loaded.getDuration(b, 42));
+		assertEquals(600, loaded.getAverageDuration(42));
+	}
+
+	@Test
+	public void testCompletionWakesUpDispatcher() throws Exception {
+		BuildProcessManager mgr = new BuildProcessManager(new ByteArrayOutputStream(), new ByteArrayOutputStream(),
+				false, 2);
+		IPath java = new Path(System.getProperty("java.home")).append("bin").append("java");
+		IPath cwd = new Path(fTmpDir.getAbsolutePath());
+
+		int completions = mgr.getCompletionCount();
+		ProcessLauncher launcher = mgr.launchProcess(command(java, "-version"), cwd, new NullProgressMonitor());
+		long start = System.currentTimeMillis();
+		mgr.waitForCompletion(completions, 60000);
+		assertTrue(System.currentTimeMillis() - start < 60000, "The completion should end the wait");
+		assertEquals(completions + 1, mgr.getCompletionCount());
+		assertEquals(ProcessLauncher.STATE_DONE, launcher.queryState());
+
+		// A process which cannot be launched completes right away
+		completions = mgr.getCompletionCount();
+		mgr.launchProcess(command(new Path(fTmpDir.getAbsolutePath()).append("missing"), "-version"), cwd,
+				new NullProgressMonitor());
+		assertEquals(completions + 1, mgr.getCompletionCount());
+		start = System.currentTimeMillis();
+		mgr.waitForCompletion(completions, 60000);
+		assertTrue(System.currentTimeMillis() - start < 60000, "A past completion should end the wait");
+	}
+
+	private IBuildStep step(String name, boolean needsRebuild) {
+		IBuildResource output = stub(IBuildResource.class, name + ".o",
+				Map.of("getLocation", new Path(fTmpDir.getAbsolutePath()).append(name + ".o")));
+		List<IBuildResource> outputs = new ArrayList<>(List.of(output));
+		fDependents.put(output, new ArrayList<>());
+		Map<String, Object> results = new HashMap<>();
+		results.put("getOutputResources", (Answer) () -> outputs.toArray(new IBuildResource[0]));
+		results.put("getInputResources", new IBuildResource[0]);
+		results.put("getBuildDescription", (Answer) () -> fDes);
+		results.put("needsRebuild", needsRebuild);
+		results.put("isRemoved", false);
+		results.put("getCommands", new IBuildCommand[0]);
+		IBuildStep step = stub(IBuildStep.class, name, results);
+		fOutputs.put(step, outputs);
+		return step;
+	}
+
+	/**
+	 * Makes the second step use the output of the first one.
+	 */
+	private void connect(IBuildStep from, IBuildStep to) {
+		fDependents.get(fOutputs.get(from).get(0)).add(to);
+	}
+
+	private IBuildCommand command(IPath command, String arg) {
+		return stub(IBuildCommand.class, command.lastSegment(),
+				Map.of("getCommand", command, "getArgs", new String[] { arg }, "getEnvironment", System.getenv()));
+	}
+
+	/** A lazily computed result of a stub method */
+	private interface Answer {
+		Object get();
+	}
+
+	/**
+	 * Creates a stub whose methods return the given results by name, and null, false or zero otherwise.
+	 */
+	private <T> T stub(Class<T> type, String name, Map<String, Object> results) {
+		Object stub = Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { type },
+				(proxy, method, args) -> {
+					switch (method.getName()) {
+					case "equals":
+						return proxy == args[0];
+					case "hashCode":
+						return System.identityHashCode(proxy);
+					case "toString":
+						return name;
+					case "getDependentSteps":
+						List<IBuildStep> steps = fDependents.get(proxy);
+						return steps != null ? steps.toArray(new IBuildStep[0]) : new IBuildStep[0];
+					}
+					Object result = results.get(method.getName());
+					if (result instanceof Answer)
+						return ((Answer) result).get();
+					if (result == null && method.getReturnType() == boolean.class)
+						return false;
+					if (result == null && method.getReturnType() == int.class)
+						return 0;
+					return result;
+				});
+		return type.cast(stub);
+	}
+}
@@ -35,6 +35,8 @@ public class BuildProcessManager {
 	protected boolean show;
 	protected Vector<ProcessLauncher> processes;
 	protected int maxProcesses;
+	private final Object completionLock = new Object();
+	private int completionCount;
 
 	/**
 	 * Initializes process manager
@@ -70,16 +72,14 @@ public class BuildProcessManager {
 	public ProcessLauncher launchProcess(IBuildCommand cmd, IPath cwd, IProgressMonitor monitor) {
 		for (int i = 0; i < maxProcesses; i++) {
 			if (i >= processes.size()) {
-				ProcessLauncher process = new ProcessLauncher(cmd.getCommand(), cmd.getArgs(),
-						mapToStringArray(cmd.getEnvironment()), cwd, out, err, monitor, show);
+				ProcessLauncher process = createProcess(cmd, cwd, monitor);
 				processes.add(process);
 				process.launch();
 				return process;
 
 			}
 			if (processes.get(i).queryState() == ProcessLauncher.STATE_DONE) {
-				ProcessLauncher process = new ProcessLauncher(cmd.getCommand(), cmd.getArgs(),
-						mapToStringArray(cmd.getEnvironment()), cwd, out, err, monitor, show);
+				ProcessLauncher process = createProcess(cmd, cwd, monitor);
 				processes.set(i, process);
 				process.launch();
 				return process;
@@ -88,6 +88,49 @@ public class BuildProcessManager {
 		return null;
 	}
 
+	private ProcessLauncher createProcess(IBuildCommand cmd, IPath cwd, IProgressMonitor monitor) {
+		ProcessLauncher process = new ProcessLauncher(cmd.getCommand(), cmd.getArgs(),
+				mapToStringArray(cmd.getEnvironment()), cwd, out, err, monitor, show);
+		process.setCompletionListener(this::processCompleted);
+		return process;
+	}
+
+	private void processCompleted() {
+		synchronized (completionLock) {
+			completionCount++;
+			completionLock.notifyAll();
+		}
+	}
+
+	/**
+	 * Returns the number of launched processes that have completed so far,
+	 * to be passed to {@link #waitForCompletion(int, long)}
+	 */
+	public int getCompletionCount() {
+		synchronized (completionLock) {
+			return completionCount;
+		}
+	}
+
+	/**
+	 * Waits until a process completes after the given number of processes
+	 * have completed, or until the timeout elapses
+	 *
+	 * @param count Number of completed processes returned by {@link #getCompletionCount()}
+	 * @param timeout Maximum time to wait, in milliseconds
+	 */
+	public void waitForCompletion(int count, long timeout) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + timeout;
+		synchronized (completionLock) {
+			while (completionCount == count) {
+				long delay = deadline - System.currentTimeMillis();
+				if (delay <= 0)
+					return;
+				completionLock.wait(delay);
+			}
+		}
+	}
+
 	/**
 	 * Checks states of all currently running processes. If it finds
 	 * one with state other than STATE_DONE or STATE_RUNNING, it is
@@ -0,0 +1,168 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.managedbuilder.internal.buildmodel;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Properties;
+
+import org.eclipse.cdt.managedbuilder.buildmodel.IBuildResource;
+import org.eclipse.cdt.managedbuilder.buildmodel.IBuildStep;
+import org.eclipse.cdt.managedbuilder.core.IConfiguration;
+import org.eclipse.cdt.managedbuilder.core.ManagedBuilderCorePlugin;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.IPath;
+
+/**
+ * The durations of the build steps of a configuration measured by the previous
+ * builds, used by the parallel builder to start the steps on the longest chains
+ * first. A step is identified by the locations of its outputs.
+ */
+public class BuildStepDurations {
+	private static final String FILE_EXTENSION = ".durations"; //$NON-NLS-1$
+	/** The weight of the last measure in the duration of a step, in percent */
+	private static final int LAST_MEASURE_WEIGHT = 50;
+
+	private final File fFile;
+	private final Properties fDurations = new Properties();
+	private boolean fIsDirty;
+
+	private BuildStepDurations(File file) {
+		fFile = file;
+	}
+
+	/**
+	 * Loads the durations of the steps of a configuration, empty if the
+	 * configuration was never built in parallel
+	 */
+	public static BuildStepDurations load(IConfiguration cfg) {
+		File file = null;
+		IResource owner = cfg.getOwner();
+		if (owner != null && ManagedBuilderCorePlugin.getDefault() != null) {
+			IProject project = owner.getProject();
+			IPath path = BuildStateManager.getInstance().getPrefsDirPath(project);
+			file = path.append(cfg.getId() + FILE_EXTENSION).toFile();
+		}
+		return load(file);
+	}
+
+	/**
+	 * Loads the durations of the steps from the given file, empty if the file
+	 * does not exist
+	 *
+	 * @param file the file the durations are saved to, or null if they are not saved
+	 */
+	public static BuildStepDurations load(File file) {
+		BuildStepDurations durations = new BuildStepDurations(file);
+		if (file != null && file.exists()) {
+			try (InputStream iStream = new FileInputStream(file)) {
+				durations.fDurations.load(iStream);
+			} catch (IOException | IllegalArgumentException e) {
+				ManagedBuilderCorePlugin.log(e);
+			}
+		}
+		return durations;
+	}
+
+	/**
+	 * Returns the duration of the step in milliseconds, or the given duration
+	 * if the step was never built
+	 */
+	public long getDuration(IBuildStep step, long defaultDuration) {
+		String key = getKey(step);
+		if (key == null)
+			return defaultDuration;
+		Long duration = parse(fDurations.getProperty(key));
+		return duration != null ? duration : defaultDuration;
+	}
+
+	/**
+	 * Returns the average duration of the steps in milliseconds, or the given
+	 * duration if no step was built
+	 */
+	public long getAverageDuration(long defaultDuration) {
+		long total = 0;
+		int count = 0;
+		for (Object value : fDurations.values()) {
+			Long duration = parse((String) value);
+			if (duration != null) {
+				total += duration;
+				count++;
+			}
+		}
+		return count > 0 ? total / count : defaultDuration;
+	}
+
+	/**
+	 * Records the measured duration of the step, in milliseconds
+	 */
+	public void record(IBuildStep step, long duration) {
+		String key = getKey(step);
+		if (key == null)
+			return;
+		Long previous = parse(fDurations.getProperty(key));
+		if (previous != null)
+			duration = (duration * LAST_MEASURE_WEIGHT + previous * (100 - LAST_MEASURE_WEIGHT)) / 100;
+		fDurations.setProperty(key, Long.toString(duration));
+		fIsDirty = true;
+	}
+
+	/**
+	 * Saves the durations if they changed since they were loaded
+	 */
+	public void save() {
+		if (!fIsDirty || fFile == null)
+			return;
+
+		File parent = fFile.getParentFile();
+		if (!parent.exists())
+			parent.mkdirs();
+
+		try (OutputStream oStream = new FileOutputStream(fFile)) {
+			fDurations.store(oStream, ""); //$NON-NLS-1$
+			fIsDirty = false;
+		} catch (IOException e) {
+			ManagedBuilderCorePlugin.log(e);
+		}
+	}
+
+	private static String getKey(IBuildStep step) {
+		IBuildResource[] outputs = step.getOutputResources();
+		String[] locations = new String[outputs.length];
+		int count = 0;
+		for (IBuildResource output : outputs) {
+			IPath location = output.getLocation();
+			if (location != null)
+				locations[count++] = location.toString();
+		}
+		if (count == 0)
+			return null;
+		// The outputs are not always in the same order
+		Arrays.sort(locations, 0, count);
+		return String.join(File.pathSeparator, Arrays.copyOf(locations, count));
+	}
+
+	private static Long parse(String value) {
+		if (value == null)
+			return null;
+		try {
+			return Long.valueOf(value);
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
+}
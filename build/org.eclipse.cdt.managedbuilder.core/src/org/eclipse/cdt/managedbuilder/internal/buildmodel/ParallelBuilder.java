@@ -17,12 +17,15 @@ package org.eclipse.cdt.managedbuilder.internal.buildmodel;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedList;
-import java.util.Vector;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
 
 import org.eclipse.cdt.core.CCorePlugin;
 import org.eclipse.cdt.managedbuilder.buildmodel.IBuildCommand;
@@ -52,7 +55,10 @@ public class ParallelBuilder {
 	public static final int STATUS_ERROR = 1;
 	public static final int STATUS_CANCELED = 2;
 	public static final int STATUS_INVALID = -1;
+	/** The longest time waiting for a process to complete before checking whether the build is canceled */
 	public static final long MAIN_LOOP_DELAY = 50L;
+	/** The duration of the steps when no step has been built yet, in milliseconds */
+	private static final long DEFAULT_STEP_DURATION = 1000L;
 
 	private static final String BUILDER_MSG_HEADER = "InternalBuilder.msg.header"; //$NON-NLS-1$
 	private static final String LINE_SEPARATOR = System.getProperty("line.separator", "\n"); //$NON-NLS-1$ //$NON-NLS-2$
@@ -71,6 +77,7 @@ public class ParallelBuilder {
 	protected LinkedList<BuildQueueElement> queue = new LinkedList<>();
 	private IResourceRebuildStateContainer fRebuildStateContainer;
 	private IBuildDescription fDes;
+	private BuildStepDurations fDurations;
 
 	/**
 	 * This class implements queue element
@@ -78,6 +85,12 @@ public class ParallelBuilder {
 	protected class BuildQueueElement implements Comparable<BuildQueueElement> {
 		protected IBuildStep step;
 		protected int level;
+		/** The queued steps using the outputs of this step, directly or through steps not queued */
+		protected List<BuildQueueElement> dependents = new ArrayList<>();
+		/** The number of queued steps producing inputs of this step which are not built yet */
+		protected int waitingFor;
+		/** The estimated duration of the longest chain of steps starting with this step */
+		protected long criticalPath = -1;
 
 		public BuildQueueElement(IBuildStep _step, int _level) {
 			step = _step;
@@ -96,6 +109,18 @@ public class ParallelBuilder {
 			level = _level;
 		}
 
+		public long getCriticalPath() {
+			return criticalPath;
+		}
+
+		public int getWaitingFor() {
+			return waitingFor;
+		}
+
+		public List<BuildQueueElement> getDependents() {
+			return dependents;
+		}
+
 		@Override
 		public int hashCode() {
 			return step.hashCode();
@@ -106,6 +131,11 @@ public class ParallelBuilder {
 			if (elem == null)
 				throw new NullPointerException();
 
+			// The steps on the longest chains first, so that they do not delay the end of the build
+			if (elem.getCriticalPath() > criticalPath)
+				return 1;
+			if (elem.getCriticalPath() < criticalPath)
+				return -1;
 			if (elem.getLevel() > level)
 				return -1;
 			if (elem.getLevel() < level)
@@ -141,6 +171,8 @@ public class ParallelBuilder {
 		protected IBuildCommand[] cmds;
 		protected int activeCmd;
 		protected boolean done;
+		protected boolean failed;
+		protected long startTime = System.currentTimeMillis();
 		protected ProcessLauncher launcher;
 
 		public ActiveBuildStep(IBuildStep _step) {
@@ -226,8 +258,9 @@ public class ParallelBuilder {
 	/**
 	 * Build process is divided into following steps:
 	 * 1. Resources enqueueing & levelling
-	 * 2. Queue sorting
-	 * 3. Queue dispatching
+	 * 2. Queue sorting, by the estimated duration of the longest chain of
+	 *    steps starting with each step, from the durations of the previous builds
+	 * 3. Queue dispatching, starting the steps as soon as their inputs are built
 	 *
 	 * @param des Build description
 	 * @param cwd Working directory
@@ -271,6 +304,7 @@ public class ParallelBuilder {
 		BuildProcessManager buildProcessManager = new BuildProcessManager(out, err, true, threads);
 		status = builder.dispatch(buildProcessManager);
 		lastThreadsUsed = buildProcessManager.getThreadsUsed();
+		builder.fDurations.save();
 		monitor.done();
 
 		if (status == IBuildModelBuilder.STATUS_OK) {
@@ -406,6 +440,7 @@ public class ParallelBuilder {
 		buildIncrementally = _buildIncrementally;
 		fRebuildStateContainer = _fRebuildStateContainer;
 		fDes = _fDes;
+		fDurations = BuildStepDurations.load(_fDes.getConfiguration());
 	}
 
 	/**
@@ -420,12 +455,15 @@ public class ParallelBuilder {
 	 */
 	protected void sortQueue() {
 		for (BuildQueueElement elem : unsorted) {
+			addDependents(elem, elem.getStep(), new HashSet<>());
+		}
+		long defaultDuration = fDurations.getAverageDuration(DEFAULT_STEP_DURATION);
+		for (BuildQueueElement elem : unsorted) {
+			computeCriticalPath(elem, defaultDuration);
 			queue.add(elem);
 		}
 		unsorted.clear();
 		unsorted = null;
-		queueHash.clear();
-		queueHash = null;
 
 		Collections.sort(queue);
 	}
@@ -458,6 +496,43 @@ public class ParallelBuilder {
 		}
 	}
 
+	/**
+	 * Finds the queued steps which use the outputs of the given step, directly
+	 * or through steps which are not queued because they are up to date
+	 */
+	private void addDependents(BuildQueueElement elem, IBuildStep step, Set<IBuildStep> visited) {
+		for (IBuildResource resource : step.getOutputResources()) {
+			for (IBuildStep dependent : resource.getDependentSteps()) {
+				if (dependent == null || dependent.getBuildDescription().getOutputStep() == dependent
+						|| !visited.add(dependent))
+					continue;
+				BuildQueueElement dependentElem = queueHash.get(dependent);
+				if (dependentElem != null) {
+					elem.dependents.add(dependentElem);
+					dependentElem.waitingFor++;
+				} else {
+					addDependents(elem, dependent, visited);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Computes the estimated duration of the longest chain of steps starting
+	 * with the step of the element
+	 */
+	private long computeCriticalPath(BuildQueueElement elem, long defaultDuration) {
+		if (elem.criticalPath < 0) {
+			elem.criticalPath = 0;
+			long longestDependent = 0;
+			for (BuildQueueElement dependent : elem.dependents) {
+				longestDependent = Math.max(longestDependent, computeCriticalPath(dependent, defaultDuration));
+			}
+			elem.criticalPath = fDurations.getDuration(elem.getStep(), defaultDuration) + longestDependent;
+		}
+		return elem.criticalPath;
+	}
+
 	/**
 	 * Adds new element to the build queue and step<->element hash map
 	 */
@@ -468,19 +543,29 @@ public class ParallelBuilder {
 	}
 
 	/**
-	 * Dispatches the build queue and returns build status
+	 * Dispatches the build queue and returns build status. The steps whose
+	 * inputs are built are started in the order of the queue, and the
+	 * dispatcher waits for a process to complete to start the next steps.
 	 */
 	protected int dispatch(BuildProcessManager mgr) {
 		int maxProcesses = mgr.getMaxProcesses();
-		Vector<ActiveBuildStep> active = new Vector<>(Math.min(maxProcesses, 10), 10);
+		List<ActiveBuildStep> active = new ArrayList<>(Math.min(maxProcesses, 10));
+		PriorityQueue<BuildQueueElement> ready = new PriorityQueue<>();
+		for (BuildQueueElement elem : queue) {
+			if (elem.waitingFor == 0)
+				ready.add(elem);
+		}
 
-		int activeCount = 0;
-		int maxLevel = 0;
+		// The number of queued steps which have not been started
+		int remaining = queue.size();
 		int status = STATUS_OK;
 		String errorMsg = null;
 
 		// Going into "infinite" main loop
 		main_loop: while (true) {
+			// The processes completing from now on wake the dispatcher up
+			int completions = mgr.getCompletionCount();
+
 			if (monitor.isCanceled()) {
 				status = STATUS_CANCELED;
 				errorMsg = CCorePlugin.getResourceString("CommandLauncher.error.commandCanceled"); //$NON-NLS-1$
@@ -497,137 +582,84 @@ public class ParallelBuilder {
 				errorMsg = launcher.getErrorMessage();
 				break main_loop;
 			}
-			// Everything goes OK.
-			boolean proceed = true;
 
-			// Check if there is room for new process
-			if (!mgr.hasEmpty()) {
-				proceed = false;
-			} else {
-				// Check "active steps" list for completed ones
-				for (ActiveBuildStep buildStep : active) {
-					ProcessLauncher pl = buildStep.getLauncher();
-					if (pl == null)
-						continue;
-					if (pl.queryState() == ProcessLauncher.STATE_DONE) {
-						// If process has terminated with error, break loop
-						// (except resumeOnErrors == true)
-
-						if (!resumeOnErrors && pl.getExitCode() != 0) {
-							status = STATUS_ERROR;
-							break main_loop;
-						}
-						// Try to launch next command for the current active step
-						if (buildStep.isDone())
-							continue;
-						if (buildStep.launchNextCmd(mgr)) {
-							// Command has been launched. Check if process pool is not maximized yet
-							if (!mgr.hasEmpty()) {
-								proceed = false;
-								break;
-							}
-						} else {
-							// Command has not been launched: step complete
-							refreshOutputs(buildStep.getStep());
-							activeCount--;
-							monitor.worked(1);
-						}
+			// Check "active steps" list for completed ones
+			for (Iterator<ActiveBuildStep> iter = active.iterator(); iter.hasNext();) {
+				ActiveBuildStep buildStep = iter.next();
+				ProcessLauncher pl = buildStep.getLauncher();
+				if (pl == null || pl.queryState() != ProcessLauncher.STATE_DONE)
+					continue;
+				if (pl.getExitCode() != 0) {
+					// If process has terminated with error, break loop
+					// (except resumeOnErrors == true)
+					if (!resumeOnErrors) {
+						status = STATUS_ERROR;
+						break main_loop;
 					}
+					buildStep.failed = true;
 				}
-			}
-
-			// If nothing to do, then sleep and continue main loop
-			if (!proceed) {
-				try {
-					Thread.sleep(MAIN_LOOP_DELAY);
-				} catch (InterruptedException e) {
-					// do nothing
+				// Try to launch next command for the current active step
+				if (!buildStep.launchNextCmd(mgr)) {
+					// Command has not been launched: step complete
+					iter.remove();
+					stepCompleted(buildStep, ready);
 				}
-				continue main_loop;
 			}
 
-			// Check if we need to schedule another process
-			if (queue.size() != 0 && activeCount < maxProcesses) {
-				// Need to schedule another process
-				Iterator<BuildQueueElement> iter = queue.iterator();
-
-				// Iterate over build queue
-				while (iter.hasNext()) {
-					BuildQueueElement elem = iter.next();
-
-					// If "active steps" list reaches maximum, then break loop
-					if (activeCount == maxProcesses)
-						break;
-
-					// If current element's level exceeds maximum level of currently built
-					// resources, then stop iteration (we can not build it anyway)
-					if (elem.getLevel() > maxLevel + 1)
-						break;
-
-					//Check if all prerequisites are built
-					boolean prereqBuilt = true;
-					for (IBuildResource bldRes : elem.getStep().getInputResources()) {
-						IBuildStep step = bldRes.getProducerStep(); // step which produces input for curr
-						boolean built = true;
-						if (step != step.getBuildDescription().getInputStep()) {
-							for (ActiveBuildStep buildStep : active) {
-								if (buildStep != null && buildStep.getStep().equals(step) && !buildStep.isDone()) {
-									built = false;
-									break;
-								}
-							}
-						}
-						if (!built) {
-							prereqBuilt = false;
-							break;
-						}
-					}
-
-					if (prereqBuilt) {
-						// All prereqs are built
-						IBuildStep step = elem.getStep();
-
-						// Remove element from the build queue and add it to the
-						// "active steps" list.
-						iter.remove();
-						for (int i = 0; i < maxProcesses; i++) {
-							if (i >= active.size()) {
-								// add new item
-								ActiveBuildStep buildStep = new ActiveBuildStep(step);
-								active.add(buildStep);
-								if (buildStep.launchNextCmd(mgr))
-									activeCount++;
-								break;
-							}
-							if (active.get(i).isDone()) {
-								// replace old item
-								ActiveBuildStep buildStep = new ActiveBuildStep(step);
-								active.set(i, buildStep);
-								if (buildStep.launchNextCmd(mgr))
-									activeCount++;
-								break;
-							}
-						}
-
-						// Update maxLevel
-						if (elem.getLevel() > maxLevel)
-							maxLevel = elem.getLevel();
-						// We don't need to start new process immediately since
-						// it will be done on the next main loop iteration
-					}
-				}
+			// Start the ready steps on the longest chains while there is room for new processes
+			while (!ready.isEmpty() && active.size() < maxProcesses && mgr.hasEmpty()) {
+				BuildQueueElement elem = ready.poll();
+				remaining--;
+				ActiveBuildStep buildStep = new ActiveBuildStep(elem.getStep());
+				if (buildStep.launchNextCmd(mgr))
+					active.add(buildStep);
+				else
+					// The step has no command to run
+					stepCompleted(buildStep, ready);
 			}
 
 			// Now finally, check if we're done
-			if (activeCount <= 0 && queue.size() == 0)
+			if (active.isEmpty() && ready.isEmpty())
 				break main_loop;
+
+			// Wait for a process to complete, unless one did since the states were checked
+			try {
+				mgr.waitForCompletion(completions, MAIN_LOOP_DELAY);
+			} catch (InterruptedException e) {
+				// do nothing
+			}
 		}
 
+		if (status == STATUS_OK && remaining > 0) {
+			// The steps left are waiting for each other
+			status = STATUS_ERROR;
+			errorMsg = ManagedMakeMessages.getFormattedString("ParallelBuilder.stepsNotBuilt", //$NON-NLS-1$
+					Integer.toString(remaining));
+		}
 		if (status != STATUS_OK && errorMsg != null)
 			printMessage(errorMsg, out);
 		return status;
 	}
 
+	/**
+	 * Updates the outputs of a completed step, and makes the steps using them
+	 * ready to build once all of their inputs are built
+	 */
+	private void stepCompleted(ActiveBuildStep buildStep, PriorityQueue<BuildQueueElement> ready) {
+		IBuildStep step = buildStep.getStep();
+		refreshOutputs(step);
+		monitor.worked(1);
+		if (!buildStep.failed && buildStep.activeCmd >= 0 && !monitor.isCanceled())
+			fDurations.record(step, System.currentTimeMillis() - buildStep.startTime);
+		BuildQueueElement elem = queueHash.get(step);
+		if (elem == null)
+			return;
+		for (BuildQueueElement dependent : elem.dependents) {
+			if (--dependent.waitingFor == 0)
+				ready.add(dependent);
+		}
+	}
+
 	/**
 	 * Prints output to the console
 	 */
@@ -47,6 +47,7 @@ public class ProcessLauncher {
 	protected Process process;
 	protected ProcessClosure closure = null;
 	protected int state;
+	private Runnable completionListener;
 
 	/**
 	 * Returns command line as a string array
@@ -129,6 +130,15 @@ public class ProcessLauncher {
 		lineSeparator = System.getProperty("line.separator", "\n"); //$NON-NLS-1$ //$NON-NLS-2$
 	}
 
+	/**
+	 * Sets the listener notified when the launched process completes, once its
+	 * output is read, or when it fails to launch. The listener is notified from
+	 * another thread.
+	 */
+	public void setCompletionListener(Runnable listener) {
+		completionListener = listener;
+	}
+
 	/**
 	 * Launches a process
 	 */
@@ -138,7 +148,8 @@ public class ProcessLauncher {
 				printCommandLine();
 			state = STATE_RUNNING;
 			process = ProcessFactory.getFactory().exec(cmd, env, cwd);
-			closure = new ProcessClosure(process, out, err);
+			WatchedProcessClosure watchedClosure = new WatchedProcessClosure(process, out, err);
+			closure = watchedClosure;
 			// Close the input of the process since we will never write to it
 			try {
 				process.getOutputStream().close();
@@ -146,9 +157,13 @@ public class ProcessLauncher {
 				// do nothing
 			}
 			closure.runNonBlocking();
+			if (completionListener != null)
+				watchedClosure.notifyOnCompletion(completionListener);
 		} catch (IOException e) {
 			error = e.getMessage();
 			closure = null;
+			if (completionListener != null)
+				completionListener.run();
 		}
 	}
 
@@ -196,4 +211,30 @@ public class ProcessLauncher {
 			}
 		}
 	}
+
+	/**
+	 * Process closure which notifies a listener when its reader threads have
+	 * copied all the output of the process, that is when it stops running
+	 */
+	private static class WatchedProcessClosure extends ProcessClosure {
+		public WatchedProcessClosure(Process process, OutputStream outputStream, OutputStream errorStream) {
+			super(process, outputStream, errorStream);
+		}
+
+		public void notifyOnCompletion(Runnable listener) {
+			Thread outputReader = fOutputReader;
+			Thread errorReader = fErrorReader;
+			Thread watcher = new Thread(() -> {
+				try {
+					outputReader.join();
+					errorReader.join();
+				} catch (InterruptedException e) {
+					// do nothing
+				}
+				listener.run();
+			}, "Build process watcher"); //$NON-NLS-1$
+			watcher.setDaemon(true);
+			watcher.start();
+		}
+	}
 }
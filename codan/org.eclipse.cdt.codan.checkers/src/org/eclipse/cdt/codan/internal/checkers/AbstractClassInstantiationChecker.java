@@ -18,7 +18,7 @@ import java.util.HashMap;
 
 import org.eclipse.cdt.codan.checkers.CodanCheckersActivator;
 import org.eclipse.cdt.codan.core.cxx.CxxAstUtils;
-import org.eclipse.cdt.codan.core.cxx.model.AbstractIndexAstChecker;
+import org.eclipse.cdt.codan.core.cxx.model.AbstractAstVisitorChecker;
 import org.eclipse.cdt.codan.core.model.CheckerLaunchMode;
 import org.eclipse.cdt.codan.core.model.IProblemWorkingCopy;
 import org.eclipse.cdt.core.dom.ast.ASTVisitor;
@@ -54,9 +54,8 @@ import org.eclipse.cdt.internal.core.dom.parser.cpp.semantics.CPPSemantics;
  *
  * @author Anton Gorenkov
  */
-public class AbstractClassInstantiationChecker extends AbstractIndexAstChecker {
+public class AbstractClassInstantiationChecker extends AbstractAstVisitorChecker {
 	public static final String ER_ID = "org.eclipse.cdt.codan.internal.checkers.AbstractClassCreation"; //$NON-NLS-1$
-	private final HashMap<ICPPClassType, ICPPMethod[]> pureVirtualMethodsCache = new HashMap<>();
 
 	@Override
 	public void initPreferences(IProblemWorkingCopy problem) {
@@ -67,15 +66,12 @@ public class AbstractClassInstantiationChecker extends AbstractIndexAstChecker {
 	}
 
 	@Override
-	public void processAst(IASTTranslationUnit ast) {
-		try {
-			ast.accept(new OnEachClass());
-		} finally {
-			pureVirtualMethodsCache.clear();
-		}
+	protected ASTVisitor createVisitor(IASTTranslationUnit ast) {
+		return new OnEachClass();
 	}
 
 	class OnEachClass extends ASTVisitor {
+		private final HashMap<ICPPClassType, ICPPMethod[]> pureVirtualMethodsCache = new HashMap<>();
 
 		OnEachClass() {
 			shouldVisitDeclarations = true;
@@ -14,7 +14,7 @@ package org.eclipse.cdt.codan.internal.checkers;
 import java.util.Arrays;
 import java.util.Stack;
 
-import org.eclipse.cdt.codan.core.cxx.model.AbstractIndexAstChecker;
+import org.eclipse.cdt.codan.core.cxx.model.AbstractAstVisitorChecker;
 import org.eclipse.cdt.core.dom.ast.ASTVisitor;
 import org.eclipse.cdt.core.dom.ast.IASTBinaryExpression;
 import org.eclipse.cdt.core.dom.ast.IASTDeclaration;
@@ -35,14 +35,14 @@ import org.eclipse.cdt.core.dom.ast.cpp.ICPPASTUnaryExpression;
 import org.eclipse.cdt.core.dom.ast.cpp.ICPPMethod;
 import org.eclipse.cdt.core.dom.ast.cpp.SemanticQueries;
 
-public class AssignmentOperatorChecker extends AbstractIndexAstChecker {
+public class AssignmentOperatorChecker extends AbstractAstVisitorChecker {
 	public static final String MISS_REF_ID = "org.eclipse.cdt.codan.internal.checkers.MissReferenceProblem"; //$NON-NLS-1$
 	public static final String MISS_SELF_CHECK_ID = "org.eclipse.cdt.codan.internal.checkers.MissSelfCheckProblem"; //$NON-NLS-1$
 	private static final String OPERATOR_EQ = "operator ="; //$NON-NLS-1$
 
 	@Override
-	public void processAst(IASTTranslationUnit ast) {
-		ast.accept(new OnEachClass());
+	protected ASTVisitor createVisitor(IASTTranslationUnit ast) {
+		return new OnEachClass();
 	}
 
 	private static class OperatorEqInfo {
@@ -14,7 +14,7 @@ package org.eclipse.cdt.codan.internal.checkers;
 import java.util.Arrays;
 
 import org.eclipse.cdt.codan.checkers.CodanCheckersActivator;
-import org.eclipse.cdt.codan.core.cxx.model.AbstractIndexAstChecker;
+import org.eclipse.cdt.codan.core.cxx.model.AbstractAstVisitorChecker;
 import org.eclipse.cdt.codan.core.model.IProblemWorkingCopy;
 import org.eclipse.cdt.core.dom.ast.ASTVisitor;
 import org.eclipse.cdt.core.dom.ast.DOMException;
@@ -24,17 +24,17 @@ import org.eclipse.cdt.core.dom.ast.IBinding;
 import org.eclipse.cdt.core.dom.ast.IFunction;
 import org.eclipse.cdt.core.dom.ast.cpp.ICPPFunction;
 
-public class BlacklistChecker extends AbstractIndexAstChecker {
+public class BlacklistChecker extends AbstractAstVisitorChecker {
 	public static final String ERR_ID = "org.eclipse.cdt.codan.internal.checkers.BlacklistProblem"; //$NON-NLS-1$
 	public static final String PARAM_BLACKLIST = "blacklist"; //$NON-NLS-1$
 
 	@Override
-	public void processAst(IASTTranslationUnit ast) {
+	protected ASTVisitor createVisitor(IASTTranslationUnit ast) {
 		Object[] list = (Object[]) getPreference(getProblemById(ERR_ID, getFile()), PARAM_BLACKLIST);
 		if (list == null || list.length == 0)
-			return;
+			return null;
 		Arrays.sort(list);
-		ast.accept(new ASTVisitor() {
+		return new ASTVisitor() {
 			{
 				shouldVisitNames = true;
 			}
@@ -47,7 +47,7 @@ public class BlacklistChecker extends AbstractIndexAstChecker {
 					reportProblem(ERR_ID, name, completeName);
 				return PROCESS_CONTINUE;
 			}
-		});
+		};
 	}
 
 	private String getBindingQualifiedName(IBinding binding) {
@@ -10,7 +10,7 @@
  *******************************************************************************/
 package org.eclipse.cdt.codan.internal.checkers;
 
-import org.eclipse.cdt.codan.core.cxx.model.AbstractIndexAstChecker;
+import org.eclipse.cdt.codan.core.cxx.model.AbstractAstVisitorChecker;
 import org.eclipse.cdt.codan.core.model.IProblem;
 import org.eclipse.cdt.codan.core.model.IProblemWorkingCopy;
 import org.eclipse.cdt.core.dom.ILinkage;
@@ -21,10 +21,9 @@ import org.eclipse.cdt.core.dom.ast.IASTMacroExpansionLocation;
 import org.eclipse.cdt.core.dom.ast.IASTNodeLocation;
 import org.eclipse.cdt.core.dom.ast.IASTTranslationUnit;
 
-public class CStyleCastChecker extends AbstractIndexAstChecker {
+public class CStyleCastChecker extends AbstractAstVisitorChecker {
 	public static final String ERR_ID = "org.eclipse.cdt.codan.internal.checkers.CStyleCastProblem"; //$NON-NLS-1$
 	public static final String PARAM_MACRO = "checkMacro"; //$NON-NLS-1$
-	private boolean checkMacro = true;
 
 	@Override
 	public void initPreferences(IProblemWorkingCopy problem) {
@@ -38,25 +37,25 @@ public class CStyleCastChecker extends AbstractIndexAstChecker {
 	}
 
 	@Override
-	public void processAst(IASTTranslationUnit ast) {
+	protected ASTVisitor createVisitor(IASTTranslationUnit ast) {
 		final IProblem pt = getProblemById(ERR_ID, getFile());
-		checkMacro = (boolean) getPreference(pt, PARAM_MACRO);
-		if (ast.getLinkage().getLinkageID() == ILinkage.CPP_LINKAGE_ID) {
-			ast.accept(new ASTVisitor() {
-				{
-					shouldVisitExpressions = true;
-				}
+		final boolean checkMacro = (boolean) getPreference(pt, PARAM_MACRO);
+		if (ast.getLinkage().getLinkageID() != ILinkage.CPP_LINKAGE_ID)
+			return null;
+		return new ASTVisitor() {
+			{
+				shouldVisitExpressions = true;
+			}
 
-				@Override
-				public int visit(IASTExpression expression) {
-					if (expression instanceof IASTCastExpression
-							&& (checkMacro || !enclosedInMacroExpansion(expression))) {
-						if (((IASTCastExpression) expression).getOperator() == IASTCastExpression.op_cast)
-							reportProblem(ERR_ID, expression);
-					}
-					return PROCESS_CONTINUE;
+			@Override
+			public int visit(IASTExpression expression) {
+				if (expression instanceof IASTCastExpression
+						&& (checkMacro || !enclosedInMacroExpansion(expression))) {
+					if (((IASTCastExpression) expression).getOperator() == IASTCastExpression.op_cast)
+						reportProblem(ERR_ID, expression);
 				}
-			});
-		}
+				return PROCESS_CONTINUE;
+			}
+		};
 	}
 }
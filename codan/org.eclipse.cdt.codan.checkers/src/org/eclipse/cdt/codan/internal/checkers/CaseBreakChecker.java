@@ -20,7 +20,7 @@ import java.util.regex.PatternSyntaxException;
 
 import org.eclipse.cdt.codan.checkers.CodanCheckersActivator;
 import org.eclipse.cdt.codan.core.cxx.CxxAstUtils;
-import org.eclipse.cdt.codan.core.cxx.model.AbstractIndexAstChecker;
+import org.eclipse.cdt.codan.core.cxx.model.AbstractAstVisitorChecker;
 import org.eclipse.cdt.codan.core.model.IProblemLocation;
 import org.eclipse.cdt.codan.core.model.IProblemLocationFactory;
 import org.eclipse.cdt.codan.core.model.IProblemWorkingCopy;
@@ -49,25 +49,30 @@ import org.eclipse.cdt.core.dom.ast.IASTWhileStatement;
 import org.eclipse.cdt.core.parser.StandardAttributes;
 import org.eclipse.cdt.core.parser.util.AttributeUtil;
 
-public class CaseBreakChecker extends AbstractIndexAstChecker {
+public class CaseBreakChecker extends AbstractAstVisitorChecker {
 	public static final String ER_ID = "org.eclipse.cdt.codan.internal.checkers.CaseBreakProblem"; //$NON-NLS-1$
 	public static final String PARAM_LAST_CASE = "last_case_param"; //$NON-NLS-1$
 	public static final String PARAM_EMPTY_CASE = "empty_case_param"; //$NON-NLS-1$
 	public static final String PARAM_NO_BREAK_COMMENT = "no_break_comment"; //$NON-NLS-1$
 	public static final String PARAM_ENABLE_FALLTHROUGH_QUICKFIX = "enable_fallthrough_quickfix_param"; //$NON-NLS-1$
 	public static final String DEFAULT_NO_BREAK_COMMENT = "no break"; //$NON-NLS-1$
-	private boolean fCheckLastCase; // Should we check the last case in the switch?
-	private boolean fCheckEmptyCase; // Should we check an empty case (a case without any statements within it)
-	private String fNoBreakComment; // The comment suppressing this warning
-	private Pattern fNoBreakRegex;
 
 	/**
 	 * This visitor looks for "switch" statements and invokes "SwitchVisitor" on
 	 * them.
 	 */
 	class SwitchFindingVisitor extends ASTVisitor {
+		private final boolean fCheckLastCase; // Should we check the last case in the switch?
+		private final boolean fCheckEmptyCase; // Should we check an empty case (a case without statements)
+		private final String fNoBreakComment; // The comment suppressing this warning
+		private final Pattern fNoBreakRegex;
+
 		SwitchFindingVisitor() {
 			shouldVisitStatements = true;
+			fCheckLastCase = (Boolean) getPreference(getProblemById(ER_ID, getFile()), PARAM_LAST_CASE);
+			fCheckEmptyCase = (Boolean) getPreference(getProblemById(ER_ID, getFile()), PARAM_EMPTY_CASE);
+			fNoBreakComment = (String) getPreference(getProblemById(ER_ID, getFile()), PARAM_NO_BREAK_COMMENT);
+			fNoBreakRegex = compileNoBreakRegex(fNoBreakComment);
 		}
 
 		/**
@@ -302,18 +307,17 @@ public class CaseBreakChecker extends AbstractIndexAstChecker {
 	}
 
 	@Override
-	public void processAst(IASTTranslationUnit ast) {
-		fCheckLastCase = (Boolean) getPreference(getProblemById(ER_ID, getFile()), PARAM_LAST_CASE);
-		fCheckEmptyCase = (Boolean) getPreference(getProblemById(ER_ID, getFile()), PARAM_EMPTY_CASE);
-		fNoBreakComment = (String) getPreference(getProblemById(ER_ID, getFile()), PARAM_NO_BREAK_COMMENT);
+	protected ASTVisitor createVisitor(IASTTranslationUnit ast) {
+		return new SwitchFindingVisitor();
+	}
+
+	private static Pattern compileNoBreakRegex(String noBreakComment) {
 		try {
-			if (fNoBreakComment != null)
-				fNoBreakRegex = Pattern.compile(fNoBreakComment, Pattern.CASE_INSENSITIVE);
+			if (noBreakComment != null)
+				return Pattern.compile(noBreakComment, Pattern.CASE_INSENSITIVE);
 		} catch (PatternSyntaxException e) {
 			CodanCheckersActivator.log(e);
-			fNoBreakRegex = null;
 		}
-		SwitchFindingVisitor visitor = new SwitchFindingVisitor();
-		ast.accept(visitor);
+		return null;
 	}
 }
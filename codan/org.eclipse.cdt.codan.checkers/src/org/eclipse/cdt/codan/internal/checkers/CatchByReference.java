@@ -15,7 +15,7 @@ package org.eclipse.cdt.codan.internal.checkers;
 
 import org.eclipse.cdt.codan.checkers.CodanCheckersActivator;
 import org.eclipse.cdt.codan.core.cxx.CxxAstUtils;
-import org.eclipse.cdt.codan.core.cxx.model.AbstractIndexAstChecker;
+import org.eclipse.cdt.codan.core.cxx.model.AbstractAstVisitorChecker;
 import org.eclipse.cdt.codan.core.model.IProblemWorkingCopy;
 import org.eclipse.cdt.core.dom.ast.ASTVisitor;
 import org.eclipse.cdt.core.dom.ast.IASTDeclSpecifier;
@@ -43,15 +43,14 @@ import org.eclipse.cdt.core.dom.ast.cpp.ICPPASTTryBlockStatement;
  * For one thing, this avoids copying and potentially slicing the exception.
  *
  */
-public class CatchByReference extends AbstractIndexAstChecker {
+public class CatchByReference extends AbstractAstVisitorChecker {
 	public static final String ER_ID = "org.eclipse.cdt.codan.internal.checkers.CatchByReference"; //$NON-NLS-1$
 	public static final String PARAM_EXCEPT_ARG_LIST = "exceptions"; //$NON-NLS-1$
 	public static final String PARAM_UNKNOWN_TYPE = "unknown"; //$NON-NLS-1$
 
 	@Override
-	public void processAst(IASTTranslationUnit ast) {
-		// traverse the ast using the visitor pattern.
-		ast.accept(new OnCatch());
+	protected ASTVisitor createVisitor(IASTTranslationUnit ast) {
+		return new OnCatch();
 	}
 
 	class OnCatch extends ASTVisitor {
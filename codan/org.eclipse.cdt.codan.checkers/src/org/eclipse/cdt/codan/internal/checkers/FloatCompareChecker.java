@@ -10,7 +10,7 @@
  *******************************************************************************/
 package org.eclipse.cdt.codan.internal.checkers;
 
-import org.eclipse.cdt.codan.core.cxx.model.AbstractIndexAstChecker;
+import org.eclipse.cdt.codan.core.cxx.model.AbstractAstVisitorChecker;
 import org.eclipse.cdt.core.dom.ast.ASTVisitor;
 import org.eclipse.cdt.core.dom.ast.IASTBinaryExpression;
 import org.eclipse.cdt.core.dom.ast.IASTExpression;
@@ -26,12 +26,12 @@ import org.eclipse.cdt.internal.core.dom.parser.ValueFactory;
 import org.eclipse.cdt.internal.core.dom.parser.cpp.semantics.CPPVisitor;
 import org.eclipse.cdt.internal.core.dom.parser.cpp.semantics.SemanticUtil;
 
-public class FloatCompareChecker extends AbstractIndexAstChecker {
+public class FloatCompareChecker extends AbstractAstVisitorChecker {
 	public static final String ERR_ID = "org.eclipse.cdt.codan.internal.checkers.FloatCompareProblem"; //$NON-NLS-1$
 
 	@Override
-	public void processAst(IASTTranslationUnit ast) {
-		ast.accept(new ASTVisitor() {
+	protected ASTVisitor createVisitor(IASTTranslationUnit ast) {
+		return new ASTVisitor() {
 			{
 				shouldVisitExpressions = true;
 			}
@@ -131,7 +131,7 @@ public class FloatCompareChecker extends AbstractIndexAstChecker {
 				}
 				return PROCESS_CONTINUE;
 			}
-		});
+		};
 	}
 
 	private boolean isFloat(IType type) {
@@ -10,18 +10,18 @@
  *******************************************************************************/
 package org.eclipse.cdt.codan.internal.checkers;
 
-import org.eclipse.cdt.codan.core.cxx.model.AbstractIndexAstChecker;
+import org.eclipse.cdt.codan.core.cxx.model.AbstractAstVisitorChecker;
 import org.eclipse.cdt.core.dom.ast.ASTVisitor;
 import org.eclipse.cdt.core.dom.ast.IASTGotoStatement;
 import org.eclipse.cdt.core.dom.ast.IASTStatement;
 import org.eclipse.cdt.core.dom.ast.IASTTranslationUnit;
 
-public class GotoStatementChecker extends AbstractIndexAstChecker {
+public class GotoStatementChecker extends AbstractAstVisitorChecker {
 	public static final String ERR_ID = "org.eclipse.cdt.codan.internal.checkers.GotoStatementProblem"; //$NON-NLS-1$
 
 	@Override
-	public void processAst(IASTTranslationUnit ast) {
-		ast.accept(new ASTVisitor() {
+	protected ASTVisitor createVisitor(IASTTranslationUnit ast) {
+		return new ASTVisitor() {
 			{
 				shouldVisitStatements = true;
 			}
@@ -33,6 +33,6 @@ public class GotoStatementChecker extends AbstractIndexAstChecker {
 				}
 				return PROCESS_CONTINUE;
 			}
-		});
+		};
 	}
 }
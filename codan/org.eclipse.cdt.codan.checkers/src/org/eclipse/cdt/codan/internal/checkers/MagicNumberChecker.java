@@ -14,7 +14,7 @@ import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
 
-import org.eclipse.cdt.codan.core.cxx.model.AbstractIndexAstChecker;
+import org.eclipse.cdt.codan.core.cxx.model.AbstractAstVisitorChecker;
 import org.eclipse.cdt.codan.core.model.IProblem;
 import org.eclipse.cdt.codan.core.model.IProblemWorkingCopy;
 import org.eclipse.cdt.codan.core.param.ListProblemPreference;
@@ -40,7 +40,7 @@ import org.eclipse.cdt.internal.core.dom.parser.ASTQueries;
 import org.eclipse.cdt.internal.core.dom.parser.ValueFactory;
 import org.eclipse.cdt.internal.core.dom.parser.cpp.semantics.SemanticUtil;
 
-public class MagicNumberChecker extends AbstractIndexAstChecker {
+public class MagicNumberChecker extends AbstractAstVisitorChecker {
 	public static final String ERR_ID = "org.eclipse.cdt.codan.internal.checkers.MagicNumberProblem"; //$NON-NLS-1$
 	private static final String OPERATOR_PAREN = "operator ()"; //$NON-NLS-1$
 	public static final String PARAM_ARRAY = "checkArray"; //$NON-NLS-1$
@@ -49,16 +49,6 @@ public class MagicNumberChecker extends AbstractIndexAstChecker {
 	 * Operator() is often used for matrix manipulation
 	 */
 	public static final String PARAM_OPERATOR_PAREN = "checkOperatorParen"; //$NON-NLS-1$
-	/**
-	 * As default we allow the use of zero, one, minus one and two (used often as modulo value and other bit operations) as int
-	 */
-	private Set<Long> allowedLongValues = new HashSet<>();
-	/**
-	 * As default we allow the use of zero, one, minus one as float
-	 */
-	private Set<Double> allowedDoubleValues = new HashSet<>();
-	private boolean checkArray;
-	private boolean checkOperatorParen;
 
 	@Override
 	public void initPreferences(IProblemWorkingCopy problem) {
@@ -78,9 +68,11 @@ public class MagicNumberChecker extends AbstractIndexAstChecker {
 		list.addChildValue("-1.0"); //$NON-NLS-1$
 	}
 
-	private void initExceptions() {
-		allowedLongValues.clear();
-		allowedDoubleValues.clear();
+	/**
+	 * Reads the allowed values. As default we allow the use of zero, one, minus one and two (used often
+	 * as modulo value and other bit operations) as int, and zero, one, minus one as float.
+	 */
+	private void initExceptions(Set<Long> allowedLongValues, Set<Double> allowedDoubleValues) {
 		Object[] arr = (Object[]) getPreference(getProblemById(ERR_ID, getFile()), PARAM_EXCEPTIONS);
 		for (Object o : arr) {
 			String s = (String) o;
@@ -96,12 +88,14 @@ public class MagicNumberChecker extends AbstractIndexAstChecker {
 	}
 
 	@Override
-	public void processAst(IASTTranslationUnit ast) {
+	protected ASTVisitor createVisitor(IASTTranslationUnit ast) {
 		final IProblem pt = getProblemById(ERR_ID, getFile());
-		checkArray = (Boolean) getPreference(pt, PARAM_ARRAY);
-		checkOperatorParen = (Boolean) getPreference(pt, PARAM_OPERATOR_PAREN);
-		initExceptions();
-		ast.accept(new ASTVisitor() {
+		final boolean checkArray = (Boolean) getPreference(pt, PARAM_ARRAY);
+		final boolean checkOperatorParen = (Boolean) getPreference(pt, PARAM_OPERATOR_PAREN);
+		final Set<Long> allowedLongValues = new HashSet<>();
+		final Set<Double> allowedDoubleValues = new HashSet<>();
+		initExceptions(allowedLongValues, allowedDoubleValues);
+		return new ASTVisitor() {
 			{
 				shouldVisitExpressions = true;
 			}
@@ -159,7 +153,7 @@ public class MagicNumberChecker extends AbstractIndexAstChecker {
 				}
 				return PROCESS_CONTINUE;
 			}
-		});
+		};
 	}
 
 	/**
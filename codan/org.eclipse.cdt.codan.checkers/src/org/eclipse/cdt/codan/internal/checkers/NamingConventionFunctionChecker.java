@@ -17,8 +17,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.regex.Pattern;
 
-import org.eclipse.cdt.codan.checkers.CodanCheckersActivator;
-import org.eclipse.cdt.codan.core.cxx.model.AbstractIndexAstChecker;
+import org.eclipse.cdt.codan.core.cxx.model.AbstractAstVisitorChecker;
 import org.eclipse.cdt.codan.core.model.IProblem;
 import org.eclipse.cdt.codan.core.model.IProblemWorkingCopy;
 import org.eclipse.cdt.core.dom.ast.ASTVisitor;
@@ -33,74 +32,70 @@ import org.eclipse.cdt.core.dom.ast.cpp.ICPPASTQualifiedName;
  * This is style checker for function name code style. Pattern parameter is
  * regular expression defining the style.
  */
-public class NamingConventionFunctionChecker extends AbstractIndexAstChecker {
+public class NamingConventionFunctionChecker extends AbstractAstVisitorChecker {
 	private static final String ER_ID = "org.eclipse.cdt.codan.internal.checkers.NamingConventionFunctionChecker"; //$NON-NLS-1$
 	public static final String PARAM_KEY = "pattern"; //$NON-NLS-1$
 	public static final String PARAM_METHODS = "macro"; //$NON-NLS-1$
 	public static final String PARAM_EXCEPT_ARG_LIST = "exceptions"; //$NON-NLS-1$
 
 	@Override
-	public void processAst(IASTTranslationUnit ast) {
+	protected ASTVisitor createVisitor(IASTTranslationUnit ast) {
 		final List<IProblem> pts = getProblemsByMainId(ER_ID, getFile());
-		try {
-			ast.accept(new ASTVisitor() {
-				{
-					shouldVisitDeclarations = true;
-				}
+		return new ASTVisitor() {
+			{
+				shouldVisitDeclarations = true;
+			}
 
-				@Override
-				public int visit(IASTDeclaration element) {
-					if (element instanceof IASTFunctionDefinition) {
-						IASTName astName = ((IASTFunctionDefinition) element).getDeclarator().getName();
-						String name = getSearchableName(astName);
-						if (name != null) {
-							for (Iterator<IProblem> iterator = pts.iterator(); iterator.hasNext();) {
-								IProblem pt = iterator.next();
-								if (!shouldReport(astName, pt))
-									return PROCESS_SKIP;
-								String parameter = (String) getPreference(pt, PARAM_KEY);
-								Pattern pattern = Pattern.compile(parameter);
-								if (!pattern.matcher(name).find() && !isFilteredArg(name, pt)) {
-									reportProblem(pt, astName, name, parameter);
-								}
+			@Override
+			public int visit(IASTDeclaration element) {
+				if (element instanceof IASTFunctionDefinition) {
+					IASTName astName = ((IASTFunctionDefinition) element).getDeclarator().getName();
+					String name = getSearchableName(astName);
+					if (name != null) {
+						for (Iterator<IProblem> iterator = pts.iterator(); iterator.hasNext();) {
+							IProblem pt = iterator.next();
+							if (!shouldReport(astName, pt))
+								return PROCESS_SKIP;
+							String parameter = (String) getPreference(pt, PARAM_KEY);
+							Pattern pattern = Pattern.compile(parameter);
+							if (!pattern.matcher(name).find() && !isFilteredArg(name, pt)) {
+								reportProblem(pt, astName, name, parameter);
 							}
-
 						}
+
 					}
-					return PROCESS_SKIP;
 				}
+				return PROCESS_SKIP;
+			}
 
-				private boolean shouldReport(IASTName astName, IProblem pt) {
-					if (astName instanceof ICPPASTQualifiedName) {
-						return shouldReportCppMethods(pt);
-					}
-					return true;
+			private boolean shouldReport(IASTName astName, IProblem pt) {
+				if (astName instanceof ICPPASTQualifiedName) {
+					return shouldReportCppMethods(pt);
 				}
+				return true;
+			}
 
-				private String getSearchableName(IASTName astName) {
-					String name = astName.toString();
-					if (astName instanceof ICPPASTQualifiedName) {
-						ICPPASTQualifiedName cppAstName = (ICPPASTQualifiedName) astName;
-						if (cppAstName.isConversionOrOperator())
-							return null;
-						name = cppAstName.getLastName().toString();
-						if (name.startsWith("~")) // destructor //$NON-NLS-1$
+			private String getSearchableName(IASTName astName) {
+				String name = astName.toString();
+				if (astName instanceof ICPPASTQualifiedName) {
+					ICPPASTQualifiedName cppAstName = (ICPPASTQualifiedName) astName;
+					if (cppAstName.isConversionOrOperator())
+						return null;
+					name = cppAstName.getLastName().toString();
+					if (name.startsWith("~")) // destructor //$NON-NLS-1$
+						return null;
+					ICPPASTNameSpecifier[] qualifier = cppAstName.getQualifier();
+					if (qualifier.length > 0) {
+						if (cppAstName.getLastName().toString()
+								.equals(qualifier[qualifier.length - 1].toString())) {
+							// constructor
 							return null;
-						ICPPASTNameSpecifier[] qualifier = cppAstName.getQualifier();
-						if (qualifier.length > 0) {
-							if (cppAstName.getLastName().toString()
-									.equals(qualifier[qualifier.length - 1].toString())) {
-								// constructor
-								return null;
-							}
 						}
 					}
-					return name;
 				}
-			});
-		} catch (Exception e) {
-			CodanCheckersActivator.log(e);
-		}
+				return name;
+			}
+		};
 	}
 
 	@Override
@@ -18,7 +18,7 @@ package org.eclipse.cdt.codan.internal.checkers;
 
 import java.util.HashSet;
 
-import org.eclipse.cdt.codan.core.cxx.model.AbstractIndexAstChecker;
+import org.eclipse.cdt.codan.core.cxx.model.AbstractAstVisitorChecker;
 import org.eclipse.cdt.core.dom.ast.ASTVisitor;
 import org.eclipse.cdt.core.dom.ast.IASTDeclSpecifier;
 import org.eclipse.cdt.core.dom.ast.IASTName;
@@ -42,16 +42,15 @@ import org.eclipse.cdt.internal.core.dom.parser.cpp.semantics.CPPTemplates;
  *
  * @author Alena Laskavaia
  */
-public class NonVirtualDestructorChecker extends AbstractIndexAstChecker {
+public class NonVirtualDestructorChecker extends AbstractAstVisitorChecker {
 	public static final String PROBLEM_ID = "org.eclipse.cdt.codan.internal.checkers.NonVirtualDestructorProblem"; //$NON-NLS-1$
 
 	// Prevent stack overflow in case: class A: public A {};
 	private static HashSet<ICPPClassType> checkedClassTypes = new HashSet<>();
 
 	@Override
-	public void processAst(IASTTranslationUnit ast) {
-		// Traverse the AST using the visitor pattern.
-		ast.accept(new OnEachClass());
+	protected ASTVisitor createVisitor(IASTTranslationUnit ast) {
+		return new OnEachClass();
 	}
 
 	private static ICPPMethod getDestructor(ICPPClassType classType) {
@@ -17,7 +17,7 @@ package org.eclipse.cdt.codan.internal.checkers;
 
 import org.eclipse.cdt.codan.checkers.CodanCheckersActivator;
 import org.eclipse.cdt.codan.core.cxx.CxxAstUtils;
-import org.eclipse.cdt.codan.core.cxx.model.AbstractIndexAstChecker;
+import org.eclipse.cdt.codan.core.cxx.model.AbstractAstVisitorChecker;
 import org.eclipse.cdt.codan.core.model.CheckerLaunchMode;
 import org.eclipse.cdt.codan.core.model.IProblemWorkingCopy;
 import org.eclipse.cdt.core.dom.ast.ASTTypeUtil;
@@ -49,7 +49,7 @@ import org.eclipse.cdt.core.dom.ast.cpp.SemanticQueries;
 import org.eclipse.cdt.internal.core.dom.parser.ASTQueries;
 import org.eclipse.cdt.internal.core.dom.parser.cpp.semantics.CPPSemantics;
 
-public class ProblemBindingChecker extends AbstractIndexAstChecker {
+public class ProblemBindingChecker extends AbstractAstVisitorChecker {
 	public static String ERR_ID_OverloadProblem = "org.eclipse.cdt.codan.internal.checkers.OverloadProblem"; //$NON-NLS-1$
 	public static String ERR_ID_AmbiguousProblem = "org.eclipse.cdt.codan.internal.checkers.AmbiguousProblem"; //$NON-NLS-1$
 	public static String ERR_ID_CircularReferenceProblem = "org.eclipse.cdt.codan.internal.checkers.CircularReferenceProblem"; //$NON-NLS-1$
@@ -82,137 +82,133 @@ public class ProblemBindingChecker extends AbstractIndexAstChecker {
 	}
 
 	@Override
-	public void processAst(IASTTranslationUnit ast) {
-		try {
-			ast.accept(new ASTVisitor() {
-				{
-					shouldVisitNames = true;
-					shouldVisitImplicitNames = true;
-				}
+	protected ASTVisitor createVisitor(IASTTranslationUnit ast) {
+		return new ASTVisitor() {
+			{
+				shouldVisitNames = true;
+				shouldVisitImplicitNames = true;
+			}
 
-				@Override
-				public int visit(IASTName name) {
-					try {
-						IBinding binding = name.resolveBinding();
-						if (binding instanceof IProblemBinding) {
-							IASTNode parentNode = name.getParent();
-							// Don't report multiple problems with qualified names.
-							if (parentNode instanceof ICPPASTQualifiedName) {
-								if (((ICPPASTQualifiedName) parentNode).resolveBinding() instanceof IProblemBinding)
-									return PROCESS_CONTINUE;
-							}
-							String contextFlagsString = createContextFlagsString(name);
-							IProblemBinding problemBinding = (IProblemBinding) binding;
-							int id = problemBinding.getID();
-							if (id == IProblemBinding.SEMANTIC_INVALID_OVERLOAD) {
-								reportProblem(ERR_ID_OverloadProblem, name, name.getRawSignature(), contextFlagsString);
-								return PROCESS_CONTINUE;
-							}
-							if (id == IProblemBinding.SEMANTIC_AMBIGUOUS_LOOKUP) {
-								String candidatesString = getCandidatesString(problemBinding);
-								reportProblem(ERR_ID_AmbiguousProblem, name, name.getRawSignature(), candidatesString,
-										contextFlagsString);
-								return PROCESS_CONTINUE;
-							}
-							if (id == IProblemBinding.SEMANTIC_CIRCULAR_INHERITANCE) {
-								String typeString;
-								IASTNode problemNode;
-								if (parentNode instanceof IASTFieldReference) {
-									IASTExpression ownerExpression = ((IASTFieldReference) parentNode).getFieldOwner();
-									typeString = ASTTypeUtil.getType(ownerExpression.getExpressionType());
-									problemNode = ownerExpression;
-								} else {
-									problemNode = name;
-									typeString = name.getRawSignature();
-								}
-								reportProblem(ERR_ID_CircularReferenceProblem, problemNode, typeString,
-										contextFlagsString);
-								return PROCESS_CONTINUE;
-							}
-							if (id == IProblemBinding.SEMANTIC_INVALID_STRUCTURED_BINDING_INITIALIZER) {
-								IASTNode problemNode = parentNode;
-								while (problemNode != null) {
-									if (problemNode instanceof ICPPASTStructuredBindingDeclaration) {
-										break;
-									}
-									problemNode = problemNode.getParent();
-								}
-								if (problemNode == null) {
-									// this should not happen because problem binding should be inside structured binding initializer subtree
-									problemNode = parentNode;
-								}
-								reportProblem(ERR_ID_StructuredBindingDeclarationProblem, problemNode,
-										parentNode.getRawSignature(), contextFlagsString);
-								return PROCESS_CONTINUE;
-							}
-							if (id == IProblemBinding.SEMANTIC_INVALID_REDECLARATION) {
-								reportProblem(ERR_ID_RedeclarationProblem, name, name.getRawSignature(),
-										contextFlagsString);
-								return PROCESS_CONTINUE;
-							}
-							if (id == IProblemBinding.SEMANTIC_INVALID_REDEFINITION) {
-								reportProblem(ERR_ID_RedefinitionProblem, name, name.getRawSignature(),
-										contextFlagsString);
-								return PROCESS_CONTINUE;
-							}
-							if (id == IProblemBinding.SEMANTIC_MEMBER_DECLARATION_NOT_FOUND) {
-								reportProblem(ERR_ID_MemberDeclarationNotFoundProblem, name, contextFlagsString);
-								return PROCESS_CONTINUE;
-							}
-							if (id == IProblemBinding.SEMANTIC_LABEL_STATEMENT_NOT_FOUND) {
-								reportProblem(ERR_ID_LabelStatementNotFoundProblem, name, name.getRawSignature(),
-										contextFlagsString);
-								return PROCESS_CONTINUE;
-							}
-							if (id == IProblemBinding.SEMANTIC_INVALID_TEMPLATE_ARGUMENTS) {
-								// We use the templateName since we don't want the whole
-								// argument list to be underlined. That way we can see which argument is invalid.
-								IASTNode templateName = getTemplateName(name);
-								reportProblem(ERR_ID_InvalidTemplateArgumentsProblem, templateName, contextFlagsString);
-								return PROCESS_CONTINUE;
-							}
-							if (id == IProblemBinding.SEMANTIC_INVALID_TYPE) {
-								reportProblem(ERR_ID_TypeResolutionProblem, name, name.getRawSignature(),
-										contextFlagsString);
+			@Override
+			public int visit(IASTName name) {
+				try {
+					IBinding binding = name.resolveBinding();
+					if (binding instanceof IProblemBinding) {
+						IASTNode parentNode = name.getParent();
+						// Don't report multiple problems with qualified names.
+						if (parentNode instanceof ICPPASTQualifiedName) {
+							if (((ICPPASTQualifiedName) parentNode).resolveBinding() instanceof IProblemBinding)
 								return PROCESS_CONTINUE;
+						}
+						String contextFlagsString = createContextFlagsString(name);
+						IProblemBinding problemBinding = (IProblemBinding) binding;
+						int id = problemBinding.getID();
+						if (id == IProblemBinding.SEMANTIC_INVALID_OVERLOAD) {
+							reportProblem(ERR_ID_OverloadProblem, name, name.getRawSignature(), contextFlagsString);
+							return PROCESS_CONTINUE;
+						}
+						if (id == IProblemBinding.SEMANTIC_AMBIGUOUS_LOOKUP) {
+							String candidatesString = getCandidatesString(problemBinding);
+							reportProblem(ERR_ID_AmbiguousProblem, name, name.getRawSignature(), candidatesString,
+									contextFlagsString);
+							return PROCESS_CONTINUE;
+						}
+						if (id == IProblemBinding.SEMANTIC_CIRCULAR_INHERITANCE) {
+							String typeString;
+							IASTNode problemNode;
+							if (parentNode instanceof IASTFieldReference) {
+								IASTExpression ownerExpression = ((IASTFieldReference) parentNode).getFieldOwner();
+								typeString = ASTTypeUtil.getType(ownerExpression.getExpressionType());
+								problemNode = ownerExpression;
+							} else {
+								problemNode = name;
+								typeString = name.getRawSignature();
 							}
-							if (id == IProblemBinding.SEMANTIC_INVALID_TEMPLATE_INSTANTIATION) {
-								if (isFunctionCall(name, parentNode)) {
-									reportProblem(ERR_ID_TemplateInstantiationProblem, name.getLastName(),
-											getCandidatesString(problemBinding), contextFlagsString);
+							reportProblem(ERR_ID_CircularReferenceProblem, problemNode, typeString,
+									contextFlagsString);
+							return PROCESS_CONTINUE;
+						}
+						if (id == IProblemBinding.SEMANTIC_INVALID_STRUCTURED_BINDING_INITIALIZER) {
+							IASTNode problemNode = parentNode;
+							while (problemNode != null) {
+								if (problemNode instanceof ICPPASTStructuredBindingDeclaration) {
+									break;
 								}
-								return PROCESS_CONTINUE;
-							}
-
-							// From this point, we'll deal only with NAME_NOT_FOUND problems.
-							// If it's something else continue because we don't want to give bad messages.
-							if (id != IProblemBinding.SEMANTIC_NAME_NOT_FOUND) {
-								return PROCESS_CONTINUE;
+								problemNode = problemNode.getParent();
 							}
-							if (SemanticQueries.isUnknownBuiltin(problemBinding, name)) {
-								return PROCESS_CONTINUE; // Ignore an unknown built-in.
+							if (problemNode == null) {
+								// this should not happen because problem binding should be inside structured binding initializer subtree
+								problemNode = parentNode;
 							}
+							reportProblem(ERR_ID_StructuredBindingDeclarationProblem, problemNode,
+									parentNode.getRawSignature(), contextFlagsString);
+							return PROCESS_CONTINUE;
+						}
+						if (id == IProblemBinding.SEMANTIC_INVALID_REDECLARATION) {
+							reportProblem(ERR_ID_RedeclarationProblem, name, name.getRawSignature(),
+									contextFlagsString);
+							return PROCESS_CONTINUE;
+						}
+						if (id == IProblemBinding.SEMANTIC_INVALID_REDEFINITION) {
+							reportProblem(ERR_ID_RedefinitionProblem, name, name.getRawSignature(),
+									contextFlagsString);
+							return PROCESS_CONTINUE;
+						}
+						if (id == IProblemBinding.SEMANTIC_MEMBER_DECLARATION_NOT_FOUND) {
+							reportProblem(ERR_ID_MemberDeclarationNotFoundProblem, name, contextFlagsString);
+							return PROCESS_CONTINUE;
+						}
+						if (id == IProblemBinding.SEMANTIC_LABEL_STATEMENT_NOT_FOUND) {
+							reportProblem(ERR_ID_LabelStatementNotFoundProblem, name, name.getRawSignature(),
+									contextFlagsString);
+							return PROCESS_CONTINUE;
+						}
+						if (id == IProblemBinding.SEMANTIC_INVALID_TEMPLATE_ARGUMENTS) {
+							// We use the templateName since we don't want the whole
+							// argument list to be underlined. That way we can see which argument is invalid.
+							IASTNode templateName = getTemplateName(name);
+							reportProblem(ERR_ID_InvalidTemplateArgumentsProblem, templateName, contextFlagsString);
+							return PROCESS_CONTINUE;
+						}
+						if (id == IProblemBinding.SEMANTIC_INVALID_TYPE) {
+							reportProblem(ERR_ID_TypeResolutionProblem, name, name.getRawSignature(),
+									contextFlagsString);
+							return PROCESS_CONTINUE;
+						}
+						if (id == IProblemBinding.SEMANTIC_INVALID_TEMPLATE_INSTANTIATION) {
 							if (isFunctionCall(name, parentNode)) {
-								handleFunctionProblem(name, problemBinding, contextFlagsString);
-							} else if (parentNode instanceof IASTFieldReference) {
-								handleMemberProblem(name, parentNode, problemBinding, contextFlagsString);
-							} else if (parentNode instanceof IASTNamedTypeSpecifier) {
-								reportProblem(ERR_ID_TypeResolutionProblem, name, name.getRawSignature(),
-										contextFlagsString);
-							} else {
-								// Probably a variable.
-								handleVariableProblem(name, contextFlagsString);
+								reportProblem(ERR_ID_TemplateInstantiationProblem, name.getLastName(),
+										getCandidatesString(problemBinding), contextFlagsString);
 							}
+							return PROCESS_CONTINUE;
+						}
+
+						// From this point, we'll deal only with NAME_NOT_FOUND problems.
+						// If it's something else continue because we don't want to give bad messages.
+						if (id != IProblemBinding.SEMANTIC_NAME_NOT_FOUND) {
+							return PROCESS_CONTINUE;
+						}
+						if (SemanticQueries.isUnknownBuiltin(problemBinding, name)) {
+							return PROCESS_CONTINUE; // Ignore an unknown built-in.
+						}
+						if (isFunctionCall(name, parentNode)) {
+							handleFunctionProblem(name, problemBinding, contextFlagsString);
+						} else if (parentNode instanceof IASTFieldReference) {
+							handleMemberProblem(name, parentNode, problemBinding, contextFlagsString);
+						} else if (parentNode instanceof IASTNamedTypeSpecifier) {
+							reportProblem(ERR_ID_TypeResolutionProblem, name, name.getRawSignature(),
+									contextFlagsString);
+						} else {
+							// Probably a variable.
+							handleVariableProblem(name, contextFlagsString);
 						}
-					} catch (DOMException e) {
-						CodanCheckersActivator.log(e);
 					}
-					return PROCESS_CONTINUE;
+				} catch (DOMException e) {
+					CodanCheckersActivator.log(e);
 				}
-			});
-		} catch (Exception e) {
-			CodanCheckersActivator.log(e);
-		}
+				return PROCESS_CONTINUE;
+			}
+		};
 	}
 
 	protected String createContextFlagsString(IASTName name) {
@@ -28,6 +28,7 @@ import org.eclipse.cdt.codan.core.model.cfg.IBasicBlock;
 import org.eclipse.cdt.codan.core.model.cfg.ICfgData;
 import org.eclipse.cdt.codan.core.model.cfg.IControlFlowGraph;
 import org.eclipse.cdt.codan.core.model.cfg.IExitNode;
+import org.eclipse.cdt.codan.internal.core.cfg.CompactControlFlowGraph;
 import org.eclipse.cdt.codan.internal.core.cfg.ControlFlowGraph;
 import org.eclipse.cdt.core.dom.ast.ASTVisitor;
 import org.eclipse.cdt.core.dom.ast.DOMException;
@@ -90,8 +91,6 @@ public class ReturnChecker extends AbstractAstFunctionChecker {
 	public static final String RET_NORET_ID = "org.eclipse.cdt.codan.checkers.errnoreturn"; //$NON-NLS-1$
 	public static final String RET_LOCAL_ID = "org.eclipse.cdt.codan.checkers.localvarreturn"; //$NON-NLS-1$
 
-	private IType cachedReturnType = null;
-
 	private enum RetType {
 		BY_REF, BY_PTR
 	}
@@ -191,6 +190,7 @@ public class ReturnChecker extends AbstractAstFunctionChecker {
 	class ReturnStmpVisitor extends ASTVisitor {
 		private final IASTFunctionDefinition func;
 		private final ReturnTypeAnalyzer analyzer;
+		final ReturnTypeKind returnKind;
 		boolean hasret;
 
 		ReturnStmpVisitor(IASTFunctionDefinition func) {
@@ -199,6 +199,7 @@ public class ReturnChecker extends AbstractAstFunctionChecker {
 			shouldVisitExpressions = true;
 			this.func = func;
 			this.hasret = false;
+			this.returnKind = getReturnTypeKind(func);
 			IBinding binding = func.getDeclarator().getName().resolveBinding();
 			if (binding instanceof IFunction) {
 				IType retType = SemanticUtil.getNestedType(((IFunction) binding).getType().getReturnType(),
@@ -242,7 +243,6 @@ public class ReturnChecker extends AbstractAstFunctionChecker {
 				if (returnValue != null) {
 					hasret = true;
 				}
-				ReturnTypeKind returnKind = getReturnTypeKind(func);
 				if (returnKind == ReturnTypeKind.NonVoid && !isConstructorDestructor(func)) {
 					if (checkImplicitReturn(RET_NO_VALUE_ID) || isExplicitReturn(func)) {
 						if (returnValue == null)
@@ -291,11 +291,9 @@ public class ReturnChecker extends AbstractAstFunctionChecker {
 
 	@Override
 	protected void processFunction(IASTFunctionDefinition func) {
-		cachedReturnType = null;
 		ReturnStmpVisitor visitor = new ReturnStmpVisitor(func);
 		func.accept(visitor);
-		ReturnTypeKind returnKind = getReturnTypeKind(func);
-		if (returnKind == ReturnTypeKind.NonVoid && !isMain(func)) {
+		if (visitor.returnKind == ReturnTypeKind.NonVoid && !isMain(func)) {
 			// There a return but maybe it is only on one branch.
 			IASTStatement body = func.getBody();
 			if (body instanceof IASTCompoundStatement) {
@@ -322,10 +320,9 @@ public class ReturnChecker extends AbstractAstFunctionChecker {
 	}
 
 	private boolean isInDeadCode(IASTFunctionDefinition func, IASTStatement last) {
-		Collection<IBasicBlock> deadBlocks = getDeadBlocks(func);
-		for (Iterator<IBasicBlock> iterator = deadBlocks.iterator(); iterator.hasNext();) {
-			IBasicBlock bb = iterator.next();
-			if (((ICfgData) bb).getData() == last)
+		CompactControlFlowGraph graph = getCompactGraph(func);
+		for (int i = 0; i < graph.size(); i++) {
+			if (graph.isDead(i) && ((ICfgData) graph.getNode(i)).getData() == last)
 				return true;
 		}
 		return false;
@@ -337,6 +334,11 @@ public class ReturnChecker extends AbstractAstFunctionChecker {
 		return ((ControlFlowGraph) graph).getDeadNodes();
 	}
 
+	private CompactControlFlowGraph getCompactGraph(IASTFunctionDefinition func) {
+		IControlFlowGraph graph = getModelCache().getControlFlowGraph(func);
+		return ((ControlFlowGraph) graph).getCompactGraph();
+	}
+
 	protected void reportNoRet(IASTFunctionDefinition func, boolean hasRet) {
 		if (!hasRet) {
 			// No return at all.
@@ -378,8 +380,9 @@ public class ReturnChecker extends AbstractAstFunctionChecker {
 			if (astNode == null) {
 				// If it real exit node such as return, exit or throw data will be an AST node,
 				// if it is null it is a fake node added by the graph builder.
-				Collection<IBasicBlock> deadBlocks = getDeadBlocks(func);
-				if (!deadBlocks.contains(node)) // exit node is in dead code, not reporting Bug 350168
+				CompactControlFlowGraph compactGraph = getCompactGraph(func);
+				int id = compactGraph.getId(node);
+				if (id < 0 || !compactGraph.isDead(id)) // exit node is in dead code, not reporting Bug 350168
 					return true;
 			}
 		}
@@ -418,11 +421,7 @@ public class ReturnChecker extends AbstractAstFunctionChecker {
 	}
 
 	private IType getReturnType(IASTFunctionDefinition func) {
-		if (cachedReturnType == null) {
-			IType type = SemanticUtil.getNestedType(CxxAstUtils.getReturnType(func), SemanticUtil.TDEF);
-			cachedReturnType = type;
-		}
-		return cachedReturnType;
+		return SemanticUtil.getNestedType(CxxAstUtils.getReturnType(func), SemanticUtil.TDEF);
 	}
 
 	private static boolean isVoid(IType type) {
@@ -13,7 +13,7 @@ package org.eclipse.cdt.codan.internal.checkers;
 
 import java.util.Stack;
 
-import org.eclipse.cdt.codan.core.cxx.model.AbstractIndexAstChecker;
+import org.eclipse.cdt.codan.core.cxx.model.AbstractAstVisitorChecker;
 import org.eclipse.cdt.codan.core.model.IProblemWorkingCopy;
 import org.eclipse.cdt.core.dom.ast.ASTVisitor;
 import org.eclipse.cdt.core.dom.ast.IASTBinaryExpression;
@@ -45,10 +45,9 @@ import org.eclipse.cdt.internal.core.dom.parser.cpp.semantics.SemanticUtil;
 /**
  * Checker to find that class has pointers but no copy constructor
  */
-public class ShallowCopyChecker extends AbstractIndexAstChecker {
+public class ShallowCopyChecker extends AbstractAstVisitorChecker {
 	public static final String PROBLEM_ID = "org.eclipse.cdt.codan.internal.checkers.ShallowCopyProblem"; //$NON-NLS-1$
 	public static final String PARAM_ONLY_NEW = "onlynew"; //$NON-NLS-1$
-	private boolean fOnlyNew = false;
 
 	@Override
 	public void initPreferences(IProblemWorkingCopy problem) {
@@ -57,12 +56,12 @@ public class ShallowCopyChecker extends AbstractIndexAstChecker {
 	}
 
 	@Override
-	public void processAst(IASTTranslationUnit ast) {
-		fOnlyNew = (Boolean) getPreference(getProblemById(PROBLEM_ID, getFile()), PARAM_ONLY_NEW);
-		if (fOnlyNew) {
-			ast.accept(new OnlyNewVisitor());
+	protected ASTVisitor createVisitor(IASTTranslationUnit ast) {
+		boolean onlyNew = (Boolean) getPreference(getProblemById(PROBLEM_ID, getFile()), PARAM_ONLY_NEW);
+		if (onlyNew) {
+			return new OnlyNewVisitor();
 		} else {
-			ast.accept(new AllPtrsVisitor());
+			return new AllPtrsVisitor();
 		}
 	}
 
@@ -13,7 +13,7 @@
  *******************************************************************************/
 package org.eclipse.cdt.codan.internal.checkers;
 
-import org.eclipse.cdt.codan.core.cxx.model.AbstractIndexAstChecker;
+import org.eclipse.cdt.codan.core.cxx.model.AbstractAstVisitorChecker;
 import org.eclipse.cdt.codan.core.model.IProblemWorkingCopy;
 import org.eclipse.cdt.core.dom.ast.ASTNodeProperty;
 import org.eclipse.cdt.core.dom.ast.ASTVisitor;
@@ -34,14 +34,13 @@ import org.eclipse.cdt.core.dom.ast.IASTUnaryExpression;
  * @author Alena
  *
  */
-public class SuggestedParenthesisChecker extends AbstractIndexAstChecker {
+public class SuggestedParenthesisChecker extends AbstractAstVisitorChecker {
 	public static final String ER_ID = "org.eclipse.cdt.codan.internal.checkers.SuggestedParenthesisProblem"; //$NON-NLS-1$
 	public static final String PARAM_NOT = "paramNot"; //$NON-NLS-1$
 
 	@Override
-	public void processAst(IASTTranslationUnit ast) {
-		// traverse the ast using the visitor pattern.
-		ast.accept(new ExpressionVisitor());
+	protected ASTVisitor createVisitor(IASTTranslationUnit ast) {
+		return new ExpressionVisitor();
 	}
 
 	class ExpressionVisitor extends ASTVisitor {
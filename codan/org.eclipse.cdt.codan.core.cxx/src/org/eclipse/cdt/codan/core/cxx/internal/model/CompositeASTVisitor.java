@@ -0,0 +1,494 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.codan.core.cxx.internal.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+
+import org.eclipse.cdt.codan.core.cxx.Activator;
+import org.eclipse.cdt.core.dom.ast.ASTVisitor;
+import org.eclipse.cdt.core.dom.ast.IASTArrayModifier;
+import org.eclipse.cdt.core.dom.ast.IASTAttribute;
+import org.eclipse.cdt.core.dom.ast.IASTAttributeSpecifier;
+import org.eclipse.cdt.core.dom.ast.IASTDeclSpecifier;
+import org.eclipse.cdt.core.dom.ast.IASTDeclaration;
+import org.eclipse.cdt.core.dom.ast.IASTDeclarator;
+import org.eclipse.cdt.core.dom.ast.IASTEnumerationSpecifier.IASTEnumerator;
+import org.eclipse.cdt.core.dom.ast.IASTExpression;
+import org.eclipse.cdt.core.dom.ast.IASTInitializer;
+import org.eclipse.cdt.core.dom.ast.IASTName;
+import org.eclipse.cdt.core.dom.ast.IASTNode;
+import org.eclipse.cdt.core.dom.ast.IASTParameterDeclaration;
+import org.eclipse.cdt.core.dom.ast.IASTPointerOperator;
+import org.eclipse.cdt.core.dom.ast.IASTProblem;
+import org.eclipse.cdt.core.dom.ast.IASTStatement;
+import org.eclipse.cdt.core.dom.ast.IASTToken;
+import org.eclipse.cdt.core.dom.ast.IASTTranslationUnit;
+import org.eclipse.cdt.core.dom.ast.IASTTypeId;
+import org.eclipse.cdt.core.dom.ast.c.ICASTDesignator;
+import org.eclipse.cdt.core.dom.ast.cpp.ICPPASTCapture;
+import org.eclipse.cdt.core.dom.ast.cpp.ICPPASTClassVirtSpecifier;
+import org.eclipse.cdt.core.dom.ast.cpp.ICPPASTCompositeTypeSpecifier.ICPPASTBaseSpecifier;
+import org.eclipse.cdt.core.dom.ast.cpp.ICPPASTDecltypeSpecifier;
+import org.eclipse.cdt.core.dom.ast.cpp.ICPPASTDesignator;
+import org.eclipse.cdt.core.dom.ast.cpp.ICPPASTNamespaceDefinition;
+import org.eclipse.cdt.core.dom.ast.cpp.ICPPASTTemplateParameter;
+import org.eclipse.cdt.core.dom.ast.cpp.ICPPASTVirtSpecifier;
+import org.eclipse.cdt.internal.core.dom.parser.ASTAmbiguousNode;
+import org.eclipse.core.runtime.OperationCanceledException;
+
+/**
+ * Visitor dispatching the nodes of one traversal of an AST to several visitors,
+ * as if each of them traversed the AST by itself. A visitor receives the kinds of
+ * nodes it is interested in, according to its <code>shouldVisit</code> flags,
+ * until it skips a subtree or aborts.
+ * <p>
+ * The flags that change the nodes of the traversal rather than the nodes reported,
+ * {@link #includeInactiveNodes}, {@link #shouldVisitAmbiguousNodes} and the flags
+ * of the implicit names, must be the same for all the visitors, see {@link #canShare}.
+ * A visitor throwing an exception is logged and receives no more nodes.
+ */
+public class CompositeASTVisitor extends ASTVisitor {
+	private static final int TRANSLATION_UNIT = 0;
+	private static final int NAME = 1;
+	private static final int DECLARATION = 2;
+	private static final int INITIALIZER = 3;
+	private static final int PARAMETER_DECLARATION = 4;
+	private static final int DECLARATOR = 5;
+	private static final int DECL_SPECIFIER = 6;
+	private static final int ARRAY_MODIFIER = 7;
+	private static final int POINTER_OPERATOR = 8;
+	private static final int ATTRIBUTE = 9;
+	private static final int TOKEN = 10;
+	private static final int EXPRESSION = 11;
+	private static final int STATEMENT = 12;
+	private static final int TYPE_ID = 13;
+	private static final int ENUMERATOR = 14;
+	private static final int PROBLEM = 15;
+	private static final int DESIGNATOR = 16;
+	private static final int BASE_SPECIFIER = 17;
+	private static final int NAMESPACE = 18;
+	private static final int TEMPLATE_PARAMETER = 19;
+	private static final int CAPTURE = 20;
+	private static final int VIRT_SPECIFIER = 21;
+	private static final int DECLTYPE_SPECIFIER = 22;
+	private static final int AMBIGUOUS_NODE = 23;
+	private static final int KINDS = 24;
+
+	private final ASTVisitor[] visitors;
+	/** The indices of the visitors interested in each kind of node. */
+	private final int[][] interested = new int[KINDS][];
+	/** The node where a visitor skipped the subtree, or null while it receives the nodes. */
+	private final IASTNode[] skippedAt;
+	/** The kind of the node where a visitor skipped the subtree. */
+	private final int[] skippedKind;
+	private final boolean[] done;
+	/** The number of visitors that did not skip a subtree and did not abort. */
+	private int active;
+	private int remaining;
+
+	/**
+	 * @param visitors the visitors, that can share a traversal
+	 */
+	public CompositeASTVisitor(List<? extends ASTVisitor> visitors) {
+		this.visitors = visitors.toArray(new ASTVisitor[visitors.size()]);
+		skippedAt = new IASTNode[this.visitors.length];
+		skippedKind = new int[this.visitors.length];
+		done = new boolean[this.visitors.length];
+		active = remaining = this.visitors.length;
+		ASTVisitor first = this.visitors[0];
+		includeInactiveNodes = first.includeInactiveNodes;
+		shouldVisitAmbiguousNodes = first.shouldVisitAmbiguousNodes;
+		shouldVisitImplicitNames = first.shouldVisitImplicitNames;
+		shouldVisitImplicitNameAlternates = first.shouldVisitImplicitNameAlternates;
+		shouldVisitImplicitDestructorNames = first.shouldVisitImplicitDestructorNames;
+		shouldVisitTranslationUnit = register(TRANSLATION_UNIT, v -> v.shouldVisitTranslationUnit);
+		shouldVisitNames = register(NAME, v -> v.shouldVisitNames);
+		shouldVisitDeclarations = register(DECLARATION, v -> v.shouldVisitDeclarations);
+		shouldVisitInitializers = register(INITIALIZER, v -> v.shouldVisitInitializers);
+		shouldVisitParameterDeclarations = register(PARAMETER_DECLARATION, v -> v.shouldVisitParameterDeclarations);
+		shouldVisitDeclarators = register(DECLARATOR, v -> v.shouldVisitDeclarators);
+		shouldVisitDeclSpecifiers = register(DECL_SPECIFIER, v -> v.shouldVisitDeclSpecifiers);
+		shouldVisitArrayModifiers = register(ARRAY_MODIFIER, v -> v.shouldVisitArrayModifiers);
+		shouldVisitPointerOperators = register(POINTER_OPERATOR, v -> v.shouldVisitPointerOperators);
+		shouldVisitAttributes = register(ATTRIBUTE, v -> v.shouldVisitAttributes);
+		shouldVisitTokens = register(TOKEN, v -> v.shouldVisitTokens);
+		shouldVisitExpressions = register(EXPRESSION, v -> v.shouldVisitExpressions);
+		shouldVisitStatements = register(STATEMENT, v -> v.shouldVisitStatements);
+		shouldVisitTypeIds = register(TYPE_ID, v -> v.shouldVisitTypeIds);
+		shouldVisitEnumerators = register(ENUMERATOR, v -> v.shouldVisitEnumerators);
+		shouldVisitProblems = register(PROBLEM, v -> v.shouldVisitProblems);
+		shouldVisitDesignators = register(DESIGNATOR, v -> v.shouldVisitDesignators);
+		shouldVisitBaseSpecifiers = register(BASE_SPECIFIER, v -> v.shouldVisitBaseSpecifiers);
+		shouldVisitNamespaces = register(NAMESPACE, v -> v.shouldVisitNamespaces);
+		shouldVisitTemplateParameters = register(TEMPLATE_PARAMETER, v -> v.shouldVisitTemplateParameters);
+		shouldVisitCaptures = register(CAPTURE, v -> v.shouldVisitCaptures);
+		shouldVisitVirtSpecifiers = register(VIRT_SPECIFIER, v -> v.shouldVisitVirtSpecifiers);
+		shouldVisitDecltypeSpecifiers = register(DECLTYPE_SPECIFIER, v -> v.shouldVisitDecltypeSpecifiers);
+		register(AMBIGUOUS_NODE, v -> v.shouldVisitAmbiguousNodes);
+	}
+
+	/**
+	 * Tests whether two visitors can share a traversal, that is whether they
+	 * traverse the same nodes of an AST.
+	 */
+	public static boolean canShare(ASTVisitor v1, ASTVisitor v2) {
+		return v1.includeInactiveNodes == v2.includeInactiveNodes
+				&& v1.shouldVisitAmbiguousNodes == v2.shouldVisitAmbiguousNodes
+				&& v1.shouldVisitImplicitNames == v2.shouldVisitImplicitNames
+				&& v1.shouldVisitImplicitNameAlternates == v2.shouldVisitImplicitNameAlternates
+				&& v1.shouldVisitImplicitDestructorNames == v2.shouldVisitImplicitDestructorNames;
+	}
+
+	private boolean register(int kind, Predicate<ASTVisitor> flag) {
+		List<Integer> indices = new ArrayList<>();
+		for (int i = 0; i < visitors.length; i++) {
+			if (flag.test(visitors[i]))
+				indices.add(i);
+		}
+		interested[kind] = indices.stream().mapToInt(Integer::intValue).toArray();
+		return interested[kind].length > 0;
+	}
+
+	private int visit(int kind, IASTNode node, ToIntFunction<ASTVisitor> visit) {
+		for (int i : interested[kind]) {
+			if (done[i] || skippedAt[i] != null)
+				continue;
+			switch (call(i, visit)) {
+			case PROCESS_SKIP:
+				skippedAt[i] = node;
+				skippedKind[i] = kind;
+				active--;
+				break;
+			case PROCESS_ABORT:
+				done[i] = true;
+				active--;
+				remaining--;
+				break;
+			default:
+				break;
+			}
+		}
+		if (remaining == 0)
+			return PROCESS_ABORT;
+		if (active == 0) {
+			// None of the visitors wants the subtree, leave is not called for the node
+			resume(kind, node);
+			return PROCESS_SKIP;
+		}
+		return PROCESS_CONTINUE;
+	}
+
+	private int leave(int kind, IASTNode node, ToIntFunction<ASTVisitor> leave) {
+		for (int i : interested[kind]) {
+			if (done[i] || skippedAt[i] != null)
+				continue;
+			if (call(i, leave) == PROCESS_ABORT) {
+				done[i] = true;
+				active--;
+				remaining--;
+			}
+		}
+		resume(kind, node);
+		return remaining == 0 ? PROCESS_ABORT : PROCESS_CONTINUE;
+	}
+
+	/** Resumes the visitors that skipped the subtree of a node. */
+	private void resume(int kind, IASTNode node) {
+		for (int i : interested[kind]) {
+			if (skippedAt[i] == node && skippedKind[i] == kind) {
+				skippedAt[i] = null;
+				active++;
+			}
+		}
+	}
+
+	private int call(int i, ToIntFunction<ASTVisitor> method) {
+		try {
+			return method.applyAsInt(visitors[i]);
+		} catch (OperationCanceledException e) {
+			throw e;
+		} catch (Throwable e) {
+			Activator.log(e);
+			return PROCESS_ABORT;
+		}
+	}
+
+	@Override
+	public int visit(IASTTranslationUnit tu) {
+		return visit(TRANSLATION_UNIT, tu, v -> v.visit(tu));
+	}
+
+	@Override
+	public int visit(IASTName name) {
+		return visit(NAME, name, v -> v.visit(name));
+	}
+
+	@Override
+	public int visit(IASTDeclaration declaration) {
+		return visit(DECLARATION, declaration, v -> v.visit(declaration));
+	}
+
+	@Override
+	public int visit(IASTInitializer initializer) {
+		return visit(INITIALIZER, initializer, v -> v.visit(initializer));
+	}
+
+	@Override
+	public int visit(IASTParameterDeclaration parameterDeclaration) {
+		return visit(PARAMETER_DECLARATION, parameterDeclaration, v -> v.visit(parameterDeclaration));
+	}
+
+	@Override
+	public int visit(IASTDeclarator declarator) {
+		return visit(DECLARATOR, declarator, v -> v.visit(declarator));
+	}
+
+	@Override
+	public int visit(IASTDeclSpecifier declSpec) {
+		return visit(DECL_SPECIFIER, declSpec, v -> v.visit(declSpec));
+	}
+
+	@Override
+	public int visit(IASTArrayModifier arrayModifier) {
+		return visit(ARRAY_MODIFIER, arrayModifier, v -> v.visit(arrayModifier));
+	}
+
+	@Override
+	public int visit(IASTPointerOperator ptrOperator) {
+		return visit(POINTER_OPERATOR, ptrOperator, v -> v.visit(ptrOperator));
+	}
+
+	@Override
+	public int visit(IASTAttribute attribute) {
+		return visit(ATTRIBUTE, attribute, v -> v.visit(attribute));
+	}
+
+	@Override
+	public int visit(IASTAttributeSpecifier specifier) {
+		return visit(ATTRIBUTE, specifier, v -> v.visit(specifier));
+	}
+
+	@Override
+	public int visit(IASTToken token) {
+		return visit(TOKEN, token, v -> v.visit(token));
+	}
+
+	@Override
+	public int visit(IASTExpression expression) {
+		return visit(EXPRESSION, expression, v -> v.visit(expression));
+	}
+
+	@Override
+	public int visit(IASTStatement statement) {
+		return visit(STATEMENT, statement, v -> v.visit(statement));
+	}
+
+	@Override
+	public int visit(IASTTypeId typeId) {
+		return visit(TYPE_ID, typeId, v -> v.visit(typeId));
+	}
+
+	@Override
+	public int visit(IASTEnumerator enumerator) {
+		return visit(ENUMERATOR, enumerator, v -> v.visit(enumerator));
+	}
+
+	@Override
+	public int visit(IASTProblem problem) {
+		return visit(PROBLEM, problem, v -> v.visit(problem));
+	}
+
+	@Override
+	public int visit(ICPPASTBaseSpecifier baseSpecifier) {
+		return visit(BASE_SPECIFIER, baseSpecifier, v -> v.visit(baseSpecifier));
+	}
+
+	@Override
+	public int visit(ICPPASTNamespaceDefinition namespaceDefinition) {
+		return visit(NAMESPACE, namespaceDefinition, v -> v.visit(namespaceDefinition));
+	}
+
+	@Override
+	public int visit(ICPPASTTemplateParameter templateParameter) {
+		return visit(TEMPLATE_PARAMETER, templateParameter, v -> v.visit(templateParameter));
+	}
+
+	@Override
+	public int visit(ICPPASTCapture capture) {
+		return visit(CAPTURE, capture, v -> v.visit(capture));
+	}
+
+	@Override
+	public int visit(ICASTDesignator designator) {
+		return visit(DESIGNATOR, designator, v -> v.visit(designator));
+	}
+
+	@Override
+	public int visit(ICPPASTDesignator designator) {
+		return visit(DESIGNATOR, designator, v -> v.visit(designator));
+	}
+
+	@Override
+	public int visit(ICPPASTVirtSpecifier virtSpecifier) {
+		return visit(VIRT_SPECIFIER, virtSpecifier, v -> v.visit(virtSpecifier));
+	}
+
+	@Override
+	public int visit(ICPPASTClassVirtSpecifier classVirtSpecifier) {
+		return visit(VIRT_SPECIFIER, classVirtSpecifier, v -> v.visit(classVirtSpecifier));
+	}
+
+	@Override
+	public int visit(ICPPASTDecltypeSpecifier decltypeSpecifier) {
+		return visit(DECLTYPE_SPECIFIER, decltypeSpecifier, v -> v.visit(decltypeSpecifier));
+	}
+
+	@Override
+	public int visit(ASTAmbiguousNode astAmbiguousNode) {
+		// The children of an ambiguous node are not traversed, only aborting matters
+		int result = visit(AMBIGUOUS_NODE, astAmbiguousNode, v -> v.visit(astAmbiguousNode));
+		resume(AMBIGUOUS_NODE, astAmbiguousNode);
+		return result;
+	}
+
+	@Override
+	public int leave(IASTTranslationUnit tu) {
+		return leave(TRANSLATION_UNIT, tu, v -> v.leave(tu));
+	}
+
+	@Override
+	public int leave(IASTName name) {
+		return leave(NAME, name, v -> v.leave(name));
+	}
+
+	@Override
+	public int leave(IASTDeclaration declaration) {
+		return leave(DECLARATION, declaration, v -> v.leave(declaration));
+	}
+
+	@Override
+	public int leave(IASTInitializer initializer) {
+		return leave(INITIALIZER, initializer, v -> v.leave(initializer));
+	}
+
+	@Override
+	public int leave(IASTParameterDeclaration parameterDeclaration) {
+		return leave(PARAMETER_DECLARATION, parameterDeclaration, v -> v.leave(parameterDeclaration));
+	}
+
+	@Override
+	public int leave(IASTDeclarator declarator) {
+		return leave(DECLARATOR, declarator, v -> v.leave(declarator));
+	}
+
+	@Override
+	public int leave(IASTDeclSpecifier declSpec) {
+		return leave(DECL_SPECIFIER, declSpec, v -> v.leave(declSpec));
+	}
+
+	@Override
+	public int leave(IASTArrayModifier arrayModifier) {
+		return leave(ARRAY_MODIFIER, arrayModifier, v -> v.leave(arrayModifier));
+	}
+
+	@Override
+	public int leave(IASTPointerOperator ptrOperator) {
+		return leave(POINTER_OPERATOR, ptrOperator, v -> v.leave(ptrOperator));
+	}
+
+	@Override
+	public int leave(IASTAttribute attribute) {
+		return leave(ATTRIBUTE, attribute, v -> v.leave(attribute));
+	}
+
+	@Override
+	public int leave(IASTAttributeSpecifier specifier) {
+		return leave(ATTRIBUTE, specifier, v -> v.leave(specifier));
+	}
+
+	@Override
+	public int leave(IASTToken token) {
+		return leave(TOKEN, token, v -> v.leave(token));
+	}
+
+	@Override
+	public int leave(IASTExpression expression) {
+		return leave(EXPRESSION, expression, v -> v.leave(expression));
+	}
+
+	@Override
+	public int leave(IASTStatement statement) {
+		return leave(STATEMENT, statement, v -> v.leave(statement));
+	}
+
+	@Override
+	public int leave(IASTTypeId typeId) {
+		return leave(TYPE_ID, typeId, v -> v.leave(typeId));
+	}
+
+	@Override
+	public int leave(IASTEnumerator enumerator) {
+		return leave(ENUMERATOR, enumerator, v -> v.leave(enumerator));
+	}
+
+	@Override
+	public int leave(IASTProblem problem) {
+		return leave(PROBLEM, problem, v -> v.leave(problem));
+	}
+
+	@Override
+	public int leave(ICPPASTBaseSpecifier baseSpecifier) {
+		return leave(BASE_SPECIFIER, baseSpecifier, v -> v.leave(baseSpecifier));
+	}
+
+	@Override
+	public int leave(ICPPASTNamespaceDefinition namespaceDefinition) {
+		return leave(NAMESPACE, namespaceDefinition, v -> v.leave(namespaceDefinition));
+	}
+
+	@Override
+	public int leave(ICPPASTTemplateParameter templateParameter) {
+		return leave(TEMPLATE_PARAMETER, templateParameter, v -> v.leave(templateParameter));
+	}
+
+	@Override
+	public int leave(ICPPASTCapture capture) {
+		return leave(CAPTURE, capture, v -> v.leave(capture));
+	}
+
+	@Override
+	public int leave(ICASTDesignator designator) {
+		return leave(DESIGNATOR, designator, v -> v.leave(designator));
+	}
+
+	@Override
+	public int leave(ICPPASTDesignator designator) {
+		return leave(DESIGNATOR, designator, v -> v.leave(designator));
+	}
+
+	@Override
+	public int leave(ICPPASTVirtSpecifier virtSpecifier) {
+		return leave(VIRT_SPECIFIER, virtSpecifier, v -> v.leave(virtSpecifier));
+	}
+
+	@Override
+	public int leave(ICPPASTClassVirtSpecifier virtSpecifier) {
+		return leave(VIRT_SPECIFIER, virtSpecifier, v -> v.leave(virtSpecifier));
+	}
+
+	@Override
+	public int leave(ICPPASTDecltypeSpecifier decltypeSpecifier) {
+		return leave(DECLTYPE_SPECIFIER, decltypeSpecifier, v -> v.leave(decltypeSpecifier));
+	}
+}
@@ -0,0 +1,130 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.codan.core.cxx.internal.model;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.eclipse.cdt.codan.core.cxx.Activator;
+import org.eclipse.cdt.codan.internal.core.IAnalysisInputsProvider;
+import org.eclipse.cdt.core.CCorePlugin;
+import org.eclipse.cdt.core.index.IIndex;
+import org.eclipse.cdt.core.index.IIndexFile;
+import org.eclipse.cdt.core.index.IIndexFileLocation;
+import org.eclipse.cdt.core.index.IIndexInclude;
+import org.eclipse.cdt.core.index.IndexLocationFactory;
+import org.eclipse.cdt.core.model.CoreModel;
+import org.eclipse.cdt.core.model.ICProject;
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.Path;
+
+/**
+ * Computes the inputs of the analysis of a C or C++ file from the index: the
+ * hashes of the contents of the file and of the headers it includes, directly
+ * or not, and its scanner configuration. The hash is not known while the index
+ * is not up to date with one of the files.
+ */
+public class CxxAnalysisInputsProvider implements IAnalysisInputsProvider {
+	@Override
+	public String getInputsHash(IFile file) {
+		ICProject project = CoreModel.getDefault().create(file.getProject());
+		if (project == null)
+			return null;
+		try {
+			IIndex index = CCorePlugin.getIndexManager().getIndex(project);
+			index.acquireReadLock();
+			try {
+				return getInputsHash(index, IndexLocationFactory.getWorkspaceIFL(file));
+			} finally {
+				index.releaseReadLock();
+			}
+		} catch (CoreException | NoSuchAlgorithmException e) {
+			Activator.log(e);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		return null;
+	}
+
+	private static String getInputsHash(IIndex index, IIndexFileLocation location)
+			throws CoreException, NoSuchAlgorithmException {
+		IIndexFile[] files = index.getFiles(location);
+		if (files.length == 0)
+			return null;
+		// The inputs sorted, the files of the include graph are found in any order
+		Set<String> inputs = new TreeSet<>();
+		for (IIndexFile file : files) {
+			inputs.add("configuration:" + file.getScannerConfigurationHashcode()); //$NON-NLS-1$
+		}
+		Set<IIndexFile> handled = new HashSet<>();
+		Deque<IIndexFile> queue = new ArrayDeque<>(Arrays.asList(files));
+		while (!queue.isEmpty()) {
+			IIndexFile file = queue.poll();
+			if (!handled.add(file))
+				continue;
+			if (!isUpToDate(file))
+				return null;
+			inputs.add(file.getLocation().getURI() + ":" + file.getContentsHash()); //$NON-NLS-1$
+			for (IIndexInclude include : file.getIncludes()) {
+				if (!include.isActive())
+					continue;
+				if (!include.isResolved()) {
+					// The result changes when the header is created
+					inputs.add("unresolved:" + include.getFullName()); //$NON-NLS-1$
+					continue;
+				}
+				IIndexFile included = index.resolveInclude(include);
+				if (included == null)
+					return null;
+				queue.add(included);
+			}
+		}
+		MessageDigest digest = MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+		for (String input : inputs) {
+			digest.update(input.getBytes(StandardCharsets.UTF_8));
+			digest.update((byte) 0);
+		}
+		StringBuilder hash = new StringBuilder();
+		for (byte b : digest.digest()) {
+			hash.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+		}
+		return hash.toString();
+	}
+
+	/**
+	 * Tests whether the file was indexed since it was last modified, like the
+	 * indexer does to decide whether to index it again.
+	 */
+	private static boolean isUpToDate(IIndexFile file) throws CoreException {
+		long timestamp = file.getTimestamp();
+		if (timestamp == 0)
+			return false;
+		IIndexFileLocation location = file.getLocation();
+		String fullPath = location.getFullPath();
+		if (fullPath != null) {
+			IResource resource = ResourcesPlugin.getWorkspace().getRoot().findMember(new Path(fullPath));
+			return resource != null && resource.getLocalTimeStamp() == timestamp;
+		}
+		IPath path = IndexLocationFactory.getAbsolutePath(location);
+		return path != null && path.toFile().lastModified() == timestamp;
+	}
+}
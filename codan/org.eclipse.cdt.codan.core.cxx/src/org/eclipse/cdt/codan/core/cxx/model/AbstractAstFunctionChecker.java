@@ -19,13 +19,14 @@ import org.eclipse.cdt.core.dom.ast.IASTFunctionDefinition;
 import org.eclipse.cdt.core.dom.ast.IASTTranslationUnit;
 
 /**
- * Abstract class for checkers that do all the work on function definition level
+ * Abstract class for checkers that do all the work on function definition level.
+ * The functions of several files may be processed at the same time, see
+ * {@link AbstractAstVisitorChecker}.
  */
-public abstract class AbstractAstFunctionChecker extends AbstractIndexAstChecker {
+public abstract class AbstractAstFunctionChecker extends AbstractAstVisitorChecker {
 	@Override
-	public void processAst(IASTTranslationUnit ast) {
-		// traverse the ast using the visitor pattern.
-		ast.accept(new ASTVisitor() {
+	protected ASTVisitor createVisitor(IASTTranslationUnit ast) {
+		return new ASTVisitor() {
 			{
 				shouldVisitDeclarations = true;
 			}
@@ -39,7 +40,7 @@ public abstract class AbstractAstFunctionChecker extends AbstractIndexAstChecker
 				// and gcc extensions
 				return PROCESS_CONTINUE;
 			}
-		});
+		};
 	}
 
 	/**
@@ -0,0 +1,66 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.codan.core.cxx.model;
+
+import org.eclipse.cdt.codan.internal.core.ICheckerPass;
+import org.eclipse.cdt.codan.internal.core.ISharedPassChecker;
+import org.eclipse.cdt.core.dom.ast.ASTVisitor;
+import org.eclipse.cdt.core.dom.ast.IASTTranslationUnit;
+
+/**
+ * Abstract class for checkers that do all the work in a visitor of the AST. The
+ * visitors of all such checkers traverse the AST of a file together, once, rather
+ * than each checker traversing it by itself.
+ * <p>
+ * When code analysis runs on several threads, a checker checks several files at
+ * the same time. The state of a file is therefore kept in the visitor, not in the
+ * fields of the checker. The methods of the checker returning the file, the
+ * invocation context or the models refer to the file of the current thread.
+ *
+ * Clients may extend this class.
+ * @since 3.7
+ */
+public abstract class AbstractAstVisitorChecker extends AbstractIndexAstChecker implements ISharedPassChecker {
+	@Override
+	public void processAst(IASTTranslationUnit ast) {
+		try {
+			ASTVisitor visitor = createVisitor(ast);
+			if (visitor != null)
+				ast.accept(visitor);
+		} finally {
+			visitDone(ast);
+		}
+	}
+
+	/**
+	 * Creates the visitor checking an AST. The visitor must not traverse the AST
+	 * itself, it receives the nodes of a traversal shared with other visitors.
+	 *
+	 * @param ast the AST to be checked
+	 * @return the visitor, or {@code null} if the checker has nothing to check
+	 */
+	protected abstract ASTVisitor createVisitor(IASTTranslationUnit ast);
+
+	/**
+	 * Called when the AST was traversed, or the traversal failed, to report the
+	 * problems found once the whole AST is known and to release the state of the
+	 * traversal.
+	 *
+	 * @param ast the AST that was checked
+	 */
+	protected void visitDone(IASTTranslationUnit ast) {
+	}
+
+	@Override
+	public ICheckerPass getPass() {
+		return AstVisitorPass.INSTANCE;
+	}
+}
@@ -52,7 +52,8 @@ import org.eclipse.core.runtime.OperationCanceledException;
  */
 public abstract class AbstractIndexAstChecker extends AbstractCheckerWithProblemPreferences
 		implements ICAstChecker, IRunnableInEditorChecker {
-	private CxxModelsCache modelCache;
+	// The models of the file being checked, kept per thread like the invocation context.
+	private final ThreadLocal<CxxModelsCache> modelCache = new ThreadLocal<>();
 
 	@Override
 	public synchronized boolean processResource(IResource resource) throws OperationCanceledException {
@@ -66,6 +67,7 @@ public abstract class AbstractIndexAstChecker extends AbstractCheckerWithProblem
 
 	private void processFile(IFile file) throws OperationCanceledException {
 		ICheckerInvocationContext context = getContext();
+		CxxModelsCache modelCache;
 		synchronized (context) {
 			modelCache = context.get(CxxModelsCache.class);
 			if (modelCache == null) {
@@ -77,6 +79,7 @@ public abstract class AbstractIndexAstChecker extends AbstractCheckerWithProblem
 				context.add(modelCache);
 			}
 		}
+		this.modelCache.set(modelCache);
 		try {
 			// Run the checker only if the index is fully initialized. Otherwise it may produce
 			// false positives.
@@ -91,7 +94,7 @@ public abstract class AbstractIndexAstChecker extends AbstractCheckerWithProblem
 		} catch (CoreException e) {
 			Activator.log(e);
 		} finally {
-			modelCache = null;
+			this.modelCache.remove();
 		}
 	}
 
@@ -104,6 +107,7 @@ public abstract class AbstractIndexAstChecker extends AbstractCheckerWithProblem
 			if (ast.isBasedOnIncompleteIndex())
 				return;
 			setContext(context);
+			CxxModelsCache modelCache;
 			synchronized (context) {
 				modelCache = context.get(CxxModelsCache.class);
 				if (modelCache == null) {
@@ -111,17 +115,36 @@ public abstract class AbstractIndexAstChecker extends AbstractCheckerWithProblem
 					context.add(modelCache);
 				}
 			}
+			this.modelCache.set(modelCache);
 			CPPSemantics.pushLookupPoint(ast);
 			try {
 				processAst(ast);
 			} finally {
-				modelCache = null;
+				this.modelCache.remove();
 				setContext(null);
 				CPPSemantics.popLookupPoint();
 			}
 		}
 	}
 
+	/**
+	 * Prepares the checker to process an AST in a pass shared with other checkers.
+	 *
+	 * @return {@code false} if the checker does not check the resource
+	 */
+	boolean enterPass(IResource resource, ICheckerInvocationContext context, CxxModelsCache modelCache) {
+		if (!shouldProduceProblems(resource))
+			return false;
+		setContext(context);
+		this.modelCache.set(modelCache);
+		return true;
+	}
+
+	void leavePass() {
+		modelCache.remove();
+		setContext(null);
+	}
+
 	@Override
 	public boolean runInEditor() {
 		return true;
@@ -164,7 +187,7 @@ public abstract class AbstractIndexAstChecker extends AbstractCheckerWithProblem
 	protected List<IASTComment> getLineCommentsForLocation(IProblemLocation loc) {
 		ArrayList<IASTComment> lineComments = new ArrayList<>();
 		try {
-			IASTComment[] commentsArray = modelCache.getAST().getComments();
+			IASTComment[] commentsArray = modelCache.get().getAST().getComments();
 			for (IASTComment comm : commentsArray) {
 				IASTFileLocation fileLocation = comm.getFileLocation();
 				if (fileLocation.getStartingLineNumber() == loc.getLineNumber()) {
@@ -223,7 +246,7 @@ public abstract class AbstractIndexAstChecker extends AbstractCheckerWithProblem
 	}
 
 	protected IFile getFile() {
-		return modelCache.getFile();
+		return modelCache.get().getFile();
 	}
 
 	protected IProject getProject() {
@@ -232,10 +255,10 @@ public abstract class AbstractIndexAstChecker extends AbstractCheckerWithProblem
 	}
 
 	protected CxxModelsCache getModelCache() {
-		return modelCache;
+		return modelCache.get();
 	}
 
 	protected ICodanCommentMap getCommentMap() {
-		return modelCache.getCommentedNodeMap();
+		return modelCache.get().getCommentedNodeMap();
 	}
 }
@@ -0,0 +1,160 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.codan.core.cxx.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.cdt.codan.core.cxx.Activator;
+import org.eclipse.cdt.codan.core.cxx.internal.model.CompositeASTVisitor;
+import org.eclipse.cdt.codan.core.model.IChecker;
+import org.eclipse.cdt.codan.core.model.ICheckerInvocationContext;
+import org.eclipse.cdt.codan.internal.core.ICheckerPass;
+import org.eclipse.cdt.core.dom.ast.ASTVisitor;
+import org.eclipse.cdt.core.dom.ast.IASTTranslationUnit;
+import org.eclipse.cdt.core.model.CoreModel;
+import org.eclipse.cdt.core.model.ICElement;
+import org.eclipse.cdt.core.model.ITranslationUnit;
+import org.eclipse.cdt.internal.core.dom.parser.cpp.semantics.CPPSemantics;
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.CoreException;
+
+/**
+ * Runs the visitors of the {@link AbstractAstVisitorChecker}s of a file in one
+ * traversal of its AST per combination of the flags shaping the traversal.
+ */
+class AstVisitorPass implements ICheckerPass {
+	static final AstVisitorPass INSTANCE = new AstVisitorPass();
+
+	private static class Input {
+		final IASTTranslationUnit ast;
+		final CxxModelsCache modelCache;
+		final boolean inEditor;
+
+		Input(IASTTranslationUnit ast, CxxModelsCache modelCache, boolean inEditor) {
+			this.ast = ast;
+			this.modelCache = modelCache;
+			this.inEditor = inEditor;
+		}
+	}
+
+	private AstVisitorPass() {
+	}
+
+	@Override
+	public Object prepare(IResource resource, Object model, ICheckerInvocationContext context) {
+		if (model != null) {
+			if (!(model instanceof IASTTranslationUnit))
+				return null;
+			IASTTranslationUnit ast = (IASTTranslationUnit) model;
+			// Run the checkers only if the index was fully initialized when the file was parsed.
+			// Otherwise the checkers may produce false positives.
+			if (ast.isBasedOnIncompleteIndex())
+				return null;
+			CxxModelsCache modelCache;
+			synchronized (context) {
+				modelCache = context.get(CxxModelsCache.class);
+				if (modelCache == null) {
+					modelCache = new CxxModelsCache(ast);
+					context.add(modelCache);
+				}
+			}
+			return new Input(ast, modelCache, true);
+		}
+		if (!(resource instanceof IFile))
+			return null;
+		CxxModelsCache modelCache;
+		synchronized (context) {
+			modelCache = context.get(CxxModelsCache.class);
+			if (modelCache == null) {
+				ICElement celement = CoreModel.getDefault().create((IFile) resource);
+				if (!(celement instanceof ITranslationUnit))
+					return null;
+				modelCache = new CxxModelsCache((ITranslationUnit) celement);
+				context.add(modelCache);
+			}
+		}
+		try {
+			// Run the checkers only if the index is fully initialized. Otherwise they may produce
+			// false positives. The file is parsed here, once for all checkers.
+			if (modelCache.getIndex().isFullyInitialized()) {
+				IASTTranslationUnit ast = modelCache.getAST();
+				if (ast != null)
+					return new Input(ast, modelCache, false);
+			}
+		} catch (CoreException e) {
+			Activator.log(e);
+		}
+		return null;
+	}
+
+	@Override
+	public void run(List<IChecker> checkers, IResource resource, Object model, ICheckerInvocationContext context) {
+		Input input = (Input) model;
+		List<AbstractAstVisitorChecker> started = new ArrayList<>();
+		List<List<ASTVisitor>> traversals = new ArrayList<>();
+		try {
+			for (IChecker checker : checkers) {
+				AbstractAstVisitorChecker visitorChecker = (AbstractAstVisitorChecker) checker;
+				if (!visitorChecker.enterPass(resource, context, input.modelCache))
+					continue;
+				started.add(visitorChecker);
+				ASTVisitor visitor;
+				try {
+					visitor = visitorChecker.createVisitor(input.ast);
+				} catch (RuntimeException e) {
+					Activator.log(e);
+					continue;
+				}
+				if (visitor != null)
+					addVisitor(traversals, visitor);
+			}
+			synchronized (input.ast) {
+				if (input.inEditor)
+					CPPSemantics.pushLookupPoint(input.ast);
+				try {
+					for (List<ASTVisitor> visitors : traversals) {
+						input.ast.accept(new CompositeASTVisitor(visitors));
+					}
+				} finally {
+					if (input.inEditor)
+						CPPSemantics.popLookupPoint();
+				}
+			}
+		} finally {
+			for (AbstractAstVisitorChecker checker : started) {
+				try {
+					checker.visitDone(input.ast);
+				} catch (RuntimeException e) {
+					Activator.log(e);
+				} finally {
+					checker.leavePass();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Adds a visitor to the first traversal visiting the same nodes.
+	 */
+	private static void addVisitor(List<List<ASTVisitor>> traversals, ASTVisitor visitor) {
+		for (List<ASTVisitor> visitors : traversals) {
+			if (CompositeASTVisitor.canShare(visitors.get(0), visitor)) {
+				visitors.add(visitor);
+				return;
+			}
+		}
+		List<ASTVisitor> visitors = new ArrayList<>();
+		visitors.add(visitor);
+		traversals.add(visitors);
+	}
+}
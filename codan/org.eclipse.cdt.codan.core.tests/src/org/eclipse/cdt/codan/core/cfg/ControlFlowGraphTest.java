@@ -29,6 +29,7 @@ import org.eclipse.cdt.codan.core.model.cfg.ISingleOutgoing;
 import org.eclipse.cdt.codan.core.model.cfg.IStartNode;
 import org.eclipse.cdt.codan.core.tests.CodanFastCxxAstTestCase;
 import org.eclipse.cdt.codan.internal.core.cfg.AbstractBasicBlock;
+import org.eclipse.cdt.codan.internal.core.cfg.CompactControlFlowGraph;
 import org.eclipse.cdt.codan.internal.core.cfg.ControlFlowGraph;
 import org.eclipse.cdt.core.dom.ast.IASTDeclaration;
 import org.eclipse.cdt.core.dom.ast.IASTFunctionDefinition;
@@ -78,6 +79,34 @@ public class ControlFlowGraphTest extends CodanFastCxxAstTestCase {
 			IBasicBlock node = iterator.next();
 			checkNode(node, decision);
 		}
+		checkCompactGraph(nodes);
+	}
+
+	/**
+	 * Checks that the compact graph has the same nodes, arcs and dead nodes as the graph
+	 */
+	private void checkCompactGraph(Collection<IBasicBlock> nodes) {
+		CompactControlFlowGraph compact = graph.getCompactGraph();
+		assertEquals(nodes.size(), compact.size());
+		assertSame(graph.getStartNode(), compact.getNode(0));
+		Collection<IBasicBlock> deadNodes = graph.getDeadNodes();
+		for (IBasicBlock node : nodes) {
+			int id = compact.getId(node);
+			assertSame(node, compact.getNode(id));
+			assertEquals(deadNodes.contains(node), compact.isDead(id));
+			assertEquals(node.getOutgoingSize(), compact.getSuccessorCount(id));
+			for (int i = 0; i < compact.getSuccessorCount(id); i++) {
+				assertSame(node.getOutgoingNodes()[i], compact.getNode(compact.getSuccessor(id, i)));
+			}
+			if (compact.isReachable(id)) {
+				assertTrue(compact.dominates(0, id));
+				assertTrue(compact.dominates(id, id));
+			}
+		}
+	}
+
+	private int id(IBasicBlock node) {
+		return graph.getCompactGraph().getId(node);
 	}
 
 	/**
@@ -279,6 +308,59 @@ public class ControlFlowGraphTest extends CodanFastCxxAstTestCase {
 		IBasicBlock m1 = jumpEnd(bElse);
 	}
 
+	//	 main() {
+	//	   int a=10;
+	//	   if (a--) {
+	//	      a=a-2;
+	//	   } else {
+	//	      a=a+2;
+	//	   }
+	//	   a++;
+	//	 }
+	public void test_if_dominators() {
+		buildAndCheck(getAboveComment());
+		CompactControlFlowGraph compact = graph.getCompactGraph();
+		IDecisionNode des = (IDecisionNode) ((IPlainNode) graph.getStartNode().getOutgoing()).getOutgoing();
+		IBasicBlock bThen = branchEnd(des, IBranchNode.THEN);
+		IBasicBlock bElse = branchEnd(des, IBranchNode.ELSE);
+		IConnectorNode merge = (IConnectorNode) des.getMergeNode();
+		assertEquals(-1, compact.getImmediateDominator(0));
+		assertTrue(compact.dominates(id(des), id(bThen)));
+		assertTrue(compact.dominates(id(des), id(bElse)));
+		assertFalse(compact.dominates(id(bThen), id(bElse)));
+		assertFalse(compact.dominates(id(bThen), id(merge)));
+		assertEquals(id(des), compact.getImmediateDominator(id(merge)));
+		assertTrue(compact.dominates(id(merge), id(merge.getOutgoing())));
+	}
+
+	//	 main() {
+	//	   int a=10;
+	//	   while (a--) {
+	//	      a=a-2;
+	//	   }
+	//	 }
+	public void test_while_dominators() {
+		buildAndCheck(getAboveComment());
+		CompactControlFlowGraph compact = graph.getCompactGraph();
+		IConnectorNode conn = (IConnectorNode) ((IPlainNode) graph.getStartNode().getOutgoing()).getOutgoing();
+		IDecisionNode des = (IDecisionNode) conn.getOutgoing();
+		IBasicBlock bThen = branchEnd(des, IBranchNode.THEN);
+		assertTrue(compact.dominates(id(conn), id(bThen)));
+		assertFalse(compact.dominates(id(bThen), id(conn)));
+		assertEquals(id(conn), compact.getImmediateDominator(id(des)));
+		// The loop body comes after the loop condition, the back arc aside
+		int[] order = compact.getReversePostOrder();
+		int condition = -1;
+		int body = -1;
+		for (int i = 0; i < order.length; i++) {
+			if (order[i] == id(des))
+				condition = i;
+			else if (order[i] == id(bThen))
+				body = i;
+		}
+		assertTrue(condition < body);
+	}
+
 	//	 main() {
 	//	      return;
 	//	      a++;
@@ -0,0 +1,128 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.codan.core.cxx;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.cdt.codan.core.CodanRuntime;
+import org.eclipse.cdt.codan.core.cxx.model.AbstractAstVisitorChecker;
+import org.eclipse.cdt.codan.core.cxx.model.CxxModelsCache;
+import org.eclipse.cdt.codan.core.model.IChecker;
+import org.eclipse.cdt.codan.core.model.ICheckerInvocationContext;
+import org.eclipse.cdt.codan.core.model.IProblemLocation;
+import org.eclipse.cdt.codan.core.model.IProblemReporter;
+import org.eclipse.cdt.codan.core.tests.CodanFastCxxAstTestCase;
+import org.eclipse.cdt.codan.internal.core.CheckerInvocationContext;
+import org.eclipse.cdt.codan.internal.core.CodanRunner;
+import org.eclipse.cdt.core.dom.ast.ASTVisitor;
+import org.eclipse.cdt.core.dom.ast.IASTDeclaration;
+import org.eclipse.cdt.core.dom.ast.IASTTranslationUnit;
+import org.eclipse.core.resources.IResource;
+
+/**
+ * Tests that the checkers sharing the AST visitor pass check several files at the
+ * same time, each thread seeing the state of its own file.
+ */
+public class AstVisitorPassTest extends CodanFastCxxAstTestCase {
+	private final List<String> failures = new CopyOnWriteArrayList<>();
+
+	/**
+	 * A checker whose visitor waits in the first declaration until the visitor of
+	 * the other file reaches it as well.
+	 */
+	private class WaitingChecker extends AbstractAstVisitorChecker {
+		private final CyclicBarrier barrier = new CyclicBarrier(2);
+
+		@Override
+		public boolean shouldProduceProblems(IResource resource) {
+			return true;
+		}
+
+		@Override
+		protected ASTVisitor createVisitor(IASTTranslationUnit ast) {
+			final CxxModelsCache modelCache = getModelCache();
+			final ICheckerInvocationContext context = getContext();
+			return new ASTVisitor() {
+				{
+					shouldVisitDeclarations = true;
+				}
+
+				@Override
+				public int visit(IASTDeclaration declaration) {
+					try {
+						barrier.await(10, TimeUnit.SECONDS);
+					} catch (Exception e) {
+						failures.add("The passes of the files did not overlap: " + e);
+						return PROCESS_ABORT;
+					}
+					if (getModelCache() != modelCache || getContext() != context)
+						failures.add("The state of the other file was seen");
+					return PROCESS_ABORT;
+				}
+			};
+		}
+	}
+
+	@Override
+	public IChecker getChecker() {
+		return null; // not testing checker
+	}
+
+	@Override
+	public boolean isCpp() {
+		return true;
+	}
+
+	// int f() { return 0; }
+
+	// int g() { return 1; }
+	public void testPassesOfTwoFilesOverlap() throws Exception {
+		CharSequence[] code = getContents(2);
+		IASTTranslationUnit[] asts = { parse(code[0].toString()), parse(code[1].toString()) };
+		List<IChecker> checkers = Arrays.asList(new WaitingChecker(), new WaitingChecker());
+		IProblemReporter problemReporter = CodanRuntime.getInstance().getProblemReporter();
+		CodanRuntime.getInstance().setProblemReporter(new IProblemReporter() {
+			@Override
+			public void reportProblem(String problemId, IProblemLocation loc, Object... args) {
+			}
+		});
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			Future<?>[] futures = new Future<?>[asts.length];
+			for (int i = 0; i < asts.length; i++) {
+				IASTTranslationUnit ast = asts[i];
+				futures[i] = executor.submit(() -> {
+					ICheckerInvocationContext context = new CheckerInvocationContext(null);
+					try {
+						AbstractAstVisitorChecker checker = (AbstractAstVisitorChecker) checkers.get(0);
+						assertTrue(CodanRunner.runPass(checker.getPass(), checkers, null, ast, context));
+					} finally {
+						context.dispose();
+					}
+				});
+			}
+			for (Future<?> future : futures) {
+				future.get(30, TimeUnit.SECONDS);
+			}
+		} finally {
+			executor.shutdownNow();
+			CodanRuntime.getInstance().setProblemReporter(problemReporter);
+		}
+		assertEquals(Arrays.asList(), failures);
+	}
+}
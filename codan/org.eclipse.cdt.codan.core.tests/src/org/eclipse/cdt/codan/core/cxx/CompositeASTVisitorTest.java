@@ -0,0 +1,154 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.codan.core.cxx;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.cdt.codan.core.cxx.internal.model.CompositeASTVisitor;
+import org.eclipse.cdt.codan.core.model.IChecker;
+import org.eclipse.cdt.codan.core.tests.CodanFastCxxAstTestCase;
+import org.eclipse.cdt.core.dom.ast.ASTVisitor;
+import org.eclipse.cdt.core.dom.ast.IASTCompoundStatement;
+import org.eclipse.cdt.core.dom.ast.IASTDeclaration;
+import org.eclipse.cdt.core.dom.ast.IASTExpression;
+import org.eclipse.cdt.core.dom.ast.IASTName;
+import org.eclipse.cdt.core.dom.ast.IASTStatement;
+import org.eclipse.cdt.core.dom.ast.IASTTranslationUnit;
+
+/**
+ * Tests that the visitors sharing a traversal receive the same nodes as when each
+ * of them traverses the AST by itself.
+ */
+public class CompositeASTVisitorTest extends CodanFastCxxAstTestCase {
+	private static class RecordingVisitor extends ASTVisitor {
+		final List<String> events = new ArrayList<>();
+		int skipCompound = -1;
+		int abortAfter = Integer.MAX_VALUE;
+		private int compounds;
+
+		RecordingVisitor(boolean statements, boolean expressions, boolean declarations, boolean names) {
+			shouldVisitStatements = statements;
+			shouldVisitExpressions = expressions;
+			shouldVisitDeclarations = declarations;
+			shouldVisitNames = names;
+		}
+
+		private int record(String event) {
+			events.add(event);
+			return events.size() >= abortAfter ? PROCESS_ABORT : PROCESS_CONTINUE;
+		}
+
+		@Override
+		public int visit(IASTStatement statement) {
+			int result = record("visit " + statement.getRawSignature());
+			if (statement instanceof IASTCompoundStatement && compounds++ == skipCompound)
+				return PROCESS_SKIP;
+			return result;
+		}
+
+		@Override
+		public int leave(IASTStatement statement) {
+			return record("leave " + statement.getRawSignature());
+		}
+
+		@Override
+		public int visit(IASTExpression expression) {
+			return record("visit " + expression.getRawSignature());
+		}
+
+		@Override
+		public int visit(IASTDeclaration declaration) {
+			return record("visit " + declaration.getRawSignature());
+		}
+
+		@Override
+		public int leave(IASTDeclaration declaration) {
+			return record("leave " + declaration.getRawSignature());
+		}
+
+		@Override
+		public int visit(IASTName name) {
+			return record("visit " + name);
+		}
+	}
+
+	@Override
+	public IChecker getChecker() {
+		return null; // not testing checker
+	}
+
+	@Override
+	public boolean isCpp() {
+		return true;
+	}
+
+	private List<RecordingVisitor> createVisitors() {
+		RecordingVisitor statements = new RecordingVisitor(true, false, false, false);
+		statements.skipCompound = 1;
+		RecordingVisitor expressions = new RecordingVisitor(true, true, false, false);
+		expressions.skipCompound = 0;
+		RecordingVisitor declarations = new RecordingVisitor(false, false, true, true);
+		declarations.abortAfter = 6;
+		RecordingVisitor all = new RecordingVisitor(true, true, true, true);
+		return Arrays.asList(statements, expressions, declarations, all);
+	}
+
+	private void checkSameEvents(IASTTranslationUnit ast) {
+		List<RecordingVisitor> separate = createVisitors();
+		for (RecordingVisitor visitor : separate) {
+			ast.accept(visitor);
+		}
+		List<RecordingVisitor> shared = createVisitors();
+		ast.accept(new CompositeASTVisitor(shared));
+		for (int i = 0; i < separate.size(); i++) {
+			assertEquals(separate.get(i).events, shared.get(i).events);
+		}
+	}
+
+	// int f(int a) {
+	//   if (a) {
+	//     a++;
+	//     { a--; }
+	//   }
+	//   while (a) { a = a + 1; }
+	//   return a;
+	// }
+	// int g() {
+	//   f(1);
+	//   return 0;
+	// }
+	public void testSkipAndAbort() throws Exception {
+		checkSameEvents(parse(getAboveComment()));
+	}
+
+	// #define EXPR(x) x;
+	// void f(int a) {
+	//   EXPR(a)
+	//   a;
+	// }
+	public void testExpressionStatements() throws Exception {
+		checkSameEvents(parse(getAboveComment()));
+	}
+
+	// void f() {}
+	public void testAllAborted() throws Exception {
+		RecordingVisitor first = new RecordingVisitor(false, false, true, false);
+		first.abortAfter = 1;
+		RecordingVisitor second = new RecordingVisitor(false, false, true, false);
+		second.abortAfter = 1;
+		IASTTranslationUnit ast = parse(getAboveComment());
+		assertFalse(ast.accept(new CompositeASTVisitor(Arrays.asList(first, second))));
+		assertEquals(1, first.events.size());
+		assertEquals(1, second.events.size());
+	}
+}
@@ -15,10 +15,16 @@ package org.eclipse.cdt.codan.core.internal.checkers;
 
 import java.io.File;
 
+import org.eclipse.cdt.codan.core.model.CheckerLaunchMode;
+import org.eclipse.cdt.codan.core.model.IProblemReporter;
 import org.eclipse.cdt.codan.core.param.IProblemPreference;
 import org.eclipse.cdt.codan.core.tests.CheckerTestCase;
 import org.eclipse.cdt.codan.internal.checkers.StatementHasNoEffectChecker;
+import org.eclipse.cdt.codan.internal.core.CheckerResultsCache;
+import org.eclipse.cdt.codan.internal.core.CodanRunner;
 import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.NullProgressMonitor;
 
 /**
  * Test for {@see StatementHasNoEffectChecker} class
@@ -122,6 +128,51 @@ public class StatementHasNoEffectCheckerTest extends CheckerTestCase {
 		checkErrorLine(f2, 4);
 	}
 
+	// int main() {
+	// int a;
+	// +a; // error here on line 3
+	// }
+
+	// void foo() {
+	// int a;
+	//
+	// +a; // error here on line 4
+	// }
+	public void test2FilesInParallel() throws Exception {
+		CharSequence[] code = getContents(2);
+		File f1 = loadcode(code[0].toString());
+		File f2 = loadcode(code[1].toString());
+		indexFiles();
+		CodanRunner.processResources(cproject.getProject(), CheckerLaunchMode.RUN_ON_FULL_BUILD, 2,
+				new NullProgressMonitor());
+		markers = cproject.getProject().findMarkers(IProblemReporter.GENERIC_CODE_ANALYSIS_MARKER_TYPE, true, 1);
+		checkErrorLine(f1, 3);
+		checkErrorLine(f2, 4);
+	}
+
+	// int main() {
+	// int a;
+	// +a; // error here on line 3
+	// }
+	public void testResultsOfUnchangedFileReused() throws Exception {
+		loadcode(getAboveComment());
+		indexFiles();
+		CheckerResultsCache cache = CheckerResultsCache.getInstance();
+		String key = cache.getKey(currentIFile, CheckerLaunchMode.RUN_ON_FULL_BUILD);
+		assertNotNull(key);
+		assertFalse(cache.replay(currentIFile, key));
+		CodanRunner.processResource(currentIFile, CheckerLaunchMode.RUN_ON_FULL_BUILD, new NullProgressMonitor());
+		assertEquals(key, cache.getKey(currentIFile, CheckerLaunchMode.RUN_ON_FULL_BUILD));
+		assertNull(cache.getKey(currentIFile, CheckerLaunchMode.RUN_ON_DEMAND));
+		// The lost markers are restored
+		currentIFile.deleteMarkers(IProblemReporter.GENERIC_CODE_ANALYSIS_MARKER_TYPE, true, IResource.DEPTH_ZERO);
+		assertTrue(cache.replay(currentIFile, key));
+		markers = cproject.getProject().findMarkers(IProblemReporter.GENERIC_CODE_ANALYSIS_MARKER_TYPE, true, 1);
+		checkErrorLine(3);
+		cache.clear(cproject.getProject());
+		assertFalse(cache.replay(currentIFile, key));
+	}
+
 	// int main() {
 	// 	for (a=b;a;a=a->next);
 	// }
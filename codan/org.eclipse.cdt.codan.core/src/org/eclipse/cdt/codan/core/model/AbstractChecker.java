@@ -29,8 +29,10 @@ import org.eclipse.core.runtime.OperationCanceledException;
  */
 public abstract class AbstractChecker implements IChecker {
 	private static final Object[] EMPTY_OBJECT_ARRAY = {};
-	private ICheckerInvocationContext context;
-	private IProblemReporter problemReporter;
+	// The state of the resource being checked, kept per thread such that several resources can be
+	// checked at the same time.
+	private final ThreadLocal<ICheckerInvocationContext> context = new ThreadLocal<>();
+	private final ThreadLocal<IProblemReporter> problemReporter = new ThreadLocal<>();
 
 	/**
 	 * Default constructor
@@ -115,7 +117,7 @@ public abstract class AbstractChecker implements IChecker {
 	 */
 	@Override
 	public IProblemReporter getProblemReporter() {
-		return problemReporter;
+		return problemReporter.get();
 	}
 
 	/**
@@ -184,14 +186,18 @@ public abstract class AbstractChecker implements IChecker {
 	 * @since 2.0
 	 */
 	protected ICheckerInvocationContext getContext() {
-		return context;
+		return context.get();
 	}
 
 	/**
 	 * @since 2.0
 	 */
 	protected void setContext(ICheckerInvocationContext context) {
-		this.context = context;
+		if (context == null) {
+			this.context.remove();
+		} else {
+			this.context.set(context);
+		}
 	}
 
 	/**
@@ -201,11 +207,13 @@ public abstract class AbstractChecker implements IChecker {
 	public void before(IResource resource) {
 		// TODO(sprigogin): Use a problem reporter creating non-persistent editor annotations when running in editor.
 		IProblemReporter reporter = CodanRuntime.getInstance().getProblemReporter();
-		problemReporter = reporter;
+		problemReporter.set(reporter);
 		if (reporter instanceof IProblemReporterSessionPersistent) {
 			// Create session problem reporter
-			problemReporter = ((IProblemReporterSessionPersistent) reporter).createReporter(resource, this);
-			((IProblemReporterSessionPersistent) problemReporter).start();
+			IProblemReporterSessionPersistent sessionReporter = ((IProblemReporterSessionPersistent) reporter)
+					.createReporter(resource, this);
+			problemReporter.set(sessionReporter);
+			sessionReporter.start();
 		} else if (reporter instanceof IProblemReporterPersistent) {
 			// Delete markers.
 			((IProblemReporterPersistent) reporter).deleteProblems(resource, this);
@@ -217,11 +225,12 @@ public abstract class AbstractChecker implements IChecker {
 	 */
 	@Override
 	public void after(IResource resource) {
-		if (problemReporter instanceof IProblemReporterSessionPersistent) {
+		IProblemReporter reporter = problemReporter.get();
+		if (reporter instanceof IProblemReporterSessionPersistent) {
 			// Delete general markers.
-			((IProblemReporterSessionPersistent) problemReporter).done();
+			((IProblemReporterSessionPersistent) reporter).done();
 		}
-		problemReporter = null;
+		problemReporter.remove();
 	}
 
 	/**
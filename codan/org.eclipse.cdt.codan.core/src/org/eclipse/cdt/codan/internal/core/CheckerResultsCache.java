@@ -0,0 +1,418 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.codan.internal.core;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.cdt.codan.core.CodanCorePlugin;
+import org.eclipse.cdt.codan.core.CodanRuntime;
+import org.eclipse.cdt.codan.core.model.CheckerLaunchMode;
+import org.eclipse.cdt.codan.core.model.IChecker;
+import org.eclipse.cdt.codan.core.model.IProblem;
+import org.eclipse.cdt.codan.core.model.IProblemProfile;
+import org.eclipse.cdt.codan.core.model.IProblemReporter;
+import org.eclipse.cdt.codan.internal.core.model.CodanMarkerProblemReporter;
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IWorkspace;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IConfigurationElement;
+import org.eclipse.core.runtime.IExtensionPoint;
+import org.eclipse.core.runtime.Platform;
+
+/**
+ * Results of the checkers on the files analyzed by the builder, kept from one
+ * build to the next one and across sessions.
+ * <p>
+ * The results of a file are keyed by a hash of the inputs of its analysis,
+ * computed by the providers of the <code>analysisInputs</code> extension point,
+ * and of the configuration of the checkers enabled for it. A file whose key did
+ * not change is not analyzed again, its markers are restored from the results
+ * if they were lost, for example because they are not persistent.
+ */
+public class CheckerResultsCache {
+	private static final String ANALYSIS_INPUTS_EXTENSION_POINT_NAME = "analysisInputs"; //$NON-NLS-1$
+	private static final String CLASS_ATTR = "class"; //$NON-NLS-1$
+	private static final boolean ENABLED = !Boolean
+			.getBoolean("org.eclipse.cdt.codan.core.disableResultsCache"); //$NON-NLS-1$
+	private static final String DIRECTORY = "results"; //$NON-NLS-1$
+	private static final String EXTENSION = ".dat"; //$NON-NLS-1$
+	private static final int VERSION = 1;
+	private static final int MAX_STRING_LENGTH = 1 << 24;
+	private static final byte STRING = 0;
+	private static final byte INTEGER = 1;
+	private static final byte BOOLEAN = 2;
+	private static CheckerResultsCache instance;
+
+	/**
+	 * A marker of a file, with the attributes it was created with.
+	 */
+	private static class MarkerData {
+		final String type;
+		final Map<String, Object> attributes;
+
+		MarkerData(String type, Map<String, Object> attributes) {
+			this.type = type;
+			this.attributes = attributes;
+		}
+	}
+
+	/**
+	 * The key of the analysis of a file and the markers it produced.
+	 */
+	private static class Entry {
+		final String key;
+		final List<MarkerData> markers;
+
+		Entry(String key, List<MarkerData> markers) {
+			this.key = key;
+			this.markers = markers;
+		}
+	}
+
+	/**
+	 * The results of the files of a project, by their project relative path.
+	 */
+	private static class ProjectResults {
+		final Map<String, Entry> entries = new ConcurrentHashMap<>();
+		volatile boolean changed;
+	}
+
+	private final List<IAnalysisInputsProvider> providers = new ArrayList<>();
+	private final Map<String, ProjectResults> projects = new ConcurrentHashMap<>();
+
+	private CheckerResultsCache() {
+		readAnalysisInputsProviders();
+	}
+
+	public static synchronized CheckerResultsCache getInstance() {
+		if (instance == null)
+			instance = new CheckerResultsCache();
+		return instance;
+	}
+
+	private void readAnalysisInputsProviders() {
+		IExtensionPoint ep = Platform.getExtensionRegistry().getExtensionPoint(CodanCorePlugin.PLUGIN_ID,
+				ANALYSIS_INPUTS_EXTENSION_POINT_NAME);
+		if (ep == null)
+			return;
+		for (IConfigurationElement ce : ep.getConfigurationElements()) {
+			try {
+				providers.add((IAnalysisInputsProvider) ce.createExecutableExtension(CLASS_ATTR));
+			} catch (CoreException e) {
+				CodanCorePlugin.log(e);
+			}
+		}
+	}
+
+	/**
+	 * Returns the key of the analysis of a file in a given launch mode, or
+	 * {@code null} if its results are not cached. Only the markers created by the
+	 * builder are cached, the analysis on demand and as you type always run the
+	 * checkers.
+	 *
+	 * @param resource the resource to be checked
+	 * @param mode the launch mode
+	 */
+	public String getKey(IResource resource, CheckerLaunchMode mode) {
+		if (!ENABLED || providers.isEmpty() || resource.getType() != IResource.FILE)
+			return null;
+		if (mode != CheckerLaunchMode.RUN_ON_FULL_BUILD && mode != CheckerLaunchMode.RUN_ON_INC_BUILD)
+			return null;
+		// The results are the markers of the file, other reporters are not replayed
+		if (!(CodanRuntime.getInstance().getProblemReporter() instanceof CodanMarkerProblemReporter))
+			return null;
+		String inputsHash = null;
+		for (IAnalysisInputsProvider provider : providers) {
+			try {
+				inputsHash = provider.getInputsHash((IFile) resource);
+			} catch (Throwable e) {
+				CodanCorePlugin.log(e);
+			}
+			if (inputsHash != null)
+				break;
+		}
+		if (inputsHash == null)
+			return null;
+		MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+		} catch (NoSuchAlgorithmException e) {
+			return null;
+		}
+		update(digest, inputsHash);
+		// The checkers that run and the preferences of their problems
+		CheckersRegistry chegistry = CheckersRegistry.getInstance();
+		IProblemProfile profile = chegistry.getResourceProfile(resource);
+		for (IChecker checker : chegistry) {
+			if (!chegistry.isCheckerEnabled(checker, resource, mode))
+				continue;
+			update(digest, checker.getClass().getName());
+			for (IProblem refProblem : chegistry.getRefProblems(checker)) {
+				IProblem problem = profile.findProblem(refProblem.getId());
+				if (problem == null)
+					continue;
+				update(digest, problem.getId());
+				update(digest, String.valueOf(problem.isEnabled()));
+				update(digest, problem.getSeverity().toString());
+				update(digest, problem.getMessagePattern());
+				if (problem.getPreference() != null)
+					update(digest, problem.getPreference().exportValue());
+			}
+		}
+		StringBuilder key = new StringBuilder();
+		for (byte b : digest.digest()) {
+			key.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+		}
+		return key.toString();
+	}
+
+	private static void update(MessageDigest digest, String value) {
+		if (value != null)
+			digest.update(value.getBytes(StandardCharsets.UTF_8));
+		digest.update((byte) 0);
+	}
+
+	/**
+	 * Restores the results of a file if they were stored with the given key.
+	 *
+	 * @param resource the file
+	 * @param key the key of the analysis of the file, as returned by {@link #getKey}
+	 * @return {@code true} if the results were restored and the file does not
+	 *     need to be analyzed
+	 */
+	public boolean replay(IResource resource, String key) {
+		Entry entry = getResults(resource.getProject()).entries.get(getPath(resource));
+		if (entry == null || !entry.key.equals(key))
+			return false;
+		try {
+			IMarker[] markers = resource.findMarkers(IProblemReporter.GENERIC_CODE_ANALYSIS_MARKER_TYPE, true,
+					IResource.DEPTH_ZERO);
+			if (markers.length != entry.markers.size()) {
+				ResourcesPlugin.getWorkspace().run(monitor -> {
+					resource.deleteMarkers(IProblemReporter.GENERIC_CODE_ANALYSIS_MARKER_TYPE, true,
+							IResource.DEPTH_ZERO);
+					for (MarkerData data : entry.markers) {
+						resource.createMarker(data.type, data.attributes);
+					}
+				}, null, IWorkspace.AVOID_UPDATE, null);
+			}
+			return true;
+		} catch (CoreException e) {
+			CodanCorePlugin.log(e);
+			return false;
+		}
+	}
+
+	/**
+	 * Stores the results of a file, after the checkers analyzed it.
+	 *
+	 * @param resource the file
+	 * @param key the key of the analysis of the file, as returned by {@link #getKey}
+	 */
+	public void store(IResource resource, String key) {
+		List<MarkerData> data = new ArrayList<>();
+		try {
+			if (resource.exists()) {
+				for (IMarker marker : resource.findMarkers(IProblemReporter.GENERIC_CODE_ANALYSIS_MARKER_TYPE, true,
+						IResource.DEPTH_ZERO)) {
+					data.add(new MarkerData(marker.getType(), new HashMap<>(marker.getAttributes())));
+				}
+			}
+		} catch (CoreException e) {
+			CodanCorePlugin.log(e);
+			return;
+		}
+		ProjectResults results = getResults(resource.getProject());
+		results.entries.put(getPath(resource), new Entry(key, data));
+		results.changed = true;
+	}
+
+	/**
+	 * Removes the results of a resource and of its members.
+	 */
+	public void remove(IResource resource) {
+		if (resource.getType() == IResource.PROJECT) {
+			clear((IProject) resource);
+			return;
+		}
+		ProjectResults results = getResults(resource.getProject());
+		String path = getPath(resource);
+		if (results.entries.keySet().removeIf(p -> p.equals(path) || p.startsWith(path + '/')))
+			results.changed = true;
+	}
+
+	/**
+	 * Removes the results of the files of a project, so that they are all analyzed again.
+	 */
+	public void clear(IProject project) {
+		projects.put(project.getName(), new ProjectResults());
+		File file = getFile(project);
+		if (file != null)
+			file.delete();
+	}
+
+	/**
+	 * Writes the results of the files of a project to the state location, if they changed.
+	 */
+	public void save(IProject project) {
+		ProjectResults results = projects.get(project.getName());
+		if (results == null || !results.changed)
+			return;
+		File file = getFile(project);
+		if (file == null)
+			return;
+		results.changed = false;
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+			out.writeInt(VERSION);
+			Map<String, Entry> entries = new HashMap<>(results.entries);
+			out.writeInt(entries.size());
+			for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+				writeString(out, entry.getKey());
+				writeString(out, entry.getValue().key);
+				out.writeInt(entry.getValue().markers.size());
+				for (MarkerData data : entry.getValue().markers) {
+					writeMarker(out, data);
+				}
+			}
+		} catch (IOException e) {
+			CodanCorePlugin.log(e);
+			file.delete();
+		}
+	}
+
+	private ProjectResults getResults(IProject project) {
+		return projects.computeIfAbsent(project.getName(), name -> load(project));
+	}
+
+	private static String getPath(IResource resource) {
+		return resource.getProjectRelativePath().toString();
+	}
+
+	private static File getFile(IProject project) {
+		CodanCorePlugin plugin = CodanCorePlugin.getDefault();
+		if (plugin == null)
+			return null;
+		try {
+			File directory = plugin.getStateLocation().append(DIRECTORY).toFile();
+			if (!directory.isDirectory() && !directory.mkdirs())
+				return null;
+			return new File(directory, project.getName() + EXTENSION);
+		} catch (IllegalStateException e) {
+			// No state location, the results are kept in memory only
+			return null;
+		}
+	}
+
+	private static ProjectResults load(IProject project) {
+		ProjectResults results = new ProjectResults();
+		File file = getFile(project);
+		if (file == null || !file.isFile())
+			return results;
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+			if (in.readInt() != VERSION)
+				return results;
+			int count = in.readInt();
+			for (int i = 0; i < count; i++) {
+				String path = readString(in);
+				String key = readString(in);
+				int markerCount = in.readInt();
+				List<MarkerData> markers = new ArrayList<>(markerCount);
+				for (int j = 0; j < markerCount; j++) {
+					markers.add(readMarker(in));
+				}
+				results.entries.put(path, new Entry(key, markers));
+			}
+		} catch (IOException e) {
+			// The files are all analyzed again
+			results.entries.clear();
+			file.delete();
+		}
+		return results;
+	}
+
+	private static void writeMarker(DataOutputStream out, MarkerData data) throws IOException {
+		writeString(out, data.type);
+		out.writeInt(data.attributes.size());
+		for (Map.Entry<String, Object> attribute : data.attributes.entrySet()) {
+			writeString(out, attribute.getKey());
+			Object value = attribute.getValue();
+			if (value instanceof Integer) {
+				out.writeByte(INTEGER);
+				out.writeInt((Integer) value);
+			} else if (value instanceof Boolean) {
+				out.writeByte(BOOLEAN);
+				out.writeBoolean((Boolean) value);
+			} else {
+				out.writeByte(STRING);
+				writeString(out, String.valueOf(value));
+			}
+		}
+	}
+
+	private static MarkerData readMarker(DataInputStream in) throws IOException {
+		String type = readString(in);
+		int count = in.readInt();
+		Map<String, Object> attributes = new HashMap<>();
+		for (int i = 0; i < count; i++) {
+			String name = readString(in);
+			switch (in.readByte()) {
+			case INTEGER:
+				attributes.put(name, in.readInt());
+				break;
+			case BOOLEAN:
+				attributes.put(name, in.readBoolean());
+				break;
+			case STRING:
+				attributes.put(name, readString(in));
+				break;
+			default:
+				throw new IOException("Invalid attribute " + name); //$NON-NLS-1$
+			}
+		}
+		return new MarkerData(type, Collections.unmodifiableMap(attributes));
+	}
+
+	// Unlike writeUTF, not limited to 64K bytes, for the messages of the markers
+	private static void writeString(DataOutputStream out, String value) throws IOException {
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	private static String readString(DataInputStream in) throws IOException {
+		int length = in.readInt();
+		if (length < 0 || length > MAX_STRING_LENGTH)
+			throw new IOException("Invalid length " + length); //$NON-NLS-1$
+		byte[] bytes = new byte[length];
+		in.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+}
@@ -20,6 +20,7 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.cdt.codan.core.CodanCorePlugin;
 import org.eclipse.cdt.codan.core.PreferenceConstants;
@@ -67,7 +68,8 @@ public class CheckersRegistry implements ICheckersRegistry {
 	private Collection<IChecker> checkers = new ArrayList<>();
 	private static CheckersRegistry instance;
 	private static boolean initialized = false;
-	private final Map<Object, IProblemProfile> profiles = new HashMap<>();
+	// The profiles of the projects are created when the checkers running in parallel need them
+	private final Map<Object, IProblemProfile> profiles = new ConcurrentHashMap<>();
 	private final Map<IChecker, Collection<IProblem>> problemList = new HashMap<>();
 	private final Map<String, IChecker> problemCheckerMapping = new HashMap<>();
 	private final List<ICheckerEnablementVerifier> checkerEnablementVerifiers = new ArrayList<>();
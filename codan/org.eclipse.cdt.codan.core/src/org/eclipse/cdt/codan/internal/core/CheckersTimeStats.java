@@ -16,9 +16,11 @@ package org.eclipse.cdt.codan.internal.core;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Class to collect time states for checkers runs
+ * Class to collect time states for checkers runs. The checkers may run on several
+ * threads, the time of a checker is then the sum of its times on all threads.
  */
 public class CheckersTimeStats {
 	public static final String ALL = "ALL"; //$NON-NLS-1$
@@ -35,44 +37,35 @@ public class CheckersTimeStats {
 
 	private static class TimeRecord {
 		private long duration;
-		private long current;
 		private int count;
 
-		public void start() {
-			current = System.currentTimeMillis();
-		}
-
-		public void stop() {
+		public synchronized void add(long elapsed) {
 			count++;
-			duration += System.currentTimeMillis() - current;
-			current = 0;
+			duration += elapsed;
 		}
 
 		@Override
-		public String toString() {
+		public synchronized String toString() {
 			return String.format("%4d %4d %4.2f", duration, count, count == 0 ? count : (duration / (float) count)); //$NON-NLS-1$
 		}
 
-		public String toString(long total) {
+		public synchronized String toString(long total) {
 			float ave = count == 0 ? count : (duration / (float) count);
 			float per = total == 0 ? 100f : (duration * 100 / (float) total);
 			return String.format("%4d %4d %4.2f %4.2f%%", duration, count, ave, per); //$NON-NLS-1$
 		}
 	}
 
-	private Map<String, TimeRecord> records = new HashMap<>();
+	// The checkers run on several threads in batch mode, the start times are kept per thread
+	private final Map<String, TimeRecord> records = new ConcurrentHashMap<>();
+	private final ThreadLocal<Map<String, Long>> startTimes = ThreadLocal.withInitial(HashMap::new);
 
 	/**
 	 * @param id - checker id
 	 * @return
 	 */
 	private TimeRecord getTimeRecord(String id) {
-		TimeRecord record = records.get(id);
-		if (record == null) {
-			record = new TimeRecord();
-			records.put(id, record);
-		}
-		return record;
+		return records.computeIfAbsent(id, k -> new TimeRecord());
 	}
 
 	/**
@@ -92,8 +85,7 @@ public class CheckersTimeStats {
 	 */
 	public void checkerStart(String id, String counter) {
 		if (enableStats) {
-			TimeRecord record = getTimeRecord(getKey(id, counter));
-			record.start();
+			startTimes.get().put(getKey(id, counter), System.currentTimeMillis());
 		}
 	}
 
@@ -107,7 +99,11 @@ public class CheckersTimeStats {
 	 */
 	public void checkerStop(String id, String counter) {
 		if (enableStats) {
-			getTimeRecord(getKey(id, counter)).stop();
+			String key = getKey(id, counter);
+			Long start = startTimes.get().remove(key);
+			if (start != null) {
+				getTimeRecord(key).add(System.currentTimeMillis() - start);
+			}
 		}
 	}
 
@@ -133,13 +129,17 @@ public class CheckersTimeStats {
 	public void printStats() {
 		System.out.println("---"); //$NON-NLS-1$
 		String totalId = getKey(ALL, ELAPSED);
-		TimeRecord all = records.get(totalId);
+		TimeRecord all = getTimeRecord(totalId);
+		long total;
+		synchronized (all) {
+			total = all.duration;
+		}
 		for (Iterator<String> iterator = records.keySet().iterator(); iterator.hasNext();) {
 			String id = iterator.next();
 			if (id.equals(totalId))
 				continue;
 			TimeRecord timeRecord = getTimeRecord(id);
-			System.out.println(timeRecord.toString(all.duration) + " " + id); //$NON-NLS-1$
+			System.out.println(timeRecord.toString(total) + " " + id); //$NON-NLS-1$
 		}
 		System.out.println(all.toString() + " " + totalId); //$NON-NLS-1$
 	}
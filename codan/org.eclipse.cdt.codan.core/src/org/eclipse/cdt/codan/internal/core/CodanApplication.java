@@ -18,6 +18,7 @@ import java.util.Collection;
 
 import org.eclipse.cdt.codan.core.CodanRuntime;
 import org.eclipse.cdt.codan.core.model.AbstractProblemReporter;
+import org.eclipse.cdt.codan.core.model.CheckerLaunchMode;
 import org.eclipse.cdt.codan.core.model.ICodanProblemMarker;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
@@ -38,6 +39,8 @@ public class CodanApplication implements IApplication {
 	private Collection<String> projects = new ArrayList<>();
 	private boolean verbose;
 	private boolean all;
+	private boolean stats;
+	private int threads = Runtime.getRuntime().availableProcessors();
 
 	@Override
 	public Object start(IApplicationContext context) throws Exception {
@@ -57,10 +60,13 @@ public class CodanApplication implements IApplication {
 						+ pm.createMessage());
 			}
 		});
+		if (stats) {
+			CheckersTimeStats.getInstance().setEnabled(true);
+		}
 		IWorkspaceRoot root = ResourcesPlugin.getWorkspace().getRoot();
 		if (all) {
 			log(Messages.CodanApplication_LogRunWorkspace);
-			codanBuilder.processResource(root, new NullProgressMonitor());
+			processResource(codanBuilder, root);
 		} else {
 			for (String project : projects) {
 				log(Messages.CodanApplication_LogRunProject + project);
@@ -70,12 +76,21 @@ public class CodanApplication implements IApplication {
 							NLS.bind(Messages.CodanApplication_Error_ProjectDoesNotExists, project));
 					continue;
 				}
-				codanBuilder.processResource(wProject, new NullProgressMonitor());
+				processResource(codanBuilder, wProject);
 			}
 		}
+		if (stats) {
+			CheckersTimeStats.getInstance().printStats();
+		}
 		return EXIT_OK;
 	}
 
+	private void processResource(CodanBuilder codanBuilder, IResource resource) {
+		if (!codanBuilder.isEnabled())
+			return;
+		CodanRunner.processResources(resource, CheckerLaunchMode.RUN_ON_FULL_BUILD, threads, new NullProgressMonitor());
+	}
+
 	/**
 	 * @param string
 	 */
@@ -94,6 +109,14 @@ public class CodanApplication implements IApplication {
 				verbose = true;
 			} else if (string.equals("-all")) { //$NON-NLS-1$
 				all = true;
+			} else if (string.equals("-stats")) { //$NON-NLS-1$
+				stats = true;
+			} else if (string.equals("-threads") && i + 1 < args.length) { //$NON-NLS-1$
+				try {
+					threads = Integer.parseInt(args[++i]);
+				} catch (NumberFormatException e) {
+					System.err.println(NLS.bind(Messages.CodanApplication_Error_InvalidThreads, args[i]));
+				}
 			} else {
 				projects.add(string);
 			}
@@ -108,6 +131,8 @@ public class CodanApplication implements IApplication {
 		System.out.println(Messages.CodanApplication_Options);
 		System.out.println(Messages.CodanApplication_all_option);
 		System.out.println(Messages.CodanApplication_verbose_option);
+		System.out.println(Messages.CodanApplication_threads_option);
+		System.out.println(Messages.CodanApplication_stats_option);
 	}
 
 	@Override
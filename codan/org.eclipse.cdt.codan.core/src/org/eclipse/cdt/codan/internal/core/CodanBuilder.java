@@ -59,6 +59,7 @@ public class CodanBuilder extends IncrementalProjectBuilder implements ICodanBui
 				break;
 			case IResourceDelta.REMOVED:
 				// Handle removed resource
+				CheckerResultsCache.getInstance().remove(resource);
 				break;
 			case IResourceDelta.CHANGED:
 				// Handle changed resource
@@ -75,19 +76,29 @@ public class CodanBuilder extends IncrementalProjectBuilder implements ICodanBui
 	protected IProject[] build(int kind, Map args, IProgressMonitor monitor) throws CoreException {
 		if (!enabled)
 			return null;
-		if (kind == FULL_BUILD) {
-			fullBuild(monitor);
-		} else {
-			IResourceDelta delta = getDelta(getProject());
-			if (delta == null) {
+		try {
+			if (kind == FULL_BUILD) {
 				fullBuild(monitor);
 			} else {
-				incrementalBuild(delta, monitor);
+				IResourceDelta delta = getDelta(getProject());
+				if (delta == null) {
+					fullBuild(monitor);
+				} else {
+					incrementalBuild(delta, monitor);
+				}
 			}
+		} finally {
+			CheckerResultsCache.getInstance().save(getProject());
 		}
 		return null;
 	}
 
+	@Override
+	protected void clean(IProgressMonitor monitor) throws CoreException {
+		// The files are all analyzed again by the next build
+		CheckerResultsCache.getInstance().clear(getProject());
+	}
+
 	@Override
 	public void processResource(IResource resource, IProgressMonitor monitor) {
 		processResource(resource, monitor, CheckerLaunchMode.RUN_ON_FULL_BUILD);
@@ -14,6 +14,16 @@
  *******************************************************************************/
 package org.eclipse.cdt.codan.internal.core;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.eclipse.cdt.codan.core.CodanCorePlugin;
 import org.eclipse.cdt.codan.core.model.CheckerLaunchMode;
 import org.eclipse.cdt.codan.core.model.IChecker;
@@ -80,6 +90,10 @@ public class CodanRunner {
 		SubMonitor subMonitor = SubMonitor.convert(monitor, work);
 		subMonitor.subTask(NLS.bind(Messages.CodanRunner_Code_analysis_on, resource.getFullPath().toString()));
 		try {
+			CheckerResultsCache cache = CheckerResultsCache.getInstance();
+			String key = children == null && model == null ? cache.getKey(resource, checkerLaunchMode) : null;
+			if (key != null && cache.replay(resource, key))
+				return;
 			CheckersTimeStats.getInstance().checkerStart(CheckersTimeStats.ALL);
 			ICheckerInvocationContext context = new CheckerInvocationContext(resource);
 			if (children == null) {
@@ -87,28 +101,16 @@ public class CodanRunner {
 					for (IChecker checker : chegistry) {
 						if (subMonitor.isCanceled())
 							return;
-						if (chegistry.isCheckerEnabled(checker, resource, checkerLaunchMode)) {
-							synchronized (checker) {
-								try {
-									checker.before(resource);
-									CheckersTimeStats.getInstance().checkerStart(checker.getClass().getName());
-									if (checkerLaunchMode == CheckerLaunchMode.RUN_AS_YOU_TYPE) {
-										((IRunnableInEditorChecker) checker).processModel(model, context);
-									} else {
-										checker.processResource(resource, context);
-									}
-								} catch (OperationCanceledException e) {
-									return;
-								} catch (Throwable e) {
-									CodanCorePlugin.log(e);
-								} finally {
-									CheckersTimeStats.getInstance().checkerStop(checker.getClass().getName());
-									checker.after(resource);
-								}
-							}
-						}
+						// The checkers sharing a pass run after the others
+						if (!(checker instanceof ISharedPassChecker)
+								&& !runChecker(chegistry, checker, resource, model, checkerLaunchMode, context))
+							return;
 						subMonitor.worked(1);
 					}
+					if (!runPasses(chegistry, resource, model, checkerLaunchMode, context))
+						return;
+					if (key != null)
+						cache.store(resource, key);
 				} finally {
 					context.dispose();
 					CheckersTimeStats.getInstance().checkerStop(CheckersTimeStats.ALL);
@@ -128,4 +130,212 @@ public class CodanRunner {
 			monitor.done();
 		}
 	}
+
+	/**
+	 * Runs a checker on a resource if it is enabled for it.
+	 *
+	 * @return <code>false</code> if the checker was canceled
+	 */
+	private static boolean runChecker(CheckersRegistry chegistry, IChecker checker, IResource resource, Object model,
+			CheckerLaunchMode checkerLaunchMode, ICheckerInvocationContext context) {
+		if (!chegistry.isCheckerEnabled(checker, resource, checkerLaunchMode))
+			return true;
+		synchronized (checker) {
+			try {
+				checker.before(resource);
+				CheckersTimeStats.getInstance().checkerStart(checker.getClass().getName());
+				if (checkerLaunchMode == CheckerLaunchMode.RUN_AS_YOU_TYPE) {
+					((IRunnableInEditorChecker) checker).processModel(model, context);
+				} else {
+					checker.processResource(resource, context);
+				}
+			} catch (OperationCanceledException e) {
+				return false;
+			} catch (Throwable e) {
+				CodanCorePlugin.log(e);
+			} finally {
+				CheckersTimeStats.getInstance().checkerStop(checker.getClass().getName());
+				checker.after(resource);
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Runs the checkers that share a pass, each pass once.
+	 *
+	 * @return <code>false</code> if the checkers were canceled
+	 */
+	private static boolean runPasses(CheckersRegistry chegistry, IResource resource, Object model,
+			CheckerLaunchMode checkerLaunchMode, ICheckerInvocationContext context) {
+		Map<ICheckerPass, List<IChecker>> passes = new LinkedHashMap<>();
+		for (IChecker checker : chegistry) {
+			if (checker instanceof ISharedPassChecker
+					&& chegistry.isCheckerEnabled(checker, resource, checkerLaunchMode)) {
+				ICheckerPass pass = ((ISharedPassChecker) checker).getPass();
+				passes.computeIfAbsent(pass, p -> new ArrayList<>()).add(checker);
+			}
+		}
+		for (Map.Entry<ICheckerPass, List<IChecker>> entry : passes.entrySet()) {
+			if (!runPass(entry.getKey(), entry.getValue(), resource, model, context))
+				return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Runs a pass of checkers on a resource. The checkers keep the state of a
+	 * resource per thread, so the pass can run on several resources at the same
+	 * time without locking the checkers.
+	 *
+	 * @param pass - the pass shared by the checkers
+	 * @param checkers - the checkers enabled for the resource
+	 * @param resource - the resource to run the checkers on
+	 * @param model - the model of the resource when running in editor, or <code>null</code>
+	 * @param context - the invocation context shared by the checkers of the resource
+	 * @return <code>false</code> if the checkers were canceled
+	 */
+	public static boolean runPass(ICheckerPass pass, List<IChecker> checkers, IResource resource, Object model,
+			ICheckerInvocationContext context) {
+		Object passModel;
+		try {
+			passModel = pass.prepare(resource, model, context);
+		} catch (OperationCanceledException e) {
+			return false;
+		} catch (Throwable e) {
+			CodanCorePlugin.log(e);
+			passModel = null;
+		}
+		String name = pass.getClass().getName();
+		try {
+			CheckersTimeStats.getInstance().checkerStart(name);
+			for (IChecker checker : checkers) {
+				checker.before(resource);
+			}
+			if (passModel != null)
+				pass.run(checkers, resource, passModel, context);
+		} catch (OperationCanceledException e) {
+			return false;
+		} catch (Throwable e) {
+			CodanCorePlugin.log(e);
+		} finally {
+			CheckersTimeStats.getInstance().checkerStop(name);
+			for (IChecker checker : checkers) {
+				checker.after(resource);
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Runs all checkers on the files of a resource, processing the files on several
+	 * threads. The checkers of a file share its invocation context, so the file is
+	 * parsed once for all of them.
+	 * <p>
+	 * A checker processes one file at a time, and the checkers of an AST run one
+	 * after the other since the AST is not thread-safe. To keep the threads from
+	 * waiting for the same checker, each file starts with a different checker.
+	 * The checkers sharing a pass are not locked, they check several files at the
+	 * same time.
+	 * The files whose results are cached by {@link CheckerResultsCache} are not
+	 * analyzed again.
+	 *
+	 * @param resource - the resource to run the checkers on, either IFile or IContainer
+	 * @param checkerLaunchMode - the checker launch mode
+	 * @param threads - the number of threads processing the files
+	 * @param monitor - the progress monitor
+	 */
+	public static void processResources(IResource resource, CheckerLaunchMode checkerLaunchMode, int threads,
+			IProgressMonitor monitor) {
+		if (threads <= 1) {
+			processResource(resource, checkerLaunchMode, monitor);
+			return;
+		}
+		List<IResource> files = new ArrayList<>();
+		try {
+			resource.accept(r -> {
+				if (r.getType() == IResource.FILE) {
+					files.add(r);
+				}
+				return true;
+			});
+		} catch (CoreException e) {
+			CodanCorePlugin.log(e);
+		}
+		CheckersRegistry chegistry = CheckersRegistry.getInstance();
+		List<IChecker> checkers = new ArrayList<>();
+		chegistry.forEach(checkers::add);
+		if (files.isEmpty() || checkers.isEmpty())
+			return;
+
+		SubMonitor subMonitor = SubMonitor.convert(monitor, files.size());
+		subMonitor.subTask(NLS.bind(Messages.CodanRunner_Code_analysis_on, resource.getFullPath().toString()));
+		AtomicBoolean canceled = new AtomicBoolean();
+		AtomicInteger processed = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+			Thread thread = new Thread(runnable, "Code Analysis"); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		});
+		try {
+			for (int i = 0; i < files.size(); i++) {
+				IResource file = files.get(i);
+				int first = i % checkers.size();
+				executor.execute(() -> {
+					if (!canceled.get()) {
+						processFile(chegistry, file, checkers, first, checkerLaunchMode, canceled);
+					}
+					processed.incrementAndGet();
+				});
+			}
+			executor.shutdown();
+			int worked = 0;
+			while (!executor.awaitTermination(100, TimeUnit.MILLISECONDS)) {
+				if (subMonitor.isCanceled()) {
+					// The checkers running are not interrupted, they complete their file
+					canceled.set(true);
+				}
+				int count = processed.get();
+				subMonitor.worked(count - worked);
+				worked = count;
+			}
+		} catch (InterruptedException e) {
+			canceled.set(true);
+			Thread.currentThread().interrupt();
+		} finally {
+			executor.shutdown();
+			monitor.done();
+		}
+	}
+
+	private static void processFile(CheckersRegistry chegistry, IResource file, List<IChecker> checkers, int first,
+			CheckerLaunchMode checkerLaunchMode, AtomicBoolean canceled) {
+		CheckerResultsCache cache = CheckerResultsCache.getInstance();
+		String key = cache.getKey(file, checkerLaunchMode);
+		if (key != null && cache.replay(file, key))
+			return;
+		CheckersTimeStats.getInstance().checkerStart(CheckersTimeStats.ALL);
+		ICheckerInvocationContext context = new CheckerInvocationContext(file);
+		try {
+			for (int i = 0; i < checkers.size(); i++) {
+				if (canceled.get())
+					return;
+				IChecker checker = checkers.get((first + i) % checkers.size());
+				if (!(checker instanceof ISharedPassChecker)
+						&& !runChecker(chegistry, checker, file, null, checkerLaunchMode, context)) {
+					canceled.set(true);
+					return;
+				}
+			}
+			if (canceled.get() || !runPasses(chegistry, file, null, checkerLaunchMode, context)) {
+				canceled.set(true);
+				return;
+			}
+			if (key != null)
+				cache.store(file, key);
+		} finally {
+			context.dispose();
+			CheckersTimeStats.getInstance().checkerStop(CheckersTimeStats.ALL);
+		}
+	}
 }
@@ -0,0 +1,28 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.codan.internal.core;
+
+import org.eclipse.core.resources.IFile;
+
+/**
+ * Computes a hash of the inputs of the analysis of a file, so that the results
+ * of the checkers on the file are reused as long as the inputs do not change.
+ */
+public interface IAnalysisInputsProvider {
+	/**
+	 * Returns a hash of the inputs of the analysis of the given file, its contents
+	 * and the contents of the files it depends on.
+	 * @param file the file to be checked.
+	 * @return the hash of the inputs, or {@code null} if they are not known, for
+	 *     example because the file is not indexed yet.
+	 */
+	public String getInputsHash(IFile file);
+}
@@ -0,0 +1,46 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.codan.internal.core;
+
+import java.util.List;
+
+import org.eclipse.cdt.codan.core.model.IChecker;
+import org.eclipse.cdt.codan.core.model.ICheckerInvocationContext;
+import org.eclipse.core.resources.IResource;
+
+/**
+ * Runs several checkers on a resource at once, for example in one traversal of
+ * its model, instead of letting each checker process the resource in turn.
+ *
+ * @see ISharedPassChecker
+ */
+public interface ICheckerPass {
+	/**
+	 * Prepares the model of a resource for the checkers.
+	 * @param resource the resource to be checked.
+	 * @param model the model given to the checkers running as you type, or {@code null}.
+	 * @param context the invocation context shared by the checkers of the resource.
+	 * @return the model to pass to {@link #run}, or {@code null} if the checkers
+	 *     have nothing to check.
+	 */
+	public Object prepare(IResource resource, Object model, ICheckerInvocationContext context);
+
+	/**
+	 * Runs the checkers on a resource. The caller has called their {@link IChecker#before}
+	 * method. The checkers are not locked, the pass may run on several resources at the
+	 * same time on different threads.
+	 * @param checkers the checkers to run, enabled for the resource.
+	 * @param resource the resource to be checked.
+	 * @param model the model returned by {@link #prepare}.
+	 * @param context the invocation context shared by the checkers of the resource.
+	 */
+	public void run(List<IChecker> checkers, IResource resource, Object model, ICheckerInvocationContext context);
+}
@@ -0,0 +1,27 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.codan.internal.core;
+
+import org.eclipse.cdt.codan.core.model.IChecker;
+
+/**
+ * A checker that processes resources together with the other checkers of the
+ * same {@link ICheckerPass}, rather than by itself. The checker may process
+ * several resources at the same time on different threads, so the state of a
+ * resource must not be kept in the fields of the checker.
+ */
+public interface ISharedPassChecker extends IChecker {
+	/**
+	 * Returns the pass running the checker.
+	 * @return the pass, the same instance for all the checkers that run together.
+	 */
+	public ICheckerPass getPass();
+}
@@ -22,10 +22,13 @@ import org.eclipse.osgi.util.NLS;
  */
 class Messages extends NLS {
 	public static String CodanApplication_all_option;
+	public static String CodanApplication_Error_InvalidThreads;
 	public static String CodanApplication_Error_ProjectDoesNotExists;
 	public static String CodanApplication_LogRunProject;
 	public static String CodanApplication_LogRunWorkspace;
 	public static String CodanApplication_Options;
+	public static String CodanApplication_stats_option;
+	public static String CodanApplication_threads_option;
 	public static String CodanApplication_Usage;
 	public static String CodanApplication_verbose_option;
 	public static String CodanRunner_Code_analysis_on;
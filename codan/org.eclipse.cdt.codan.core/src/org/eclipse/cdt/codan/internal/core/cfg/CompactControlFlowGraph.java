@@ -0,0 +1,333 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.codan.internal.core.cfg;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.cdt.codan.core.model.cfg.IBasicBlock;
+import org.eclipse.cdt.codan.core.model.cfg.IConnectorNode;
+import org.eclipse.cdt.codan.core.model.cfg.IControlFlowGraph;
+
+/**
+ * Array based representation of a control flow graph, for analyses that visit
+ * every node a few times. The nodes of {@link IControlFlowGraph#getNodes()} are
+ * numbered from 0, the start node, and the arcs are stored in arrays indexed by
+ * these numbers. Reachability and dominators are computed once, when
+ * the graph is created, in time linear in the size of the graph for the usual
+ * reducible graphs.
+ */
+public final class CompactControlFlowGraph {
+	private final IBasicBlock[] nodes;
+	private final Map<IBasicBlock, Integer> ids;
+	/**
+	 * The successors of node i are successors[successorStart[i]] to
+	 * successors[successorStart[i + 1] - 1], and likewise for the predecessors.
+	 */
+	private final int[] successorStart;
+	private final int[] successors;
+	private final int[] predecessorStart;
+	private final int[] predecessors;
+	/** The nodes connected to the start node, as in {@link ControlFlowGraph#getNodes()}. */
+	private final BitSet live;
+	private final BitSet reachable = new BitSet();
+	private final int[] reversePostOrder;
+	private final int[] immediateDominators;
+	/** The numbers of the nodes in the preorder and the postorder of the dominator tree. */
+	private final int[] preorder;
+	private final int[] postorder;
+
+	public CompactControlFlowGraph(IControlFlowGraph graph) {
+		List<IBasicBlock> list = new ArrayList<>();
+		ids = new IdentityHashMap<>();
+		collect(graph.getStartNode(), list);
+		live = new BitSet();
+		live.set(0, list.size());
+		for (Iterator<IBasicBlock> iterator = graph.getUnconnectedNodeIterator(); iterator.hasNext();) {
+			collect(iterator.next(), list);
+		}
+		nodes = list.toArray(new IBasicBlock[list.size()]);
+		int size = nodes.length;
+
+		successorStart = new int[size + 1];
+		int[] predecessorCount = new int[size];
+		List<Integer> arcs = new ArrayList<>();
+		for (int i = 0; i < size; i++) {
+			successorStart[i] = arcs.size();
+			for (IBasicBlock next : nodes[i].getOutgoingNodes()) {
+				Integer id = next == null ? null : ids.get(next);
+				if (id != null) {
+					arcs.add(id);
+					predecessorCount[id]++;
+				}
+			}
+		}
+		successorStart[size] = arcs.size();
+		successors = arcs.stream().mapToInt(Integer::intValue).toArray();
+		predecessorStart = new int[size + 1];
+		for (int i = 0; i < size; i++) {
+			predecessorStart[i + 1] = predecessorStart[i] + predecessorCount[i];
+		}
+		predecessors = new int[successors.length];
+		int[] fill = Arrays.copyOf(predecessorStart, size);
+		for (int i = 0; i < size; i++) {
+			for (int j = successorStart[i]; j < successorStart[i + 1]; j++) {
+				predecessors[fill[successors[j]]++] = i;
+			}
+		}
+
+		reversePostOrder = computeReversePostOrder();
+		immediateDominators = computeDominators();
+		preorder = new int[size];
+		postorder = new int[size];
+		numberDominatorTree();
+	}
+
+	/**
+	 * Numbers the nodes connected to a node the way {@link ControlFlowGraph#getNodes()}
+	 * finds them, following the outgoing arcs and the incoming arcs of the connectors.
+	 */
+	private void collect(IBasicBlock first, List<IBasicBlock> list) {
+		if (first == null || ids.containsKey(first))
+			return;
+		List<IBasicBlock> stack = new ArrayList<>();
+		stack.add(first);
+		while (!stack.isEmpty()) {
+			IBasicBlock node = stack.remove(stack.size() - 1);
+			if (node == null || ids.containsKey(node))
+				continue;
+			ids.put(node, list.size());
+			list.add(node);
+			if (node instanceof IConnectorNode) {
+				IBasicBlock[] incoming = node.getIncomingNodes();
+				for (int i = incoming.length; --i >= 0;) {
+					stack.add(incoming[i]);
+				}
+			}
+			IBasicBlock[] outgoing = node.getOutgoingNodes();
+			for (int i = outgoing.length; --i >= 0;) {
+				stack.add(outgoing[i]);
+			}
+		}
+	}
+
+	private int[] computeReversePostOrder() {
+		int size = nodes.length;
+		if (size == 0)
+			return new int[0];
+		int[] order = new int[size];
+		int count = 0;
+		// The stack holds a node and the index of its next successor to visit
+		int[] stack = new int[2 * size];
+		int top = 0;
+		stack[top++] = 0;
+		stack[top++] = successorStart[0];
+		reachable.set(0);
+		while (top > 0) {
+			int node = stack[top - 2];
+			int next = stack[top - 1];
+			if (next < successorStart[node + 1]) {
+				stack[top - 1]++;
+				int successor = successors[next];
+				if (!reachable.get(successor)) {
+					reachable.set(successor);
+					stack[top++] = successor;
+					stack[top++] = successorStart[successor];
+				}
+			} else {
+				order[count++] = node;
+				top -= 2;
+			}
+		}
+		int[] result = new int[count];
+		for (int i = 0; i < count; i++) {
+			result[i] = order[count - 1 - i];
+		}
+		return result;
+	}
+
+	/**
+	 * Computes the immediate dominators of the reachable nodes with the algorithm of
+	 * Cooper, Harvey and Kennedy, "A Simple, Fast Dominance Algorithm".
+	 */
+	private int[] computeDominators() {
+		int size = nodes.length;
+		int[] idom = new int[size];
+		Arrays.fill(idom, -1);
+		if (size == 0)
+			return idom;
+		int[] rank = new int[size];
+		for (int i = 0; i < reversePostOrder.length; i++) {
+			rank[reversePostOrder[i]] = i;
+		}
+		idom[0] = 0;
+		boolean changed = true;
+		while (changed) {
+			changed = false;
+			for (int i = 1; i < reversePostOrder.length; i++) {
+				int node = reversePostOrder[i];
+				int dominator = -1;
+				for (int j = predecessorStart[node]; j < predecessorStart[node + 1]; j++) {
+					int predecessor = predecessors[j];
+					if (idom[predecessor] < 0)
+						continue;
+					dominator = dominator < 0 ? predecessor : intersect(idom, rank, predecessor, dominator);
+				}
+				if (idom[node] != dominator) {
+					idom[node] = dominator;
+					changed = true;
+				}
+			}
+		}
+		idom[0] = -1;
+		return idom;
+	}
+
+	private static int intersect(int[] idom, int[] rank, int a, int b) {
+		while (a != b) {
+			while (rank[a] > rank[b]) {
+				a = idom[a];
+			}
+			while (rank[b] > rank[a]) {
+				b = idom[b];
+			}
+		}
+		return a;
+	}
+
+	private void numberDominatorTree() {
+		int size = nodes.length;
+		if (size == 0)
+			return;
+		int[] childStart = new int[size + 1];
+		for (int i = 0; i < size; i++) {
+			if (immediateDominators[i] >= 0)
+				childStart[immediateDominators[i] + 1]++;
+		}
+		for (int i = 0; i < size; i++) {
+			childStart[i + 1] += childStart[i];
+		}
+		int[] children = new int[size];
+		int[] fill = Arrays.copyOf(childStart, size);
+		for (int i = 0; i < size; i++) {
+			if (immediateDominators[i] >= 0)
+				children[fill[immediateDominators[i]]++] = i;
+		}
+		Arrays.fill(preorder, -1);
+		Arrays.fill(postorder, -1);
+		int pre = 0;
+		int post = 0;
+		int[] stack = new int[2 * size];
+		int top = 0;
+		stack[top++] = 0;
+		stack[top++] = childStart[0];
+		preorder[0] = pre++;
+		while (top > 0) {
+			int node = stack[top - 2];
+			int next = stack[top - 1];
+			if (next < childStart[node + 1]) {
+				stack[top - 1]++;
+				int child = children[next];
+				preorder[child] = pre++;
+				stack[top++] = child;
+				stack[top++] = childStart[child];
+			} else {
+				postorder[node] = post++;
+				top -= 2;
+			}
+		}
+	}
+
+	/**
+	 * @return the number of nodes of the graph
+	 */
+	public int size() {
+		return nodes.length;
+	}
+
+	/**
+	 * @return the node with the given number
+	 */
+	public IBasicBlock getNode(int id) {
+		return nodes[id];
+	}
+
+	/**
+	 * @return the number of the given node, or -1 if it is not a node of the graph
+	 */
+	public int getId(IBasicBlock node) {
+		Integer id = ids.get(node);
+		return id == null ? -1 : id;
+	}
+
+	public int getSuccessorCount(int id) {
+		return successorStart[id + 1] - successorStart[id];
+	}
+
+	public int getSuccessor(int id, int index) {
+		return successors[successorStart[id] + index];
+	}
+
+	public int getPredecessorCount(int id) {
+		return predecessorStart[id + 1] - predecessorStart[id];
+	}
+
+	public int getPredecessor(int id, int index) {
+		return predecessors[predecessorStart[id] + index];
+	}
+
+	/**
+	 * Tests whether a node is reachable from the start node following the outgoing arcs.
+	 */
+	public boolean isReachable(int id) {
+		return reachable.get(id);
+	}
+
+	/**
+	 * Tests whether a node is in dead code, as returned by {@link ControlFlowGraph#getDeadNodes()}.
+	 * The nodes found going backwards from the connectors of the live code are not
+	 * dead, even if they are not reachable.
+	 */
+	public boolean isDead(int id) {
+		return !live.get(id);
+	}
+
+	/**
+	 * @return the reachable nodes in reverse postorder, such that a node comes before
+	 *     its successors except along back arcs, the order of forward dataflow analyses
+	 */
+	public int[] getReversePostOrder() {
+		return reversePostOrder.clone();
+	}
+
+	/**
+	 * @return the immediate dominator of a node, or -1 for the start node and the
+	 *     nodes that are not reachable
+	 */
+	public int getImmediateDominator(int id) {
+		return immediateDominators[id];
+	}
+
+	/**
+	 * Tests whether every path from the start node to a node goes through another
+	 * node. A node dominates itself.
+	 */
+	public boolean dominates(int dominator, int id) {
+		if (!reachable.get(dominator) || !reachable.get(id))
+			return false;
+		return preorder[dominator] <= preorder[id] && postorder[id] <= postorder[dominator];
+	}
+}
@@ -36,6 +36,7 @@ public class ControlFlowGraph implements IControlFlowGraph {
 	private List<IExitNode> exitNodes;
 	private List<IBasicBlock> deadNodes = new ArrayList<>();
 	private IStartNode start;
+	private CompactControlFlowGraph compactGraph;
 
 	public ControlFlowGraph(IStartNode start, Collection<IExitNode> exitNodes) {
 		setExitNodes(exitNodes);
@@ -91,6 +92,16 @@ public class ControlFlowGraph implements IControlFlowGraph {
 		}
 	}
 
+	/**
+	 * Returns the array based representation of the graph, created when it is first
+	 * requested. The graph must not be modified afterwards.
+	 */
+	public synchronized CompactControlFlowGraph getCompactGraph() {
+		if (compactGraph == null)
+			compactGraph = new CompactControlFlowGraph(this);
+		return compactGraph;
+	}
+
 	@Override
 	public Iterator<IBasicBlock> getUnconnectedNodeIterator() {
 		return deadNodes.iterator();
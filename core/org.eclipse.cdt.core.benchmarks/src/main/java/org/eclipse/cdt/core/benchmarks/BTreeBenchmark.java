@@ -0,0 +1,129 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.core.benchmarks;
+
+import java.io.File;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.cdt.internal.core.pdom.db.BTree;
+import org.eclipse.cdt.internal.core.pdom.db.ChunkCache;
+import org.eclipse.cdt.internal.core.pdom.db.Database;
+import org.eclipse.cdt.internal.core.pdom.db.IBTreeComparator;
+import org.eclipse.cdt.internal.core.pdom.db.IBTreeVisitor;
+import org.eclipse.core.runtime.CoreException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link BTree#accept(IBTreeVisitor)} for point lookups and full scans of a B-tree
+ * with integer keys.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BTreeBenchmark {
+	@Param({ "100000" })
+	public int records;
+
+	private File dbFile;
+	private Database db;
+	private BTree btree;
+	private int[] keys;
+	private int next;
+
+	private class KeyComparator implements IBTreeComparator {
+		@Override
+		public int compare(long record1, long record2) throws CoreException {
+			return Integer.compare(db.getInt(record1), db.getInt(record2));
+		}
+	}
+
+	private class KeyVisitor implements IBTreeVisitor {
+		private final int fKey;
+		long fFound;
+
+		KeyVisitor(int key) {
+			fKey = key;
+		}
+
+		@Override
+		public int compare(long record) throws CoreException {
+			return Integer.compare(db.getInt(record), fKey);
+		}
+
+		@Override
+		public boolean visit(long record) throws CoreException {
+			fFound = record;
+			return false;
+		}
+	}
+
+	@Setup
+	public void setUp() throws Exception {
+		dbFile = File.createTempFile("cdt-benchmark-btree", ".pdom");
+		db = new Database(dbFile, new ChunkCache(), 0, false);
+		db.setExclusiveLock();
+		btree = new BTree(db, Database.DATA_AREA, new KeyComparator());
+		Random random = new Random(4711);
+		keys = new int[records];
+		for (int i = 0; i < records; i++) {
+			keys[i] = random.nextInt();
+			long record = db.malloc(Database.INT_SIZE);
+			db.putInt(record, keys[i]);
+			btree.insert(record);
+		}
+	}
+
+	@TearDown
+	public void tearDown() throws CoreException {
+		db.close();
+		dbFile.delete();
+	}
+
+	@Benchmark
+	public long lookup() throws CoreException {
+		KeyVisitor visitor = new KeyVisitor(keys[next++ % keys.length]);
+		btree.accept(visitor);
+		return visitor.fFound;
+	}
+
+	@Benchmark
+	public int scan() throws CoreException {
+		int[] count = new int[1];
+		btree.accept(new IBTreeVisitor() {
+			@Override
+			public int compare(long record) {
+				return 0;
+			}
+
+			@Override
+			public boolean visit(long record) {
+				count[0]++;
+				return true;
+			}
+		});
+		return count[0];
+	}
+}
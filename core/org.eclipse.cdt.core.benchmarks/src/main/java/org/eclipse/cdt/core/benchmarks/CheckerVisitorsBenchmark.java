@@ -0,0 +1,152 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.core.benchmarks;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.cdt.codan.core.cxx.internal.model.CompositeASTVisitor;
+import org.eclipse.cdt.core.dom.ast.ASTVisitor;
+import org.eclipse.cdt.core.dom.ast.IASTBinaryExpression;
+import org.eclipse.cdt.core.dom.ast.IASTDeclaration;
+import org.eclipse.cdt.core.dom.ast.IASTExpression;
+import org.eclipse.cdt.core.dom.ast.IASTFunctionDefinition;
+import org.eclipse.cdt.core.dom.ast.IASTName;
+import org.eclipse.cdt.core.dom.ast.IASTStatement;
+import org.eclipse.cdt.core.dom.ast.IASTSwitchStatement;
+import org.eclipse.cdt.core.dom.ast.IASTTranslationUnit;
+import org.eclipse.core.runtime.CoreException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the throughput of running the visitors of the code analysis checkers on a
+ * translation unit, each visitor traversing the AST by itself as opposed to all visitors
+ * sharing one traversal with {@link CompositeASTVisitor}. The visitors do as little work as
+ * the simplest checkers, such that the cost of the traversals dominates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CheckerVisitorsBenchmark {
+	@Param({ "templates.h", "main.cpp" })
+	public String file;
+
+	/** The number of checkers, about as many as are enabled by default. */
+	@Param({ "8", "32" })
+	public int checkers;
+
+	private Corpus corpus;
+	private IASTTranslationUnit ast;
+
+	@Setup
+	public void setUp() throws IOException, CoreException {
+		corpus = new Corpus();
+		ast = corpus.parse(file);
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		corpus.dispose();
+	}
+
+	private List<ASTVisitor> createVisitors(Blackhole blackhole) {
+		List<ASTVisitor> visitors = new ArrayList<>(checkers);
+		for (int i = 0; i < checkers; i++) {
+			switch (i % 4) {
+			case 0:
+				visitors.add(new ASTVisitor() {
+					{
+						shouldVisitExpressions = true;
+					}
+
+					@Override
+					public int visit(IASTExpression expression) {
+						if (expression instanceof IASTBinaryExpression)
+							blackhole.consume(((IASTBinaryExpression) expression).getOperator());
+						return PROCESS_CONTINUE;
+					}
+				});
+				break;
+			case 1:
+				visitors.add(new ASTVisitor() {
+					{
+						shouldVisitStatements = true;
+					}
+
+					@Override
+					public int visit(IASTStatement statement) {
+						if (statement instanceof IASTSwitchStatement)
+							blackhole.consume(statement);
+						return PROCESS_CONTINUE;
+					}
+				});
+				break;
+			case 2:
+				visitors.add(new ASTVisitor() {
+					{
+						shouldVisitDeclarations = true;
+					}
+
+					@Override
+					public int visit(IASTDeclaration declaration) {
+						if (declaration instanceof IASTFunctionDefinition)
+							blackhole.consume(declaration);
+						return PROCESS_CONTINUE;
+					}
+				});
+				break;
+			default:
+				visitors.add(new ASTVisitor() {
+					{
+						shouldVisitNames = true;
+					}
+
+					@Override
+					public int visit(IASTName name) {
+						blackhole.consume(name.getSimpleID().length);
+						return PROCESS_CONTINUE;
+					}
+				});
+				break;
+			}
+		}
+		return visitors;
+	}
+
+	@Benchmark
+	public void separateTraversals(Blackhole blackhole) {
+		for (ASTVisitor visitor : createVisitors(blackhole)) {
+			ast.accept(visitor);
+		}
+	}
+
+	@Benchmark
+	public void sharedTraversal(Blackhole blackhole) {
+		ast.accept(new CompositeASTVisitor(createVisitors(blackhole)));
+	}
+}
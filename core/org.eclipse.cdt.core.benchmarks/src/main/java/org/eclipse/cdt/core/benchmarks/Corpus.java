@@ -0,0 +1,117 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.core.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.eclipse.cdt.core.dom.ast.IASTTranslationUnit;
+import org.eclipse.cdt.core.dom.ast.gnu.cpp.GPPLanguage;
+import org.eclipse.cdt.core.index.IIndexFileLocation;
+import org.eclipse.cdt.core.parser.FileContent;
+import org.eclipse.cdt.core.parser.IScannerInfo;
+import org.eclipse.cdt.core.parser.NullLogService;
+import org.eclipse.cdt.core.parser.ScannerInfo;
+import org.eclipse.cdt.internal.core.parser.IMacroDictionary;
+import org.eclipse.cdt.internal.core.parser.InternalParserUtil;
+import org.eclipse.cdt.internal.core.parser.scanner.InternalFileContent;
+import org.eclipse.cdt.internal.core.parser.scanner.InternalFileContentProvider;
+import org.eclipse.core.runtime.CoreException;
+
+/**
+ * The synthetic corpus the benchmarks operate on. The files are extracted from the class path
+ * into a temporary directory, such that they can be included and indexed like regular files.
+ */
+public final class Corpus {
+	/** The files of the corpus, the last one includes all the others. */
+	public static final String[] FILES = { "templates.h", "macros.h", "enums.h", "main.cpp" };
+	public static final String MAIN = "main.cpp";
+
+	private final Path fDirectory;
+
+	/**
+	 * Provides the corpus files for inclusion by reading them from disk.
+	 */
+	private static class FileProvider extends InternalFileContentProvider {
+		@Override
+		public InternalFileContent getContentForInclusion(String path, IMacroDictionary macroDictionary) {
+			if (!getInclusionExists(path))
+				return null;
+			return InternalParserUtil.createExternalFileContent(path, InternalParserUtil.SYSTEM_DEFAULT_ENCODING);
+		}
+
+		@Override
+		public InternalFileContent getContentForInclusion(IIndexFileLocation ifl, String astPath) {
+			return null;
+		}
+	}
+
+	public Corpus() throws IOException {
+		fDirectory = Files.createTempDirectory("cdt-benchmark-corpus");
+		for (String name : FILES) {
+			try (InputStream in = Corpus.class.getResourceAsStream("corpus/" + name)) {
+				Files.copy(in, fDirectory.resolve(name), StandardCopyOption.REPLACE_EXISTING);
+			}
+		}
+	}
+
+	public File getDirectory() {
+		return fDirectory.toFile();
+	}
+
+	public String getPath(String name) {
+		return fDirectory.resolve(name).toString();
+	}
+
+	public FileContent getContent(String name) {
+		return FileContent.createForExternalFileLocation(getPath(name));
+	}
+
+	public IScannerInfo getScannerInfo() {
+		Map<String, String> definitions = new HashMap<>();
+		definitions.put("__GNUC__", "12");
+		definitions.put("__cplusplus", "201703L");
+		return new ScannerInfo(definitions, new String[] { fDirectory.toString() });
+	}
+
+	public InternalFileContentProvider createFileContentProvider() {
+		return new FileProvider();
+	}
+
+	/**
+	 * Parses the given corpus file without an index.
+	 */
+	public IASTTranslationUnit parse(String name) throws CoreException {
+		return GPPLanguage.getDefault().getASTTranslationUnit(getContent(name), getScannerInfo(),
+				createFileContentProvider(), null, 0, new NullLogService());
+	}
+
+	/**
+	 * Deletes the temporary directory and everything in it.
+	 */
+	public static void delete(Path path) throws IOException {
+		try (Stream<Path> files = Files.walk(path)) {
+			files.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+		}
+	}
+
+	public void dispose() throws IOException {
+		delete(fDirectory);
+	}
+}
@@ -0,0 +1,92 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.core.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.cdt.core.dom.ILinkage;
+import org.eclipse.cdt.core.dom.ast.gnu.cpp.GPPLanguage;
+import org.eclipse.cdt.core.index.URIRelativeLocationConverter;
+import org.eclipse.cdt.core.parser.IScannerInfo;
+import org.eclipse.cdt.core.parser.NullLogService;
+import org.eclipse.cdt.internal.core.indexer.FileEncodingRegistry;
+import org.eclipse.cdt.internal.core.indexer.IStandaloneScannerInfoProvider;
+import org.eclipse.cdt.internal.core.indexer.StandaloneFastIndexer;
+import org.eclipse.cdt.internal.core.pdom.dom.IPDOMLinkageFactory;
+import org.eclipse.cdt.internal.core.pdom.dom.cpp.PDOMCPPLinkageFactory;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures indexing the corpus into a fresh PDOM with the standalone indexer. Besides parsing,
+ * this covers storing the names and bindings via
+ * {@link org.eclipse.cdt.internal.core.pdom.PDOMWriter}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IndexerBenchmark {
+	private Corpus corpus;
+	private File pdomFile;
+	private StandaloneFastIndexer indexer;
+
+	@Setup
+	public void setUp() throws Exception {
+		corpus = new Corpus();
+		pdomFile = File.createTempFile("cdt-benchmark-index", ".pdom");
+		Map<String, IPDOMLinkageFactory> factories = new HashMap<>();
+		factories.put(ILinkage.CPP_LINKAGE_NAME, new PDOMCPPLinkageFactory());
+		final IScannerInfo scannerInfo = corpus.getScannerInfo();
+		indexer = new StandaloneFastIndexer(pdomFile,
+				new URIRelativeLocationConverter(corpus.getDirectory().toURI()), factories,
+				new IStandaloneScannerInfoProvider() {
+					@Override
+					public IScannerInfo getScannerInformation(String path) {
+						return scannerInfo;
+					}
+
+					@Override
+					public IScannerInfo getDefaultScannerInformation(int linkageID) {
+						return scannerInfo;
+					}
+				}, new FileEncodingRegistry(null), file -> GPPLanguage.getDefault(), new NullLogService());
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		pdomFile.delete();
+		corpus.dispose();
+	}
+
+	@Benchmark
+	public int index() throws IOException {
+		indexer.rebuild(Collections.singletonList(corpus.getPath(Corpus.MAIN)), new NullProgressMonitor());
+		return indexer.getProgressInformation().fCompletedSources;
+	}
+}
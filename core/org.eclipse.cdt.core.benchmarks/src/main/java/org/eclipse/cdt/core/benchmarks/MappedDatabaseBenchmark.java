@@ -0,0 +1,93 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.core.benchmarks;
+
+import java.io.File;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.cdt.internal.core.pdom.db.ChunkCache;
+import org.eclipse.cdt.internal.core.pdom.db.Database;
+import org.eclipse.core.runtime.CoreException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares reads from a large database file in heap mode, where the chunks go through the chunk
+ * cache, and in memory-mapped mode. The file is written once per trial, with {@code sizeMB}
+ * megabytes of records, and then read at random offsets by four threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgs = { "-Xmx1g" })
+@Threads(4)
+public class MappedDatabaseBenchmark {
+	@Param({ "2048" })
+	public int sizeMB;
+
+	@Param({ "false", "true" })
+	public boolean mapped;
+
+	private File dbFile;
+	private Database db;
+	private long[] records;
+
+	@State(Scope.Thread)
+	public static class Reader {
+		final Random random = new Random();
+	}
+
+	@Setup
+	public void setUp() throws Exception {
+		dbFile = File.createTempFile("cdt-benchmark-mapped", ".pdom");
+		Database writer = new Database(dbFile, new ChunkCache(), 0, false, false);
+		writer.setExclusiveLock();
+		records = new long[(int) ((long) sizeMB * 1024 * 1024 / Database.CHUNK_SIZE)];
+		for (int i = 0; i < records.length; i++) {
+			records[i] = writer.malloc(Database.MAX_MALLOC_SIZE);
+			writer.putInt(records[i], i);
+			if (i % 10000 == 0) {
+				// Keep the dirty chunks, which cannot be evicted, within the heap.
+				writer.flush();
+			}
+		}
+		writer.close();
+
+		db = new Database(dbFile, new ChunkCache(), 0, false, mapped);
+		db.setLocked(true);
+	}
+
+	@TearDown
+	public void tearDown() throws CoreException {
+		db.setExclusiveLock();
+		db.close();
+		dbFile.delete();
+	}
+
+	@Benchmark
+	public int randomRead(Reader reader) throws CoreException {
+		return db.getInt(records[reader.random.nextInt(records.length)]);
+	}
+}
@@ -0,0 +1,82 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.core.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.cdt.core.dom.parser.cpp.GPPScannerExtensionConfiguration;
+import org.eclipse.cdt.core.parser.EndOfFileException;
+import org.eclipse.cdt.core.parser.IScannerInfo;
+import org.eclipse.cdt.core.parser.IToken;
+import org.eclipse.cdt.core.parser.NullLogService;
+import org.eclipse.cdt.core.parser.ParserLanguage;
+import org.eclipse.cdt.internal.core.parser.scanner.CPreprocessor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the throughput of {@link CPreprocessor}, including macro expansion and the
+ * processing of included files.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PreprocessorBenchmark {
+	@Param({ "macros.h", "enums.h", "main.cpp" })
+	public String file;
+
+	private Corpus corpus;
+	private IScannerInfo scannerInfo;
+
+	@Setup
+	public void setUp() throws IOException {
+		corpus = new Corpus();
+		scannerInfo = corpus.getScannerInfo();
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		corpus.dispose();
+	}
+
+	@Benchmark
+	public int preprocess(Blackhole blackhole) throws Exception {
+		CPreprocessor preprocessor = new CPreprocessor(corpus.getContent(file), scannerInfo, ParserLanguage.CPP,
+				new NullLogService(), GPPScannerExtensionConfiguration.getInstance(scannerInfo),
+				corpus.createFileContentProvider());
+		int count = 0;
+		try {
+			for (;;) {
+				IToken token = preprocessor.nextToken();
+				blackhole.consume(token);
+				count++;
+			}
+		} catch (EndOfFileException e) {
+			// End of the translation unit.
+		}
+		return count;
+	}
+}
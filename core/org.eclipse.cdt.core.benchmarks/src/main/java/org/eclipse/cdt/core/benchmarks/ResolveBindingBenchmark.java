@@ -0,0 +1,83 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.core.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.cdt.core.dom.ast.ASTVisitor;
+import org.eclipse.cdt.core.dom.ast.IASTName;
+import org.eclipse.cdt.core.dom.ast.IASTTranslationUnit;
+import org.eclipse.core.runtime.CoreException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the throughput of resolving all names of a translation unit, which is dominated by
+ * {@link org.eclipse.cdt.internal.core.dom.parser.cpp.semantics.CPPSemantics#resolveBinding} and
+ * template instantiation. Every invocation works on a freshly parsed AST, the parsing is not
+ * part of the measurement.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResolveBindingBenchmark {
+	@Param({ "templates.h", "enums.h", "main.cpp" })
+	public String file;
+
+	private Corpus corpus;
+	private IASTTranslationUnit ast;
+
+	@Setup
+	public void setUp() throws IOException {
+		corpus = new Corpus();
+	}
+
+	@Setup(Level.Invocation)
+	public void parse() throws CoreException {
+		ast = corpus.parse(file);
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		corpus.dispose();
+	}
+
+	@Benchmark
+	public void resolveBindings(Blackhole blackhole) {
+		ast.accept(new ASTVisitor() {
+			{
+				shouldVisitNames = true;
+			}
+
+			@Override
+			public int visit(IASTName name) {
+				blackhole.consume(name.resolveBinding());
+				return PROCESS_CONTINUE;
+			}
+		});
+	}
+}
@@ -0,0 +1,4227 @@
+/*
+ * Synthetic corpus for the CDT parser benchmarks: large enumerations.
+ */
+#ifndef BENCHMARK_ENUMS_H
+#define BENCHMARK_ENUMS_H
+
+enum opcode {
+	op_0000 = 1,
+	op_0001 = 4,
+	op_0002 = 7,
+	op_0003 = 10,
+	op_0004 = 13,
+	op_0005 = 16,
+	op_0006 = 19,
+	op_0007 = 22,
+	op_0008 = 25,
+	op_0009 = 28,
+	op_0010 = 31,
+	op_0011 = 34,
+	op_0012 = 37,
+	op_0013 = 40,
+	op_0014 = 43,
+	op_0015 = 46,
+	op_0016 = 49,
+	op_0017 = 52,
+	op_0018 = 55,
+	op_0019 = 58,
+	op_0020 = 61,
+	op_0021 = 64,
+	op_0022 = 67,
+	op_0023 = 70,
+	op_0024 = 73,
+	op_0025 = 76,
+	op_0026 = 79,
+	op_0027 = 82,
+	op_0028 = 85,
+	op_0029 = 88,
+	op_0030 = 91,
+	op_0031 = 94,
+	op_0032 = 97,
+	op_0033 = 100,
+	op_0034 = 103,
+	op_0035 = 106,
+	op_0036 = 109,
+	op_0037 = 112,
+	op_0038 = 115,
+	op_0039 = 118,
+	op_0040 = 121,
+	op_0041 = 124,
+	op_0042 = 127,
+	op_0043 = 130,
+	op_0044 = 133,
+	op_0045 = 136,
+	op_0046 = 139,
+	op_0047 = 142,
+	op_0048 = 145,
+	op_0049 = 148,
+	op_0050 = 151,
+	op_0051 = 154,
+	op_0052 = 157,
+	op_0053 = 160,
+	op_0054 = 163,
+	op_0055 = 166,
+	op_0056 = 169,
+	op_0057 = 172,
+	op_0058 = 175,
+	op_0059 = 178,
+	op_0060 = 181,
+	op_0061 = 184,
+	op_0062 = 187,
+	op_0063 = 190,
+	op_0064 = 193,
+	op_0065 = 196,
+	op_0066 = 199,
+	op_0067 = 202,
+	op_0068 = 205,
+	op_0069 = 208,
+	op_0070 = 211,
+	op_0071 = 214,
+	op_0072 = 217,
+	op_0073 = 220,
+	op_0074 = 223,
+	op_0075 = 226,
+	op_0076 = 229,
+	op_0077 = 232,
+	op_0078 = 235,
+	op_0079 = 238,
+	op_0080 = 241,
+	op_0081 = 244,
+	op_0082 = 247,
+	op_0083 = 250,
+	op_0084 = 253,
+	op_0085 = 256,
+	op_0086 = 259,
+	op_0087 = 262,
+	op_0088 = 265,
+	op_0089 = 268,
+	op_0090 = 271,
+	op_0091 = 274,
+	op_0092 = 277,
+	op_0093 = 280,
+	op_0094 = 283,
+	op_0095 = 286,
+	op_0096 = 289,
+	op_0097 = 292,
+	op_0098 = 295,
+	op_0099 = 298,
+	op_0100 = 301,
+	op_0101 = 304,
+	op_0102 = 307,
+	op_0103 = 310,
+	op_0104 = 313,
+	op_0105 = 316,
+	op_0106 = 319,
+	op_0107 = 322,
+	op_0108 = 325,
+	op_0109 = 328,
+	op_0110 = 331,
+	op_0111 = 334,
+	op_0112 = 337,
+	op_0113 = 340,
+	op_0114 = 343,
+	op_0115 = 346,
+	op_0116 = 349,
+	op_0117 = 352,
+	op_0118 = 355,
+	op_0119 = 358,
+	op_0120 = 361,
+	op_0121 = 364,
+	op_0122 = 367,
+	op_0123 = 370,
+	op_0124 = 373,
+	op_0125 = 376,
+	op_0126 = 379,
+	op_0127 = 382,
+	op_0128 = 385,
+	op_0129 = 388,
+	op_0130 = 391,
+	op_0131 = 394,
+	op_0132 = 397,
+	op_0133 = 400,
+	op_0134 = 403,
+	op_0135 = 406,
+	op_0136 = 409,
+	op_0137 = 412,
+	op_0138 = 415,
+	op_0139 = 418,
+	op_0140 = 421,
+	op_0141 = 424,
+	op_0142 = 427,
+	op_0143 = 430,
+	op_0144 = 433,
+	op_0145 = 436,
+	op_0146 = 439,
+	op_0147 = 442,
+	op_0148 = 445,
+	op_0149 = 448,
+	op_0150 = 451,
+	op_0151 = 454,
+	op_0152 = 457,
+	op_0153 = 460,
+	op_0154 = 463,
+	op_0155 = 466,
+	op_0156 = 469,
+	op_0157 = 472,
+	op_0158 = 475,
+	op_0159 = 478,
+	op_0160 = 481,
+	op_0161 = 484,
+	op_0162 = 487,
+	op_0163 = 490,
+	op_0164 = 493,
+	op_0165 = 496,
+	op_0166 = 499,
+	op_0167 = 502,
+	op_0168 = 505,
+	op_0169 = 508,
+	op_0170 = 511,
+	op_0171 = 514,
+	op_0172 = 517,
+	op_0173 = 520,
+	op_0174 = 523,
+	op_0175 = 526,
+	op_0176 = 529,
+	op_0177 = 532,
+	op_0178 = 535,
+	op_0179 = 538,
+	op_0180 = 541,
+	op_0181 = 544,
+	op_0182 = 547,
+	op_0183 = 550,
+	op_0184 = 553,
+	op_0185 = 556,
+	op_0186 = 559,
+	op_0187 = 562,
+	op_0188 = 565,
+	op_0189 = 568,
+	op_0190 = 571,
+	op_0191 = 574,
+	op_0192 = 577,
+	op_0193 = 580,
+	op_0194 = 583,
+	op_0195 = 586,
+	op_0196 = 589,
+	op_0197 = 592,
+	op_0198 = 595,
+	op_0199 = 598,
+	op_0200 = 601,
+	op_0201 = 604,
+	op_0202 = 607,
+	op_0203 = 610,
+	op_0204 = 613,
+	op_0205 = 616,
+	op_0206 = 619,
+	op_0207 = 622,
+	op_0208 = 625,
+	op_0209 = 628,
+	op_0210 = 631,
+	op_0211 = 634,
+	op_0212 = 637,
+	op_0213 = 640,
+	op_0214 = 643,
+	op_0215 = 646,
+	op_0216 = 649,
+	op_0217 = 652,
+	op_0218 = 655,
+	op_0219 = 658,
+	op_0220 = 661,
+	op_0221 = 664,
+	op_0222 = 667,
+	op_0223 = 670,
+	op_0224 = 673,
+	op_0225 = 676,
+	op_0226 = 679,
+	op_0227 = 682,
+	op_0228 = 685,
+	op_0229 = 688,
+	op_0230 = 691,
+	op_0231 = 694,
+	op_0232 = 697,
+	op_0233 = 700,
+	op_0234 = 703,
+	op_0235 = 706,
+	op_0236 = 709,
+	op_0237 = 712,
+	op_0238 = 715,
+	op_0239 = 718,
+	op_0240 = 721,
+	op_0241 = 724,
+	op_0242 = 727,
+	op_0243 = 730,
+	op_0244 = 733,
+	op_0245 = 736,
+	op_0246 = 739,
+	op_0247 = 742,
+	op_0248 = 745,
+	op_0249 = 748,
+	op_0250 = 751,
+	op_0251 = 754,
+	op_0252 = 757,
+	op_0253 = 760,
+	op_0254 = 763,
+	op_0255 = 766,
+	op_0256 = 769,
+	op_0257 = 772,
+	op_0258 = 775,
+	op_0259 = 778,
+	op_0260 = 781,
+	op_0261 = 784,
+	op_0262 = 787,
+	op_0263 = 790,
+	op_0264 = 793,
+	op_0265 = 796,
+	op_0266 = 799,
+	op_0267 = 802,
+	op_0268 = 805,
+	op_0269 = 808,
+	op_0270 = 811,
+	op_0271 = 814,
+	op_0272 = 817,
+	op_0273 = 820,
+	op_0274 = 823,
+	op_0275 = 826,
+	op_0276 = 829,
+	op_0277 = 832,
+	op_0278 = 835,
+	op_0279 = 838,
+	op_0280 = 841,
+	op_0281 = 844,
+	op_0282 = 847,
+	op_0283 = 850,
+	op_0284 = 853,
+	op_0285 = 856,
+	op_0286 = 859,
+	op_0287 = 862,
+	op_0288 = 865,
+	op_0289 = 868,
+	op_0290 = 871,
+	op_0291 = 874,
+	op_0292 = 877,
+	op_0293 = 880,
+	op_0294 = 883,
+	op_0295 = 886,
+	op_0296 = 889,
+	op_0297 = 892,
+	op_0298 = 895,
+	op_0299 = 898,
+	op_0300 = 901,
+	op_0301 = 904,
+	op_0302 = 907,
+	op_0303 = 910,
+	op_0304 = 913,
+	op_0305 = 916,
+	op_0306 = 919,
+	op_0307 = 922,
+	op_0308 = 925,
+	op_0309 = 928,
+	op_0310 = 931,
+	op_0311 = 934,
+	op_0312 = 937,
+	op_0313 = 940,
+	op_0314 = 943,
+	op_0315 = 946,
+	op_0316 = 949,
+	op_0317 = 952,
+	op_0318 = 955,
+	op_0319 = 958,
+	op_0320 = 961,
+	op_0321 = 964,
+	op_0322 = 967,
+	op_0323 = 970,
+	op_0324 = 973,
+	op_0325 = 976,
+	op_0326 = 979,
+	op_0327 = 982,
+	op_0328 = 985,
+	op_0329 = 988,
+	op_0330 = 991,
+	op_0331 = 994,
+	op_0332 = 997,
+	op_0333 = 1000,
+	op_0334 = 1003,
+	op_0335 = 1006,
+	op_0336 = 1009,
+	op_0337 = 1012,
+	op_0338 = 1015,
+	op_0339 = 1018,
+	op_0340 = 1021,
+	op_0341 = 1024,
+	op_0342 = 1027,
+	op_0343 = 1030,
+	op_0344 = 1033,
+	op_0345 = 1036,
+	op_0346 = 1039,
+	op_0347 = 1042,
+	op_0348 = 1045,
+	op_0349 = 1048,
+	op_0350 = 1051,
+	op_0351 = 1054,
+	op_0352 = 1057,
+	op_0353 = 1060,
+	op_0354 = 1063,
+	op_0355 = 1066,
+	op_0356 = 1069,
+	op_0357 = 1072,
+	op_0358 = 1075,
+	op_0359 = 1078,
+	op_0360 = 1081,
+	op_0361 = 1084,
+	op_0362 = 1087,
+	op_0363 = 1090,
+	op_0364 = 1093,
+	op_0365 = 1096,
+	op_0366 = 1099,
+	op_0367 = 1102,
+	op_0368 = 1105,
+	op_0369 = 1108,
+	op_0370 = 1111,
+	op_0371 = 1114,
+	op_0372 = 1117,
+	op_0373 = 1120,
+	op_0374 = 1123,
+	op_0375 = 1126,
+	op_0376 = 1129,
+	op_0377 = 1132,
+	op_0378 = 1135,
+	op_0379 = 1138,
+	op_0380 = 1141,
+	op_0381 = 1144,
+	op_0382 = 1147,
+	op_0383 = 1150,
+	op_0384 = 1153,
+	op_0385 = 1156,
+	op_0386 = 1159,
+	op_0387 = 1162,
+	op_0388 = 1165,
+	op_0389 = 1168,
+	op_0390 = 1171,
+	op_0391 = 1174,
+	op_0392 = 1177,
+	op_0393 = 1180,
+	op_0394 = 1183,
+	op_0395 = 1186,
+	op_0396 = 1189,
+	op_0397 = 1192,
+	op_0398 = 1195,
+	op_0399 = 1198,
+	op_0400 = 1201,
+	op_0401 = 1204,
+	op_0402 = 1207,
+	op_0403 = 1210,
+	op_0404 = 1213,
+	op_0405 = 1216,
+	op_0406 = 1219,
+	op_0407 = 1222,
+	op_0408 = 1225,
+	op_0409 = 1228,
+	op_0410 = 1231,
+	op_0411 = 1234,
+	op_0412 = 1237,
+	op_0413 = 1240,
+	op_0414 = 1243,
+	op_0415 = 1246,
+	op_0416 = 1249,
+	op_0417 = 1252,
+	op_0418 = 1255,
+	op_0419 = 1258,
+	op_0420 = 1261,
+	op_0421 = 1264,
+	op_0422 = 1267,
+	op_0423 = 1270,
+	op_0424 = 1273,
+	op_0425 = 1276,
+	op_0426 = 1279,
+	op_0427 = 1282,
+	op_0428 = 1285,
+	op_0429 = 1288,
+	op_0430 = 1291,
+	op_0431 = 1294,
+	op_0432 = 1297,
+	op_0433 = 1300,
+	op_0434 = 1303,
+	op_0435 = 1306,
+	op_0436 = 1309,
+	op_0437 = 1312,
+	op_0438 = 1315,
+	op_0439 = 1318,
+	op_0440 = 1321,
+	op_0441 = 1324,
+	op_0442 = 1327,
+	op_0443 = 1330,
+	op_0444 = 1333,
+	op_0445 = 1336,
+	op_0446 = 1339,
+	op_0447 = 1342,
+	op_0448 = 1345,
+	op_0449 = 1348,
+	op_0450 = 1351,
+	op_0451 = 1354,
+	op_0452 = 1357,
+	op_0453 = 1360,
+	op_0454 = 1363,
+	op_0455 = 1366,
+	op_0456 = 1369,
+	op_0457 = 1372,
+	op_0458 = 1375,
+	op_0459 = 1378,
+	op_0460 = 1381,
+	op_0461 = 1384,
+	op_0462 = 1387,
+	op_0463 = 1390,
+	op_0464 = 1393,
+	op_0465 = 1396,
+	op_0466 = 1399,
+	op_0467 = 1402,
+	op_0468 = 1405,
+	op_0469 = 1408,
+	op_0470 = 1411,
+	op_0471 = 1414,
+	op_0472 = 1417,
+	op_0473 = 1420,
+	op_0474 = 1423,
+	op_0475 = 1426,
+	op_0476 = 1429,
+	op_0477 = 1432,
+	op_0478 = 1435,
+	op_0479 = 1438,
+	op_0480 = 1441,
+	op_0481 = 1444,
+	op_0482 = 1447,
+	op_0483 = 1450,
+	op_0484 = 1453,
+	op_0485 = 1456,
+	op_0486 = 1459,
+	op_0487 = 1462,
+	op_0488 = 1465,
+	op_0489 = 1468,
+	op_0490 = 1471,
+	op_0491 = 1474,
+	op_0492 = 1477,
+	op_0493 = 1480,
+	op_0494 = 1483,
+	op_0495 = 1486,
+	op_0496 = 1489,
+	op_0497 = 1492,
+	op_0498 = 1495,
+	op_0499 = 1498,
+	op_0500 = 1501,
+	op_0501 = 1504,
+	op_0502 = 1507,
+	op_0503 = 1510,
+	op_0504 = 1513,
+	op_0505 = 1516,
+	op_0506 = 1519,
+	op_0507 = 1522,
+	op_0508 = 1525,
+	op_0509 = 1528,
+	op_0510 = 1531,
+	op_0511 = 1534,
+	op_0512 = 1537,
+	op_0513 = 1540,
+	op_0514 = 1543,
+	op_0515 = 1546,
+	op_0516 = 1549,
+	op_0517 = 1552,
+	op_0518 = 1555,
+	op_0519 = 1558,
+	op_0520 = 1561,
+	op_0521 = 1564,
+	op_0522 = 1567,
+	op_0523 = 1570,
+	op_0524 = 1573,
+	op_0525 = 1576,
+	op_0526 = 1579,
+	op_0527 = 1582,
+	op_0528 = 1585,
+	op_0529 = 1588,
+	op_0530 = 1591,
+	op_0531 = 1594,
+	op_0532 = 1597,
+	op_0533 = 1600,
+	op_0534 = 1603,
+	op_0535 = 1606,
+	op_0536 = 1609,
+	op_0537 = 1612,
+	op_0538 = 1615,
+	op_0539 = 1618,
+	op_0540 = 1621,
+	op_0541 = 1624,
+	op_0542 = 1627,
+	op_0543 = 1630,
+	op_0544 = 1633,
+	op_0545 = 1636,
+	op_0546 = 1639,
+	op_0547 = 1642,
+	op_0548 = 1645,
+	op_0549 = 1648,
+	op_0550 = 1651,
+	op_0551 = 1654,
+	op_0552 = 1657,
+	op_0553 = 1660,
+	op_0554 = 1663,
+	op_0555 = 1666,
+	op_0556 = 1669,
+	op_0557 = 1672,
+	op_0558 = 1675,
+	op_0559 = 1678,
+	op_0560 = 1681,
+	op_0561 = 1684,
+	op_0562 = 1687,
+	op_0563 = 1690,
+	op_0564 = 1693,
+	op_0565 = 1696,
+	op_0566 = 1699,
+	op_0567 = 1702,
+	op_0568 = 1705,
+	op_0569 = 1708,
+	op_0570 = 1711,
+	op_0571 = 1714,
+	op_0572 = 1717,
+	op_0573 = 1720,
+	op_0574 = 1723,
+	op_0575 = 1726,
+	op_0576 = 1729,
+	op_0577 = 1732,
+	op_0578 = 1735,
+	op_0579 = 1738,
+	op_0580 = 1741,
+	op_0581 = 1744,
+	op_0582 = 1747,
+	op_0583 = 1750,
+	op_0584 = 1753,
+	op_0585 = 1756,
+	op_0586 = 1759,
+	op_0587 = 1762,
+	op_0588 = 1765,
+	op_0589 = 1768,
+	op_0590 = 1771,
+	op_0591 = 1774,
+	op_0592 = 1777,
+	op_0593 = 1780,
+	op_0594 = 1783,
+	op_0595 = 1786,
+	op_0596 = 1789,
+	op_0597 = 1792,
+	op_0598 = 1795,
+	op_0599 = 1798,
+	op_0600 = 1801,
+	op_0601 = 1804,
+	op_0602 = 1807,
+	op_0603 = 1810,
+	op_0604 = 1813,
+	op_0605 = 1816,
+	op_0606 = 1819,
+	op_0607 = 1822,
+	op_0608 = 1825,
+	op_0609 = 1828,
+	op_0610 = 1831,
+	op_0611 = 1834,
+	op_0612 = 1837,
+	op_0613 = 1840,
+	op_0614 = 1843,
+	op_0615 = 1846,
+	op_0616 = 1849,
+	op_0617 = 1852,
+	op_0618 = 1855,
+	op_0619 = 1858,
+	op_0620 = 1861,
+	op_0621 = 1864,
+	op_0622 = 1867,
+	op_0623 = 1870,
+	op_0624 = 1873,
+	op_0625 = 1876,
+	op_0626 = 1879,
+	op_0627 = 1882,
+	op_0628 = 1885,
+	op_0629 = 1888,
+	op_0630 = 1891,
+	op_0631 = 1894,
+	op_0632 = 1897,
+	op_0633 = 1900,
+	op_0634 = 1903,
+	op_0635 = 1906,
+	op_0636 = 1909,
+	op_0637 = 1912,
+	op_0638 = 1915,
+	op_0639 = 1918,
+	op_0640 = 1921,
+	op_0641 = 1924,
+	op_0642 = 1927,
+	op_0643 = 1930,
+	op_0644 = 1933,
+	op_0645 = 1936,
+	op_0646 = 1939,
+	op_0647 = 1942,
+	op_0648 = 1945,
+	op_0649 = 1948,
+	op_0650 = 1951,
+	op_0651 = 1954,
+	op_0652 = 1957,
+	op_0653 = 1960,
+	op_0654 = 1963,
+	op_0655 = 1966,
+	op_0656 = 1969,
+	op_0657 = 1972,
+	op_0658 = 1975,
+	op_0659 = 1978,
+	op_0660 = 1981,
+	op_0661 = 1984,
+	op_0662 = 1987,
+	op_0663 = 1990,
+	op_0664 = 1993,
+	op_0665 = 1996,
+	op_0666 = 1999,
+	op_0667 = 2002,
+	op_0668 = 2005,
+	op_0669 = 2008,
+	op_0670 = 2011,
+	op_0671 = 2014,
+	op_0672 = 2017,
+	op_0673 = 2020,
+	op_0674 = 2023,
+	op_0675 = 2026,
+	op_0676 = 2029,
+	op_0677 = 2032,
+	op_0678 = 2035,
+	op_0679 = 2038,
+	op_0680 = 2041,
+	op_0681 = 2044,
+	op_0682 = 2047,
+	op_0683 = 2050,
+	op_0684 = 2053,
+	op_0685 = 2056,
+	op_0686 = 2059,
+	op_0687 = 2062,
+	op_0688 = 2065,
+	op_0689 = 2068,
+	op_0690 = 2071,
+	op_0691 = 2074,
+	op_0692 = 2077,
+	op_0693 = 2080,
+	op_0694 = 2083,
+	op_0695 = 2086,
+	op_0696 = 2089,
+	op_0697 = 2092,
+	op_0698 = 2095,
+	op_0699 = 2098,
+	op_0700 = 2101,
+	op_0701 = 2104,
+	op_0702 = 2107,
+	op_0703 = 2110,
+	op_0704 = 2113,
+	op_0705 = 2116,
+	op_0706 = 2119,
+	op_0707 = 2122,
+	op_0708 = 2125,
+	op_0709 = 2128,
+	op_0710 = 2131,
+	op_0711 = 2134,
+	op_0712 = 2137,
+	op_0713 = 2140,
+	op_0714 = 2143,
+	op_0715 = 2146,
+	op_0716 = 2149,
+	op_0717 = 2152,
+	op_0718 = 2155,
+	op_0719 = 2158,
+	op_0720 = 2161,
+	op_0721 = 2164,
+	op_0722 = 2167,
+	op_0723 = 2170,
+	op_0724 = 2173,
+	op_0725 = 2176,
+	op_0726 = 2179,
+	op_0727 = 2182,
+	op_0728 = 2185,
+	op_0729 = 2188,
+	op_0730 = 2191,
+	op_0731 = 2194,
+	op_0732 = 2197,
+	op_0733 = 2200,
+	op_0734 = 2203,
+	op_0735 = 2206,
+	op_0736 = 2209,
+	op_0737 = 2212,
+	op_0738 = 2215,
+	op_0739 = 2218,
+	op_0740 = 2221,
+	op_0741 = 2224,
+	op_0742 = 2227,
+	op_0743 = 2230,
+	op_0744 = 2233,
+	op_0745 = 2236,
+	op_0746 = 2239,
+	op_0747 = 2242,
+	op_0748 = 2245,
+	op_0749 = 2248,
+	op_0750 = 2251,
+	op_0751 = 2254,
+	op_0752 = 2257,
+	op_0753 = 2260,
+	op_0754 = 2263,
+	op_0755 = 2266,
+	op_0756 = 2269,
+	op_0757 = 2272,
+	op_0758 = 2275,
+	op_0759 = 2278,
+	op_0760 = 2281,
+	op_0761 = 2284,
+	op_0762 = 2287,
+	op_0763 = 2290,
+	op_0764 = 2293,
+	op_0765 = 2296,
+	op_0766 = 2299,
+	op_0767 = 2302,
+	op_0768 = 2305,
+	op_0769 = 2308,
+	op_0770 = 2311,
+	op_0771 = 2314,
+	op_0772 = 2317,
+	op_0773 = 2320,
+	op_0774 = 2323,
+	op_0775 = 2326,
+	op_0776 = 2329,
+	op_0777 = 2332,
+	op_0778 = 2335,
+	op_0779 = 2338,
+	op_0780 = 2341,
+	op_0781 = 2344,
+	op_0782 = 2347,
+	op_0783 = 2350,
+	op_0784 = 2353,
+	op_0785 = 2356,
+	op_0786 = 2359,
+	op_0787 = 2362,
+	op_0788 = 2365,
+	op_0789 = 2368,
+	op_0790 = 2371,
+	op_0791 = 2374,
+	op_0792 = 2377,
+	op_0793 = 2380,
+	op_0794 = 2383,
+	op_0795 = 2386,
+	op_0796 = 2389,
+	op_0797 = 2392,
+	op_0798 = 2395,
+	op_0799 = 2398,
+	op_0800 = 2401,
+	op_0801 = 2404,
+	op_0802 = 2407,
+	op_0803 = 2410,
+	op_0804 = 2413,
+	op_0805 = 2416,
+	op_0806 = 2419,
+	op_0807 = 2422,
+	op_0808 = 2425,
+	op_0809 = 2428,
+	op_0810 = 2431,
+	op_0811 = 2434,
+	op_0812 = 2437,
+	op_0813 = 2440,
+	op_0814 = 2443,
+	op_0815 = 2446,
+	op_0816 = 2449,
+	op_0817 = 2452,
+	op_0818 = 2455,
+	op_0819 = 2458,
+	op_0820 = 2461,
+	op_0821 = 2464,
+	op_0822 = 2467,
+	op_0823 = 2470,
+	op_0824 = 2473,
+	op_0825 = 2476,
+	op_0826 = 2479,
+	op_0827 = 2482,
+	op_0828 = 2485,
+	op_0829 = 2488,
+	op_0830 = 2491,
+	op_0831 = 2494,
+	op_0832 = 2497,
+	op_0833 = 2500,
+	op_0834 = 2503,
+	op_0835 = 2506,
+	op_0836 = 2509,
+	op_0837 = 2512,
+	op_0838 = 2515,
+	op_0839 = 2518,
+	op_0840 = 2521,
+	op_0841 = 2524,
+	op_0842 = 2527,
+	op_0843 = 2530,
+	op_0844 = 2533,
+	op_0845 = 2536,
+	op_0846 = 2539,
+	op_0847 = 2542,
+	op_0848 = 2545,
+	op_0849 = 2548,
+	op_0850 = 2551,
+	op_0851 = 2554,
+	op_0852 = 2557,
+	op_0853 = 2560,
+	op_0854 = 2563,
+	op_0855 = 2566,
+	op_0856 = 2569,
+	op_0857 = 2572,
+	op_0858 = 2575,
+	op_0859 = 2578,
+	op_0860 = 2581,
+	op_0861 = 2584,
+	op_0862 = 2587,
+	op_0863 = 2590,
+	op_0864 = 2593,
+	op_0865 = 2596,
+	op_0866 = 2599,
+	op_0867 = 2602,
+	op_0868 = 2605,
+	op_0869 = 2608,
+	op_0870 = 2611,
+	op_0871 = 2614,
+	op_0872 = 2617,
+	op_0873 = 2620,
+	op_0874 = 2623,
+	op_0875 = 2626,
+	op_0876 = 2629,
+	op_0877 = 2632,
+	op_0878 = 2635,
+	op_0879 = 2638,
+	op_0880 = 2641,
+	op_0881 = 2644,
+	op_0882 = 2647,
+	op_0883 = 2650,
+	op_0884 = 2653,
+	op_0885 = 2656,
+	op_0886 = 2659,
+	op_0887 = 2662,
+	op_0888 = 2665,
+	op_0889 = 2668,
+	op_0890 = 2671,
+	op_0891 = 2674,
+	op_0892 = 2677,
+	op_0893 = 2680,
+	op_0894 = 2683,
+	op_0895 = 2686,
+	op_0896 = 2689,
+	op_0897 = 2692,
+	op_0898 = 2695,
+	op_0899 = 2698,
+	op_0900 = 2701,
+	op_0901 = 2704,
+	op_0902 = 2707,
+	op_0903 = 2710,
+	op_0904 = 2713,
+	op_0905 = 2716,
+	op_0906 = 2719,
+	op_0907 = 2722,
+	op_0908 = 2725,
+	op_0909 = 2728,
+	op_0910 = 2731,
+	op_0911 = 2734,
+	op_0912 = 2737,
+	op_0913 = 2740,
+	op_0914 = 2743,
+	op_0915 = 2746,
+	op_0916 = 2749,
+	op_0917 = 2752,
+	op_0918 = 2755,
+	op_0919 = 2758,
+	op_0920 = 2761,
+	op_0921 = 2764,
+	op_0922 = 2767,
+	op_0923 = 2770,
+	op_0924 = 2773,
+	op_0925 = 2776,
+	op_0926 = 2779,
+	op_0927 = 2782,
+	op_0928 = 2785,
+	op_0929 = 2788,
+	op_0930 = 2791,
+	op_0931 = 2794,
+	op_0932 = 2797,
+	op_0933 = 2800,
+	op_0934 = 2803,
+	op_0935 = 2806,
+	op_0936 = 2809,
+	op_0937 = 2812,
+	op_0938 = 2815,
+	op_0939 = 2818,
+	op_0940 = 2821,
+	op_0941 = 2824,
+	op_0942 = 2827,
+	op_0943 = 2830,
+	op_0944 = 2833,
+	op_0945 = 2836,
+	op_0946 = 2839,
+	op_0947 = 2842,
+	op_0948 = 2845,
+	op_0949 = 2848,
+	op_0950 = 2851,
+	op_0951 = 2854,
+	op_0952 = 2857,
+	op_0953 = 2860,
+	op_0954 = 2863,
+	op_0955 = 2866,
+	op_0956 = 2869,
+	op_0957 = 2872,
+	op_0958 = 2875,
+	op_0959 = 2878,
+	op_0960 = 2881,
+	op_0961 = 2884,
+	op_0962 = 2887,
+	op_0963 = 2890,
+	op_0964 = 2893,
+	op_0965 = 2896,
+	op_0966 = 2899,
+	op_0967 = 2902,
+	op_0968 = 2905,
+	op_0969 = 2908,
+	op_0970 = 2911,
+	op_0971 = 2914,
+	op_0972 = 2917,
+	op_0973 = 2920,
+	op_0974 = 2923,
+	op_0975 = 2926,
+	op_0976 = 2929,
+	op_0977 = 2932,
+	op_0978 = 2935,
+	op_0979 = 2938,
+	op_0980 = 2941,
+	op_0981 = 2944,
+	op_0982 = 2947,
+	op_0983 = 2950,
+	op_0984 = 2953,
+	op_0985 = 2956,
+	op_0986 = 2959,
+	op_0987 = 2962,
+	op_0988 = 2965,
+	op_0989 = 2968,
+	op_0990 = 2971,
+	op_0991 = 2974,
+	op_0992 = 2977,
+	op_0993 = 2980,
+	op_0994 = 2983,
+	op_0995 = 2986,
+	op_0996 = 2989,
+	op_0997 = 2992,
+	op_0998 = 2995,
+	op_0999 = 2998,
+	op_1000 = 3001,
+	op_1001 = 3004,
+	op_1002 = 3007,
+	op_1003 = 3010,
+	op_1004 = 3013,
+	op_1005 = 3016,
+	op_1006 = 3019,
+	op_1007 = 3022,
+	op_1008 = 3025,
+	op_1009 = 3028,
+	op_1010 = 3031,
+	op_1011 = 3034,
+	op_1012 = 3037,
+	op_1013 = 3040,
+	op_1014 = 3043,
+	op_1015 = 3046,
+	op_1016 = 3049,
+	op_1017 = 3052,
+	op_1018 = 3055,
+	op_1019 = 3058,
+	op_1020 = 3061,
+	op_1021 = 3064,
+	op_1022 = 3067,
+	op_1023 = 3070,
+	op_1024 = 3073,
+	op_1025 = 3076,
+	op_1026 = 3079,
+	op_1027 = 3082,
+	op_1028 = 3085,
+	op_1029 = 3088,
+	op_1030 = 3091,
+	op_1031 = 3094,
+	op_1032 = 3097,
+	op_1033 = 3100,
+	op_1034 = 3103,
+	op_1035 = 3106,
+	op_1036 = 3109,
+	op_1037 = 3112,
+	op_1038 = 3115,
+	op_1039 = 3118,
+	op_1040 = 3121,
+	op_1041 = 3124,
+	op_1042 = 3127,
+	op_1043 = 3130,
+	op_1044 = 3133,
+	op_1045 = 3136,
+	op_1046 = 3139,
+	op_1047 = 3142,
+	op_1048 = 3145,
+	op_1049 = 3148,
+	op_1050 = 3151,
+	op_1051 = 3154,
+	op_1052 = 3157,
+	op_1053 = 3160,
+	op_1054 = 3163,
+	op_1055 = 3166,
+	op_1056 = 3169,
+	op_1057 = 3172,
+	op_1058 = 3175,
+	op_1059 = 3178,
+	op_1060 = 3181,
+	op_1061 = 3184,
+	op_1062 = 3187,
+	op_1063 = 3190,
+	op_1064 = 3193,
+	op_1065 = 3196,
+	op_1066 = 3199,
+	op_1067 = 3202,
+	op_1068 = 3205,
+	op_1069 = 3208,
+	op_1070 = 3211,
+	op_1071 = 3214,
+	op_1072 = 3217,
+	op_1073 = 3220,
+	op_1074 = 3223,
+	op_1075 = 3226,
+	op_1076 = 3229,
+	op_1077 = 3232,
+	op_1078 = 3235,
+	op_1079 = 3238,
+	op_1080 = 3241,
+	op_1081 = 3244,
+	op_1082 = 3247,
+	op_1083 = 3250,
+	op_1084 = 3253,
+	op_1085 = 3256,
+	op_1086 = 3259,
+	op_1087 = 3262,
+	op_1088 = 3265,
+	op_1089 = 3268,
+	op_1090 = 3271,
+	op_1091 = 3274,
+	op_1092 = 3277,
+	op_1093 = 3280,
+	op_1094 = 3283,
+	op_1095 = 3286,
+	op_1096 = 3289,
+	op_1097 = 3292,
+	op_1098 = 3295,
+	op_1099 = 3298,
+	op_1100 = 3301,
+	op_1101 = 3304,
+	op_1102 = 3307,
+	op_1103 = 3310,
+	op_1104 = 3313,
+	op_1105 = 3316,
+	op_1106 = 3319,
+	op_1107 = 3322,
+	op_1108 = 3325,
+	op_1109 = 3328,
+	op_1110 = 3331,
+	op_1111 = 3334,
+	op_1112 = 3337,
+	op_1113 = 3340,
+	op_1114 = 3343,
+	op_1115 = 3346,
+	op_1116 = 3349,
+	op_1117 = 3352,
+	op_1118 = 3355,
+	op_1119 = 3358,
+	op_1120 = 3361,
+	op_1121 = 3364,
+	op_1122 = 3367,
+	op_1123 = 3370,
+	op_1124 = 3373,
+	op_1125 = 3376,
+	op_1126 = 3379,
+	op_1127 = 3382,
+	op_1128 = 3385,
+	op_1129 = 3388,
+	op_1130 = 3391,
+	op_1131 = 3394,
+	op_1132 = 3397,
+	op_1133 = 3400,
+	op_1134 = 3403,
+	op_1135 = 3406,
+	op_1136 = 3409,
+	op_1137 = 3412,
+	op_1138 = 3415,
+	op_1139 = 3418,
+	op_1140 = 3421,
+	op_1141 = 3424,
+	op_1142 = 3427,
+	op_1143 = 3430,
+	op_1144 = 3433,
+	op_1145 = 3436,
+	op_1146 = 3439,
+	op_1147 = 3442,
+	op_1148 = 3445,
+	op_1149 = 3448,
+	op_1150 = 3451,
+	op_1151 = 3454,
+	op_1152 = 3457,
+	op_1153 = 3460,
+	op_1154 = 3463,
+	op_1155 = 3466,
+	op_1156 = 3469,
+	op_1157 = 3472,
+	op_1158 = 3475,
+	op_1159 = 3478,
+	op_1160 = 3481,
+	op_1161 = 3484,
+	op_1162 = 3487,
+	op_1163 = 3490,
+	op_1164 = 3493,
+	op_1165 = 3496,
+	op_1166 = 3499,
+	op_1167 = 3502,
+	op_1168 = 3505,
+	op_1169 = 3508,
+	op_1170 = 3511,
+	op_1171 = 3514,
+	op_1172 = 3517,
+	op_1173 = 3520,
+	op_1174 = 3523,
+	op_1175 = 3526,
+	op_1176 = 3529,
+	op_1177 = 3532,
+	op_1178 = 3535,
+	op_1179 = 3538,
+	op_1180 = 3541,
+	op_1181 = 3544,
+	op_1182 = 3547,
+	op_1183 = 3550,
+	op_1184 = 3553,
+	op_1185 = 3556,
+	op_1186 = 3559,
+	op_1187 = 3562,
+	op_1188 = 3565,
+	op_1189 = 3568,
+	op_1190 = 3571,
+	op_1191 = 3574,
+	op_1192 = 3577,
+	op_1193 = 3580,
+	op_1194 = 3583,
+	op_1195 = 3586,
+	op_1196 = 3589,
+	op_1197 = 3592,
+	op_1198 = 3595,
+	op_1199 = 3598,
+	op_1200 = 3601,
+	op_1201 = 3604,
+	op_1202 = 3607,
+	op_1203 = 3610,
+	op_1204 = 3613,
+	op_1205 = 3616,
+	op_1206 = 3619,
+	op_1207 = 3622,
+	op_1208 = 3625,
+	op_1209 = 3628,
+	op_1210 = 3631,
+	op_1211 = 3634,
+	op_1212 = 3637,
+	op_1213 = 3640,
+	op_1214 = 3643,
+	op_1215 = 3646,
+	op_1216 = 3649,
+	op_1217 = 3652,
+	op_1218 = 3655,
+	op_1219 = 3658,
+	op_1220 = 3661,
+	op_1221 = 3664,
+	op_1222 = 3667,
+	op_1223 = 3670,
+	op_1224 = 3673,
+	op_1225 = 3676,
+	op_1226 = 3679,
+	op_1227 = 3682,
+	op_1228 = 3685,
+	op_1229 = 3688,
+	op_1230 = 3691,
+	op_1231 = 3694,
+	op_1232 = 3697,
+	op_1233 = 3700,
+	op_1234 = 3703,
+	op_1235 = 3706,
+	op_1236 = 3709,
+	op_1237 = 3712,
+	op_1238 = 3715,
+	op_1239 = 3718,
+	op_1240 = 3721,
+	op_1241 = 3724,
+	op_1242 = 3727,
+	op_1243 = 3730,
+	op_1244 = 3733,
+	op_1245 = 3736,
+	op_1246 = 3739,
+	op_1247 = 3742,
+	op_1248 = 3745,
+	op_1249 = 3748,
+	op_1250 = 3751,
+	op_1251 = 3754,
+	op_1252 = 3757,
+	op_1253 = 3760,
+	op_1254 = 3763,
+	op_1255 = 3766,
+	op_1256 = 3769,
+	op_1257 = 3772,
+	op_1258 = 3775,
+	op_1259 = 3778,
+	op_1260 = 3781,
+	op_1261 = 3784,
+	op_1262 = 3787,
+	op_1263 = 3790,
+	op_1264 = 3793,
+	op_1265 = 3796,
+	op_1266 = 3799,
+	op_1267 = 3802,
+	op_1268 = 3805,
+	op_1269 = 3808,
+	op_1270 = 3811,
+	op_1271 = 3814,
+	op_1272 = 3817,
+	op_1273 = 3820,
+	op_1274 = 3823,
+	op_1275 = 3826,
+	op_1276 = 3829,
+	op_1277 = 3832,
+	op_1278 = 3835,
+	op_1279 = 3838,
+	op_1280 = 3841,
+	op_1281 = 3844,
+	op_1282 = 3847,
+	op_1283 = 3850,
+	op_1284 = 3853,
+	op_1285 = 3856,
+	op_1286 = 3859,
+	op_1287 = 3862,
+	op_1288 = 3865,
+	op_1289 = 3868,
+	op_1290 = 3871,
+	op_1291 = 3874,
+	op_1292 = 3877,
+	op_1293 = 3880,
+	op_1294 = 3883,
+	op_1295 = 3886,
+	op_1296 = 3889,
+	op_1297 = 3892,
+	op_1298 = 3895,
+	op_1299 = 3898,
+	op_1300 = 3901,
+	op_1301 = 3904,
+	op_1302 = 3907,
+	op_1303 = 3910,
+	op_1304 = 3913,
+	op_1305 = 3916,
+	op_1306 = 3919,
+	op_1307 = 3922,
+	op_1308 = 3925,
+	op_1309 = 3928,
+	op_1310 = 3931,
+	op_1311 = 3934,
+	op_1312 = 3937,
+	op_1313 = 3940,
+	op_1314 = 3943,
+	op_1315 = 3946,
+	op_1316 = 3949,
+	op_1317 = 3952,
+	op_1318 = 3955,
+	op_1319 = 3958,
+	op_1320 = 3961,
+	op_1321 = 3964,
+	op_1322 = 3967,
+	op_1323 = 3970,
+	op_1324 = 3973,
+	op_1325 = 3976,
+	op_1326 = 3979,
+	op_1327 = 3982,
+	op_1328 = 3985,
+	op_1329 = 3988,
+	op_1330 = 3991,
+	op_1331 = 3994,
+	op_1332 = 3997,
+	op_1333 = 4000,
+	op_1334 = 4003,
+	op_1335 = 4006,
+	op_1336 = 4009,
+	op_1337 = 4012,
+	op_1338 = 4015,
+	op_1339 = 4018,
+	op_1340 = 4021,
+	op_1341 = 4024,
+	op_1342 = 4027,
+	op_1343 = 4030,
+	op_1344 = 4033,
+	op_1345 = 4036,
+	op_1346 = 4039,
+	op_1347 = 4042,
+	op_1348 = 4045,
+	op_1349 = 4048,
+	op_1350 = 4051,
+	op_1351 = 4054,
+	op_1352 = 4057,
+	op_1353 = 4060,
+	op_1354 = 4063,
+	op_1355 = 4066,
+	op_1356 = 4069,
+	op_1357 = 4072,
+	op_1358 = 4075,
+	op_1359 = 4078,
+	op_1360 = 4081,
+	op_1361 = 4084,
+	op_1362 = 4087,
+	op_1363 = 4090,
+	op_1364 = 4093,
+	op_1365 = 4096,
+	op_1366 = 4099,
+	op_1367 = 4102,
+	op_1368 = 4105,
+	op_1369 = 4108,
+	op_1370 = 4111,
+	op_1371 = 4114,
+	op_1372 = 4117,
+	op_1373 = 4120,
+	op_1374 = 4123,
+	op_1375 = 4126,
+	op_1376 = 4129,
+	op_1377 = 4132,
+	op_1378 = 4135,
+	op_1379 = 4138,
+	op_1380 = 4141,
+	op_1381 = 4144,
+	op_1382 = 4147,
+	op_1383 = 4150,
+	op_1384 = 4153,
+	op_1385 = 4156,
+	op_1386 = 4159,
+	op_1387 = 4162,
+	op_1388 = 4165,
+	op_1389 = 4168,
+	op_1390 = 4171,
+	op_1391 = 4174,
+	op_1392 = 4177,
+	op_1393 = 4180,
+	op_1394 = 4183,
+	op_1395 = 4186,
+	op_1396 = 4189,
+	op_1397 = 4192,
+	op_1398 = 4195,
+	op_1399 = 4198,
+	op_1400 = 4201,
+	op_1401 = 4204,
+	op_1402 = 4207,
+	op_1403 = 4210,
+	op_1404 = 4213,
+	op_1405 = 4216,
+	op_1406 = 4219,
+	op_1407 = 4222,
+	op_1408 = 4225,
+	op_1409 = 4228,
+	op_1410 = 4231,
+	op_1411 = 4234,
+	op_1412 = 4237,
+	op_1413 = 4240,
+	op_1414 = 4243,
+	op_1415 = 4246,
+	op_1416 = 4249,
+	op_1417 = 4252,
+	op_1418 = 4255,
+	op_1419 = 4258,
+	op_1420 = 4261,
+	op_1421 = 4264,
+	op_1422 = 4267,
+	op_1423 = 4270,
+	op_1424 = 4273,
+	op_1425 = 4276,
+	op_1426 = 4279,
+	op_1427 = 4282,
+	op_1428 = 4285,
+	op_1429 = 4288,
+	op_1430 = 4291,
+	op_1431 = 4294,
+	op_1432 = 4297,
+	op_1433 = 4300,
+	op_1434 = 4303,
+	op_1435 = 4306,
+	op_1436 = 4309,
+	op_1437 = 4312,
+	op_1438 = 4315,
+	op_1439 = 4318,
+	op_1440 = 4321,
+	op_1441 = 4324,
+	op_1442 = 4327,
+	op_1443 = 4330,
+	op_1444 = 4333,
+	op_1445 = 4336,
+	op_1446 = 4339,
+	op_1447 = 4342,
+	op_1448 = 4345,
+	op_1449 = 4348,
+	op_1450 = 4351,
+	op_1451 = 4354,
+	op_1452 = 4357,
+	op_1453 = 4360,
+	op_1454 = 4363,
+	op_1455 = 4366,
+	op_1456 = 4369,
+	op_1457 = 4372,
+	op_1458 = 4375,
+	op_1459 = 4378,
+	op_1460 = 4381,
+	op_1461 = 4384,
+	op_1462 = 4387,
+	op_1463 = 4390,
+	op_1464 = 4393,
+	op_1465 = 4396,
+	op_1466 = 4399,
+	op_1467 = 4402,
+	op_1468 = 4405,
+	op_1469 = 4408,
+	op_1470 = 4411,
+	op_1471 = 4414,
+	op_1472 = 4417,
+	op_1473 = 4420,
+	op_1474 = 4423,
+	op_1475 = 4426,
+	op_1476 = 4429,
+	op_1477 = 4432,
+	op_1478 = 4435,
+	op_1479 = 4438,
+	op_1480 = 4441,
+	op_1481 = 4444,
+	op_1482 = 4447,
+	op_1483 = 4450,
+	op_1484 = 4453,
+	op_1485 = 4456,
+	op_1486 = 4459,
+	op_1487 = 4462,
+	op_1488 = 4465,
+	op_1489 = 4468,
+	op_1490 = 4471,
+	op_1491 = 4474,
+	op_1492 = 4477,
+	op_1493 = 4480,
+	op_1494 = 4483,
+	op_1495 = 4486,
+	op_1496 = 4489,
+	op_1497 = 4492,
+	op_1498 = 4495,
+	op_1499 = 4498,
+	op_1500 = 4501,
+	op_1501 = 4504,
+	op_1502 = 4507,
+	op_1503 = 4510,
+	op_1504 = 4513,
+	op_1505 = 4516,
+	op_1506 = 4519,
+	op_1507 = 4522,
+	op_1508 = 4525,
+	op_1509 = 4528,
+	op_1510 = 4531,
+	op_1511 = 4534,
+	op_1512 = 4537,
+	op_1513 = 4540,
+	op_1514 = 4543,
+	op_1515 = 4546,
+	op_1516 = 4549,
+	op_1517 = 4552,
+	op_1518 = 4555,
+	op_1519 = 4558,
+	op_1520 = 4561,
+	op_1521 = 4564,
+	op_1522 = 4567,
+	op_1523 = 4570,
+	op_1524 = 4573,
+	op_1525 = 4576,
+	op_1526 = 4579,
+	op_1527 = 4582,
+	op_1528 = 4585,
+	op_1529 = 4588,
+	op_1530 = 4591,
+	op_1531 = 4594,
+	op_1532 = 4597,
+	op_1533 = 4600,
+	op_1534 = 4603,
+	op_1535 = 4606,
+	op_1536 = 4609,
+	op_1537 = 4612,
+	op_1538 = 4615,
+	op_1539 = 4618,
+	op_1540 = 4621,
+	op_1541 = 4624,
+	op_1542 = 4627,
+	op_1543 = 4630,
+	op_1544 = 4633,
+	op_1545 = 4636,
+	op_1546 = 4639,
+	op_1547 = 4642,
+	op_1548 = 4645,
+	op_1549 = 4648,
+	op_1550 = 4651,
+	op_1551 = 4654,
+	op_1552 = 4657,
+	op_1553 = 4660,
+	op_1554 = 4663,
+	op_1555 = 4666,
+	op_1556 = 4669,
+	op_1557 = 4672,
+	op_1558 = 4675,
+	op_1559 = 4678,
+	op_1560 = 4681,
+	op_1561 = 4684,
+	op_1562 = 4687,
+	op_1563 = 4690,
+	op_1564 = 4693,
+	op_1565 = 4696,
+	op_1566 = 4699,
+	op_1567 = 4702,
+	op_1568 = 4705,
+	op_1569 = 4708,
+	op_1570 = 4711,
+	op_1571 = 4714,
+	op_1572 = 4717,
+	op_1573 = 4720,
+	op_1574 = 4723,
+	op_1575 = 4726,
+	op_1576 = 4729,
+	op_1577 = 4732,
+	op_1578 = 4735,
+	op_1579 = 4738,
+	op_1580 = 4741,
+	op_1581 = 4744,
+	op_1582 = 4747,
+	op_1583 = 4750,
+	op_1584 = 4753,
+	op_1585 = 4756,
+	op_1586 = 4759,
+	op_1587 = 4762,
+	op_1588 = 4765,
+	op_1589 = 4768,
+	op_1590 = 4771,
+	op_1591 = 4774,
+	op_1592 = 4777,
+	op_1593 = 4780,
+	op_1594 = 4783,
+	op_1595 = 4786,
+	op_1596 = 4789,
+	op_1597 = 4792,
+	op_1598 = 4795,
+	op_1599 = 4798,
+	op_1600 = 4801,
+	op_1601 = 4804,
+	op_1602 = 4807,
+	op_1603 = 4810,
+	op_1604 = 4813,
+	op_1605 = 4816,
+	op_1606 = 4819,
+	op_1607 = 4822,
+	op_1608 = 4825,
+	op_1609 = 4828,
+	op_1610 = 4831,
+	op_1611 = 4834,
+	op_1612 = 4837,
+	op_1613 = 4840,
+	op_1614 = 4843,
+	op_1615 = 4846,
+	op_1616 = 4849,
+	op_1617 = 4852,
+	op_1618 = 4855,
+	op_1619 = 4858,
+	op_1620 = 4861,
+	op_1621 = 4864,
+	op_1622 = 4867,
+	op_1623 = 4870,
+	op_1624 = 4873,
+	op_1625 = 4876,
+	op_1626 = 4879,
+	op_1627 = 4882,
+	op_1628 = 4885,
+	op_1629 = 4888,
+	op_1630 = 4891,
+	op_1631 = 4894,
+	op_1632 = 4897,
+	op_1633 = 4900,
+	op_1634 = 4903,
+	op_1635 = 4906,
+	op_1636 = 4909,
+	op_1637 = 4912,
+	op_1638 = 4915,
+	op_1639 = 4918,
+	op_1640 = 4921,
+	op_1641 = 4924,
+	op_1642 = 4927,
+	op_1643 = 4930,
+	op_1644 = 4933,
+	op_1645 = 4936,
+	op_1646 = 4939,
+	op_1647 = 4942,
+	op_1648 = 4945,
+	op_1649 = 4948,
+	op_1650 = 4951,
+	op_1651 = 4954,
+	op_1652 = 4957,
+	op_1653 = 4960,
+	op_1654 = 4963,
+	op_1655 = 4966,
+	op_1656 = 4969,
+	op_1657 = 4972,
+	op_1658 = 4975,
+	op_1659 = 4978,
+	op_1660 = 4981,
+	op_1661 = 4984,
+	op_1662 = 4987,
+	op_1663 = 4990,
+	op_1664 = 4993,
+	op_1665 = 4996,
+	op_1666 = 4999,
+	op_1667 = 5002,
+	op_1668 = 5005,
+	op_1669 = 5008,
+	op_1670 = 5011,
+	op_1671 = 5014,
+	op_1672 = 5017,
+	op_1673 = 5020,
+	op_1674 = 5023,
+	op_1675 = 5026,
+	op_1676 = 5029,
+	op_1677 = 5032,
+	op_1678 = 5035,
+	op_1679 = 5038,
+	op_1680 = 5041,
+	op_1681 = 5044,
+	op_1682 = 5047,
+	op_1683 = 5050,
+	op_1684 = 5053,
+	op_1685 = 5056,
+	op_1686 = 5059,
+	op_1687 = 5062,
+	op_1688 = 5065,
+	op_1689 = 5068,
+	op_1690 = 5071,
+	op_1691 = 5074,
+	op_1692 = 5077,
+	op_1693 = 5080,
+	op_1694 = 5083,
+	op_1695 = 5086,
+	op_1696 = 5089,
+	op_1697 = 5092,
+	op_1698 = 5095,
+	op_1699 = 5098,
+	op_1700 = 5101,
+	op_1701 = 5104,
+	op_1702 = 5107,
+	op_1703 = 5110,
+	op_1704 = 5113,
+	op_1705 = 5116,
+	op_1706 = 5119,
+	op_1707 = 5122,
+	op_1708 = 5125,
+	op_1709 = 5128,
+	op_1710 = 5131,
+	op_1711 = 5134,
+	op_1712 = 5137,
+	op_1713 = 5140,
+	op_1714 = 5143,
+	op_1715 = 5146,
+	op_1716 = 5149,
+	op_1717 = 5152,
+	op_1718 = 5155,
+	op_1719 = 5158,
+	op_1720 = 5161,
+	op_1721 = 5164,
+	op_1722 = 5167,
+	op_1723 = 5170,
+	op_1724 = 5173,
+	op_1725 = 5176,
+	op_1726 = 5179,
+	op_1727 = 5182,
+	op_1728 = 5185,
+	op_1729 = 5188,
+	op_1730 = 5191,
+	op_1731 = 5194,
+	op_1732 = 5197,
+	op_1733 = 5200,
+	op_1734 = 5203,
+	op_1735 = 5206,
+	op_1736 = 5209,
+	op_1737 = 5212,
+	op_1738 = 5215,
+	op_1739 = 5218,
+	op_1740 = 5221,
+	op_1741 = 5224,
+	op_1742 = 5227,
+	op_1743 = 5230,
+	op_1744 = 5233,
+	op_1745 = 5236,
+	op_1746 = 5239,
+	op_1747 = 5242,
+	op_1748 = 5245,
+	op_1749 = 5248,
+	op_1750 = 5251,
+	op_1751 = 5254,
+	op_1752 = 5257,
+	op_1753 = 5260,
+	op_1754 = 5263,
+	op_1755 = 5266,
+	op_1756 = 5269,
+	op_1757 = 5272,
+	op_1758 = 5275,
+	op_1759 = 5278,
+	op_1760 = 5281,
+	op_1761 = 5284,
+	op_1762 = 5287,
+	op_1763 = 5290,
+	op_1764 = 5293,
+	op_1765 = 5296,
+	op_1766 = 5299,
+	op_1767 = 5302,
+	op_1768 = 5305,
+	op_1769 = 5308,
+	op_1770 = 5311,
+	op_1771 = 5314,
+	op_1772 = 5317,
+	op_1773 = 5320,
+	op_1774 = 5323,
+	op_1775 = 5326,
+	op_1776 = 5329,
+	op_1777 = 5332,
+	op_1778 = 5335,
+	op_1779 = 5338,
+	op_1780 = 5341,
+	op_1781 = 5344,
+	op_1782 = 5347,
+	op_1783 = 5350,
+	op_1784 = 5353,
+	op_1785 = 5356,
+	op_1786 = 5359,
+	op_1787 = 5362,
+	op_1788 = 5365,
+	op_1789 = 5368,
+	op_1790 = 5371,
+	op_1791 = 5374,
+	op_1792 = 5377,
+	op_1793 = 5380,
+	op_1794 = 5383,
+	op_1795 = 5386,
+	op_1796 = 5389,
+	op_1797 = 5392,
+	op_1798 = 5395,
+	op_1799 = 5398,
+	op_1800 = 5401,
+	op_1801 = 5404,
+	op_1802 = 5407,
+	op_1803 = 5410,
+	op_1804 = 5413,
+	op_1805 = 5416,
+	op_1806 = 5419,
+	op_1807 = 5422,
+	op_1808 = 5425,
+	op_1809 = 5428,
+	op_1810 = 5431,
+	op_1811 = 5434,
+	op_1812 = 5437,
+	op_1813 = 5440,
+	op_1814 = 5443,
+	op_1815 = 5446,
+	op_1816 = 5449,
+	op_1817 = 5452,
+	op_1818 = 5455,
+	op_1819 = 5458,
+	op_1820 = 5461,
+	op_1821 = 5464,
+	op_1822 = 5467,
+	op_1823 = 5470,
+	op_1824 = 5473,
+	op_1825 = 5476,
+	op_1826 = 5479,
+	op_1827 = 5482,
+	op_1828 = 5485,
+	op_1829 = 5488,
+	op_1830 = 5491,
+	op_1831 = 5494,
+	op_1832 = 5497,
+	op_1833 = 5500,
+	op_1834 = 5503,
+	op_1835 = 5506,
+	op_1836 = 5509,
+	op_1837 = 5512,
+	op_1838 = 5515,
+	op_1839 = 5518,
+	op_1840 = 5521,
+	op_1841 = 5524,
+	op_1842 = 5527,
+	op_1843 = 5530,
+	op_1844 = 5533,
+	op_1845 = 5536,
+	op_1846 = 5539,
+	op_1847 = 5542,
+	op_1848 = 5545,
+	op_1849 = 5548,
+	op_1850 = 5551,
+	op_1851 = 5554,
+	op_1852 = 5557,
+	op_1853 = 5560,
+	op_1854 = 5563,
+	op_1855 = 5566,
+	op_1856 = 5569,
+	op_1857 = 5572,
+	op_1858 = 5575,
+	op_1859 = 5578,
+	op_1860 = 5581,
+	op_1861 = 5584,
+	op_1862 = 5587,
+	op_1863 = 5590,
+	op_1864 = 5593,
+	op_1865 = 5596,
+	op_1866 = 5599,
+	op_1867 = 5602,
+	op_1868 = 5605,
+	op_1869 = 5608,
+	op_1870 = 5611,
+	op_1871 = 5614,
+	op_1872 = 5617,
+	op_1873 = 5620,
+	op_1874 = 5623,
+	op_1875 = 5626,
+	op_1876 = 5629,
+	op_1877 = 5632,
+	op_1878 = 5635,
+	op_1879 = 5638,
+	op_1880 = 5641,
+	op_1881 = 5644,
+	op_1882 = 5647,
+	op_1883 = 5650,
+	op_1884 = 5653,
+	op_1885 = 5656,
+	op_1886 = 5659,
+	op_1887 = 5662,
+	op_1888 = 5665,
+	op_1889 = 5668,
+	op_1890 = 5671,
+	op_1891 = 5674,
+	op_1892 = 5677,
+	op_1893 = 5680,
+	op_1894 = 5683,
+	op_1895 = 5686,
+	op_1896 = 5689,
+	op_1897 = 5692,
+	op_1898 = 5695,
+	op_1899 = 5698,
+	op_1900 = 5701,
+	op_1901 = 5704,
+	op_1902 = 5707,
+	op_1903 = 5710,
+	op_1904 = 5713,
+	op_1905 = 5716,
+	op_1906 = 5719,
+	op_1907 = 5722,
+	op_1908 = 5725,
+	op_1909 = 5728,
+	op_1910 = 5731,
+	op_1911 = 5734,
+	op_1912 = 5737,
+	op_1913 = 5740,
+	op_1914 = 5743,
+	op_1915 = 5746,
+	op_1916 = 5749,
+	op_1917 = 5752,
+	op_1918 = 5755,
+	op_1919 = 5758,
+	op_1920 = 5761,
+	op_1921 = 5764,
+	op_1922 = 5767,
+	op_1923 = 5770,
+	op_1924 = 5773,
+	op_1925 = 5776,
+	op_1926 = 5779,
+	op_1927 = 5782,
+	op_1928 = 5785,
+	op_1929 = 5788,
+	op_1930 = 5791,
+	op_1931 = 5794,
+	op_1932 = 5797,
+	op_1933 = 5800,
+	op_1934 = 5803,
+	op_1935 = 5806,
+	op_1936 = 5809,
+	op_1937 = 5812,
+	op_1938 = 5815,
+	op_1939 = 5818,
+	op_1940 = 5821,
+	op_1941 = 5824,
+	op_1942 = 5827,
+	op_1943 = 5830,
+	op_1944 = 5833,
+	op_1945 = 5836,
+	op_1946 = 5839,
+	op_1947 = 5842,
+	op_1948 = 5845,
+	op_1949 = 5848,
+	op_1950 = 5851,
+	op_1951 = 5854,
+	op_1952 = 5857,
+	op_1953 = 5860,
+	op_1954 = 5863,
+	op_1955 = 5866,
+	op_1956 = 5869,
+	op_1957 = 5872,
+	op_1958 = 5875,
+	op_1959 = 5878,
+	op_1960 = 5881,
+	op_1961 = 5884,
+	op_1962 = 5887,
+	op_1963 = 5890,
+	op_1964 = 5893,
+	op_1965 = 5896,
+	op_1966 = 5899,
+	op_1967 = 5902,
+	op_1968 = 5905,
+	op_1969 = 5908,
+	op_1970 = 5911,
+	op_1971 = 5914,
+	op_1972 = 5917,
+	op_1973 = 5920,
+	op_1974 = 5923,
+	op_1975 = 5926,
+	op_1976 = 5929,
+	op_1977 = 5932,
+	op_1978 = 5935,
+	op_1979 = 5938,
+	op_1980 = 5941,
+	op_1981 = 5944,
+	op_1982 = 5947,
+	op_1983 = 5950,
+	op_1984 = 5953,
+	op_1985 = 5956,
+	op_1986 = 5959,
+	op_1987 = 5962,
+	op_1988 = 5965,
+	op_1989 = 5968,
+	op_1990 = 5971,
+	op_1991 = 5974,
+	op_1992 = 5977,
+	op_1993 = 5980,
+	op_1994 = 5983,
+	op_1995 = 5986,
+	op_1996 = 5989,
+	op_1997 = 5992,
+	op_1998 = 5995,
+	op_1999 = 5998,
+	op_last
+};
+
+namespace diagnostics {
+
+enum class severity : unsigned char { none, note, warning, error, fatal };
+
+enum class message_id : unsigned {
+	msg_0000 = 0x0,
+	msg_0001,
+	msg_0002,
+	msg_0003,
+	msg_0004,
+	msg_0005,
+	msg_0006,
+	msg_0007,
+	msg_0008,
+	msg_0009,
+	msg_0010,
+	msg_0011,
+	msg_0012,
+	msg_0013,
+	msg_0014,
+	msg_0015,
+	msg_0016,
+	msg_0017,
+	msg_0018,
+	msg_0019,
+	msg_0020,
+	msg_0021,
+	msg_0022,
+	msg_0023,
+	msg_0024,
+	msg_0025,
+	msg_0026,
+	msg_0027,
+	msg_0028,
+	msg_0029,
+	msg_0030,
+	msg_0031,
+	msg_0032,
+	msg_0033,
+	msg_0034,
+	msg_0035,
+	msg_0036,
+	msg_0037,
+	msg_0038,
+	msg_0039,
+	msg_0040,
+	msg_0041,
+	msg_0042,
+	msg_0043,
+	msg_0044,
+	msg_0045,
+	msg_0046,
+	msg_0047,
+	msg_0048,
+	msg_0049,
+	msg_0050,
+	msg_0051,
+	msg_0052,
+	msg_0053,
+	msg_0054,
+	msg_0055,
+	msg_0056,
+	msg_0057,
+	msg_0058,
+	msg_0059,
+	msg_0060,
+	msg_0061,
+	msg_0062,
+	msg_0063,
+	msg_0064,
+	msg_0065,
+	msg_0066,
+	msg_0067,
+	msg_0068,
+	msg_0069,
+	msg_0070,
+	msg_0071,
+	msg_0072,
+	msg_0073,
+	msg_0074,
+	msg_0075,
+	msg_0076,
+	msg_0077,
+	msg_0078,
+	msg_0079,
+	msg_0080,
+	msg_0081,
+	msg_0082,
+	msg_0083,
+	msg_0084,
+	msg_0085,
+	msg_0086,
+	msg_0087,
+	msg_0088,
+	msg_0089,
+	msg_0090,
+	msg_0091,
+	msg_0092,
+	msg_0093,
+	msg_0094,
+	msg_0095,
+	msg_0096,
+	msg_0097,
+	msg_0098,
+	msg_0099,
+	msg_0100 = 0x640,
+	msg_0101,
+	msg_0102,
+	msg_0103,
+	msg_0104,
+	msg_0105,
+	msg_0106,
+	msg_0107,
+	msg_0108,
+	msg_0109,
+	msg_0110,
+	msg_0111,
+	msg_0112,
+	msg_0113,
+	msg_0114,
+	msg_0115,
+	msg_0116,
+	msg_0117,
+	msg_0118,
+	msg_0119,
+	msg_0120,
+	msg_0121,
+	msg_0122,
+	msg_0123,
+	msg_0124,
+	msg_0125,
+	msg_0126,
+	msg_0127,
+	msg_0128,
+	msg_0129,
+	msg_0130,
+	msg_0131,
+	msg_0132,
+	msg_0133,
+	msg_0134,
+	msg_0135,
+	msg_0136,
+	msg_0137,
+	msg_0138,
+	msg_0139,
+	msg_0140,
+	msg_0141,
+	msg_0142,
+	msg_0143,
+	msg_0144,
+	msg_0145,
+	msg_0146,
+	msg_0147,
+	msg_0148,
+	msg_0149,
+	msg_0150,
+	msg_0151,
+	msg_0152,
+	msg_0153,
+	msg_0154,
+	msg_0155,
+	msg_0156,
+	msg_0157,
+	msg_0158,
+	msg_0159,
+	msg_0160,
+	msg_0161,
+	msg_0162,
+	msg_0163,
+	msg_0164,
+	msg_0165,
+	msg_0166,
+	msg_0167,
+	msg_0168,
+	msg_0169,
+	msg_0170,
+	msg_0171,
+	msg_0172,
+	msg_0173,
+	msg_0174,
+	msg_0175,
+	msg_0176,
+	msg_0177,
+	msg_0178,
+	msg_0179,
+	msg_0180,
+	msg_0181,
+	msg_0182,
+	msg_0183,
+	msg_0184,
+	msg_0185,
+	msg_0186,
+	msg_0187,
+	msg_0188,
+	msg_0189,
+	msg_0190,
+	msg_0191,
+	msg_0192,
+	msg_0193,
+	msg_0194,
+	msg_0195,
+	msg_0196,
+	msg_0197,
+	msg_0198,
+	msg_0199,
+	msg_0200 = 0xc80,
+	msg_0201,
+	msg_0202,
+	msg_0203,
+	msg_0204,
+	msg_0205,
+	msg_0206,
+	msg_0207,
+	msg_0208,
+	msg_0209,
+	msg_0210,
+	msg_0211,
+	msg_0212,
+	msg_0213,
+	msg_0214,
+	msg_0215,
+	msg_0216,
+	msg_0217,
+	msg_0218,
+	msg_0219,
+	msg_0220,
+	msg_0221,
+	msg_0222,
+	msg_0223,
+	msg_0224,
+	msg_0225,
+	msg_0226,
+	msg_0227,
+	msg_0228,
+	msg_0229,
+	msg_0230,
+	msg_0231,
+	msg_0232,
+	msg_0233,
+	msg_0234,
+	msg_0235,
+	msg_0236,
+	msg_0237,
+	msg_0238,
+	msg_0239,
+	msg_0240,
+	msg_0241,
+	msg_0242,
+	msg_0243,
+	msg_0244,
+	msg_0245,
+	msg_0246,
+	msg_0247,
+	msg_0248,
+	msg_0249,
+	msg_0250,
+	msg_0251,
+	msg_0252,
+	msg_0253,
+	msg_0254,
+	msg_0255,
+	msg_0256,
+	msg_0257,
+	msg_0258,
+	msg_0259,
+	msg_0260,
+	msg_0261,
+	msg_0262,
+	msg_0263,
+	msg_0264,
+	msg_0265,
+	msg_0266,
+	msg_0267,
+	msg_0268,
+	msg_0269,
+	msg_0270,
+	msg_0271,
+	msg_0272,
+	msg_0273,
+	msg_0274,
+	msg_0275,
+	msg_0276,
+	msg_0277,
+	msg_0278,
+	msg_0279,
+	msg_0280,
+	msg_0281,
+	msg_0282,
+	msg_0283,
+	msg_0284,
+	msg_0285,
+	msg_0286,
+	msg_0287,
+	msg_0288,
+	msg_0289,
+	msg_0290,
+	msg_0291,
+	msg_0292,
+	msg_0293,
+	msg_0294,
+	msg_0295,
+	msg_0296,
+	msg_0297,
+	msg_0298,
+	msg_0299,
+	msg_0300 = 0x12c0,
+	msg_0301,
+	msg_0302,
+	msg_0303,
+	msg_0304,
+	msg_0305,
+	msg_0306,
+	msg_0307,
+	msg_0308,
+	msg_0309,
+	msg_0310,
+	msg_0311,
+	msg_0312,
+	msg_0313,
+	msg_0314,
+	msg_0315,
+	msg_0316,
+	msg_0317,
+	msg_0318,
+	msg_0319,
+	msg_0320,
+	msg_0321,
+	msg_0322,
+	msg_0323,
+	msg_0324,
+	msg_0325,
+	msg_0326,
+	msg_0327,
+	msg_0328,
+	msg_0329,
+	msg_0330,
+	msg_0331,
+	msg_0332,
+	msg_0333,
+	msg_0334,
+	msg_0335,
+	msg_0336,
+	msg_0337,
+	msg_0338,
+	msg_0339,
+	msg_0340,
+	msg_0341,
+	msg_0342,
+	msg_0343,
+	msg_0344,
+	msg_0345,
+	msg_0346,
+	msg_0347,
+	msg_0348,
+	msg_0349,
+	msg_0350,
+	msg_0351,
+	msg_0352,
+	msg_0353,
+	msg_0354,
+	msg_0355,
+	msg_0356,
+	msg_0357,
+	msg_0358,
+	msg_0359,
+	msg_0360,
+	msg_0361,
+	msg_0362,
+	msg_0363,
+	msg_0364,
+	msg_0365,
+	msg_0366,
+	msg_0367,
+	msg_0368,
+	msg_0369,
+	msg_0370,
+	msg_0371,
+	msg_0372,
+	msg_0373,
+	msg_0374,
+	msg_0375,
+	msg_0376,
+	msg_0377,
+	msg_0378,
+	msg_0379,
+	msg_0380,
+	msg_0381,
+	msg_0382,
+	msg_0383,
+	msg_0384,
+	msg_0385,
+	msg_0386,
+	msg_0387,
+	msg_0388,
+	msg_0389,
+	msg_0390,
+	msg_0391,
+	msg_0392,
+	msg_0393,
+	msg_0394,
+	msg_0395,
+	msg_0396,
+	msg_0397,
+	msg_0398,
+	msg_0399,
+	msg_0400 = 0x1900,
+	msg_0401,
+	msg_0402,
+	msg_0403,
+	msg_0404,
+	msg_0405,
+	msg_0406,
+	msg_0407,
+	msg_0408,
+	msg_0409,
+	msg_0410,
+	msg_0411,
+	msg_0412,
+	msg_0413,
+	msg_0414,
+	msg_0415,
+	msg_0416,
+	msg_0417,
+	msg_0418,
+	msg_0419,
+	msg_0420,
+	msg_0421,
+	msg_0422,
+	msg_0423,
+	msg_0424,
+	msg_0425,
+	msg_0426,
+	msg_0427,
+	msg_0428,
+	msg_0429,
+	msg_0430,
+	msg_0431,
+	msg_0432,
+	msg_0433,
+	msg_0434,
+	msg_0435,
+	msg_0436,
+	msg_0437,
+	msg_0438,
+	msg_0439,
+	msg_0440,
+	msg_0441,
+	msg_0442,
+	msg_0443,
+	msg_0444,
+	msg_0445,
+	msg_0446,
+	msg_0447,
+	msg_0448,
+	msg_0449,
+	msg_0450,
+	msg_0451,
+	msg_0452,
+	msg_0453,
+	msg_0454,
+	msg_0455,
+	msg_0456,
+	msg_0457,
+	msg_0458,
+	msg_0459,
+	msg_0460,
+	msg_0461,
+	msg_0462,
+	msg_0463,
+	msg_0464,
+	msg_0465,
+	msg_0466,
+	msg_0467,
+	msg_0468,
+	msg_0469,
+	msg_0470,
+	msg_0471,
+	msg_0472,
+	msg_0473,
+	msg_0474,
+	msg_0475,
+	msg_0476,
+	msg_0477,
+	msg_0478,
+	msg_0479,
+	msg_0480,
+	msg_0481,
+	msg_0482,
+	msg_0483,
+	msg_0484,
+	msg_0485,
+	msg_0486,
+	msg_0487,
+	msg_0488,
+	msg_0489,
+	msg_0490,
+	msg_0491,
+	msg_0492,
+	msg_0493,
+	msg_0494,
+	msg_0495,
+	msg_0496,
+	msg_0497,
+	msg_0498,
+	msg_0499,
+	msg_0500 = 0x1f40,
+	msg_0501,
+	msg_0502,
+	msg_0503,
+	msg_0504,
+	msg_0505,
+	msg_0506,
+	msg_0507,
+	msg_0508,
+	msg_0509,
+	msg_0510,
+	msg_0511,
+	msg_0512,
+	msg_0513,
+	msg_0514,
+	msg_0515,
+	msg_0516,
+	msg_0517,
+	msg_0518,
+	msg_0519,
+	msg_0520,
+	msg_0521,
+	msg_0522,
+	msg_0523,
+	msg_0524,
+	msg_0525,
+	msg_0526,
+	msg_0527,
+	msg_0528,
+	msg_0529,
+	msg_0530,
+	msg_0531,
+	msg_0532,
+	msg_0533,
+	msg_0534,
+	msg_0535,
+	msg_0536,
+	msg_0537,
+	msg_0538,
+	msg_0539,
+	msg_0540,
+	msg_0541,
+	msg_0542,
+	msg_0543,
+	msg_0544,
+	msg_0545,
+	msg_0546,
+	msg_0547,
+	msg_0548,
+	msg_0549,
+	msg_0550,
+	msg_0551,
+	msg_0552,
+	msg_0553,
+	msg_0554,
+	msg_0555,
+	msg_0556,
+	msg_0557,
+	msg_0558,
+	msg_0559,
+	msg_0560,
+	msg_0561,
+	msg_0562,
+	msg_0563,
+	msg_0564,
+	msg_0565,
+	msg_0566,
+	msg_0567,
+	msg_0568,
+	msg_0569,
+	msg_0570,
+	msg_0571,
+	msg_0572,
+	msg_0573,
+	msg_0574,
+	msg_0575,
+	msg_0576,
+	msg_0577,
+	msg_0578,
+	msg_0579,
+	msg_0580,
+	msg_0581,
+	msg_0582,
+	msg_0583,
+	msg_0584,
+	msg_0585,
+	msg_0586,
+	msg_0587,
+	msg_0588,
+	msg_0589,
+	msg_0590,
+	msg_0591,
+	msg_0592,
+	msg_0593,
+	msg_0594,
+	msg_0595,
+	msg_0596,
+	msg_0597,
+	msg_0598,
+	msg_0599,
+	msg_0600 = 0x2580,
+	msg_0601,
+	msg_0602,
+	msg_0603,
+	msg_0604,
+	msg_0605,
+	msg_0606,
+	msg_0607,
+	msg_0608,
+	msg_0609,
+	msg_0610,
+	msg_0611,
+	msg_0612,
+	msg_0613,
+	msg_0614,
+	msg_0615,
+	msg_0616,
+	msg_0617,
+	msg_0618,
+	msg_0619,
+	msg_0620,
+	msg_0621,
+	msg_0622,
+	msg_0623,
+	msg_0624,
+	msg_0625,
+	msg_0626,
+	msg_0627,
+	msg_0628,
+	msg_0629,
+	msg_0630,
+	msg_0631,
+	msg_0632,
+	msg_0633,
+	msg_0634,
+	msg_0635,
+	msg_0636,
+	msg_0637,
+	msg_0638,
+	msg_0639,
+	msg_0640,
+	msg_0641,
+	msg_0642,
+	msg_0643,
+	msg_0644,
+	msg_0645,
+	msg_0646,
+	msg_0647,
+	msg_0648,
+	msg_0649,
+	msg_0650,
+	msg_0651,
+	msg_0652,
+	msg_0653,
+	msg_0654,
+	msg_0655,
+	msg_0656,
+	msg_0657,
+	msg_0658,
+	msg_0659,
+	msg_0660,
+	msg_0661,
+	msg_0662,
+	msg_0663,
+	msg_0664,
+	msg_0665,
+	msg_0666,
+	msg_0667,
+	msg_0668,
+	msg_0669,
+	msg_0670,
+	msg_0671,
+	msg_0672,
+	msg_0673,
+	msg_0674,
+	msg_0675,
+	msg_0676,
+	msg_0677,
+	msg_0678,
+	msg_0679,
+	msg_0680,
+	msg_0681,
+	msg_0682,
+	msg_0683,
+	msg_0684,
+	msg_0685,
+	msg_0686,
+	msg_0687,
+	msg_0688,
+	msg_0689,
+	msg_0690,
+	msg_0691,
+	msg_0692,
+	msg_0693,
+	msg_0694,
+	msg_0695,
+	msg_0696,
+	msg_0697,
+	msg_0698,
+	msg_0699,
+	msg_0700 = 0x2bc0,
+	msg_0701,
+	msg_0702,
+	msg_0703,
+	msg_0704,
+	msg_0705,
+	msg_0706,
+	msg_0707,
+	msg_0708,
+	msg_0709,
+	msg_0710,
+	msg_0711,
+	msg_0712,
+	msg_0713,
+	msg_0714,
+	msg_0715,
+	msg_0716,
+	msg_0717,
+	msg_0718,
+	msg_0719,
+	msg_0720,
+	msg_0721,
+	msg_0722,
+	msg_0723,
+	msg_0724,
+	msg_0725,
+	msg_0726,
+	msg_0727,
+	msg_0728,
+	msg_0729,
+	msg_0730,
+	msg_0731,
+	msg_0732,
+	msg_0733,
+	msg_0734,
+	msg_0735,
+	msg_0736,
+	msg_0737,
+	msg_0738,
+	msg_0739,
+	msg_0740,
+	msg_0741,
+	msg_0742,
+	msg_0743,
+	msg_0744,
+	msg_0745,
+	msg_0746,
+	msg_0747,
+	msg_0748,
+	msg_0749,
+	msg_0750,
+	msg_0751,
+	msg_0752,
+	msg_0753,
+	msg_0754,
+	msg_0755,
+	msg_0756,
+	msg_0757,
+	msg_0758,
+	msg_0759,
+	msg_0760,
+	msg_0761,
+	msg_0762,
+	msg_0763,
+	msg_0764,
+	msg_0765,
+	msg_0766,
+	msg_0767,
+	msg_0768,
+	msg_0769,
+	msg_0770,
+	msg_0771,
+	msg_0772,
+	msg_0773,
+	msg_0774,
+	msg_0775,
+	msg_0776,
+	msg_0777,
+	msg_0778,
+	msg_0779,
+	msg_0780,
+	msg_0781,
+	msg_0782,
+	msg_0783,
+	msg_0784,
+	msg_0785,
+	msg_0786,
+	msg_0787,
+	msg_0788,
+	msg_0789,
+	msg_0790,
+	msg_0791,
+	msg_0792,
+	msg_0793,
+	msg_0794,
+	msg_0795,
+	msg_0796,
+	msg_0797,
+	msg_0798,
+	msg_0799,
+	msg_0800 = 0x3200,
+	msg_0801,
+	msg_0802,
+	msg_0803,
+	msg_0804,
+	msg_0805,
+	msg_0806,
+	msg_0807,
+	msg_0808,
+	msg_0809,
+	msg_0810,
+	msg_0811,
+	msg_0812,
+	msg_0813,
+	msg_0814,
+	msg_0815,
+	msg_0816,
+	msg_0817,
+	msg_0818,
+	msg_0819,
+	msg_0820,
+	msg_0821,
+	msg_0822,
+	msg_0823,
+	msg_0824,
+	msg_0825,
+	msg_0826,
+	msg_0827,
+	msg_0828,
+	msg_0829,
+	msg_0830,
+	msg_0831,
+	msg_0832,
+	msg_0833,
+	msg_0834,
+	msg_0835,
+	msg_0836,
+	msg_0837,
+	msg_0838,
+	msg_0839,
+	msg_0840,
+	msg_0841,
+	msg_0842,
+	msg_0843,
+	msg_0844,
+	msg_0845,
+	msg_0846,
+	msg_0847,
+	msg_0848,
+	msg_0849,
+	msg_0850,
+	msg_0851,
+	msg_0852,
+	msg_0853,
+	msg_0854,
+	msg_0855,
+	msg_0856,
+	msg_0857,
+	msg_0858,
+	msg_0859,
+	msg_0860,
+	msg_0861,
+	msg_0862,
+	msg_0863,
+	msg_0864,
+	msg_0865,
+	msg_0866,
+	msg_0867,
+	msg_0868,
+	msg_0869,
+	msg_0870,
+	msg_0871,
+	msg_0872,
+	msg_0873,
+	msg_0874,
+	msg_0875,
+	msg_0876,
+	msg_0877,
+	msg_0878,
+	msg_0879,
+	msg_0880,
+	msg_0881,
+	msg_0882,
+	msg_0883,
+	msg_0884,
+	msg_0885,
+	msg_0886,
+	msg_0887,
+	msg_0888,
+	msg_0889,
+	msg_0890,
+	msg_0891,
+	msg_0892,
+	msg_0893,
+	msg_0894,
+	msg_0895,
+	msg_0896,
+	msg_0897,
+	msg_0898,
+	msg_0899,
+	msg_0900 = 0x3840,
+	msg_0901,
+	msg_0902,
+	msg_0903,
+	msg_0904,
+	msg_0905,
+	msg_0906,
+	msg_0907,
+	msg_0908,
+	msg_0909,
+	msg_0910,
+	msg_0911,
+	msg_0912,
+	msg_0913,
+	msg_0914,
+	msg_0915,
+	msg_0916,
+	msg_0917,
+	msg_0918,
+	msg_0919,
+	msg_0920,
+	msg_0921,
+	msg_0922,
+	msg_0923,
+	msg_0924,
+	msg_0925,
+	msg_0926,
+	msg_0927,
+	msg_0928,
+	msg_0929,
+	msg_0930,
+	msg_0931,
+	msg_0932,
+	msg_0933,
+	msg_0934,
+	msg_0935,
+	msg_0936,
+	msg_0937,
+	msg_0938,
+	msg_0939,
+	msg_0940,
+	msg_0941,
+	msg_0942,
+	msg_0943,
+	msg_0944,
+	msg_0945,
+	msg_0946,
+	msg_0947,
+	msg_0948,
+	msg_0949,
+	msg_0950,
+	msg_0951,
+	msg_0952,
+	msg_0953,
+	msg_0954,
+	msg_0955,
+	msg_0956,
+	msg_0957,
+	msg_0958,
+	msg_0959,
+	msg_0960,
+	msg_0961,
+	msg_0962,
+	msg_0963,
+	msg_0964,
+	msg_0965,
+	msg_0966,
+	msg_0967,
+	msg_0968,
+	msg_0969,
+	msg_0970,
+	msg_0971,
+	msg_0972,
+	msg_0973,
+	msg_0974,
+	msg_0975,
+	msg_0976,
+	msg_0977,
+	msg_0978,
+	msg_0979,
+	msg_0980,
+	msg_0981,
+	msg_0982,
+	msg_0983,
+	msg_0984,
+	msg_0985,
+	msg_0986,
+	msg_0987,
+	msg_0988,
+	msg_0989,
+	msg_0990,
+	msg_0991,
+	msg_0992,
+	msg_0993,
+	msg_0994,
+	msg_0995,
+	msg_0996,
+	msg_0997,
+	msg_0998,
+	msg_0999,
+	msg_1000 = 0x3e80,
+	msg_1001,
+	msg_1002,
+	msg_1003,
+	msg_1004,
+	msg_1005,
+	msg_1006,
+	msg_1007,
+	msg_1008,
+	msg_1009,
+	msg_1010,
+	msg_1011,
+	msg_1012,
+	msg_1013,
+	msg_1014,
+	msg_1015,
+	msg_1016,
+	msg_1017,
+	msg_1018,
+	msg_1019,
+	msg_1020,
+	msg_1021,
+	msg_1022,
+	msg_1023,
+	msg_1024,
+	msg_1025,
+	msg_1026,
+	msg_1027,
+	msg_1028,
+	msg_1029,
+	msg_1030,
+	msg_1031,
+	msg_1032,
+	msg_1033,
+	msg_1034,
+	msg_1035,
+	msg_1036,
+	msg_1037,
+	msg_1038,
+	msg_1039,
+	msg_1040,
+	msg_1041,
+	msg_1042,
+	msg_1043,
+	msg_1044,
+	msg_1045,
+	msg_1046,
+	msg_1047,
+	msg_1048,
+	msg_1049,
+	msg_1050,
+	msg_1051,
+	msg_1052,
+	msg_1053,
+	msg_1054,
+	msg_1055,
+	msg_1056,
+	msg_1057,
+	msg_1058,
+	msg_1059,
+	msg_1060,
+	msg_1061,
+	msg_1062,
+	msg_1063,
+	msg_1064,
+	msg_1065,
+	msg_1066,
+	msg_1067,
+	msg_1068,
+	msg_1069,
+	msg_1070,
+	msg_1071,
+	msg_1072,
+	msg_1073,
+	msg_1074,
+	msg_1075,
+	msg_1076,
+	msg_1077,
+	msg_1078,
+	msg_1079,
+	msg_1080,
+	msg_1081,
+	msg_1082,
+	msg_1083,
+	msg_1084,
+	msg_1085,
+	msg_1086,
+	msg_1087,
+	msg_1088,
+	msg_1089,
+	msg_1090,
+	msg_1091,
+	msg_1092,
+	msg_1093,
+	msg_1094,
+	msg_1095,
+	msg_1096,
+	msg_1097,
+	msg_1098,
+	msg_1099,
+	msg_1100 = 0x44c0,
+	msg_1101,
+	msg_1102,
+	msg_1103,
+	msg_1104,
+	msg_1105,
+	msg_1106,
+	msg_1107,
+	msg_1108,
+	msg_1109,
+	msg_1110,
+	msg_1111,
+	msg_1112,
+	msg_1113,
+	msg_1114,
+	msg_1115,
+	msg_1116,
+	msg_1117,
+	msg_1118,
+	msg_1119,
+	msg_1120,
+	msg_1121,
+	msg_1122,
+	msg_1123,
+	msg_1124,
+	msg_1125,
+	msg_1126,
+	msg_1127,
+	msg_1128,
+	msg_1129,
+	msg_1130,
+	msg_1131,
+	msg_1132,
+	msg_1133,
+	msg_1134,
+	msg_1135,
+	msg_1136,
+	msg_1137,
+	msg_1138,
+	msg_1139,
+	msg_1140,
+	msg_1141,
+	msg_1142,
+	msg_1143,
+	msg_1144,
+	msg_1145,
+	msg_1146,
+	msg_1147,
+	msg_1148,
+	msg_1149,
+	msg_1150,
+	msg_1151,
+	msg_1152,
+	msg_1153,
+	msg_1154,
+	msg_1155,
+	msg_1156,
+	msg_1157,
+	msg_1158,
+	msg_1159,
+	msg_1160,
+	msg_1161,
+	msg_1162,
+	msg_1163,
+	msg_1164,
+	msg_1165,
+	msg_1166,
+	msg_1167,
+	msg_1168,
+	msg_1169,
+	msg_1170,
+	msg_1171,
+	msg_1172,
+	msg_1173,
+	msg_1174,
+	msg_1175,
+	msg_1176,
+	msg_1177,
+	msg_1178,
+	msg_1179,
+	msg_1180,
+	msg_1181,
+	msg_1182,
+	msg_1183,
+	msg_1184,
+	msg_1185,
+	msg_1186,
+	msg_1187,
+	msg_1188,
+	msg_1189,
+	msg_1190,
+	msg_1191,
+	msg_1192,
+	msg_1193,
+	msg_1194,
+	msg_1195,
+	msg_1196,
+	msg_1197,
+	msg_1198,
+	msg_1199,
+	msg_1200 = 0x4b00,
+	msg_1201,
+	msg_1202,
+	msg_1203,
+	msg_1204,
+	msg_1205,
+	msg_1206,
+	msg_1207,
+	msg_1208,
+	msg_1209,
+	msg_1210,
+	msg_1211,
+	msg_1212,
+	msg_1213,
+	msg_1214,
+	msg_1215,
+	msg_1216,
+	msg_1217,
+	msg_1218,
+	msg_1219,
+	msg_1220,
+	msg_1221,
+	msg_1222,
+	msg_1223,
+	msg_1224,
+	msg_1225,
+	msg_1226,
+	msg_1227,
+	msg_1228,
+	msg_1229,
+	msg_1230,
+	msg_1231,
+	msg_1232,
+	msg_1233,
+	msg_1234,
+	msg_1235,
+	msg_1236,
+	msg_1237,
+	msg_1238,
+	msg_1239,
+	msg_1240,
+	msg_1241,
+	msg_1242,
+	msg_1243,
+	msg_1244,
+	msg_1245,
+	msg_1246,
+	msg_1247,
+	msg_1248,
+	msg_1249,
+	msg_1250,
+	msg_1251,
+	msg_1252,
+	msg_1253,
+	msg_1254,
+	msg_1255,
+	msg_1256,
+	msg_1257,
+	msg_1258,
+	msg_1259,
+	msg_1260,
+	msg_1261,
+	msg_1262,
+	msg_1263,
+	msg_1264,
+	msg_1265,
+	msg_1266,
+	msg_1267,
+	msg_1268,
+	msg_1269,
+	msg_1270,
+	msg_1271,
+	msg_1272,
+	msg_1273,
+	msg_1274,
+	msg_1275,
+	msg_1276,
+	msg_1277,
+	msg_1278,
+	msg_1279,
+	msg_1280,
+	msg_1281,
+	msg_1282,
+	msg_1283,
+	msg_1284,
+	msg_1285,
+	msg_1286,
+	msg_1287,
+	msg_1288,
+	msg_1289,
+	msg_1290,
+	msg_1291,
+	msg_1292,
+	msg_1293,
+	msg_1294,
+	msg_1295,
+	msg_1296,
+	msg_1297,
+	msg_1298,
+	msg_1299,
+	msg_1300 = 0x5140,
+	msg_1301,
+	msg_1302,
+	msg_1303,
+	msg_1304,
+	msg_1305,
+	msg_1306,
+	msg_1307,
+	msg_1308,
+	msg_1309,
+	msg_1310,
+	msg_1311,
+	msg_1312,
+	msg_1313,
+	msg_1314,
+	msg_1315,
+	msg_1316,
+	msg_1317,
+	msg_1318,
+	msg_1319,
+	msg_1320,
+	msg_1321,
+	msg_1322,
+	msg_1323,
+	msg_1324,
+	msg_1325,
+	msg_1326,
+	msg_1327,
+	msg_1328,
+	msg_1329,
+	msg_1330,
+	msg_1331,
+	msg_1332,
+	msg_1333,
+	msg_1334,
+	msg_1335,
+	msg_1336,
+	msg_1337,
+	msg_1338,
+	msg_1339,
+	msg_1340,
+	msg_1341,
+	msg_1342,
+	msg_1343,
+	msg_1344,
+	msg_1345,
+	msg_1346,
+	msg_1347,
+	msg_1348,
+	msg_1349,
+	msg_1350,
+	msg_1351,
+	msg_1352,
+	msg_1353,
+	msg_1354,
+	msg_1355,
+	msg_1356,
+	msg_1357,
+	msg_1358,
+	msg_1359,
+	msg_1360,
+	msg_1361,
+	msg_1362,
+	msg_1363,
+	msg_1364,
+	msg_1365,
+	msg_1366,
+	msg_1367,
+	msg_1368,
+	msg_1369,
+	msg_1370,
+	msg_1371,
+	msg_1372,
+	msg_1373,
+	msg_1374,
+	msg_1375,
+	msg_1376,
+	msg_1377,
+	msg_1378,
+	msg_1379,
+	msg_1380,
+	msg_1381,
+	msg_1382,
+	msg_1383,
+	msg_1384,
+	msg_1385,
+	msg_1386,
+	msg_1387,
+	msg_1388,
+	msg_1389,
+	msg_1390,
+	msg_1391,
+	msg_1392,
+	msg_1393,
+	msg_1394,
+	msg_1395,
+	msg_1396,
+	msg_1397,
+	msg_1398,
+	msg_1399,
+	msg_1400 = 0x5780,
+	msg_1401,
+	msg_1402,
+	msg_1403,
+	msg_1404,
+	msg_1405,
+	msg_1406,
+	msg_1407,
+	msg_1408,
+	msg_1409,
+	msg_1410,
+	msg_1411,
+	msg_1412,
+	msg_1413,
+	msg_1414,
+	msg_1415,
+	msg_1416,
+	msg_1417,
+	msg_1418,
+	msg_1419,
+	msg_1420,
+	msg_1421,
+	msg_1422,
+	msg_1423,
+	msg_1424,
+	msg_1425,
+	msg_1426,
+	msg_1427,
+	msg_1428,
+	msg_1429,
+	msg_1430,
+	msg_1431,
+	msg_1432,
+	msg_1433,
+	msg_1434,
+	msg_1435,
+	msg_1436,
+	msg_1437,
+	msg_1438,
+	msg_1439,
+	msg_1440,
+	msg_1441,
+	msg_1442,
+	msg_1443,
+	msg_1444,
+	msg_1445,
+	msg_1446,
+	msg_1447,
+	msg_1448,
+	msg_1449,
+	msg_1450,
+	msg_1451,
+	msg_1452,
+	msg_1453,
+	msg_1454,
+	msg_1455,
+	msg_1456,
+	msg_1457,
+	msg_1458,
+	msg_1459,
+	msg_1460,
+	msg_1461,
+	msg_1462,
+	msg_1463,
+	msg_1464,
+	msg_1465,
+	msg_1466,
+	msg_1467,
+	msg_1468,
+	msg_1469,
+	msg_1470,
+	msg_1471,
+	msg_1472,
+	msg_1473,
+	msg_1474,
+	msg_1475,
+	msg_1476,
+	msg_1477,
+	msg_1478,
+	msg_1479,
+	msg_1480,
+	msg_1481,
+	msg_1482,
+	msg_1483,
+	msg_1484,
+	msg_1485,
+	msg_1486,
+	msg_1487,
+	msg_1488,
+	msg_1489,
+	msg_1490,
+	msg_1491,
+	msg_1492,
+	msg_1493,
+	msg_1494,
+	msg_1495,
+	msg_1496,
+	msg_1497,
+	msg_1498,
+	msg_1499,
+	msg_1500 = 0x5dc0,
+	msg_1501,
+	msg_1502,
+	msg_1503,
+	msg_1504,
+	msg_1505,
+	msg_1506,
+	msg_1507,
+	msg_1508,
+	msg_1509,
+	msg_1510,
+	msg_1511,
+	msg_1512,
+	msg_1513,
+	msg_1514,
+	msg_1515,
+	msg_1516,
+	msg_1517,
+	msg_1518,
+	msg_1519,
+	msg_1520,
+	msg_1521,
+	msg_1522,
+	msg_1523,
+	msg_1524,
+	msg_1525,
+	msg_1526,
+	msg_1527,
+	msg_1528,
+	msg_1529,
+	msg_1530,
+	msg_1531,
+	msg_1532,
+	msg_1533,
+	msg_1534,
+	msg_1535,
+	msg_1536,
+	msg_1537,
+	msg_1538,
+	msg_1539,
+	msg_1540,
+	msg_1541,
+	msg_1542,
+	msg_1543,
+	msg_1544,
+	msg_1545,
+	msg_1546,
+	msg_1547,
+	msg_1548,
+	msg_1549,
+	msg_1550,
+	msg_1551,
+	msg_1552,
+	msg_1553,
+	msg_1554,
+	msg_1555,
+	msg_1556,
+	msg_1557,
+	msg_1558,
+	msg_1559,
+	msg_1560,
+	msg_1561,
+	msg_1562,
+	msg_1563,
+	msg_1564,
+	msg_1565,
+	msg_1566,
+	msg_1567,
+	msg_1568,
+	msg_1569,
+	msg_1570,
+	msg_1571,
+	msg_1572,
+	msg_1573,
+	msg_1574,
+	msg_1575,
+	msg_1576,
+	msg_1577,
+	msg_1578,
+	msg_1579,
+	msg_1580,
+	msg_1581,
+	msg_1582,
+	msg_1583,
+	msg_1584,
+	msg_1585,
+	msg_1586,
+	msg_1587,
+	msg_1588,
+	msg_1589,
+	msg_1590,
+	msg_1591,
+	msg_1592,
+	msg_1593,
+	msg_1594,
+	msg_1595,
+	msg_1596,
+	msg_1597,
+	msg_1598,
+	msg_1599,
+	msg_1600 = 0x6400,
+	msg_1601,
+	msg_1602,
+	msg_1603,
+	msg_1604,
+	msg_1605,
+	msg_1606,
+	msg_1607,
+	msg_1608,
+	msg_1609,
+	msg_1610,
+	msg_1611,
+	msg_1612,
+	msg_1613,
+	msg_1614,
+	msg_1615,
+	msg_1616,
+	msg_1617,
+	msg_1618,
+	msg_1619,
+	msg_1620,
+	msg_1621,
+	msg_1622,
+	msg_1623,
+	msg_1624,
+	msg_1625,
+	msg_1626,
+	msg_1627,
+	msg_1628,
+	msg_1629,
+	msg_1630,
+	msg_1631,
+	msg_1632,
+	msg_1633,
+	msg_1634,
+	msg_1635,
+	msg_1636,
+	msg_1637,
+	msg_1638,
+	msg_1639,
+	msg_1640,
+	msg_1641,
+	msg_1642,
+	msg_1643,
+	msg_1644,
+	msg_1645,
+	msg_1646,
+	msg_1647,
+	msg_1648,
+	msg_1649,
+	msg_1650,
+	msg_1651,
+	msg_1652,
+	msg_1653,
+	msg_1654,
+	msg_1655,
+	msg_1656,
+	msg_1657,
+	msg_1658,
+	msg_1659,
+	msg_1660,
+	msg_1661,
+	msg_1662,
+	msg_1663,
+	msg_1664,
+	msg_1665,
+	msg_1666,
+	msg_1667,
+	msg_1668,
+	msg_1669,
+	msg_1670,
+	msg_1671,
+	msg_1672,
+	msg_1673,
+	msg_1674,
+	msg_1675,
+	msg_1676,
+	msg_1677,
+	msg_1678,
+	msg_1679,
+	msg_1680,
+	msg_1681,
+	msg_1682,
+	msg_1683,
+	msg_1684,
+	msg_1685,
+	msg_1686,
+	msg_1687,
+	msg_1688,
+	msg_1689,
+	msg_1690,
+	msg_1691,
+	msg_1692,
+	msg_1693,
+	msg_1694,
+	msg_1695,
+	msg_1696,
+	msg_1697,
+	msg_1698,
+	msg_1699,
+	msg_1700 = 0x6a40,
+	msg_1701,
+	msg_1702,
+	msg_1703,
+	msg_1704,
+	msg_1705,
+	msg_1706,
+	msg_1707,
+	msg_1708,
+	msg_1709,
+	msg_1710,
+	msg_1711,
+	msg_1712,
+	msg_1713,
+	msg_1714,
+	msg_1715,
+	msg_1716,
+	msg_1717,
+	msg_1718,
+	msg_1719,
+	msg_1720,
+	msg_1721,
+	msg_1722,
+	msg_1723,
+	msg_1724,
+	msg_1725,
+	msg_1726,
+	msg_1727,
+	msg_1728,
+	msg_1729,
+	msg_1730,
+	msg_1731,
+	msg_1732,
+	msg_1733,
+	msg_1734,
+	msg_1735,
+	msg_1736,
+	msg_1737,
+	msg_1738,
+	msg_1739,
+	msg_1740,
+	msg_1741,
+	msg_1742,
+	msg_1743,
+	msg_1744,
+	msg_1745,
+	msg_1746,
+	msg_1747,
+	msg_1748,
+	msg_1749,
+	msg_1750,
+	msg_1751,
+	msg_1752,
+	msg_1753,
+	msg_1754,
+	msg_1755,
+	msg_1756,
+	msg_1757,
+	msg_1758,
+	msg_1759,
+	msg_1760,
+	msg_1761,
+	msg_1762,
+	msg_1763,
+	msg_1764,
+	msg_1765,
+	msg_1766,
+	msg_1767,
+	msg_1768,
+	msg_1769,
+	msg_1770,
+	msg_1771,
+	msg_1772,
+	msg_1773,
+	msg_1774,
+	msg_1775,
+	msg_1776,
+	msg_1777,
+	msg_1778,
+	msg_1779,
+	msg_1780,
+	msg_1781,
+	msg_1782,
+	msg_1783,
+	msg_1784,
+	msg_1785,
+	msg_1786,
+	msg_1787,
+	msg_1788,
+	msg_1789,
+	msg_1790,
+	msg_1791,
+	msg_1792,
+	msg_1793,
+	msg_1794,
+	msg_1795,
+	msg_1796,
+	msg_1797,
+	msg_1798,
+	msg_1799,
+	msg_1800 = 0x7080,
+	msg_1801,
+	msg_1802,
+	msg_1803,
+	msg_1804,
+	msg_1805,
+	msg_1806,
+	msg_1807,
+	msg_1808,
+	msg_1809,
+	msg_1810,
+	msg_1811,
+	msg_1812,
+	msg_1813,
+	msg_1814,
+	msg_1815,
+	msg_1816,
+	msg_1817,
+	msg_1818,
+	msg_1819,
+	msg_1820,
+	msg_1821,
+	msg_1822,
+	msg_1823,
+	msg_1824,
+	msg_1825,
+	msg_1826,
+	msg_1827,
+	msg_1828,
+	msg_1829,
+	msg_1830,
+	msg_1831,
+	msg_1832,
+	msg_1833,
+	msg_1834,
+	msg_1835,
+	msg_1836,
+	msg_1837,
+	msg_1838,
+	msg_1839,
+	msg_1840,
+	msg_1841,
+	msg_1842,
+	msg_1843,
+	msg_1844,
+	msg_1845,
+	msg_1846,
+	msg_1847,
+	msg_1848,
+	msg_1849,
+	msg_1850,
+	msg_1851,
+	msg_1852,
+	msg_1853,
+	msg_1854,
+	msg_1855,
+	msg_1856,
+	msg_1857,
+	msg_1858,
+	msg_1859,
+	msg_1860,
+	msg_1861,
+	msg_1862,
+	msg_1863,
+	msg_1864,
+	msg_1865,
+	msg_1866,
+	msg_1867,
+	msg_1868,
+	msg_1869,
+	msg_1870,
+	msg_1871,
+	msg_1872,
+	msg_1873,
+	msg_1874,
+	msg_1875,
+	msg_1876,
+	msg_1877,
+	msg_1878,
+	msg_1879,
+	msg_1880,
+	msg_1881,
+	msg_1882,
+	msg_1883,
+	msg_1884,
+	msg_1885,
+	msg_1886,
+	msg_1887,
+	msg_1888,
+	msg_1889,
+	msg_1890,
+	msg_1891,
+	msg_1892,
+	msg_1893,
+	msg_1894,
+	msg_1895,
+	msg_1896,
+	msg_1897,
+	msg_1898,
+	msg_1899,
+	msg_1900 = 0x76c0,
+	msg_1901,
+	msg_1902,
+	msg_1903,
+	msg_1904,
+	msg_1905,
+	msg_1906,
+	msg_1907,
+	msg_1908,
+	msg_1909,
+	msg_1910,
+	msg_1911,
+	msg_1912,
+	msg_1913,
+	msg_1914,
+	msg_1915,
+	msg_1916,
+	msg_1917,
+	msg_1918,
+	msg_1919,
+	msg_1920,
+	msg_1921,
+	msg_1922,
+	msg_1923,
+	msg_1924,
+	msg_1925,
+	msg_1926,
+	msg_1927,
+	msg_1928,
+	msg_1929,
+	msg_1930,
+	msg_1931,
+	msg_1932,
+	msg_1933,
+	msg_1934,
+	msg_1935,
+	msg_1936,
+	msg_1937,
+	msg_1938,
+	msg_1939,
+	msg_1940,
+	msg_1941,
+	msg_1942,
+	msg_1943,
+	msg_1944,
+	msg_1945,
+	msg_1946,
+	msg_1947,
+	msg_1948,
+	msg_1949,
+	msg_1950,
+	msg_1951,
+	msg_1952,
+	msg_1953,
+	msg_1954,
+	msg_1955,
+	msg_1956,
+	msg_1957,
+	msg_1958,
+	msg_1959,
+	msg_1960,
+	msg_1961,
+	msg_1962,
+	msg_1963,
+	msg_1964,
+	msg_1965,
+	msg_1966,
+	msg_1967,
+	msg_1968,
+	msg_1969,
+	msg_1970,
+	msg_1971,
+	msg_1972,
+	msg_1973,
+	msg_1974,
+	msg_1975,
+	msg_1976,
+	msg_1977,
+	msg_1978,
+	msg_1979,
+	msg_1980,
+	msg_1981,
+	msg_1982,
+	msg_1983,
+	msg_1984,
+	msg_1985,
+	msg_1986,
+	msg_1987,
+	msg_1988,
+	msg_1989,
+	msg_1990,
+	msg_1991,
+	msg_1992,
+	msg_1993,
+	msg_1994,
+	msg_1995,
+	msg_1996,
+	msg_1997,
+	msg_1998,
+	msg_1999,
+	msg_last
+};
+
+inline severity severity_of(message_id id) {
+	switch (id) {
+	case message_id::msg_0000: return severity::note;
+	case message_id::msg_0010: return severity::warning;
+	case message_id::msg_0020: return severity::error;
+	case message_id::msg_0030: return severity::fatal;
+	case message_id::msg_0040: return severity::note;
+	case message_id::msg_0050: return severity::warning;
+	case message_id::msg_0060: return severity::error;
+	case message_id::msg_0070: return severity::fatal;
+	case message_id::msg_0080: return severity::note;
+	case message_id::msg_0090: return severity::warning;
+	case message_id::msg_0100: return severity::error;
+	case message_id::msg_0110: return severity::fatal;
+	case message_id::msg_0120: return severity::note;
+	case message_id::msg_0130: return severity::warning;
+	case message_id::msg_0140: return severity::error;
+	case message_id::msg_0150: return severity::fatal;
+	case message_id::msg_0160: return severity::note;
+	case message_id::msg_0170: return severity::warning;
+	case message_id::msg_0180: return severity::error;
+	case message_id::msg_0190: return severity::fatal;
+	case message_id::msg_0200: return severity::note;
+	case message_id::msg_0210: return severity::warning;
+	case message_id::msg_0220: return severity::error;
+	case message_id::msg_0230: return severity::fatal;
+	case message_id::msg_0240: return severity::note;
+	case message_id::msg_0250: return severity::warning;
+	case message_id::msg_0260: return severity::error;
+	case message_id::msg_0270: return severity::fatal;
+	case message_id::msg_0280: return severity::note;
+	case message_id::msg_0290: return severity::warning;
+	case message_id::msg_0300: return severity::error;
+	case message_id::msg_0310: return severity::fatal;
+	case message_id::msg_0320: return severity::note;
+	case message_id::msg_0330: return severity::warning;
+	case message_id::msg_0340: return severity::error;
+	case message_id::msg_0350: return severity::fatal;
+	case message_id::msg_0360: return severity::note;
+	case message_id::msg_0370: return severity::warning;
+	case message_id::msg_0380: return severity::error;
+	case message_id::msg_0390: return severity::fatal;
+	case message_id::msg_0400: return severity::note;
+	case message_id::msg_0410: return severity::warning;
+	case message_id::msg_0420: return severity::error;
+	case message_id::msg_0430: return severity::fatal;
+	case message_id::msg_0440: return severity::note;
+	case message_id::msg_0450: return severity::warning;
+	case message_id::msg_0460: return severity::error;
+	case message_id::msg_0470: return severity::fatal;
+	case message_id::msg_0480: return severity::note;
+	case message_id::msg_0490: return severity::warning;
+	case message_id::msg_0500: return severity::error;
+	case message_id::msg_0510: return severity::fatal;
+	case message_id::msg_0520: return severity::note;
+	case message_id::msg_0530: return severity::warning;
+	case message_id::msg_0540: return severity::error;
+	case message_id::msg_0550: return severity::fatal;
+	case message_id::msg_0560: return severity::note;
+	case message_id::msg_0570: return severity::warning;
+	case message_id::msg_0580: return severity::error;
+	case message_id::msg_0590: return severity::fatal;
+	case message_id::msg_0600: return severity::note;
+	case message_id::msg_0610: return severity::warning;
+	case message_id::msg_0620: return severity::error;
+	case message_id::msg_0630: return severity::fatal;
+	case message_id::msg_0640: return severity::note;
+	case message_id::msg_0650: return severity::warning;
+	case message_id::msg_0660: return severity::error;
+	case message_id::msg_0670: return severity::fatal;
+	case message_id::msg_0680: return severity::note;
+	case message_id::msg_0690: return severity::warning;
+	case message_id::msg_0700: return severity::error;
+	case message_id::msg_0710: return severity::fatal;
+	case message_id::msg_0720: return severity::note;
+	case message_id::msg_0730: return severity::warning;
+	case message_id::msg_0740: return severity::error;
+	case message_id::msg_0750: return severity::fatal;
+	case message_id::msg_0760: return severity::note;
+	case message_id::msg_0770: return severity::warning;
+	case message_id::msg_0780: return severity::error;
+	case message_id::msg_0790: return severity::fatal;
+	case message_id::msg_0800: return severity::note;
+	case message_id::msg_0810: return severity::warning;
+	case message_id::msg_0820: return severity::error;
+	case message_id::msg_0830: return severity::fatal;
+	case message_id::msg_0840: return severity::note;
+	case message_id::msg_0850: return severity::warning;
+	case message_id::msg_0860: return severity::error;
+	case message_id::msg_0870: return severity::fatal;
+	case message_id::msg_0880: return severity::note;
+	case message_id::msg_0890: return severity::warning;
+	case message_id::msg_0900: return severity::error;
+	case message_id::msg_0910: return severity::fatal;
+	case message_id::msg_0920: return severity::note;
+	case message_id::msg_0930: return severity::warning;
+	case message_id::msg_0940: return severity::error;
+	case message_id::msg_0950: return severity::fatal;
+	case message_id::msg_0960: return severity::note;
+	case message_id::msg_0970: return severity::warning;
+	case message_id::msg_0980: return severity::error;
+	case message_id::msg_0990: return severity::fatal;
+	case message_id::msg_1000: return severity::note;
+	case message_id::msg_1010: return severity::warning;
+	case message_id::msg_1020: return severity::error;
+	case message_id::msg_1030: return severity::fatal;
+	case message_id::msg_1040: return severity::note;
+	case message_id::msg_1050: return severity::warning;
+	case message_id::msg_1060: return severity::error;
+	case message_id::msg_1070: return severity::fatal;
+	case message_id::msg_1080: return severity::note;
+	case message_id::msg_1090: return severity::warning;
+	case message_id::msg_1100: return severity::error;
+	case message_id::msg_1110: return severity::fatal;
+	case message_id::msg_1120: return severity::note;
+	case message_id::msg_1130: return severity::warning;
+	case message_id::msg_1140: return severity::error;
+	case message_id::msg_1150: return severity::fatal;
+	case message_id::msg_1160: return severity::note;
+	case message_id::msg_1170: return severity::warning;
+	case message_id::msg_1180: return severity::error;
+	case message_id::msg_1190: return severity::fatal;
+	case message_id::msg_1200: return severity::note;
+	case message_id::msg_1210: return severity::warning;
+	case message_id::msg_1220: return severity::error;
+	case message_id::msg_1230: return severity::fatal;
+	case message_id::msg_1240: return severity::note;
+	case message_id::msg_1250: return severity::warning;
+	case message_id::msg_1260: return severity::error;
+	case message_id::msg_1270: return severity::fatal;
+	case message_id::msg_1280: return severity::note;
+	case message_id::msg_1290: return severity::warning;
+	case message_id::msg_1300: return severity::error;
+	case message_id::msg_1310: return severity::fatal;
+	case message_id::msg_1320: return severity::note;
+	case message_id::msg_1330: return severity::warning;
+	case message_id::msg_1340: return severity::error;
+	case message_id::msg_1350: return severity::fatal;
+	case message_id::msg_1360: return severity::note;
+	case message_id::msg_1370: return severity::warning;
+	case message_id::msg_1380: return severity::error;
+	case message_id::msg_1390: return severity::fatal;
+	case message_id::msg_1400: return severity::note;
+	case message_id::msg_1410: return severity::warning;
+	case message_id::msg_1420: return severity::error;
+	case message_id::msg_1430: return severity::fatal;
+	case message_id::msg_1440: return severity::note;
+	case message_id::msg_1450: return severity::warning;
+	case message_id::msg_1460: return severity::error;
+	case message_id::msg_1470: return severity::fatal;
+	case message_id::msg_1480: return severity::note;
+	case message_id::msg_1490: return severity::warning;
+	case message_id::msg_1500: return severity::error;
+	case message_id::msg_1510: return severity::fatal;
+	case message_id::msg_1520: return severity::note;
+	case message_id::msg_1530: return severity::warning;
+	case message_id::msg_1540: return severity::error;
+	case message_id::msg_1550: return severity::fatal;
+	case message_id::msg_1560: return severity::note;
+	case message_id::msg_1570: return severity::warning;
+	case message_id::msg_1580: return severity::error;
+	case message_id::msg_1590: return severity::fatal;
+	case message_id::msg_1600: return severity::note;
+	case message_id::msg_1610: return severity::warning;
+	case message_id::msg_1620: return severity::error;
+	case message_id::msg_1630: return severity::fatal;
+	case message_id::msg_1640: return severity::note;
+	case message_id::msg_1650: return severity::warning;
+	case message_id::msg_1660: return severity::error;
+	case message_id::msg_1670: return severity::fatal;
+	case message_id::msg_1680: return severity::note;
+	case message_id::msg_1690: return severity::warning;
+	case message_id::msg_1700: return severity::error;
+	case message_id::msg_1710: return severity::fatal;
+	case message_id::msg_1720: return severity::note;
+	case message_id::msg_1730: return severity::warning;
+	case message_id::msg_1740: return severity::error;
+	case message_id::msg_1750: return severity::fatal;
+	case message_id::msg_1760: return severity::note;
+	case message_id::msg_1770: return severity::warning;
+	case message_id::msg_1780: return severity::error;
+	case message_id::msg_1790: return severity::fatal;
+	case message_id::msg_1800: return severity::note;
+	case message_id::msg_1810: return severity::warning;
+	case message_id::msg_1820: return severity::error;
+	case message_id::msg_1830: return severity::fatal;
+	case message_id::msg_1840: return severity::note;
+	case message_id::msg_1850: return severity::warning;
+	case message_id::msg_1860: return severity::error;
+	case message_id::msg_1870: return severity::fatal;
+	case message_id::msg_1880: return severity::note;
+	case message_id::msg_1890: return severity::warning;
+	case message_id::msg_1900: return severity::error;
+	case message_id::msg_1910: return severity::fatal;
+	case message_id::msg_1920: return severity::note;
+	case message_id::msg_1930: return severity::warning;
+	case message_id::msg_1940: return severity::error;
+	case message_id::msg_1950: return severity::fatal;
+	case message_id::msg_1960: return severity::note;
+	case message_id::msg_1970: return severity::warning;
+	case message_id::msg_1980: return severity::error;
+	case message_id::msg_1990: return severity::fatal;
+	default: return severity::none;
+	}
+}
+
+} // namespace diagnostics
+
+#endif // BENCHMARK_ENUMS_H
@@ -0,0 +1,722 @@
+/*
+ * Synthetic corpus for the CDT parser benchmarks: macro-heavy header with repetition macros,
+ * X-macros, token pasting and conditional compilation.
+ */
+#ifndef BENCHMARK_MACROS_H
+#define BENCHMARK_MACROS_H
+
+#define PP_CAT(a, b) PP_CAT_I(a, b)
+#define PP_CAT_I(a, b) a##b
+#define PP_STR(x) PP_STR_I(x)
+#define PP_STR_I(x) #x
+#define PP_EXPAND(x) x
+#define PP_REPEAT_0(m, d)
+#define PP_REPEAT_1(m, d) PP_REPEAT_0(m, d) m(0, d)
+#define PP_REPEAT_2(m, d) PP_REPEAT_1(m, d) m(1, d)
+#define PP_REPEAT_3(m, d) PP_REPEAT_2(m, d) m(2, d)
+#define PP_REPEAT_4(m, d) PP_REPEAT_3(m, d) m(3, d)
+#define PP_REPEAT_5(m, d) PP_REPEAT_4(m, d) m(4, d)
+#define PP_REPEAT_6(m, d) PP_REPEAT_5(m, d) m(5, d)
+#define PP_REPEAT_7(m, d) PP_REPEAT_6(m, d) m(6, d)
+#define PP_REPEAT_8(m, d) PP_REPEAT_7(m, d) m(7, d)
+#define PP_REPEAT_9(m, d) PP_REPEAT_8(m, d) m(8, d)
+#define PP_REPEAT_10(m, d) PP_REPEAT_9(m, d) m(9, d)
+#define PP_REPEAT_11(m, d) PP_REPEAT_10(m, d) m(10, d)
+#define PP_REPEAT_12(m, d) PP_REPEAT_11(m, d) m(11, d)
+#define PP_REPEAT_13(m, d) PP_REPEAT_12(m, d) m(12, d)
+#define PP_REPEAT_14(m, d) PP_REPEAT_13(m, d) m(13, d)
+#define PP_REPEAT_15(m, d) PP_REPEAT_14(m, d) m(14, d)
+#define PP_REPEAT_16(m, d) PP_REPEAT_15(m, d) m(15, d)
+#define PP_REPEAT_17(m, d) PP_REPEAT_16(m, d) m(16, d)
+#define PP_REPEAT_18(m, d) PP_REPEAT_17(m, d) m(17, d)
+#define PP_REPEAT_19(m, d) PP_REPEAT_18(m, d) m(18, d)
+#define PP_REPEAT_20(m, d) PP_REPEAT_19(m, d) m(19, d)
+#define PP_REPEAT_21(m, d) PP_REPEAT_20(m, d) m(20, d)
+#define PP_REPEAT_22(m, d) PP_REPEAT_21(m, d) m(21, d)
+#define PP_REPEAT_23(m, d) PP_REPEAT_22(m, d) m(22, d)
+#define PP_REPEAT_24(m, d) PP_REPEAT_23(m, d) m(23, d)
+#define PP_REPEAT_25(m, d) PP_REPEAT_24(m, d) m(24, d)
+#define PP_REPEAT_26(m, d) PP_REPEAT_25(m, d) m(25, d)
+#define PP_REPEAT_27(m, d) PP_REPEAT_26(m, d) m(26, d)
+#define PP_REPEAT_28(m, d) PP_REPEAT_27(m, d) m(27, d)
+#define PP_REPEAT_29(m, d) PP_REPEAT_28(m, d) m(28, d)
+#define PP_REPEAT_30(m, d) PP_REPEAT_29(m, d) m(29, d)
+#define PP_REPEAT_31(m, d) PP_REPEAT_30(m, d) m(30, d)
+#define PP_REPEAT_32(m, d) PP_REPEAT_31(m, d) m(31, d)
+#define PP_REPEAT_33(m, d) PP_REPEAT_32(m, d) m(32, d)
+#define PP_REPEAT_34(m, d) PP_REPEAT_33(m, d) m(33, d)
+#define PP_REPEAT_35(m, d) PP_REPEAT_34(m, d) m(34, d)
+#define PP_REPEAT_36(m, d) PP_REPEAT_35(m, d) m(35, d)
+#define PP_REPEAT_37(m, d) PP_REPEAT_36(m, d) m(36, d)
+#define PP_REPEAT_38(m, d) PP_REPEAT_37(m, d) m(37, d)
+#define PP_REPEAT_39(m, d) PP_REPEAT_38(m, d) m(38, d)
+#define PP_REPEAT_40(m, d) PP_REPEAT_39(m, d) m(39, d)
+#define PP_REPEAT_41(m, d) PP_REPEAT_40(m, d) m(40, d)
+#define PP_REPEAT_42(m, d) PP_REPEAT_41(m, d) m(41, d)
+#define PP_REPEAT_43(m, d) PP_REPEAT_42(m, d) m(42, d)
+#define PP_REPEAT_44(m, d) PP_REPEAT_43(m, d) m(43, d)
+#define PP_REPEAT_45(m, d) PP_REPEAT_44(m, d) m(44, d)
+#define PP_REPEAT_46(m, d) PP_REPEAT_45(m, d) m(45, d)
+#define PP_REPEAT_47(m, d) PP_REPEAT_46(m, d) m(46, d)
+#define PP_REPEAT_48(m, d) PP_REPEAT_47(m, d) m(47, d)
+#define PP_REPEAT_49(m, d) PP_REPEAT_48(m, d) m(48, d)
+#define PP_REPEAT_50(m, d) PP_REPEAT_49(m, d) m(49, d)
+#define PP_REPEAT_51(m, d) PP_REPEAT_50(m, d) m(50, d)
+#define PP_REPEAT_52(m, d) PP_REPEAT_51(m, d) m(51, d)
+#define PP_REPEAT_53(m, d) PP_REPEAT_52(m, d) m(52, d)
+#define PP_REPEAT_54(m, d) PP_REPEAT_53(m, d) m(53, d)
+#define PP_REPEAT_55(m, d) PP_REPEAT_54(m, d) m(54, d)
+#define PP_REPEAT_56(m, d) PP_REPEAT_55(m, d) m(55, d)
+#define PP_REPEAT_57(m, d) PP_REPEAT_56(m, d) m(56, d)
+#define PP_REPEAT_58(m, d) PP_REPEAT_57(m, d) m(57, d)
+#define PP_REPEAT_59(m, d) PP_REPEAT_58(m, d) m(58, d)
+#define PP_REPEAT_60(m, d) PP_REPEAT_59(m, d) m(59, d)
+#define PP_REPEAT_61(m, d) PP_REPEAT_60(m, d) m(60, d)
+#define PP_REPEAT_62(m, d) PP_REPEAT_61(m, d) m(61, d)
+#define PP_REPEAT_63(m, d) PP_REPEAT_62(m, d) m(62, d)
+#define PP_REPEAT_64(m, d) PP_REPEAT_63(m, d) m(63, d)
+#define PP_REPEAT(n, m, d) PP_CAT(PP_REPEAT_, n)(m, d)
+
+#define PP_INC_0 1
+#define PP_INC_1 2
+#define PP_INC_2 3
+#define PP_INC_3 4
+#define PP_INC_4 5
+#define PP_INC_5 6
+#define PP_INC_6 7
+#define PP_INC_7 8
+#define PP_INC_8 9
+#define PP_INC_9 10
+#define PP_INC_10 11
+#define PP_INC_11 12
+#define PP_INC_12 13
+#define PP_INC_13 14
+#define PP_INC_14 15
+#define PP_INC_15 16
+#define PP_INC_16 17
+#define PP_INC_17 18
+#define PP_INC_18 19
+#define PP_INC_19 20
+#define PP_INC_20 21
+#define PP_INC_21 22
+#define PP_INC_22 23
+#define PP_INC_23 24
+#define PP_INC_24 25
+#define PP_INC_25 26
+#define PP_INC_26 27
+#define PP_INC_27 28
+#define PP_INC_28 29
+#define PP_INC_29 30
+#define PP_INC_30 31
+#define PP_INC_31 32
+#define PP_INC_32 33
+#define PP_INC_33 34
+#define PP_INC_34 35
+#define PP_INC_35 36
+#define PP_INC_36 37
+#define PP_INC_37 38
+#define PP_INC_38 39
+#define PP_INC_39 40
+#define PP_INC_40 41
+#define PP_INC_41 42
+#define PP_INC_42 43
+#define PP_INC_43 44
+#define PP_INC_44 45
+#define PP_INC_45 46
+#define PP_INC_46 47
+#define PP_INC_47 48
+#define PP_INC_48 49
+#define PP_INC_49 50
+#define PP_INC_50 51
+#define PP_INC_51 52
+#define PP_INC_52 53
+#define PP_INC_53 54
+#define PP_INC_54 55
+#define PP_INC_55 56
+#define PP_INC_56 57
+#define PP_INC_57 58
+#define PP_INC_58 59
+#define PP_INC_59 60
+#define PP_INC_60 61
+#define PP_INC_61 62
+#define PP_INC_62 63
+#define PP_INC_63 64
+#define PP_INC(n) PP_CAT(PP_INC_, n)
+
+#define DECLARE_FIELD(i, type) type PP_CAT(field_, i);
+#define DECLARE_GETTER(i, type) type PP_CAT(get_, i)() const { return PP_CAT(field_, i); }
+#define DECLARE_SETTER(i, type) void PP_CAT(set_, i)(type v) { PP_CAT(field_, i) = v; }
+#define DECLARE_STRUCT(name, n, type) \
+	struct name { \
+		PP_REPEAT(n, DECLARE_FIELD, type) \
+		PP_REPEAT(n, DECLARE_GETTER, type) \
+		PP_REPEAT(n, DECLARE_SETTER, type) \
+	};
+
+DECLARE_STRUCT(record_0, 8, int)
+DECLARE_STRUCT(record_1, 15, long)
+DECLARE_STRUCT(record_2, 22, double)
+DECLARE_STRUCT(record_3, 29, unsigned)
+DECLARE_STRUCT(record_4, 36, int)
+DECLARE_STRUCT(record_5, 43, long)
+DECLARE_STRUCT(record_6, 50, double)
+DECLARE_STRUCT(record_7, 57, unsigned)
+DECLARE_STRUCT(record_8, 64, int)
+DECLARE_STRUCT(record_9, 14, long)
+DECLARE_STRUCT(record_10, 21, double)
+DECLARE_STRUCT(record_11, 28, unsigned)
+DECLARE_STRUCT(record_12, 35, int)
+DECLARE_STRUCT(record_13, 42, long)
+DECLARE_STRUCT(record_14, 49, double)
+DECLARE_STRUCT(record_15, 56, unsigned)
+DECLARE_STRUCT(record_16, 63, int)
+DECLARE_STRUCT(record_17, 13, long)
+DECLARE_STRUCT(record_18, 20, double)
+DECLARE_STRUCT(record_19, 27, unsigned)
+DECLARE_STRUCT(record_20, 34, int)
+DECLARE_STRUCT(record_21, 41, long)
+DECLARE_STRUCT(record_22, 48, double)
+DECLARE_STRUCT(record_23, 55, unsigned)
+DECLARE_STRUCT(record_24, 62, int)
+DECLARE_STRUCT(record_25, 12, long)
+DECLARE_STRUCT(record_26, 19, double)
+DECLARE_STRUCT(record_27, 26, unsigned)
+DECLARE_STRUCT(record_28, 33, int)
+DECLARE_STRUCT(record_29, 40, long)
+DECLARE_STRUCT(record_30, 47, double)
+DECLARE_STRUCT(record_31, 54, unsigned)
+
+#define COLOR_TABLE(X) \
+	X(red, 0x000000, 0) \
+	X(green, 0x1f3a5b, 1) \
+	X(blue, 0x3e74b6, 2) \
+	X(cyan, 0x5daf11, 3) \
+	X(magenta, 0x7ce96c, 4) \
+	X(yellow, 0x9c23c7, 5) \
+	X(black, 0xbb5e22, 6) \
+	X(white, 0xda987d, 7) \
+	X(orange, 0xf9d2d8, 8) \
+	X(purple, 0x190d33, 9) \
+	X(brown, 0x38478e, 10) \
+	X(gray, 0x5781e9, 11) \
+	X(pink, 0x76bc44, 12) \
+	X(olive, 0x95f69f, 13) \
+	X(navy, 0xb530fa, 14) \
+	X(teal, 0xd46b55, 15)
+
+#define AS_ENUM(name, rgb, idx) color_##name = idx,
+#define AS_STRING(name, rgb, idx) PP_STR(name),
+#define AS_RGB(name, rgb, idx) case color_##name: return rgb;
+#define AS_LOOKUP(name, rgb, idx) if (rgb == value) return color_##name;
+
+enum color { COLOR_TABLE(AS_ENUM) color_count };
+static const char* const color_names[] = { COLOR_TABLE(AS_STRING) };
+inline unsigned color_rgb(color c) {
+	switch (c) {
+	COLOR_TABLE(AS_RGB)
+	default: return 0;
+	}
+}
+inline color color_of(unsigned value) {
+	COLOR_TABLE(AS_LOOKUP)
+	return color_count;
+}
+
+#define CONFIG_LEVEL 3
+#if defined(FEATURE_0) || (CONFIG_LEVEL > 0 && !defined(DISABLE_0))
+#  define HAS_FEATURE_0 1
+#  define FEATURE_0_CALL(x) PP_CAT(feature_0_, x)()
+#elif CONFIG_LEVEL == 0
+#  define HAS_FEATURE_0 0
+#  define FEATURE_0_CALL(x) ((void) 0)
+#else
+#  define HAS_FEATURE_0 0
+#  define FEATURE_0_CALL(x)
+#endif
+#if defined(FEATURE_1) || (CONFIG_LEVEL > 1 && !defined(DISABLE_1))
+#  define HAS_FEATURE_1 1
+#  define FEATURE_1_CALL(x) PP_CAT(feature_1_, x)()
+#elif CONFIG_LEVEL == 1
+#  define HAS_FEATURE_1 0
+#  define FEATURE_1_CALL(x) ((void) 0)
+#else
+#  define HAS_FEATURE_1 0
+#  define FEATURE_1_CALL(x)
+#endif
+#if defined(FEATURE_2) || (CONFIG_LEVEL > 2 && !defined(DISABLE_2))
+#  define HAS_FEATURE_2 1
+#  define FEATURE_2_CALL(x) PP_CAT(feature_2_, x)()
+#elif CONFIG_LEVEL == 2
+#  define HAS_FEATURE_2 0
+#  define FEATURE_2_CALL(x) ((void) 0)
+#else
+#  define HAS_FEATURE_2 0
+#  define FEATURE_2_CALL(x)
+#endif
+#if defined(FEATURE_3) || (CONFIG_LEVEL > 3 && !defined(DISABLE_3))
+#  define HAS_FEATURE_3 1
+#  define FEATURE_3_CALL(x) PP_CAT(feature_3_, x)()
+#elif CONFIG_LEVEL == 3
+#  define HAS_FEATURE_3 0
+#  define FEATURE_3_CALL(x) ((void) 0)
+#else
+#  define HAS_FEATURE_3 0
+#  define FEATURE_3_CALL(x)
+#endif
+#if defined(FEATURE_4) || (CONFIG_LEVEL > 4 && !defined(DISABLE_4))
+#  define HAS_FEATURE_4 1
+#  define FEATURE_4_CALL(x) PP_CAT(feature_4_, x)()
+#elif CONFIG_LEVEL == 0
+#  define HAS_FEATURE_4 0
+#  define FEATURE_4_CALL(x) ((void) 0)
+#else
+#  define HAS_FEATURE_4 0
+#  define FEATURE_4_CALL(x)
+#endif
+#if defined(FEATURE_5) || (CONFIG_LEVEL > 0 && !defined(DISABLE_5))
+#  define HAS_FEATURE_5 1
+#  define FEATURE_5_CALL(x) PP_CAT(feature_5_, x)()
+#elif CONFIG_LEVEL == 1
+#  define HAS_FEATURE_5 0
+#  define FEATURE_5_CALL(x) ((void) 0)
+#else
+#  define HAS_FEATURE_5 0
+#  define FEATURE_5_CALL(x)
+#endif
+#if defined(FEATURE_6) || (CONFIG_LEVEL > 1 && !defined(DISABLE_6))
+#  define HAS_FEATURE_6 1
+#  define FEATURE_6_CALL(x) PP_CAT(feature_6_, x)()
+#elif CONFIG_LEVEL == 2
+#  define HAS_FEATURE_6 0
+#  define FEATURE_6_CALL(x) ((void) 0)
+#else
+#  define HAS_FEATURE_6 0
+#  define FEATURE_6_CALL(x)
+#endif
+#if defined(FEATURE_7) || (CONFIG_LEVEL > 2 && !defined(DISABLE_7))
+#  define HAS_FEATURE_7 1
+#  define FEATURE_7_CALL(x) PP_CAT(feature_7_, x)()
+#elif CONFIG_LEVEL == 3
+#  define HAS_FEATURE_7 0
+#  define FEATURE_7_CALL(x) ((void) 0)
+#else
+#  define HAS_FEATURE_7 0
+#  define FEATURE_7_CALL(x)
+#endif
+#if defined(FEATURE_8) || (CONFIG_LEVEL > 3 && !defined(DISABLE_8))
+#  define HAS_FEATURE_8 1
+#  define FEATURE_8_CALL(x) PP_CAT(feature_8_, x)()
+#elif CONFIG_LEVEL == 0
+#  define HAS_FEATURE_8 0
+#  define FEATURE_8_CALL(x) ((void) 0)
+#else
+#  define HAS_FEATURE_8 0
+#  define FEATURE_8_CALL(x)
+#endif
+#if defined(FEATURE_9) || (CONFIG_LEVEL > 4 && !defined(DISABLE_9))
+#  define HAS_FEATURE_9 1
+#  define FEATURE_9_CALL(x) PP_CAT(feature_9_, x)()
+#elif CONFIG_LEVEL == 1
+#  define HAS_FEATURE_9 0
+#  define FEATURE_9_CALL(x) ((void) 0)
+#else
+#  define HAS_FEATURE_9 0
+#  define FEATURE_9_CALL(x)
+#endif
+#if defined(FEATURE_10) || (CONFIG_LEVEL > 0 && !defined(DISABLE_10))
+#  define HAS_FEATURE_10 1
+#  define FEATURE_10_CALL(x) PP_CAT(feature_10_, x)()
+#elif CONFIG_LEVEL == 2
+#  define HAS_FEATURE_10 0
+#  define FEATURE_10_CALL(x) ((void) 0)
+#else
+#  define HAS_FEATURE_10 0
+#  define FEATURE_10_CALL(x)
+#endif
+#if defined(FEATURE_11) || (CONFIG_LEVEL > 1 && !defined(DISABLE_11))
+#  define HAS_FEATURE_11 1
+#  define FEATURE_11_CALL(x) PP_CAT(feature_11_, x)()
+#elif CONFIG_LEVEL == 3
+#  define HAS_FEATURE_11 0
+#  define FEATURE_11_CALL(x) ((void) 0)
+#else
+#  define HAS_FEATURE_11 0
+#  define FEATURE_11_CALL(x)
+#endif
+#if defined(FEATURE_12) || (CONFIG_LEVEL > 2 && !defined(DISABLE_12))
+#  define HAS_FEATURE_12 1
+#  define FEATURE_12_CALL(x) PP_CAT(feature_12_, x)()
+#elif CONFIG_LEVEL == 0
+#  define HAS_FEATURE_12 0
+#  define FEATURE_12_CALL(x) ((void) 0)
+#else
+#  define HAS_FEATURE_12 0
+#  define FEATURE_12_CALL(x)
+#endif
+#if defined(FEATURE_13) || (CONFIG_LEVEL > 3 && !defined(DISABLE_13))
+#  define HAS_FEATURE_13 1
+#  define FEATURE_13_CALL(x) PP_CAT(feature_13_, x)()
+#elif CONFIG_LEVEL == 1
+#  define HAS_FEATURE_13 0
+#  define FEATURE_13_CALL(x) ((void) 0)
+#else
+#  define HAS_FEATURE_13 0
+#  define FEATURE_13_CALL(x)
+#endif
+#if defined(FEATURE_14) || (CONFIG_LEVEL > 4 && !defined(DISABLE_14))
+#  define HAS_FEATURE_14 1
+#  define FEATURE_14_CALL(x) PP_CAT(feature_14_, x)()
+#elif CONFIG_LEVEL == 2
+#  define HAS_FEATURE_14 0
+#  define FEATURE_14_CALL(x) ((void) 0)
+#else
+#  define HAS_FEATURE_14 0
+#  define FEATURE_14_CALL(x)
+#endif
+#if defined(FEATURE_15) || (CONFIG_LEVEL > 0 && !defined(DISABLE_15))
+#  define HAS_FEATURE_15 1
+#  define FEATURE_15_CALL(x) PP_CAT(feature_15_, x)()
+#elif CONFIG_LEVEL == 3
+#  define HAS_FEATURE_15 0
+#  define FEATURE_15_CALL(x) ((void) 0)
+#else
+#  define HAS_FEATURE_15 0
+#  define FEATURE_15_CALL(x)
+#endif
+#if defined(FEATURE_16) || (CONFIG_LEVEL > 1 && !defined(DISABLE_16))
+#  define HAS_FEATURE_16 1
+#  define FEATURE_16_CALL(x) PP_CAT(feature_16_, x)()
+#elif CONFIG_LEVEL == 0
+#  define HAS_FEATURE_16 0
+#  define FEATURE_16_CALL(x) ((void) 0)
+#else
+#  define HAS_FEATURE_16 0
+#  define FEATURE_16_CALL(x)
+#endif
+#if defined(FEATURE_17) || (CONFIG_LEVEL > 2 && !defined(DISABLE_17))
+#  define HAS_FEATURE_17 1
+#  define FEATURE_17_CALL(x) PP_CAT(feature_17_, x)()
+#elif CONFIG_LEVEL == 1
+#  define HAS_FEATURE_17 0
+#  define FEATURE_17_CALL(x) ((void) 0)
+#else
+#  define HAS_FEATURE_17 0
+#  define FEATURE_17_CALL(x)
+#endif
+#if defined(FEATURE_18) || (CONFIG_LEVEL > 3 && !defined(DISABLE_18))
+#  define HAS_FEATURE_18 1
+#  define FEATURE_18_CALL(x) PP_CAT(feature_18_, x)()
+#elif CONFIG_LEVEL == 2
+#  define HAS_FEATURE_18 0
+#  define FEATURE_18_CALL(x) ((void) 0)
+#else
+#  define HAS_FEATURE_18 0
+#  define FEATURE_18_CALL(x)
+#endif
+#if defined(FEATURE_19) || (CONFIG_LEVEL > 4 && !defined(DISABLE_19))
+#  define HAS_FEATURE_19 1
+#  define FEATURE_19_CALL(x) PP_CAT(feature_19_, x)()
+#elif CONFIG_LEVEL == 3
+#  define HAS_FEATURE_19 0
+#  define FEATURE_19_CALL(x) ((void) 0)
+#else
+#  define HAS_FEATURE_19 0
+#  define FEATURE_19_CALL(x)
+#endif
+#if defined(FEATURE_20) || (CONFIG_LEVEL > 0 && !defined(DISABLE_20))
+#  define HAS_FEATURE_20 1
+#  define FEATURE_20_CALL(x) PP_CAT(feature_20_, x)()
+#elif CONFIG_LEVEL == 0
+#  define HAS_FEATURE_20 0
+#  define FEATURE_20_CALL(x) ((void) 0)
+#else
+#  define HAS_FEATURE_20 0
+#  define FEATURE_20_CALL(x)
+#endif
+#if defined(FEATURE_21) || (CONFIG_LEVEL > 1 && !defined(DISABLE_21))
+#  define HAS_FEATURE_21 1
+#  define FEATURE_21_CALL(x) PP_CAT(feature_21_, x)()
+#elif CONFIG_LEVEL == 1
+#  define HAS_FEATURE_21 0
+#  define FEATURE_21_CALL(x) ((void) 0)
+#else
+#  define HAS_FEATURE_21 0
+#  define FEATURE_21_CALL(x)
+#endif
+#if defined(FEATURE_22) || (CONFIG_LEVEL > 2 && !defined(DISABLE_22))
+#  define HAS_FEATURE_22 1
+#  define FEATURE_22_CALL(x) PP_CAT(feature_22_, x)()
+#elif CONFIG_LEVEL == 2
+#  define HAS_FEATURE_22 0
+#  define FEATURE_22_CALL(x) ((void) 0)
+#else
+#  define HAS_FEATURE_22 0
+#  define FEATURE_22_CALL(x)
+#endif
+#if defined(FEATURE_23) || (CONFIG_LEVEL > 3 && !defined(DISABLE_23))
+#  define HAS_FEATURE_23 1
+#  define FEATURE_23_CALL(x) PP_CAT(feature_23_, x)()
+#elif CONFIG_LEVEL == 3
+#  define HAS_FEATURE_23 0
+#  define FEATURE_23_CALL(x) ((void) 0)
+#else
+#  define HAS_FEATURE_23 0
+#  define FEATURE_23_CALL(x)
+#endif
+#if defined(FEATURE_24) || (CONFIG_LEVEL > 4 && !defined(DISABLE_24))
+#  define HAS_FEATURE_24 1
+#  define FEATURE_24_CALL(x) PP_CAT(feature_24_, x)()
+#elif CONFIG_LEVEL == 0
+#  define HAS_FEATURE_24 0
+#  define FEATURE_24_CALL(x) ((void) 0)
+#else
+#  define HAS_FEATURE_24 0
+#  define FEATURE_24_CALL(x)
+#endif
+#if defined(FEATURE_25) || (CONFIG_LEVEL > 0 && !defined(DISABLE_25))
+#  define HAS_FEATURE_25 1
+#  define FEATURE_25_CALL(x) PP_CAT(feature_25_, x)()
+#elif CONFIG_LEVEL == 1
+#  define HAS_FEATURE_25 0
+#  define FEATURE_25_CALL(x) ((void) 0)
+#else
+#  define HAS_FEATURE_25 0
+#  define FEATURE_25_CALL(x)
+#endif
+#if defined(FEATURE_26) || (CONFIG_LEVEL > 1 && !defined(DISABLE_26))
+#  define HAS_FEATURE_26 1
+#  define FEATURE_26_CALL(x) PP_CAT(feature_26_, x)()
+#elif CONFIG_LEVEL == 2
+#  define HAS_FEATURE_26 0
+#  define FEATURE_26_CALL(x) ((void) 0)
+#else
+#  define HAS_FEATURE_26 0
+#  define FEATURE_26_CALL(x)
+#endif
+#if defined(FEATURE_27) || (CONFIG_LEVEL > 2 && !defined(DISABLE_27))
+#  define HAS_FEATURE_27 1
+#  define FEATURE_27_CALL(x) PP_CAT(feature_27_, x)()
+#elif CONFIG_LEVEL == 3
+#  define HAS_FEATURE_27 0
+#  define FEATURE_27_CALL(x) ((void) 0)
+#else
+#  define HAS_FEATURE_27 0
+#  define FEATURE_27_CALL(x)
+#endif
+#if defined(FEATURE_28) || (CONFIG_LEVEL > 3 && !defined(DISABLE_28))
+#  define HAS_FEATURE_28 1
+#  define FEATURE_28_CALL(x) PP_CAT(feature_28_, x)()
+#elif CONFIG_LEVEL == 0
+#  define HAS_FEATURE_28 0
+#  define FEATURE_28_CALL(x) ((void) 0)
+#else
+#  define HAS_FEATURE_28 0
+#  define FEATURE_28_CALL(x)
+#endif
+#if defined(FEATURE_29) || (CONFIG_LEVEL > 4 && !defined(DISABLE_29))
+#  define HAS_FEATURE_29 1
+#  define FEATURE_29_CALL(x) PP_CAT(feature_29_, x)()
+#elif CONFIG_LEVEL == 1
+#  define HAS_FEATURE_29 0
+#  define FEATURE_29_CALL(x) ((void) 0)
+#else
+#  define HAS_FEATURE_29 0
+#  define FEATURE_29_CALL(x)
+#endif
+#if defined(FEATURE_30) || (CONFIG_LEVEL > 0 && !defined(DISABLE_30))
+#  define HAS_FEATURE_30 1
+#  define FEATURE_30_CALL(x) PP_CAT(feature_30_, x)()
+#elif CONFIG_LEVEL == 2
+#  define HAS_FEATURE_30 0
+#  define FEATURE_30_CALL(x) ((void) 0)
+#else
+#  define HAS_FEATURE_30 0
+#  define FEATURE_30_CALL(x)
+#endif
+#if defined(FEATURE_31) || (CONFIG_LEVEL > 1 && !defined(DISABLE_31))
+#  define HAS_FEATURE_31 1
+#  define FEATURE_31_CALL(x) PP_CAT(feature_31_, x)()
+#elif CONFIG_LEVEL == 3
+#  define HAS_FEATURE_31 0
+#  define FEATURE_31_CALL(x) ((void) 0)
+#else
+#  define HAS_FEATURE_31 0
+#  define FEATURE_31_CALL(x)
+#endif
+#if defined(FEATURE_32) || (CONFIG_LEVEL > 2 && !defined(DISABLE_32))
+#  define HAS_FEATURE_32 1
+#  define FEATURE_32_CALL(x) PP_CAT(feature_32_, x)()
+#elif CONFIG_LEVEL == 0
+#  define HAS_FEATURE_32 0
+#  define FEATURE_32_CALL(x) ((void) 0)
+#else
+#  define HAS_FEATURE_32 0
+#  define FEATURE_32_CALL(x)
+#endif
+#if defined(FEATURE_33) || (CONFIG_LEVEL > 3 && !defined(DISABLE_33))
+#  define HAS_FEATURE_33 1
+#  define FEATURE_33_CALL(x) PP_CAT(feature_33_, x)()
+#elif CONFIG_LEVEL == 1
+#  define HAS_FEATURE_33 0
+#  define FEATURE_33_CALL(x) ((void) 0)
+#else
+#  define HAS_FEATURE_33 0
+#  define FEATURE_33_CALL(x)
+#endif
+#if defined(FEATURE_34) || (CONFIG_LEVEL > 4 && !defined(DISABLE_34))
+#  define HAS_FEATURE_34 1
+#  define FEATURE_34_CALL(x) PP_CAT(feature_34_, x)()
+#elif CONFIG_LEVEL == 2
+#  define HAS_FEATURE_34 0
+#  define FEATURE_34_CALL(x) ((void) 0)
+#else
+#  define HAS_FEATURE_34 0
+#  define FEATURE_34_CALL(x)
+#endif
+#if defined(FEATURE_35) || (CONFIG_LEVEL > 0 && !defined(DISABLE_35))
+#  define HAS_FEATURE_35 1
+#  define FEATURE_35_CALL(x) PP_CAT(feature_35_, x)()
+#elif CONFIG_LEVEL == 3
+#  define HAS_FEATURE_35 0
+#  define FEATURE_35_CALL(x) ((void) 0)
+#else
+#  define HAS_FEATURE_35 0
+#  define FEATURE_35_CALL(x)
+#endif
+#if defined(FEATURE_36) || (CONFIG_LEVEL > 1 && !defined(DISABLE_36))
+#  define HAS_FEATURE_36 1
+#  define FEATURE_36_CALL(x) PP_CAT(feature_36_, x)()
+#elif CONFIG_LEVEL == 0
+#  define HAS_FEATURE_36 0
+#  define FEATURE_36_CALL(x) ((void) 0)
+#else
+#  define HAS_FEATURE_36 0
+#  define FEATURE_36_CALL(x)
+#endif
+#if defined(FEATURE_37) || (CONFIG_LEVEL > 2 && !defined(DISABLE_37))
+#  define HAS_FEATURE_37 1
+#  define FEATURE_37_CALL(x) PP_CAT(feature_37_, x)()
+#elif CONFIG_LEVEL == 1
+#  define HAS_FEATURE_37 0
+#  define FEATURE_37_CALL(x) ((void) 0)
+#else
+#  define HAS_FEATURE_37 0
+#  define FEATURE_37_CALL(x)
+#endif
+#if defined(FEATURE_38) || (CONFIG_LEVEL > 3 && !defined(DISABLE_38))
+#  define HAS_FEATURE_38 1
+#  define FEATURE_38_CALL(x) PP_CAT(feature_38_, x)()
+#elif CONFIG_LEVEL == 2
+#  define HAS_FEATURE_38 0
+#  define FEATURE_38_CALL(x) ((void) 0)
+#else
+#  define HAS_FEATURE_38 0
+#  define FEATURE_38_CALL(x)
+#endif
+#if defined(FEATURE_39) || (CONFIG_LEVEL > 4 && !defined(DISABLE_39))
+#  define HAS_FEATURE_39 1
+#  define FEATURE_39_CALL(x) PP_CAT(feature_39_, x)()
+#elif CONFIG_LEVEL == 3
+#  define HAS_FEATURE_39 0
+#  define FEATURE_39_CALL(x) ((void) 0)
+#else
+#  define HAS_FEATURE_39 0
+#  define FEATURE_39_CALL(x)
+#endif
+#if defined(FEATURE_40) || (CONFIG_LEVEL > 0 && !defined(DISABLE_40))
+#  define HAS_FEATURE_40 1
+#  define FEATURE_40_CALL(x) PP_CAT(feature_40_, x)()
+#elif CONFIG_LEVEL == 0
+#  define HAS_FEATURE_40 0
+#  define FEATURE_40_CALL(x) ((void) 0)
+#else
+#  define HAS_FEATURE_40 0
+#  define FEATURE_40_CALL(x)
+#endif
+#if defined(FEATURE_41) || (CONFIG_LEVEL > 1 && !defined(DISABLE_41))
+#  define HAS_FEATURE_41 1
+#  define FEATURE_41_CALL(x) PP_CAT(feature_41_, x)()
+#elif CONFIG_LEVEL == 1
+#  define HAS_FEATURE_41 0
+#  define FEATURE_41_CALL(x) ((void) 0)
+#else
+#  define HAS_FEATURE_41 0
+#  define FEATURE_41_CALL(x)
+#endif
+#if defined(FEATURE_42) || (CONFIG_LEVEL > 2 && !defined(DISABLE_42))
+#  define HAS_FEATURE_42 1
+#  define FEATURE_42_CALL(x) PP_CAT(feature_42_, x)()
+#elif CONFIG_LEVEL == 2
+#  define HAS_FEATURE_42 0
+#  define FEATURE_42_CALL(x) ((void) 0)
+#else
+#  define HAS_FEATURE_42 0
+#  define FEATURE_42_CALL(x)
+#endif
+#if defined(FEATURE_43) || (CONFIG_LEVEL > 3 && !defined(DISABLE_43))
+#  define HAS_FEATURE_43 1
+#  define FEATURE_43_CALL(x) PP_CAT(feature_43_, x)()
+#elif CONFIG_LEVEL == 3
+#  define HAS_FEATURE_43 0
+#  define FEATURE_43_CALL(x) ((void) 0)
+#else
+#  define HAS_FEATURE_43 0
+#  define FEATURE_43_CALL(x)
+#endif
+#if defined(FEATURE_44) || (CONFIG_LEVEL > 4 && !defined(DISABLE_44))
+#  define HAS_FEATURE_44 1
+#  define FEATURE_44_CALL(x) PP_CAT(feature_44_, x)()
+#elif CONFIG_LEVEL == 0
+#  define HAS_FEATURE_44 0
+#  define FEATURE_44_CALL(x) ((void) 0)
+#else
+#  define HAS_FEATURE_44 0
+#  define FEATURE_44_CALL(x)
+#endif
+#if defined(FEATURE_45) || (CONFIG_LEVEL > 0 && !defined(DISABLE_45))
+#  define HAS_FEATURE_45 1
+#  define FEATURE_45_CALL(x) PP_CAT(feature_45_, x)()
+#elif CONFIG_LEVEL == 1
+#  define HAS_FEATURE_45 0
+#  define FEATURE_45_CALL(x) ((void) 0)
+#else
+#  define HAS_FEATURE_45 0
+#  define FEATURE_45_CALL(x)
+#endif
+#if defined(FEATURE_46) || (CONFIG_LEVEL > 1 && !defined(DISABLE_46))
+#  define HAS_FEATURE_46 1
+#  define FEATURE_46_CALL(x) PP_CAT(feature_46_, x)()
+#elif CONFIG_LEVEL == 2
+#  define HAS_FEATURE_46 0
+#  define FEATURE_46_CALL(x) ((void) 0)
+#else
+#  define HAS_FEATURE_46 0
+#  define FEATURE_46_CALL(x)
+#endif
+#if defined(FEATURE_47) || (CONFIG_LEVEL > 2 && !defined(DISABLE_47))
+#  define HAS_FEATURE_47 1
+#  define FEATURE_47_CALL(x) PP_CAT(feature_47_, x)()
+#elif CONFIG_LEVEL == 3
+#  define HAS_FEATURE_47 0
+#  define FEATURE_47_CALL(x) ((void) 0)
+#else
+#  define HAS_FEATURE_47 0
+#  define FEATURE_47_CALL(x)
+#endif
+
+#define DECLARE_FEATURE_FUNCTIONS(i, d) void PP_CAT(PP_CAT(feature_, i), _init)(); void PP_CAT(PP_CAT(feature_, i), _run)();
+PP_REPEAT(48, DECLARE_FEATURE_FUNCTIONS, ~)
+
+#define MAX(a, b) ((a) > (b) ? (a) : (b))
+#define MAX3(a, b, c) MAX(MAX(a, b), c)
+#define MAX9(a, b, c, d, e, f, g, h, i) MAX3(MAX3(a, b, c), MAX3(d, e, f), MAX3(g, h, i))
+#define SUM_ELEMENT(i, arr) + arr[i]
+
+inline int nested_max(const int* v) {
+	return MAX9(MAX9(v[0], v[1], v[2], v[3], v[4], v[5], v[6], v[7], v[8]), v[9], v[10], v[11], v[12], v[13], v[14], v[15], v[16]);
+}
+inline int sum64(const int* v) {
+	return 0 PP_REPEAT(64, SUM_ELEMENT, v);
+}
+
+#endif // BENCHMARK_MACROS_H
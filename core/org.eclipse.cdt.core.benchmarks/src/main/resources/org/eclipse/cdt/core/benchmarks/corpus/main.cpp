@@ -0,0 +1,51 @@
+/*
+ * Synthetic corpus for the CDT parser benchmarks: translation unit using all headers.
+ */
+#include "templates.h"
+#include "macros.h"
+#include "enums.h"
+
+namespace bench {
+
+using meta::type_list;
+
+typedef meta::repeat<24, int>::type ints;
+typedef meta::reverse<type_list<char, short, int, long, float, double, bool, unsigned>>::type reversed;
+typedef meta::nest<const char, 16>::type deep_pointer;
+
+static_assert(meta::fib<40>::value == 102334155ULL, "fib");
+static_assert(meta::is_prime<97>::value, "prime");
+static_assert(meta::size<ints>::value == 24, "size");
+static_assert(meta::is_same<meta::at<7, reversed>::type, char>::value, "at");
+
+struct point : meta::comparable<point> {
+	int x, y;
+	bool operator==(const point& o) const { return x == o.x && y == o.y; }
+	bool operator<(const point& o) const { return x < o.x || (x == o.x && y < o.y); }
+};
+
+template<typename T>
+struct visitor : meta::mixin<visitor<T>, record_3> {
+	T state;
+	template<typename U> void visit(U&& u) { state += meta::select(u); }
+};
+
+int compute(const int* values) {
+	meta::tuple<int, long, double, point, record_0, record_1, record_2> t;
+	meta::get<0>(t) = nested_max(values);
+	meta::get<1>(t) = sum64(values);
+	visitor<long> v;
+	v.visit(meta::get<0>(t));
+	v.visit(meta::get<1>(t));
+	FEATURE_3_CALL(run);
+	FEATURE_7_CALL(run);
+	int r = color_rgb(color_of(0x1f3a5b)) + meta::invoke([](int a, int b) { return a + b; }, 1, 2);
+	switch (static_cast<opcode>(r)) {
+	case op_0000: return 0;
+	case op_1999: return 1;
+	default: break;
+	}
+	return diagnostics::severity_of(diagnostics::message_id::msg_1230) == diagnostics::severity::error ? r : -r;
+}
+
+} // namespace bench
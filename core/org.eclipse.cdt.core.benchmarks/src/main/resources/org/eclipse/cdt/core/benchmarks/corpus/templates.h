@@ -0,0 +1,127 @@
+/*
+ * Synthetic corpus for the CDT parser benchmarks: deeply nested and recursive templates.
+ */
+#ifndef BENCHMARK_TEMPLATES_H
+#define BENCHMARK_TEMPLATES_H
+
+namespace meta {
+
+template<typename T, T v>
+struct integral_constant {
+	static constexpr T value = v;
+	typedef T value_type;
+	typedef integral_constant type;
+	constexpr operator value_type() const { return value; }
+};
+
+typedef integral_constant<bool, true> true_type;
+typedef integral_constant<bool, false> false_type;
+
+template<bool B, typename T = void> struct enable_if {};
+template<typename T> struct enable_if<true, T> { typedef T type; };
+
+template<bool B, typename T, typename F> struct conditional { typedef T type; };
+template<typename T, typename F> struct conditional<false, T, F> { typedef F type; };
+
+template<typename T, typename U> struct is_same : false_type {};
+template<typename T> struct is_same<T, T> : true_type {};
+
+template<typename T> struct remove_const { typedef T type; };
+template<typename T> struct remove_const<const T> { typedef T type; };
+template<typename T> struct remove_reference { typedef T type; };
+template<typename T> struct remove_reference<T&> { typedef T type; };
+template<typename T> struct remove_reference<T&&> { typedef T type; };
+template<typename T> struct decay {
+	typedef typename remove_const<typename remove_reference<T>::type>::type type;
+};
+
+template<unsigned N> struct fib {
+	static constexpr unsigned long long value = fib<N - 1>::value + fib<N - 2>::value;
+};
+template<> struct fib<1> { static constexpr unsigned long long value = 1; };
+template<> struct fib<0> { static constexpr unsigned long long value = 0; };
+
+template<unsigned N, unsigned D = N - 1> struct is_prime {
+	static constexpr bool value = (N % D != 0) && is_prime<N, D - 1>::value;
+};
+template<unsigned N> struct is_prime<N, 1> { static constexpr bool value = true; };
+
+template<typename... Ts> struct type_list {};
+
+template<typename List> struct size;
+template<typename... Ts> struct size<type_list<Ts...>> : integral_constant<unsigned, sizeof...(Ts)> {};
+
+template<typename T, typename List> struct push_front;
+template<typename T, typename... Ts> struct push_front<T, type_list<Ts...>> { typedef type_list<T, Ts...> type; };
+
+template<typename List, typename T> struct append;
+template<typename... Ts, typename T> struct append<type_list<Ts...>, T> { typedef type_list<Ts..., T> type; };
+
+template<typename List> struct reverse;
+template<> struct reverse<type_list<>> { typedef type_list<> type; };
+template<typename T, typename... Ts> struct reverse<type_list<T, Ts...>> {
+	typedef typename reverse<type_list<Ts...>>::type rest;
+	typedef typename append<rest, T>::type type;
+};
+
+template<unsigned I, typename List> struct at;
+template<typename T, typename... Ts> struct at<0, type_list<T, Ts...>> { typedef T type; };
+template<unsigned I, typename T, typename... Ts> struct at<I, type_list<T, Ts...>> {
+	typedef typename at<I - 1, type_list<Ts...>>::type type;
+};
+
+template<unsigned N, typename T> struct repeat {
+	typedef typename push_front<T, typename repeat<N - 1, T>::type>::type type;
+};
+template<typename T> struct repeat<0, T> { typedef type_list<> type; };
+
+template<typename T, unsigned Depth> struct nest {
+	typedef typename nest<T*, Depth - 1>::type type;
+};
+template<typename T> struct nest<T, 0> { typedef T type; };
+
+template<unsigned I, typename T> struct tuple_leaf {
+	T value;
+	T& get() { return value; }
+};
+
+template<typename Indices, typename... Ts> struct tuple_impl;
+template<unsigned... Is> struct index_sequence {};
+
+template<unsigned N, unsigned... Is> struct make_index_sequence : make_index_sequence<N - 1, N - 1, Is...> {};
+template<unsigned... Is> struct make_index_sequence<0, Is...> { typedef index_sequence<Is...> type; };
+
+template<unsigned... Is, typename... Ts>
+struct tuple_impl<index_sequence<Is...>, Ts...> : tuple_leaf<Is, Ts>... {};
+
+template<typename... Ts>
+struct tuple : tuple_impl<typename make_index_sequence<sizeof...(Ts)>::type, Ts...> {};
+
+template<unsigned I, typename T>
+T& get(tuple_leaf<I, T>& leaf) { return leaf.get(); }
+
+template<typename Derived> struct comparable {
+	bool operator!=(const Derived& other) const { return !(static_cast<const Derived&>(*this) == other); }
+	bool operator>(const Derived& other) const { return other < static_cast<const Derived&>(*this); }
+	bool operator<=(const Derived& other) const { return !(*this > other); }
+	bool operator>=(const Derived& other) const { return !(static_cast<const Derived&>(*this) < other); }
+};
+
+template<typename Derived, typename Base> struct mixin : Base {
+	Derived& self() { return static_cast<Derived&>(*this); }
+};
+
+template<typename T>
+typename enable_if<is_same<typename decay<T>::type, int>::value, int>::type
+select(T&& t) { return t; }
+
+template<typename T>
+typename enable_if<!is_same<typename decay<T>::type, int>::value, long>::type
+select(T&& t) { return 0; }
+
+template<typename F, typename... Args>
+auto invoke(F f, Args... args) -> decltype(f(args...)) { return f(args...); }
+
+} // namespace meta
+
+#endif // BENCHMARK_TEMPLATES_H
@@ -14,14 +14,30 @@
  *******************************************************************************/
 package org.eclipse.cdt.utils.elf;
 
+import java.io.File;
 import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
 
+import org.eclipse.cdt.core.IBinaryParser.IBinaryExecutable;
 import org.eclipse.cdt.core.IBinaryParser.IBinaryFile;
+import org.eclipse.cdt.core.IBinaryParser.IBinaryObject;
+import org.eclipse.cdt.core.IBinaryParser.ISymbol;
 import org.eclipse.cdt.core.model.CModelException;
+import org.eclipse.cdt.utils.Addr2line;
+import org.eclipse.cdt.utils.CPPFilt;
+import org.eclipse.cdt.utils.IGnuToolFactory;
+import org.eclipse.cdt.utils.NM;
+import org.eclipse.cdt.utils.Objdump;
 import org.eclipse.cdt.utils.elf.parser.ElfBinaryExecutable;
 import org.eclipse.cdt.utils.elf.parser.ElfBinaryShared;
 import org.eclipse.cdt.utils.elf.parser.ElfParser;
+import org.eclipse.cdt.utils.elf.parser.GNUElfParser;
+import org.eclipse.cdt.utils.elf.parser.SymbolTableCache;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.Path;
 
@@ -172,4 +188,131 @@ public class ElfParserTest extends TestCase {
 		IBinaryFile binary = elfParser.getBinary(readHints(path), path);
 		assertTrue("Binary should be a library", binary instanceof ElfBinaryShared);
 	}
+
+	public void testSymbolsOfUnchangedBinaryAreShared() throws Exception {
+		IPath path = new Path("resources/elf/unit_test/simple-le64.elf");
+		SymbolTableCache.clear();
+		long[] initial = SymbolTableCache.getStatistics();
+		IBinaryObject first = getBinaryObject(elfParser, path);
+		ISymbol[] expected = first.getSymbols();
+		assertTrue("Binary should have symbols", expected.length > 0);
+		// Not in memory, read from a previous run or stored
+		long[] stats = SymbolTableCache.getStatistics();
+		assertEquals(initial[0], stats[0]);
+		assertEquals(1, stats[1] + stats[2] - initial[1] - initial[2]);
+
+		IBinaryObject second = getBinaryObject(new ElfParser(), path);
+		assertSameSymbols(expected, second);
+		assertEquals(stats[0] + 1, SymbolTableCache.getStatistics()[0]);
+		assertEquals(first.getText(), second.getText());
+		assertEquals(first.getCPU(), second.getCPU());
+		assertEquals(first.getAddressFactory().getClass(), second.getAddressFactory().getClass());
+		ISymbol[] actual = second.getSymbols();
+		assertSame(actual[0], second.getSymbol(actual[0].getAddress()));
+
+		// Reloaded from the state location, without reading the binary for its key
+		SymbolTableCache.clear();
+		stats = SymbolTableCache.getStatistics();
+		assertSameSymbols(expected, getBinaryObject(new ElfParser(), path));
+		long[] reloaded = SymbolTableCache.getStatistics();
+		assertEquals(stats[0], reloaded[0]);
+		assertEquals(stats[1] + 1, reloaded[1]);
+		assertEquals(stats[2], reloaded[2]);
+		assertEquals(stats[3], reloaded[3]);
+	}
+
+	public void testSymbolsOfChangedBinaryAreNotShared() throws Exception {
+		IPath path = new Path("resources/elf/unit_test/simple-le64.elf");
+		ISymbol[] expected = getBinaryObject(elfParser, path).getSymbols();
+
+		File copy = File.createTempFile("symbols", ".elf");
+		try {
+			Files.copy(path.toFile().toPath(), copy.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			// Trailing bytes that are unique to this run do not change the symbols
+			try (FileOutputStream out = new FileOutputStream(copy, true)) {
+				out.write(Long.toString(System.nanoTime()).getBytes(StandardCharsets.US_ASCII));
+			}
+			long[] stats = SymbolTableCache.getStatistics();
+			IPath copyPath = new Path(copy.getAbsolutePath());
+			assertSameSymbols(expected, getBinaryObject(new ElfParser(), copyPath));
+			long[] changed = SymbolTableCache.getStatistics();
+			assertEquals(stats[0], changed[0]);
+			assertEquals(stats[1], changed[1]);
+			assertEquals(stats[2] + 1, changed[2]);
+		} finally {
+			copy.delete();
+		}
+	}
+
+	public void testSymbolsReadWithToolsAreNotShared() throws Exception {
+		IPath path = new Path("resources/elf/unit_test/simple-le64.elf");
+		ElfParser gnuParser = new GNUElfParser() {
+			@Override
+			protected IGnuToolFactory createGNUToolFactory() {
+				// No c++filt and no addr2line
+				return new IGnuToolFactory() {
+					@Override
+					public Addr2line getAddr2line(IPath p) {
+						return null;
+					}
+
+					@Override
+					public CPPFilt getCPPFilt() {
+						return null;
+					}
+
+					@Override
+					public Objdump getObjdump(IPath p) {
+						return null;
+					}
+
+					@Override
+					public NM getNM(IPath p) {
+						return null;
+					}
+				};
+			}
+		};
+		long[] stats = SymbolTableCache.getStatistics();
+		ISymbol[] expected = getBinaryObject(gnuParser, path).getSymbols();
+		assertTrue("Binary should have symbols", expected.length > 0);
+		assertSameSymbols(expected, getBinaryObject(gnuParser, path));
+		assertTrue(Arrays.equals(stats, SymbolTableCache.getStatistics()));
+	}
+
+	public void testSymbolsReadBySubclassAreNotShared() throws Exception {
+		IPath path = new Path("resources/elf/unit_test/simple-le64.elf");
+		ElfParser parser = new ElfParser() {
+			@Override
+			protected IBinaryExecutable createBinaryExecutable(IPath p) throws IOException {
+				return new ElfBinaryExecutable(this, p) {
+					@Override
+					protected void loadSymbols(ElfHelper helper) throws IOException {
+						super.loadSymbols(helper);
+					}
+				};
+			}
+		};
+		long[] stats = SymbolTableCache.getStatistics();
+		ISymbol[] expected = getBinaryObject(parser, path).getSymbols();
+		assertTrue("Binary should have symbols", expected.length > 0);
+		assertSameSymbols(expected, getBinaryObject(parser, path));
+		assertTrue(Arrays.equals(stats, SymbolTableCache.getStatistics()));
+	}
+
+	private IBinaryObject getBinaryObject(ElfParser parser, IPath path) throws IOException {
+		return (IBinaryObject) parser.getBinary(readHints(path), path);
+	}
+
+	private static void assertSameSymbols(ISymbol[] expected, IBinaryObject binary) {
+		ISymbol[] actual = binary.getSymbols();
+		assertEquals(expected.length, actual.length);
+		for (int i = 0; i < expected.length; i++) {
+			assertEquals(expected[i].getName(), actual[i].getName());
+			assertEquals(expected[i].getType(), actual[i].getType());
+			assertEquals(expected[i].getAddress(), actual[i].getAddress());
+			assertEquals(expected[i].getSize(), actual[i].getSize());
+			assertSame(binary, actual[i].getBinaryObject());
+		}
+	}
 }
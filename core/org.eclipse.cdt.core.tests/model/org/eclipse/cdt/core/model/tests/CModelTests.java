@@ -19,13 +19,18 @@ import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.cdt.core.CCProjectNature;
 import org.eclipse.cdt.core.CProjectNature;
+import org.eclipse.cdt.core.IBinaryParser.IBinaryObject;
 import org.eclipse.cdt.core.dom.IPDOMManager;
+import org.eclipse.cdt.core.model.CModelException;
 import org.eclipse.cdt.core.model.CoreModel;
 import org.eclipse.cdt.core.model.ElementChangedEvent;
+import org.eclipse.cdt.core.model.IBinary;
 import org.eclipse.cdt.core.model.IBinaryContainer;
 import org.eclipse.cdt.core.model.ICContainer;
 import org.eclipse.cdt.core.model.ICElement;
@@ -716,4 +721,71 @@ public class CModelTests extends TestCase {
 		}
 	}
 
+	public void testBinariesFoundAgainAfterClose() throws Exception {
+		ICProject testProject;
+		testProject = CProjectHelper.createCProject("binariesAfterClose", "none", IPDOMManager.ID_NO_INDEXER);
+		if (testProject == null) {
+			fail("Unable to create project");
+		}
+		CProjectHelper.addDefaultBinaryParser(testProject.getProject());
+
+		// import with folder structure
+		importSourcesFromPlugin(testProject, CTestPlugin.getDefault().getBundle(), "resources/exe/x86");
+		IBinary[] binaries = testProject.getBinaryContainer().getBinaries();
+		assertEquals(2, binaries.length);
+
+		// The unchanged binaries are found again from their modification stamps, with new
+		// binary objects, since only their classification is kept
+		testProject.close();
+		Map<IResource, IBinaryObject> classified = getBinaryObjects(testProject);
+		assertEquals(2, classified.size());
+		testProject.close();
+		Map<IResource, IBinaryObject> found = getBinaryObjects(testProject);
+		assertEquals(classified.keySet(), found.keySet());
+		for (IResource binary : classified.keySet()) {
+			assertSameBinary(classified.get(binary), found.get(binary));
+		}
+
+		// The changed binary is classified again
+		IResource changed = binaries[0].getResource();
+		IResource unchanged = binaries[1].getResource();
+		changed.touch(monitor);
+		testProject.close();
+		Map<IResource, IBinaryObject> reclassified = getBinaryObjects(testProject);
+		assertEquals(2, reclassified.size());
+		assertSameBinary(classified.get(changed), reclassified.get(changed));
+		assertSameBinary(classified.get(unchanged), reclassified.get(unchanged));
+
+		// The removed binary is not found again
+		workspace.delete(new IResource[] { changed }, false, monitor);
+		testProject.close();
+		binaries = testProject.getBinaryContainer().getBinaries();
+		assertEquals(1, binaries.length);
+		assertSameBinary(classified.get(unchanged), binaries[0].getAdapter(IBinaryObject.class));
+
+		try {
+			testProject.getProject().delete(true, true, monitor);
+		} catch (CoreException e) {
+		}
+	}
+
+	private static void assertSameBinary(IBinaryObject expected, IBinaryObject actual) {
+		assertNotNull(actual);
+		assertEquals(expected.getPath(), actual.getPath());
+		assertEquals(expected.getType(), actual.getType());
+		assertEquals(expected.getBinaryParser().getClass(), actual.getBinaryParser().getClass());
+		assertEquals(expected.getSymbols().length, actual.getSymbols().length);
+	}
+
+	/**
+	 * Returns the binary objects of the binaries of the project, by their resources.
+	 */
+	private static Map<IResource, IBinaryObject> getBinaryObjects(ICProject project) throws CModelException {
+		Map<IResource, IBinaryObject> objects = new HashMap<>();
+		for (IBinary binary : project.getBinaryContainer().getBinaries()) {
+			objects.put(binary.getResource(), binary.getAdapter(IBinaryObject.class));
+		}
+		return objects;
+	}
+
 }
@@ -17,8 +17,12 @@ package org.eclipse.cdt.core.parser.tests.scanner;
 import org.eclipse.cdt.core.parser.IGCCToken;
 import org.eclipse.cdt.core.parser.IProblem;
 import org.eclipse.cdt.core.parser.IToken;
+import org.eclipse.cdt.core.parser.Keywords;
 import org.eclipse.cdt.core.parser.tests.ast2.TestLexerLog;
+import org.eclipse.cdt.core.parser.util.CharArrayIntMap;
 import org.eclipse.cdt.core.testplugin.util.BaseTestCase;
+import org.eclipse.cdt.internal.core.parser.scanner.CharArray;
+import org.eclipse.cdt.internal.core.parser.scanner.LexedFile;
 import org.eclipse.cdt.internal.core.parser.scanner.Lexer;
 import org.eclipse.cdt.internal.core.parser.scanner.Lexer.LexerOptions;
 import org.eclipse.cdt.internal.core.parser.scanner.Token;
@@ -74,6 +78,17 @@ public class LexerTests extends BaseTestCase {
 		fLastEndOffset = 0;
 	}
 
+	private void initReplay(String input) throws Exception {
+		CharArrayIntMap ppKeywords = new CharArrayIntMap(40, -1);
+		Keywords.addKeywordsPreprocessor(ppKeywords);
+		LexedFile lexed = LexedFile.create(new CharArray(input), DEFAULT_OPTIONS, ppKeywords);
+		fLog.clear();
+		fLexer = new Lexer(new CharArray(input), lexed, DEFAULT_OPTIONS, fLog, null);
+		fLog.setInput(input);
+		fLexer.nextToken();
+		fLastEndOffset = 0;
+	}
+
 	private void nextDirective() throws Exception {
 		IToken t = fLexer.nextDirective();
 		assertNotNull(t);
@@ -880,4 +895,39 @@ public class LexerTests extends BaseTestCase {
 		token(IToken.tPOUND);
 		eof();
 	}
+
+	public void testReplayLexedFile() throws Exception {
+		initReplay("#include <a/b.h>\n%:include \"c.h\"\n/**/a<b>\n#define X <y>\n'c\n");
+		token(IToken.tPOUND);
+		id("include");
+		ws();
+		token(Lexer.tSYSTEM_HEADER_NAME, "<a/b.h>");
+		nl();
+		token(IToken.tPOUND, "%:");
+		id("include");
+		ws();
+		token(Lexer.tQUOTE_HEADER_NAME, "\"c.h\"");
+		nl();
+		comment("/**/");
+		id("a");
+		token(IToken.tLT);
+		id("b");
+		token(IToken.tGT);
+		nl();
+		token(IToken.tPOUND);
+		id("define");
+		ws();
+		id("X");
+		ws();
+		token(IToken.tLT);
+		id("y");
+		token(IToken.tGT);
+		nl();
+		problem(IProblem.SCANNER_BAD_CHARACTER, "'c");
+		token(IToken.tCHAR, "'c");
+		nl();
+		eof();
+		// The end of input is replayed repeatedly.
+		eof();
+	}
 }
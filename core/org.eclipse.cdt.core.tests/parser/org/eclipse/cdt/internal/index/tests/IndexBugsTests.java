@@ -2633,4 +2633,103 @@ public class IndexBugsTests extends BaseTestCase {
 		}
 	}
 
+	//	// a.h
+	//	struct A { int f(); };
+
+	//	// s1.cpp
+	//	#include "a.h"
+	//	int s1(A& a) { return a.f(); }
+
+	//	// s2.cpp
+	//	#include "a.h"
+	//	int s2(A& a) { return a.f(); }
+
+	//	// s3.cpp
+	//	#include "a.h"
+	//	int s3(A& a) { return a.f(); }
+	public void testParallelParsing() throws Exception {
+		IndexerPreferences.setParserThreads(2);
+		try {
+			String[] contents = getContentsForTest(4);
+			IFile ah = TestSourceReader.createFile(fCProject.getProject(), "a.h", contents[0]);
+			for (int i = 1; i < contents.length; i++) {
+				TestSourceReader.createFile(fCProject.getProject(), "s" + i + ".cpp", contents[i]);
+			}
+			CCorePlugin.getIndexManager().reindex(fCProject);
+			waitForIndexer();
+			fIndex.acquireReadLock();
+			try {
+				// The header is stored once, although it was parsed by several threads.
+				getIndexFile(ah);
+				IIndexBinding[] bindings = fIndex.findBindings(getPattern("A::f"), true, IndexFilter.ALL, npm());
+				assertEquals(1, bindings.length);
+				assertEquals(3, fIndex.findReferences(bindings[0]).length);
+				for (int i = 1; i < contents.length; i++) {
+					assertEquals(1, fIndex.findBindings(("s" + i).toCharArray(), IndexFilter.ALL, npm()).length);
+				}
+			} finally {
+				fIndex.releaseReadLock();
+			}
+		} finally {
+			IndexerPreferences.setParserThreads(IndexerPreferences.DEFAULT_PARSER_THREADS);
+		}
+	}
+
+	//	// a.h
+	//	struct A { int f(); };
+
+	//	// b.h
+	//	int b(void);
+
+	//	// s1.cpp
+	//	#include "a.h"
+	//	int s1(A& a) { return a.f(); }
+
+	//	// c1.c
+	//	#include "b.h"
+	//	int c1(void) { return b(); }
+
+	//	// s2.cpp
+	//	#include "a.h"
+	//	int s2(A& a) { return a.f(); }
+
+	//	// c2.c
+	//	#include "b.h"
+	//	int c2(void) { return b(); }
+	public void testParallelParsingOfMixedLinkages() throws Exception {
+		IndexerPreferences.setParserThreads(2);
+		try {
+			String[] contents = getContentsForTest(6);
+			IFile ah = TestSourceReader.createFile(fCProject.getProject(), "a.h", contents[0]);
+			IFile bh = TestSourceReader.createFile(fCProject.getProject(), "b.h", contents[1]);
+			TestSourceReader.createFile(fCProject.getProject(), "s1.cpp", contents[2]);
+			TestSourceReader.createFile(fCProject.getProject(), "c1.c", contents[3]);
+			TestSourceReader.createFile(fCProject.getProject(), "s2.cpp", contents[4]);
+			TestSourceReader.createFile(fCProject.getProject(), "c2.c", contents[5]);
+			CCorePlugin.getIndexManager().reindex(fCProject);
+			waitForIndexer();
+			fIndex.acquireReadLock();
+			try {
+				// Each header is stored in the linkage of the files including it, although the parsers
+				// were shared by files of both linkages.
+				IIndexFileLocation ahl = IndexLocationFactory.getWorkspaceIFL(ah);
+				IIndexFileLocation bhl = IndexLocationFactory.getWorkspaceIFL(bh);
+				assertEquals(1, fIndex.getFiles(ILinkage.CPP_LINKAGE_ID, ahl).length);
+				assertEquals(0, fIndex.getFiles(ILinkage.C_LINKAGE_ID, ahl).length);
+				assertEquals(1, fIndex.getFiles(ILinkage.C_LINKAGE_ID, bhl).length);
+				assertEquals(0, fIndex.getFiles(ILinkage.CPP_LINKAGE_ID, bhl).length);
+				IIndexBinding[] bindings = fIndex.findBindings(getPattern("A::f"), true, IndexFilter.ALL, npm());
+				assertEquals(1, bindings.length);
+				assertEquals(2, fIndex.findReferences(bindings[0]).length);
+				bindings = fIndex.findBindings("b".toCharArray(), IndexFilter.ALL, npm());
+				assertEquals(1, bindings.length);
+				assertEquals(ILinkage.C_LINKAGE_ID, bindings[0].getLinkage().getLinkageID());
+				assertEquals(2, fIndex.findReferences(bindings[0]).length);
+			} finally {
+				fIndex.releaseReadLock();
+			}
+		} finally {
+			IndexerPreferences.setParserThreads(IndexerPreferences.DEFAULT_PARSER_THREADS);
+		}
+	}
 }
@@ -22,6 +22,7 @@ import java.util.List;
 import org.eclipse.cdt.core.dom.ast.ASTTypeUtil;
 import org.eclipse.cdt.core.dom.ast.EScopeKind;
 import org.eclipse.cdt.core.dom.ast.IASTName;
+import org.eclipse.cdt.core.dom.ast.IASTTranslationUnit;
 import org.eclipse.cdt.core.dom.ast.IBasicType;
 import org.eclipse.cdt.core.dom.ast.IBasicType.Kind;
 import org.eclipse.cdt.core.dom.ast.IBinding;
@@ -62,15 +63,26 @@ import org.eclipse.cdt.core.dom.ast.cpp.SemanticQueries;
 import org.eclipse.cdt.core.index.IIndex;
 import org.eclipse.cdt.core.index.IIndexBinding;
 import org.eclipse.cdt.core.index.IndexFilter;
+import org.eclipse.cdt.core.index.IndexLocationFactory;
+import org.eclipse.cdt.core.testplugin.util.TestSourceReader;
+import org.eclipse.cdt.internal.core.CCoreInternals;
+import org.eclipse.cdt.internal.core.dom.parser.cpp.CPPASTTranslationUnit;
 import org.eclipse.cdt.internal.core.dom.parser.cpp.CPPBasicType;
 import org.eclipse.cdt.internal.core.dom.parser.cpp.CPPTemplateTypeArgument;
 import org.eclipse.cdt.internal.core.dom.parser.cpp.ClassTypeHelper;
 import org.eclipse.cdt.internal.core.dom.parser.cpp.ClassTypeHelper.MethodKind;
 import org.eclipse.cdt.internal.core.dom.parser.cpp.ICPPUnknownBinding;
 import org.eclipse.cdt.internal.core.dom.parser.cpp.semantics.CPPTemplates;
+import org.eclipse.cdt.internal.core.dom.parser.cpp.semantics.IndexInstantiationCache;
 import org.eclipse.cdt.internal.core.dom.parser.cpp.semantics.SemanticUtil;
+import org.eclipse.cdt.internal.core.index.IIndexFragmentFile;
 import org.eclipse.cdt.internal.core.index.IIndexScope;
+import org.eclipse.cdt.internal.core.pdom.PDOM;
+import org.eclipse.cdt.internal.core.pdom.WritablePDOM;
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.Path;
 
 import junit.framework.TestSuite;
 
@@ -3251,4 +3263,64 @@ public abstract class IndexCPPTemplateResolutionTest extends IndexBindingResolut
 	public void testRecursion_535548() throws Exception {
 		checkBindings();
 	}
+
+	//	template <typename T>
+	//	T* f(T t);
+
+	//	auto x = f(1);
+	public void testIndexInstantiationCacheIsPerTranslationUnit() throws Exception {
+		ICPPVariable x = getBindingFromFirstIdentifier("x =", ICPPVariable.class);
+		assertEquals("int *", ASTTypeUtil.getType(x.getType()));
+		IndexInstantiationCache cache = ((CPPASTTranslationUnit) strategy.getAst(0)).getIndexInstantiationCache();
+		assertTrue(cache.size() > 0);
+
+		IASTTranslationUnit ast = strategy.getAst(0);
+		IFile file = ResourcesPlugin.getWorkspace().getRoot().getFileForLocation(new Path(ast.getFilePath()));
+		IASTTranslationUnit other = TestSourceReader.createIndexBasedAST(getIndex(), strategy.getCProject(), file);
+		IndexInstantiationCache otherCache = ((CPPASTTranslationUnit) other).getIndexInstantiationCache();
+		assertNotSame(cache, otherCache);
+		assertEquals(0, otherCache.size());
+	}
+
+	//	template <typename T>
+	//	T* f(T t);
+
+	//	auto x = f(1);
+	public void testIndexInstantiationCacheIsKeptOnIndexWrite() throws Exception {
+		ICPPVariable x = getBindingFromFirstIdentifier("x =", ICPPVariable.class);
+		assertEquals("int *", ASTTypeUtil.getType(x.getType()));
+		IndexInstantiationCache cache = ((CPPASTTranslationUnit) strategy.getAst(0)).getIndexInstantiationCache();
+		int size = cache.size();
+		assertTrue(size > 0);
+
+		// Convert the read lock held by the test into a write lock and back.
+		PDOM pdom = (PDOM) CCoreInternals.getPDOMManager().getPDOM(strategy.getCProject());
+		pdom.acquireWriteLock(1, null);
+		pdom.releaseWriteLock(1, true);
+		assertEquals(size, cache.size());
+	}
+
+	//	template <typename T>
+	//	T* f(T t);
+
+	//	auto x = f(1);
+	public void testIndexInstantiationCacheIsDiscardedWhenFileIsCleared() throws Exception {
+		ICPPVariable x = getBindingFromFirstIdentifier("x =", ICPPVariable.class);
+		assertEquals("int *", ASTTypeUtil.getType(x.getType()));
+		IASTTranslationUnit ast = strategy.getAst(0);
+		IndexInstantiationCache cache = ((CPPASTTranslationUnit) ast).getIndexInstantiationCache();
+		assertTrue(cache.size() > 0);
+
+		IFile file = ResourcesPlugin.getWorkspace().getRoot().getFileForLocation(new Path(ast.getFilePath()));
+		WritablePDOM pdom = (WritablePDOM) CCoreInternals.getPDOMManager().getPDOM(strategy.getCProject());
+		pdom.acquireWriteLock(1, null);
+		try {
+			for (IIndexFragmentFile indexFile : pdom.getFiles(IndexLocationFactory.getWorkspaceIFL(file))) {
+				pdom.clearFile(indexFile);
+			}
+		} finally {
+			pdom.releaseWriteLock(1, true);
+		}
+		assertEquals(0, cache.size());
+	}
 }
@@ -19,6 +19,7 @@ import java.util.regex.Pattern;
 import org.eclipse.cdt.core.CCorePlugin;
 import org.eclipse.cdt.core.dom.IPDOMNode;
 import org.eclipse.cdt.core.dom.IPDOMVisitor;
+import org.eclipse.cdt.core.dom.ast.IBinding;
 import org.eclipse.cdt.core.dom.ast.IEnumeration;
 import org.eclipse.cdt.core.dom.ast.IEnumerator;
 import org.eclipse.cdt.core.dom.ast.IFunction;
@@ -32,11 +33,17 @@ import org.eclipse.cdt.core.index.IIndexBinding;
 import org.eclipse.cdt.core.index.IndexFilter;
 import org.eclipse.cdt.core.model.ICProject;
 import org.eclipse.cdt.core.testplugin.CProjectHelper;
+import org.eclipse.cdt.core.testplugin.CTestPlugin;
 import org.eclipse.cdt.core.testplugin.util.BaseTestCase5;
 import org.eclipse.cdt.internal.core.index.CIndex;
+import org.eclipse.cdt.internal.core.index.IIndexFragment;
+import org.eclipse.cdt.internal.core.index.IIndexFragmentBinding;
 import org.eclipse.cdt.internal.core.pdom.PDOM;
 import org.eclipse.cdt.internal.core.pdom.dom.PDOMBinding;
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
 
 import junit.framework.TestSuite;
 
@@ -308,4 +315,45 @@ public class IndexSearchTest extends IndexTestBase {
 			}
 		});
 	}
+
+	public void testFailingFragmentIsSkipped() throws CoreException {
+		final int[] failures = { 0 };
+		IIndexFragment failing = new EmptyIndexFragment() {
+			@Override
+			public IIndexFragmentBinding[] findBindings(char[][] names, IndexFilter filter, IProgressMonitor monitor)
+					throws CoreException {
+				failures[0]++;
+				throw new CoreException(new Status(IStatus.ERROR, CTestPlugin.PLUGIN_ID, "Unreadable fragment"));
+			}
+
+			@Override
+			public IIndexFragmentBinding[] findBindingsForPrefix(char[] prefix, boolean filescope,
+					IndexFilter filter, IProgressMonitor monitor) throws CoreException {
+				failures[0]++;
+				throw new CoreException(new Status(IStatus.ERROR, CTestPlugin.PLUGIN_ID, "Unreadable fragment"));
+			}
+		};
+		IIndexFragment pdom = ((CIndex) fIndex).getFragments()[0];
+		char[] name = "C160913".toCharArray();
+		// The filters of IndexFilter are searched in parallel, others sequentially
+		IndexFilter sequentialFilter = new IndexFilter() {
+			@Override
+			public boolean acceptBinding(IBinding binding) throws CoreException {
+				return INDEX_FILTER.acceptBinding(binding);
+			}
+		};
+		int expected = fIndex.findBindings(new char[][] { name }, INDEX_FILTER, npm()).length;
+		int expectedForPrefix = fIndex.findBindingsForPrefix(name, false, INDEX_FILTER, npm()).length;
+		assertTrue(expected > 0);
+
+		for (IIndexFragment[] fragments : new IIndexFragment[][] { { failing, pdom }, { pdom, failing } }) {
+			IIndex index = new CIndex(fragments);
+			for (IndexFilter filter : new IndexFilter[] { INDEX_FILTER, sequentialFilter }) {
+				assertEquals(expected, index.findBindings(new char[][] { name }, filter, npm()).length);
+				assertEquals(expectedForPrefix, index.findBindingsForPrefix(name, false, filter, npm()).length);
+			}
+		}
+		assertTrue(failures[0] > 0);
+		setExpectedNumberOfLoggedNonOKStatusObjects(failures[0]);
+	}
 }
@@ -120,6 +120,90 @@ public class BTreeTests extends BaseTestCase5 {
 		}
 	}
 
+	/**
+	 * Bulk-load random records, including duplicates, and continue with random insertions and
+	 * deletions on the resulting B-tree.
+	 */
+	@Test
+	public void testBulkLoad() throws Exception {
+		Random random = new Random(4711);
+		int[] sizes = { 0, 1, 2, 3, 4, 5, 7, 8, 9, 100, 1000, 5000 };
+		for (int degree = 2; degree <= 12; degree++) {
+			for (int size : sizes) {
+				init(degree);
+				try {
+					SortedSet<Integer> expected = new TreeSet<>();
+					long[] records = new long[size];
+					for (int i = 0; i < size; i++) {
+						int value = random.nextInt(size * 2 + 1);
+						expected.add(value);
+						records[i] = new BTMockRecord(db, value).getRecord();
+					}
+					btree.bulkLoad(records, size);
+					String msg = "[degree " + degree + ", size " + size + "] ";
+					assertBTreeMatchesSortedSet(msg, btree, expected);
+					assertBTreeInvariantsHold(msg);
+
+					for (int i = 0; i < 200; i++) {
+						int value = random.nextInt(size * 2 + 1);
+						if (random.nextBoolean()) {
+							if (expected.add(value)) {
+								btree.insert(new BTMockRecord(db, value).getRecord());
+							}
+						} else if (expected.remove(value)) {
+							btree.delete(findRecord(value));
+						}
+					}
+					assertBTreeMatchesSortedSet(msg, btree, expected);
+					assertBTreeInvariantsHold(msg);
+				} finally {
+					finish();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Bulk-loading keeps the first of equal records, like inserting the records one by one, and
+	 * falls back to individual inserts on a non-empty B-tree.
+	 */
+	@Test
+	public void testBulkLoadEquivalentRecords() throws Exception {
+		init(4);
+		try {
+			long first = new BTMockRecord(db, 42).getRecord();
+			long second = new BTMockRecord(db, 42).getRecord();
+			btree.bulkLoad(new long[] { first, second }, 2);
+			assertEquals(first, findRecord(42));
+
+			long third = new BTMockRecord(db, 42).getRecord();
+			long other = new BTMockRecord(db, 43).getRecord();
+			btree.bulkLoad(new long[] { third, other }, 2);
+			assertEquals(first, findRecord(42));
+			assertEquals(other, findRecord(43));
+			assertBTreeInvariantsHold("");
+		} finally {
+			finish();
+		}
+	}
+
+	private long findRecord(final int value) throws CoreException {
+		final long[] result = new long[1];
+		btree.accept(new IBTreeVisitor() {
+			@Override
+			public int compare(long record) throws CoreException {
+				return Integer.compare(db.getInt(record), value);
+			}
+
+			@Override
+			public boolean visit(long record) throws CoreException {
+				result[0] = record;
+				return false;
+			}
+		});
+		return result[0];
+	}
+
 	/**
 	 * Insert/Delete a random number of records into/from the B-tree
 	 * @param seed the seed for obtaining the deterministic random testing
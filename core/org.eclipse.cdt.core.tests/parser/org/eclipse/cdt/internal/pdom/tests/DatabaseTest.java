@@ -16,6 +16,7 @@
 package org.eclipse.cdt.internal.pdom.tests;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -48,8 +49,7 @@ public class DatabaseTest extends BaseTestCase5 {
 
 	@BeforeEach
 	protected void beforeEach() throws Exception {
-		db = new Database(getTestDir().append(getName() + System.currentTimeMillis() + ".dat").toFile(),
-				new ChunkCache(), 0, false);
+		db = createDatabase(getTestDir().append(getName() + System.currentTimeMillis() + ".dat").toFile());
 		db.setExclusiveLock();
 
 		// Allocate all database chunks up to TEST_OFFSET.
@@ -64,6 +64,10 @@ public class DatabaseTest extends BaseTestCase5 {
 		db.flush();
 	}
 
+	protected Database createDatabase(File location) throws CoreException {
+		return new Database(location, new ChunkCache(), 0, false);
+	}
+
 	protected IPath getTestDir() {
 		IPath path = CTestPlugin.getDefault().getStateLocation().append("tests/");
 		File file = path.toFile();
@@ -214,6 +218,22 @@ public class DatabaseTest extends BaseTestCase5 {
 		}
 	}
 
+	@Test
+	public void testStringCache() throws CoreException {
+		IString string = db.newString("KATRINA");
+		long record = string.getRecord();
+		db.resetCacheCounters();
+		assertSame(string, db.getString(record));
+		assertEquals(0, db.getStringCacheMisses());
+		assertEquals(1, db.getStringCacheHits());
+
+		// A freed record must not be served from the cache once it is reused.
+		string.delete();
+		long reused = db.newString("WILMA").getRecord();
+		assertEquals(record, reused);
+		assertTrue(db.getString(reused).equals("WILMA"));
+	}
+
 	private final int GT = 1, LT = -1, EQ = 0;
 
 	@Test
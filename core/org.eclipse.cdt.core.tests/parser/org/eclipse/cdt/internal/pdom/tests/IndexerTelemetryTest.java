@@ -0,0 +1,165 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.internal.pdom.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.StringWriter;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.cdt.core.dom.ast.IASTFileLocation;
+import org.eclipse.cdt.core.dom.ast.IASTPreprocessorIncludeStatement;
+import org.eclipse.cdt.core.dom.ast.IASTTranslationUnit;
+import org.eclipse.cdt.internal.core.pdom.IndexerTelemetry;
+import org.eclipse.cdt.internal.core.pdom.IndexerTelemetry.FileTiming;
+import org.eclipse.cdt.internal.core.pdom.IndexerTelemetry.HeaderCost;
+import org.junit.jupiter.api.Test;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+/**
+ * Tests for the aggregation and the JSON export of {@link IndexerTelemetry}, with translation
+ * units that only provide their size and include directives.
+ */
+public class IndexerTelemetryTest {
+	private static final String COMMON_HEADER = "/inc/common.h";
+	// A location that has to be escaped in JSON
+	private static final String ODD_HEADER = "C:\\inc\\\"odd\"\theader<&>.h";
+
+	private static <T> T stub(Class<T> type, Map<String, Object> results) {
+		return type.cast(Proxy.newProxyInstance(IndexerTelemetryTest.class.getClassLoader(), new Class<?>[] { type },
+				(proxy, method, args) -> results.get(method.getName())));
+	}
+
+	private static IASTPreprocessorIncludeStatement include(String path, int size, boolean parsed) {
+		return stub(IASTPreprocessorIncludeStatement.class, Map.of("getPath", path, "getIncludedFileSize", (long) size,
+				"isActive", true, "isResolved", true, "createsAST", parsed));
+	}
+
+	private static IASTTranslationUnit translationUnit(String path, int size,
+			IASTPreprocessorIncludeStatement... includes) {
+		IASTFileLocation location = stub(IASTFileLocation.class, Map.of("getNodeLength", size));
+		return stub(IASTTranslationUnit.class,
+				Map.of("getFilePath", path, "getFileLocation", location, "getIncludeDirectives", includes));
+	}
+
+	private static IndexerTelemetry recordTwoFiles() {
+		IndexerTelemetry telemetry = new IndexerTelemetry();
+		// The header skipped because of its include guard does not count
+		telemetry.recordTranslationUnit(translationUnit("/src/a.cpp", 100, include(COMMON_HEADER, 300, true),
+				include("/inc/guarded.h", 1000, false)), 40, 20, 10, 5);
+		telemetry.recordTranslationUnit(translationUnit("/src/b \"quoted\".cpp", 100, include(COMMON_HEADER, 300, true),
+				include(ODD_HEADER, 600, true)), 120, 30, 20, 7);
+		telemetry.setCacheStatistics(3, 1);
+		return telemetry;
+	}
+
+	@Test
+	public void testAggregatedTimes() throws Exception {
+		IndexerTelemetry telemetry = recordTwoFiles();
+
+		List<FileTiming> timings = telemetry.getFileTimings();
+		assertEquals(2, timings.size());
+		assertEquals("/src/a.cpp", timings.get(0).fLocation);
+		assertEquals(1, timings.get(0).fParsedHeaderCount);
+		assertEquals(75, timings.get(0).getTotalTime());
+		assertEquals(2, timings.get(1).fParsedHeaderCount);
+		assertEquals(177, timings.get(1).getTotalTime());
+		assertEquals(12, telemetry.getLockWaitTime());
+		assertEquals(0.75, telemetry.getCacheHitRatio());
+
+		// The parsing time is shared by the files in proportion to their sizes
+		List<HeaderCost> headers = telemetry.getHotHeaders(10);
+		assertEquals(2, headers.size());
+		assertEquals(ODD_HEADER, headers.get(0).fLocation);
+		assertEquals(1, headers.get(0).getParseCount());
+		assertEquals(72.0, headers.get(0).getEstimatedParsingTime(), 1e-9);
+		assertEquals(COMMON_HEADER, headers.get(1).fLocation);
+		assertEquals(2, headers.get(1).getParseCount());
+		assertEquals(600, headers.get(1).getParsedBytes());
+		assertEquals(30.0 + 36.0, headers.get(1).getEstimatedParsingTime(), 1e-9);
+		assertEquals(List.of(headers.get(0)), telemetry.getHotHeaders(1));
+	}
+
+	@Test
+	public void testJsonExport() throws Exception {
+		IndexerTelemetry telemetry = recordTwoFiles();
+		String json = telemetry.toJson();
+		StringWriter writer = new StringWriter();
+		telemetry.writeJson(writer);
+		assertEquals(json, writer.toString());
+
+		JsonObject root = JsonParser.parseString(json).getAsJsonObject();
+		JsonObject totals = root.getAsJsonObject("totals");
+		assertEquals(2, totals.get("translationUnits").getAsInt());
+		assertEquals(160, totals.get("parse").getAsLong());
+		assertEquals(50, totals.get("resolve").getAsLong());
+		assertEquals(30, totals.get("write").getAsLong());
+		assertEquals(12, totals.get("lockWait").getAsLong());
+
+		JsonObject cache = root.getAsJsonObject("cache");
+		assertEquals(3, cache.get("hits").getAsLong());
+		assertEquals(1, cache.get("misses").getAsLong());
+		assertEquals(0.75, cache.get("hitRatio").getAsDouble());
+
+		JsonArray headers = root.getAsJsonArray("hotHeaders");
+		assertEquals(2, headers.size());
+		JsonObject header = headers.get(0).getAsJsonObject();
+		assertEquals(ODD_HEADER, header.get("location").getAsString());
+		assertEquals(1, header.get("parseCount").getAsInt());
+		assertEquals(600, header.get("parsedBytes").getAsLong());
+		assertEquals(72, header.get("estimatedParse").getAsLong());
+
+		JsonArray files = root.getAsJsonArray("files");
+		assertEquals(2, files.size());
+		JsonObject file = files.get(1).getAsJsonObject();
+		assertEquals("/src/b \"quoted\".cpp", file.get("location").getAsString());
+		assertEquals(120, file.get("parse").getAsLong());
+		assertEquals(30, file.get("resolve").getAsLong());
+		assertEquals(20, file.get("write").getAsLong());
+		assertEquals(7, file.get("lockWait").getAsLong());
+		assertEquals(2, file.get("parsedHeaders").getAsInt());
+	}
+
+	@Test
+	public void testJsonExportLimitsHeaders() throws Exception {
+		IndexerTelemetry telemetry = new IndexerTelemetry();
+		int count = 2 * IndexerTelemetry.HOT_HEADER_COUNT;
+		IASTPreprocessorIncludeStatement[] includes = new IASTPreprocessorIncludeStatement[count];
+		for (int i = 0; i < includes.length; i++) {
+			includes[i] = include("/inc/header" + i + ".h", 100 + i, true);
+		}
+		telemetry.recordTranslationUnit(translationUnit("/src/a.cpp", 0, includes), 1000, 0, 0, 0);
+
+		JsonObject root = JsonParser.parseString(telemetry.toJson()).getAsJsonObject();
+		JsonArray headers = root.getAsJsonArray("hotHeaders");
+		assertEquals(IndexerTelemetry.HOT_HEADER_COUNT, headers.size());
+		// The largest headers took the longest to parse
+		JsonObject header = headers.get(0).getAsJsonObject();
+		assertEquals("/inc/header" + (count - 1) + ".h", header.get("location").getAsString());
+	}
+
+	@Test
+	public void testEmptyJsonExport() throws Exception {
+		IndexerTelemetry telemetry = new IndexerTelemetry();
+		assertEquals(0.0, telemetry.getCacheHitRatio());
+
+		JsonObject root = JsonParser.parseString(telemetry.toJson()).getAsJsonObject();
+		assertEquals(0, root.getAsJsonObject("totals").get("translationUnits").getAsInt());
+		assertEquals(0.0, root.getAsJsonObject("cache").get("hitRatio").getAsDouble());
+		assertEquals(0, root.getAsJsonArray("hotHeaders").size());
+		assertEquals(0, root.getAsJsonArray("files").size());
+	}
+}
@@ -0,0 +1,87 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.internal.pdom.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.File;
+
+import org.eclipse.cdt.internal.core.pdom.db.ChunkCache;
+import org.eclipse.cdt.internal.core.pdom.db.Database;
+import org.eclipse.core.runtime.CoreException;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Runs the tests for the {@link Database} class with memory-mapped regions.
+ */
+public class MappedDatabaseTest extends DatabaseTest {
+	// Enough data to fill more than one mapped region of 64 MB.
+	private static final int RECORD_COUNT = 20000;
+
+	@Override
+	protected Database createDatabase(File location) throws CoreException {
+		return new Database(location, new ChunkCache(), 0, false, true);
+	}
+
+	private Database reopen() throws CoreException {
+		File location = db.getLocation();
+		db.close();
+		db = createDatabase(location);
+		db.setExclusiveLock();
+		return db;
+	}
+
+	@Test
+	public void testReopenWithMappedRegions() throws Exception {
+		long[] records = new long[RECORD_COUNT];
+		for (int i = 0; i < RECORD_COUNT; i++) {
+			records[i] = db.malloc(Database.MAX_MALLOC_SIZE);
+			db.putInt(records[i], i);
+			db.putLong(records[i] + Database.MAX_MALLOC_SIZE - 8, -i);
+		}
+		db.flush();
+
+		reopen();
+		for (int i = 0; i < RECORD_COUNT; i++) {
+			assertEquals(i, db.getInt(records[i]));
+			assertEquals(-i, db.getLong(records[i] + Database.MAX_MALLOC_SIZE - 8));
+			db.putInt(records[i], 2 * i);
+		}
+		db.flush();
+
+		reopen();
+		for (int i = 0; i < RECORD_COUNT; i++) {
+			assertEquals(2 * i, db.getInt(records[i]));
+		}
+	}
+
+	@Test
+	public void testClearMappedDatabase() throws Exception {
+		long first = db.malloc(Database.MAX_MALLOC_SIZE);
+		db.putInt(first, 42);
+		for (int i = 1; i < RECORD_COUNT; i++) {
+			db.malloc(Database.MAX_MALLOC_SIZE);
+		}
+		db.flush();
+		reopen();
+		// Maps the first region.
+		assertEquals(42, db.getInt(first));
+
+		db.clear(0);
+		long record = db.malloc(Database.MAX_MALLOC_SIZE);
+		db.putInt(record, 4711);
+		db.flush();
+		assertEquals(Database.CHUNK_SIZE * 2L, db.getLocation().length());
+
+		reopen();
+		assertEquals(4711, db.getInt(record));
+	}
+}
@@ -18,6 +18,7 @@ package org.eclipse.cdt.internal.pdom.tests;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.File;
@@ -217,6 +218,88 @@ public class PDOMCPPBugsTest extends BaseTestCase5 {
 		pdom.releaseWriteLock();
 	}
 
+	@Test
+	public void testConcurrentReadersAndWriter() throws Exception {
+		final WritablePDOM pdom = (WritablePDOM) CCoreInternals.getPDOMManager().getPDOM(cproject);
+		final int readers = 8;
+		final Throwable[] failure = { null };
+		Thread[] threads = new Thread[readers + 1];
+		for (int i = 0; i < readers; i++) {
+			threads[i] = new Thread() {
+				@Override
+				public void run() {
+					try {
+						for (int j = 0; j < 10000; j++) {
+							pdom.acquireReadLock();
+							try {
+								// The database must not be unlocked by the release of the last other read lock.
+								assertTrue(pdom.getDB().isLocked());
+								pdom.getProperty(IIndexFragment.PROPERTY_FRAGMENT_ID);
+							} finally {
+								pdom.releaseReadLock();
+							}
+						}
+					} catch (Throwable e) {
+						failure[0] = e;
+					}
+				}
+			};
+		}
+		threads[readers] = new Thread() {
+			@Override
+			public void run() {
+				try {
+					for (int j = 0; j < 100; j++) {
+						pdom.acquireReadLock();
+						pdom.acquireWriteLock(1, null);
+						pdom.releaseWriteLock(1, false);
+						pdom.releaseReadLock();
+					}
+				} catch (Throwable e) {
+					failure[0] = e;
+				}
+			}
+		};
+		for (Thread thread : threads) {
+			thread.start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		assertNull(failure[0]);
+		assertFalse(pdom.hasWaitingReaders());
+		pdom.acquireWriteLock(null);
+		pdom.releaseWriteLock();
+	}
+
+	@Test
+	public void testWaitingReaderWhileWriteLocked() throws Exception {
+		final WritablePDOM pdom = (WritablePDOM) CCoreInternals.getPDOMManager().getPDOM(cproject);
+		pdom.acquireWriteLock(null);
+		Thread reader;
+		try {
+			reader = new Thread() {
+				@Override
+				public void run() {
+					try {
+						pdom.acquireReadLock();
+						pdom.releaseReadLock();
+					} catch (InterruptedException e) {
+					}
+				}
+			};
+			reader.start();
+			for (int i = 0; i < 100 && !pdom.hasWaitingReaders(); i++) {
+				Thread.sleep(50);
+			}
+			assertTrue(pdom.hasWaitingReaders(), "reader is not waiting for the write lock");
+		} finally {
+			pdom.releaseWriteLock(0, false);
+		}
+		reader.join();
+		assertFalse(pdom.hasWaitingReaders());
+	}
+
 	@Test
 	public void test191679() throws Exception {
 		IProject project = cproject.getProject();
@@ -16,10 +16,24 @@
  *******************************************************************************/
 package org.eclipse.cdt.internal.core.model;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+
 import org.eclipse.cdt.core.CCorePlugin;
 import org.eclipse.cdt.core.IBinaryParser.IBinaryFile;
 import org.eclipse.cdt.core.model.CModelException;
 import org.eclipse.cdt.core.model.CoreModelUtil;
+import org.eclipse.cdt.core.model.IArchive;
 import org.eclipse.cdt.core.model.ICElement;
 import org.eclipse.cdt.core.model.ICElementDelta;
 import org.eclipse.cdt.core.model.ICProject;
@@ -43,10 +57,15 @@ import org.eclipse.core.runtime.jobs.Job;
 
 public class BinaryRunner {
 
+	/**
+	 * Reports the binaries and archives found by the runner.
+	 */
 	class BinaryRunnerOperation extends CModelOperation {
+		private final List<ICElement> added;
 
-		BinaryRunnerOperation(ICProject cproj) {
+		BinaryRunnerOperation(ICProject cproj, List<ICElement> added) {
 			super(cproj);
+			this.added = added;
 		}
 
 		@Override
@@ -57,34 +76,142 @@ public class BinaryRunner {
 		@Override
 		protected void executeOperation() throws CModelException {
 			ICProject cproj = (ICProject) getElementsToProcess()[0];
-			IParent[] containers = new IParent[2];
-			containers[0] = cproj.getBinaryContainer();
-			containers[1] = cproj.getArchiveContainer();
 			CModelManager factory = CModelManager.getDefault();
 			ICElement root = factory.getCModel();
 			CElementDelta cdelta = new CElementDelta(root);
 			cdelta.changed(cproj, ICElementDelta.F_CONTENT);
-			for (IParent container : containers) {
+			for (ICElement element : added) {
 				if (fMonitor.isCanceled()) {
 					return;
 				}
-				ICElement[] children = container.getChildren();
-				if (children.length > 0) {
-					cdelta.added((ICElement) container);
-					for (ICElement element : children) {
-						cdelta.added(element);
-					}
+				// The container is added with its first children
+				ICElement container = element instanceof IArchive ? (ICElement) cproj.getArchiveContainer()
+						: (ICElement) cproj.getBinaryContainer();
+				if (reportedContainers.add(container)) {
+					cdelta.added(container);
 				}
+				cdelta.added(element);
 			}
 			addDelta(cdelta);
 		}
 
 	}
 
+	/**
+	 * The result of the classification of a file, with the modification stamp of
+	 * the file it was computed from. The binary file itself is not kept, so that
+	 * its symbols are not retained by the stamps of the project.
+	 */
+	static class BinaryStamp {
+		final long modificationStamp;
+		/** The parser that recognized the binary, or null if the file is not a binary. */
+		final BinaryParserConfig parser;
+
+		BinaryStamp(long modificationStamp, BinaryParserConfig parser) {
+			this.modificationStamp = modificationStamp;
+			this.parser = parser;
+		}
+	}
+
+	/**
+	 * A file on an output entry that may be a binary.
+	 */
+	private static class Candidate {
+		final IFile file;
+		final long modificationStamp;
+		IBinaryFile binary;
+
+		Candidate(IFile file, long modificationStamp) {
+			this.file = file;
+			this.modificationStamp = modificationStamp;
+		}
+	}
+
+	/**
+	 * Classifies a range of candidates, splitting it among the threads of the pool.
+	 * The binaries are queued for the job of the runner, which creates their elements.
+	 */
+	private static class ClassifyTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+		private static final int THRESHOLD = 8;
+
+		private final List<Candidate> candidates;
+		private final int from;
+		private final int to;
+		private final Map<IPath, BinaryStamp> stamps;
+		private final BlockingQueue<Candidate> found;
+		private final IProgressMonitor monitor;
+
+		ClassifyTask(List<Candidate> candidates, int from, int to, Map<IPath, BinaryStamp> stamps,
+				BlockingQueue<Candidate> found, IProgressMonitor monitor) {
+			this.candidates = candidates;
+			this.from = from;
+			this.to = to;
+			this.stamps = stamps;
+			this.found = found;
+			this.monitor = monitor;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from > THRESHOLD) {
+				int middle = (from + to) >>> 1;
+				invokeAll(new ClassifyTask(candidates, from, middle, stamps, found, monitor),
+						new ClassifyTask(candidates, middle, to, stamps, found, monitor));
+				return;
+			}
+			CModelManager factory = CModelManager.getDefault();
+			for (int i = from; i < to && !monitor.isCanceled(); i++) {
+				Candidate candidate = candidates.get(i);
+				IPath path = candidate.file.getFullPath();
+				BinaryStamp stamp = stamps.get(path);
+				IBinaryFile binary = null;
+				if (stamp == null || stamp.modificationStamp != candidate.modificationStamp) {
+					// The parsers probe the header of the file before parsing it
+					BinaryParserConfig[] creator = new BinaryParserConfig[1];
+					binary = factory.createBinaryFile(candidate.file,
+							factory.getBinaryParser(candidate.file.getProject()), creator);
+					stamps.put(path, new BinaryStamp(candidate.modificationStamp, creator[0]));
+				} else if (stamp.parser != null) {
+					// Only the parser that recognized the unchanged binary reads it again
+					binary = factory.createBinaryFile(candidate.file, new BinaryParserConfig[] { stamp.parser }, null);
+					if (binary == null) {
+						stamps.remove(path);
+					}
+				}
+				if (binary != null) {
+					candidate.binary = binary;
+					found.add(candidate);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Number of threads classifying the files of the projects.
+	 */
+	private static final int THREADS = Math.max(1,
+			Integer.getInteger("org.eclipse.cdt.core.binaryRunner.threads", //$NON-NLS-1$
+					Runtime.getRuntime().availableProcessors()));
+	/**
+	 * The threads classifying files, shared by the runners of all projects. They
+	 * terminate when they are idle.
+	 */
+	private static final ForkJoinPool CLASSIFY_POOL = new ForkJoinPool(THREADS, pool -> {
+		ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+		thread.setName("C/C++ Binary Runner " + thread.getPoolIndex()); //$NON-NLS-1$
+		return thread;
+	}, null, false);
+	/**
+	 * Time in milliseconds between the deltas reporting the binaries found so far.
+	 */
+	private static final long DELTA_INTERVAL = 500;
+
 	private final ICProject cproject;
 	private final Job runnerJob; // final fields don't need synchronization
 	private IOutputEntry[] entries = new IOutputEntry[0];
 	private boolean isStopped = false; // access to isStopped must be synchronized.
+	private final Set<ICElement> reportedContainers = new HashSet<>(); // accessed by the job only
 
 	public BinaryRunner(IProject prj) {
 		cproject = CModelManager.getDefault().create(prj);
@@ -113,16 +240,22 @@ public class BinaryRunner {
 
 						vlib.removeChildren();
 						vbin.removeChildren();
+						reportedContainers.clear();
 
 						// traverse project, but only if at least one binary parser is configured
+						List<ICElement> added = new ArrayList<>();
 						BinaryParserConfig[] parsers = CModelManager.getDefault()
 								.getBinaryParser(cproject.getProject());
 						if (parsers.length > 0) {
-							cproject.getProject().accept(new Visitor(monitor), IContainer.INCLUDE_PHANTOMS);
+							Visitor visitor = new Visitor(monitor);
+							cproject.getProject().accept(visitor, IContainer.INCLUDE_PHANTOMS);
+							if (!monitor.isCanceled()) {
+								added = findBinaries(visitor.candidates, parsers, monitor);
+							}
 						}
 
 						if (!monitor.isCanceled()) {
-							CModelOperation op = new BinaryRunnerOperation(cproject);
+							CModelOperation op = new BinaryRunnerOperation(cproject, added);
 							op.runOperation(monitor);
 						}
 					}
@@ -172,10 +305,74 @@ public class BinaryRunner {
 		}
 	}
 
+	/**
+	 * Classifies the candidates on several threads, skipping those that did not
+	 * change since the last run, and creates the elements of the binaries. The
+	 * elements are reported in deltas as they are found.
+	 *
+	 * @return the elements that were not reported yet
+	 */
+	private List<ICElement> findBinaries(List<Candidate> candidates, BinaryParserConfig[] parsers,
+			IProgressMonitor monitor) throws CModelException {
+		CModelManager factory = CModelManager.getDefault();
+		Map<IPath, BinaryStamp> stamps = factory.getBinaryStamps(cproject.getProject());
+		// Forget the files that were removed
+		Set<IPath> paths = new HashSet<>();
+		for (Candidate candidate : candidates) {
+			paths.add(candidate.file.getFullPath());
+		}
+		stamps.keySet().retainAll(paths);
+		// Create the parsers before they are shared by the threads
+		for (BinaryParserConfig parser : parsers) {
+			try {
+				parser.getBinaryParser();
+			} catch (CoreException e) {
+			}
+		}
+
+		List<ICElement> added = new ArrayList<>();
+		BlockingQueue<Candidate> found = new LinkedBlockingQueue<>();
+		ForkJoinTask<Void> task = CLASSIFY_POOL
+				.submit(new ClassifyTask(candidates, 0, candidates.size(), stamps, found, monitor));
+		try {
+			long lastDelta = System.currentTimeMillis();
+			while (!monitor.isCanceled()) {
+				// All binaries are queued when the task is done
+				boolean done = task.isDone();
+				Candidate candidate = found.poll(50, TimeUnit.MILLISECONDS);
+				if (candidate != null) {
+					// Create the file will add it to the {Archive,Binary}Container.
+					ICElement element = factory.create(candidate.file, candidate.binary, cproject);
+					if (element != null) {
+						added.add(element);
+					}
+				} else if (done) {
+					break;
+				}
+				if (!added.isEmpty() && System.currentTimeMillis() - lastDelta >= DELTA_INTERVAL) {
+					new BinaryRunnerOperation(cproject, added).runOperation(monitor);
+					added = new ArrayList<>();
+					lastDelta = System.currentTimeMillis();
+				}
+			}
+			if (task.isCompletedAbnormally() && !monitor.isCanceled()) {
+				CCorePlugin.log(task.getException());
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			monitor.setCanceled(true);
+		} finally {
+			// The classification stops at the next file once the monitor is canceled
+			task.cancel(false);
+		}
+		return added;
+	}
+
 	private class Visitor implements IResourceProxyVisitor {
 		private final IProgressMonitor vMonitor;
 		private final IProject project;
 		private final IContentType textContentType;
+		final List<Candidate> candidates = new ArrayList<>();
 
 		public Visitor(IProgressMonitor monitor) {
 			vMonitor = monitor;
@@ -222,12 +419,7 @@ public class BinaryRunner {
 				for (IOutputEntry entrie : entries) {
 					if (isOnOutputEntry(entrie, path)) {
 						IFile file = (IFile) proxy.requestResource();
-						CModelManager factory = CModelManager.getDefault();
-						IBinaryFile bin = factory.createBinaryFile(file);
-						if (bin != null) {
-							// Create the file will add it to the {Archive,Binary}Container.
-							factory.create(file, bin, cproject);
-						}
+						candidates.add(new Candidate(file, proxy.getModificationStamp()));
 						return true;
 					}
 				}
@@ -30,6 +30,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.cdt.core.CCProjectNature;
 import org.eclipse.cdt.core.CCorePlugin;
@@ -176,6 +177,11 @@ public class CModelManager implements IResourceChangeListener, IContentTypeChang
 	private final Map<IProject, BinaryParserConfig[]> binaryParsersMap = Collections
 			.synchronizedMap(new HashMap<IProject, BinaryParserConfig[]>());
 
+	/**
+	 * The files classified by the binary runners of the projects, by their full path.
+	 */
+	private final Map<IProject, Map<IPath, BinaryRunner.BinaryStamp>> binaryStamps = new ConcurrentHashMap<>();
+
 	/**
 	 * The list of the SourceMappers on projects.
 	 */
@@ -676,7 +682,17 @@ public class CModelManager implements IResourceChangeListener, IContentTypeChang
 	}
 
 	public IBinaryFile createBinaryFile(IFile file) {
-		BinaryParserConfig[] parsers = getBinaryParser(file.getProject());
+		return createBinaryFile(file, getBinaryParser(file.getProject()), null);
+	}
+
+	/**
+	 * Creates the binary file of a file with the first of the given parsers that recognizes it.
+	 *
+	 * @param parsers the parsers to try, in this order
+	 * @param creator receives in its first element the parser that created the binary file, may be null
+	 * @return the binary file, or null if the file is not a binary
+	 */
+	IBinaryFile createBinaryFile(IFile file, BinaryParserConfig[] parsers, BinaryParserConfig[] creator) {
 		if (parsers.length == 0) {
 			return null;
 		}
@@ -781,6 +797,9 @@ public class CModelManager implements IResourceChangeListener, IContentTypeChang
 				if (parser.isBinary(bytes, location)) {
 					IBinaryFile binFile = parser.getBinary(bytes, location);
 					if (binFile != null) {
+						if (creator != null) {
+							creator[0] = parser2;
+						}
 						return binFile;
 					}
 				}
@@ -792,6 +811,7 @@ public class CModelManager implements IResourceChangeListener, IContentTypeChang
 
 	public void resetBinaryParser(IProject project) {
 		if (project != null) {
+			binaryStamps.remove(project);
 			ICProject cproject = create(project);
 			if (cproject != null) {
 				if (binaryParsersMap.remove(project) != null) {
@@ -805,6 +825,13 @@ public class CModelManager implements IResourceChangeListener, IContentTypeChang
 		}
 	}
 
+	/**
+	 * Returns the files classified by the binary runner of a project, by their full path.
+	 */
+	Map<IPath, BinaryRunner.BinaryStamp> getBinaryStamps(IProject project) {
+		return binaryStamps.computeIfAbsent(project, p -> new ConcurrentHashMap<>());
+	}
+
 	public BinaryRunner getBinaryRunner(ICProject cproject) {
 		BinaryRunner runner = null;
 		IProject project = cproject.getProject();
@@ -1412,6 +1439,7 @@ public class CModelManager implements IResourceChangeListener, IContentTypeChang
 		CCoreInternals.getPDOMManager().preDeleteProject(create(project));
 		// Remove binary parsers
 		binaryParsersMap.remove(project);
+		binaryStamps.remove(project);
 		// Stop the binary runner for this project
 		removeBinaryRunner(project);
 	}
@@ -1421,6 +1449,7 @@ public class CModelManager implements IResourceChangeListener, IContentTypeChang
 		CCoreInternals.getPDOMManager().preCloseProject(create(project));
 		// Remove binary parsers
 		binaryParsersMap.remove(project);
+		binaryStamps.remove(project);
 		// Stop the binary runner for this project
 		removeBinaryRunner(project);
 	}
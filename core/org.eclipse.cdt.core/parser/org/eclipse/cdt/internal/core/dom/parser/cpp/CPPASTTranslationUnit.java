@@ -44,6 +44,7 @@ import org.eclipse.cdt.internal.core.dom.parser.ASTTranslationUnit;
 import org.eclipse.cdt.internal.core.dom.parser.IASTAmbiguityParent;
 import org.eclipse.cdt.internal.core.dom.parser.cpp.semantics.CPPInheritance.FinalOverriderMap;
 import org.eclipse.cdt.internal.core.dom.parser.cpp.semantics.CPPVisitor;
+import org.eclipse.cdt.internal.core.dom.parser.cpp.semantics.IndexInstantiationCache;
 import org.eclipse.cdt.internal.core.dom.parser.cpp.semantics.TypeInstantiationRequest;
 import org.eclipse.cdt.internal.core.index.IIndexScope;
 import org.eclipse.cdt.internal.core.parser.scanner.InternalFileContent;
@@ -65,6 +66,8 @@ public class CPPASTTranslationUnit extends ASTTranslationUnit implements ICPPAST
 	// template definition, so we wouldn't want to double-cache those. (But we could e.g.
 	// cache instantiations of function types if we found it worthwhile.)
 	private final Map<TypeInstantiationRequest, IType> fInstantiationCache = new HashMap<>();
+	// Cache for type instantiations that consist of index types only.
+	private final IndexInstantiationCache fIndexInstantiationCache = new IndexInstantiationCache();
 
 	public CPPASTTranslationUnit() {
 		fScopeMapper = new CPPScopeMapper(this);
@@ -270,6 +273,10 @@ public class CPPASTTranslationUnit extends ASTTranslationUnit implements ICPPAST
 		return fInstantiationCache;
 	}
 
+	public IndexInstantiationCache getIndexInstantiationCache() {
+		return fIndexInstantiationCache;
+	}
+
 	public void recordPartialSpecialization(ICPPClassTemplatePartialSpecialization indexSpec,
 			ICPPClassTemplatePartialSpecialization astSpec) {
 		fScopeMapper.recordPartialSpecialization(indexSpec, astSpec);
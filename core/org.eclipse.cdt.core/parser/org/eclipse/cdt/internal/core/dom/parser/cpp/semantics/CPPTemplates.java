@@ -1572,6 +1572,28 @@ public class CPPTemplates {
 					: ProblemType.RECURSION_IN_LOOKUP;
 		}
 
+		try {
+			IndexInstantiationCache indexCache = null;
+			if (IndexInstantiationCache.isCacheable(type, context)) {
+				indexCache = IndexInstantiationCache.getCurrent();
+				if (indexCache != null) {
+					IType cached = indexCache.get(instantiationRequest);
+					if (cached != null)
+						return cached;
+				}
+			}
+			IType result = instantiateTypeUncached(type, context, instantiationRequest);
+			if (indexCache != null) {
+				indexCache.put(instantiationRequest, result);
+			}
+			return result;
+		} finally {
+			instantiationsInProgress.get().remove(instantiationRequest);
+		}
+	}
+
+	private static IType instantiateTypeUncached(final IType type, InstantiationContext context,
+			TypeInstantiationRequest instantiationRequest) {
 		try {
 			if (type instanceof ICPPFunctionType) {
 				final ICPPFunctionType ft = (ICPPFunctionType) type;
@@ -1749,8 +1771,6 @@ public class CPPTemplates {
 			return type;
 		} catch (DOMException e) {
 			return e.getProblem();
-		} finally {
-			instantiationsInProgress.get().remove(instantiationRequest);
 		}
 	}
 
@@ -0,0 +1,167 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.internal.core.dom.parser.cpp.semantics;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.cdt.core.dom.ast.IASTNode;
+import org.eclipse.cdt.core.dom.ast.IASTTranslationUnit;
+import org.eclipse.cdt.core.dom.ast.IArrayType;
+import org.eclipse.cdt.core.dom.ast.IBasicType;
+import org.eclipse.cdt.core.dom.ast.IType;
+import org.eclipse.cdt.core.dom.ast.IValue;
+import org.eclipse.cdt.core.dom.ast.cpp.ICPPFunctionType;
+import org.eclipse.cdt.core.dom.ast.cpp.ICPPPointerToMemberType;
+import org.eclipse.cdt.core.dom.ast.cpp.ICPPTemplateArgument;
+import org.eclipse.cdt.core.dom.ast.cpp.ICPPTemplateParameterMap;
+import org.eclipse.cdt.core.dom.ast.cpp.ICPPTypeSpecialization;
+import org.eclipse.cdt.core.index.IIndexBinding;
+import org.eclipse.cdt.internal.core.dom.parser.ITypeContainer;
+import org.eclipse.cdt.internal.core.dom.parser.cpp.CPPASTTranslationUnit;
+import org.eclipse.cdt.internal.core.dom.parser.cpp.InstantiationContext;
+import org.eclipse.cdt.internal.core.index.IIndexType;
+import org.eclipse.cdt.internal.core.pdom.PDOM;
+
+/**
+ * Cache of the type instantiations of a translation unit whose request and result are made up of
+ * index types. The instantiation of a template found in the index can depend on the lookup point,
+ * e.g. through argument dependent lookup or declarations local to the translation unit, therefore
+ * the cache is not shared with other translation units. Bindings added to the index while the
+ * translation unit is in use do not invalidate the cached records, the cache is discarded when
+ * bindings in the index are cleared or replaced.
+ */
+public final class IndexInstantiationCache {
+	/** Maximum number of entries per translation unit, zero disables the cache. */
+	private static final int SIZE_LIMIT = Integer.getInteger("org.eclipse.cdt.core.parser.indexInstantiationCacheSize", //$NON-NLS-1$
+			10000);
+
+	private final Map<TypeInstantiationRequest, IType> fCache = new HashMap<>();
+	private long fStamp = PDOM.getBindingModificationStamp();
+
+	/**
+	 * Returns the cache of the translation unit of the current lookup point, or {@code null} if
+	 * there is none.
+	 */
+	static IndexInstantiationCache getCurrent() {
+		if (SIZE_LIMIT <= 0)
+			return null;
+		IASTNode lookupPoint = CPPSemantics.getCurrentLookupPoint();
+		if (lookupPoint == null)
+			return null;
+		IASTTranslationUnit tu = lookupPoint.getTranslationUnit();
+		if (!(tu instanceof CPPASTTranslationUnit) || tu.getIndex() == null)
+			return null;
+		return ((CPPASTTranslationUnit) tu).getIndexInstantiationCache();
+	}
+
+	IType get(TypeInstantiationRequest request) {
+		final long stamp = PDOM.getBindingModificationStamp();
+		if (stamp != fStamp) {
+			fCache.clear();
+			fStamp = stamp;
+			return null;
+		}
+		return fCache.get(request);
+	}
+
+	void put(TypeInstantiationRequest request, IType result) {
+		if (!isIndexOnly(result))
+			return;
+		final long stamp = PDOM.getBindingModificationStamp();
+		if (stamp != fStamp) {
+			// The result may have been computed from bindings that were modified in the meantime.
+			fCache.clear();
+			fStamp = stamp;
+			return;
+		}
+		if (fCache.size() >= SIZE_LIMIT) {
+			fCache.clear();
+		}
+		fCache.put(request, result);
+	}
+
+	/**
+	 * Returns the number of cached instantiations that are still valid.
+	 */
+	public int size() {
+		return PDOM.getBindingModificationStamp() == fStamp ? fCache.size() : 0;
+	}
+
+	/**
+	 * Checks whether the instantiation of the given type in the given context can be cached.
+	 */
+	static boolean isCacheable(IType type, InstantiationContext context) {
+		final ICPPTypeSpecialization contextSpecialization = context.getContextTypeSpecialization();
+		if (contextSpecialization != null && !(contextSpecialization instanceof IIndexBinding))
+			return false;
+		return isIndexOnly(type) && isIndexOnly(context.getParameterMap());
+	}
+
+	private static boolean isIndexOnly(ICPPTemplateParameterMap map) {
+		for (Integer position : map.getAllParameterPositions()) {
+			ICPPTemplateArgument[] pack = map.getPackExpansion(position);
+			if (pack != null) {
+				for (ICPPTemplateArgument arg : pack) {
+					if (!isIndexOnly(arg))
+						return false;
+				}
+			} else if (!isIndexOnly(map.getArgument(position))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean isIndexOnly(ICPPTemplateArgument arg) {
+		if (arg == null)
+			return false;
+		if (arg.isTypeValue())
+			return isIndexOnly(arg.getTypeValue());
+		return isConstant(arg.getNonTypeValue()) && isIndexOnly(arg.getTypeOfNonTypeValue());
+	}
+
+	private static boolean isConstant(IValue value) {
+		return value != null && value.numberValue() != null;
+	}
+
+	/**
+	 * Checks whether the given type is composed of index bindings and types that do not refer to
+	 * any binding.
+	 */
+	private static boolean isIndexOnly(IType type) {
+		while (true) {
+			if (type instanceof IIndexType || type instanceof IIndexBinding || type instanceof IBasicType)
+				return true;
+			if (type instanceof ICPPFunctionType) {
+				ICPPFunctionType ft = (ICPPFunctionType) type;
+				for (IType param : ft.getParameterTypes()) {
+					if (!isIndexOnly(param))
+						return false;
+				}
+				type = ft.getReturnType();
+			} else if (type instanceof ITypeContainer) {
+				if (type instanceof ICPPPointerToMemberType
+						&& !isIndexOnly(((ICPPPointerToMemberType) type).getMemberOfClass())) {
+					return false;
+				}
+				if (type instanceof IArrayType) {
+					IValue size = ((IArrayType) type).getSize();
+					if (size != null && !isConstant(size))
+						return false;
+				}
+				type = ((ITypeContainer) type).getType();
+			} else {
+				return false;
+			}
+		}
+	}
+}
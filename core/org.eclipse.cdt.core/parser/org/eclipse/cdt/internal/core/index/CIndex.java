@@ -27,6 +27,11 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 
 import org.eclipse.cdt.core.CCorePlugin;
@@ -54,6 +59,7 @@ import org.eclipse.cdt.internal.core.index.composite.cpp.CPPCompositesFactory;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.SubMonitor;
 
 public class CIndex implements IIndex {
@@ -63,6 +69,55 @@ public class CIndex implements IIndex {
 	 */
 	private static final boolean SPECIALCASE_SINGLES = true;
 
+	/**
+	 * The maximum number of threads searching the fragments of an index for bindings in addition
+	 * to the calling thread, zero if the fragments are searched sequentially. Parallel searches
+	 * can be disabled via a system property.
+	 */
+	private static final int QUERY_THREADS = Math.min(Runtime.getRuntime().availableProcessors() - 1,
+			Boolean.getBoolean("org.eclipse.cdt.core.index.sequentialQueries") ? 0 : 4); //$NON-NLS-1$
+
+	/** The threads searching fragments in parallel, they terminate when they are idle. */
+	private static final ThreadPoolExecutor QUERY_EXECUTOR;
+	static {
+		if (QUERY_THREADS > 0) {
+			QUERY_EXECUTOR = new ThreadPoolExecutor(QUERY_THREADS, QUERY_THREADS, 10, TimeUnit.SECONDS,
+					new LinkedBlockingQueue<>(), runnable -> {
+						Thread thread = new Thread(runnable, "C/C++ Index Query"); //$NON-NLS-1$
+						thread.setDaemon(true);
+						return thread;
+					});
+			QUERY_EXECUTOR.allowCoreThreadTimeOut(true);
+		} else {
+			QUERY_EXECUTOR = null;
+		}
+	}
+
+	/**
+	 * Searches a single fragment for bindings.
+	 */
+	@FunctionalInterface
+	private interface FragmentQuery {
+		IBinding[] find(IIndexFragment fragment, IProgressMonitor monitor) throws CoreException;
+	}
+
+	/**
+	 * Forwards the cancellation of a monitor to the fragments searched in parallel, the monitor itself
+	 * is not thread-safe and only the calling thread reports progress.
+	 */
+	private static class CancellationMonitor extends NullProgressMonitor {
+		private final IProgressMonitor fMonitor;
+
+		CancellationMonitor(IProgressMonitor monitor) {
+			fMonitor = monitor;
+		}
+
+		@Override
+		public boolean isCanceled() {
+			return super.isCanceled() || fMonitor.isCanceled();
+		}
+	}
+
 	private final IIndexFragment[] fFragments;
 	private int fReadLock;
 	private ICompositesFactory cppCF, cCF, fCF;
@@ -112,18 +167,9 @@ public class CIndex implements IIndex {
 			ILinkage[] linkages = Linkage.getIndexerLinkages();
 			for (ILinkage linkage : linkages) {
 				if (filter.acceptLinkage(linkage)) {
-					IIndexFragmentBinding[][] fragmentBindings = new IIndexFragmentBinding[fFragments.length][];
-					for (int i = 0; i < fFragments.length; i++) {
-						try {
-							IBinding[] part = fFragments[i].findBindings(patterns, isFullyQualified,
-									retargetFilter(linkage, filter), monitor);
-							fragmentBindings[i] = new IIndexFragmentBinding[part.length];
-							System.arraycopy(part, 0, fragmentBindings[i], 0, part.length);
-						} catch (CoreException e) {
-							CCorePlugin.log(e);
-							fragmentBindings[i] = IIndexFragmentBinding.EMPTY_INDEX_BINDING_ARRAY;
-						}
-					}
+					final IndexFilter fragmentFilter = retargetFilter(linkage, filter);
+					IIndexFragmentBinding[][] fragmentBindings = findInFragments(filter, monitor, false,
+							(fragment, m) -> fragment.findBindings(patterns, isFullyQualified, fragmentFilter, m));
 					ICompositesFactory factory = getCompositesFactory(linkage.getLinkageID());
 					result.add(factory.getCompositeBindings(fragmentBindings));
 				}
@@ -142,18 +188,9 @@ public class CIndex implements IIndex {
 			ILinkage[] linkages = Linkage.getIndexerLinkages();
 			for (ILinkage linkage : linkages) {
 				if (filter.acceptLinkage(linkage)) {
-					IIndexFragmentBinding[][] fragmentBindings = new IIndexFragmentBinding[fFragments.length][];
-					for (int i = 0; i < fFragments.length; i++) {
-						try {
-							IBinding[] part = fFragments[i].findMacroContainers(pattern,
-									retargetFilter(linkage, filter), monitor);
-							fragmentBindings[i] = new IIndexFragmentBinding[part.length];
-							System.arraycopy(part, 0, fragmentBindings[i], 0, part.length);
-						} catch (CoreException e) {
-							CCorePlugin.log(e);
-							fragmentBindings[i] = IIndexFragmentBinding.EMPTY_INDEX_BINDING_ARRAY;
-						}
-					}
+					final IndexFilter fragmentFilter = retargetFilter(linkage, filter);
+					IIndexFragmentBinding[][] fragmentBindings = findInFragments(filter, monitor, false,
+							(fragment, m) -> fragment.findMacroContainers(pattern, fragmentFilter, m));
 					ICompositesFactory factory = getCompositesFactory(linkage.getLinkageID());
 					result.add(factory.getCompositeBindings(fragmentBindings));
 				}
@@ -459,22 +496,13 @@ public class CIndex implements IIndex {
 			}
 			List<IIndexBinding[]> result = new ArrayList<>();
 			ILinkage[] linkages = Linkage.getIndexerLinkages();
-			SubMonitor loopMonitor = SubMonitor.convert(monitor, Messages.CIndex_FindBindingsTask_label,
+			final SubMonitor loopMonitor = SubMonitor.convert(monitor, Messages.CIndex_FindBindingsTask_label,
 					fFragments.length * linkages.length);
 			for (ILinkage linkage : linkages) {
 				if (filter.acceptLinkage(linkage)) {
-					IIndexFragmentBinding[][] fragmentBindings = new IIndexFragmentBinding[fFragments.length][];
-					for (int i = 0; i < fFragments.length; i++) {
-						try {
-							IBinding[] part = fFragments[i].findBindings(names, retargetFilter(linkage, filter),
-									loopMonitor.newChild(1));
-							fragmentBindings[i] = new IIndexFragmentBinding[part.length];
-							System.arraycopy(part, 0, fragmentBindings[i], 0, part.length);
-						} catch (CoreException e) {
-							CCorePlugin.log(e);
-							fragmentBindings[i] = IIndexFragmentBinding.EMPTY_INDEX_BINDING_ARRAY;
-						}
-					}
+					final IndexFilter fragmentFilter = retargetFilter(linkage, filter);
+					IIndexFragmentBinding[][] fragmentBindings = findInFragments(filter, loopMonitor, true,
+							(fragment, m) -> fragment.findBindings(names, fragmentFilter, m));
 					ICompositesFactory factory = getCompositesFactory(linkage.getLinkageID());
 					result.add(factory.getCompositeBindings(fragmentBindings));
 				}
@@ -593,18 +621,9 @@ public class CIndex implements IIndex {
 			ILinkage[] linkages = Linkage.getIndexerLinkages();
 			for (ILinkage linkage : linkages) {
 				if (filter.acceptLinkage(linkage)) {
-					IIndexFragmentBinding[][] fragmentBindings = new IIndexFragmentBinding[fFragments.length][];
-					for (int i = 0; i < fFragments.length; i++) {
-						try {
-							IBinding[] part = fFragments[i].findBindingsForPrefix(prefix, filescope,
-									retargetFilter(linkage, filter), monitor);
-							fragmentBindings[i] = new IIndexFragmentBinding[part.length];
-							System.arraycopy(part, 0, fragmentBindings[i], 0, part.length);
-						} catch (CoreException e) {
-							CCorePlugin.log(e);
-							fragmentBindings[i] = IIndexFragmentBinding.EMPTY_INDEX_BINDING_ARRAY;
-						}
-					}
+					final IndexFilter fragmentFilter = retargetFilter(linkage, filter);
+					IIndexFragmentBinding[][] fragmentBindings = findInFragments(filter, monitor, false,
+							(fragment, m) -> fragment.findBindingsForPrefix(prefix, filescope, fragmentFilter, m));
 					ICompositesFactory factory = getCompositesFactory(linkage.getLinkageID());
 					result.add(factory.getCompositeBindings(fragmentBindings));
 				}
@@ -623,18 +642,9 @@ public class CIndex implements IIndex {
 			ILinkage[] linkages = Linkage.getIndexerLinkages();
 			for (ILinkage linkage : linkages) {
 				if (filter.acceptLinkage(linkage)) {
-					IIndexFragmentBinding[][] fragmentBindings = new IIndexFragmentBinding[fFragments.length][];
-					for (int i = 0; i < fFragments.length; i++) {
-						try {
-							IBinding[] part = fFragments[i].findBindingsForContentAssist(prefix, filescope,
-									retargetFilter(linkage, filter), monitor);
-							fragmentBindings[i] = new IIndexFragmentBinding[part.length];
-							System.arraycopy(part, 0, fragmentBindings[i], 0, part.length);
-						} catch (CoreException e) {
-							CCorePlugin.log(e);
-							fragmentBindings[i] = IIndexFragmentBinding.EMPTY_INDEX_BINDING_ARRAY;
-						}
-					}
+					final IndexFilter fragmentFilter = retargetFilter(linkage, filter);
+					IIndexFragmentBinding[][] fragmentBindings = findInFragments(filter, monitor, false, (fragment,
+							m) -> fragment.findBindingsForContentAssist(prefix, filescope, fragmentFilter, m));
 					ICompositesFactory factory = getCompositesFactory(linkage.getLinkageID());
 					result.add(factory.getCompositeBindings(fragmentBindings));
 				}
@@ -653,18 +663,9 @@ public class CIndex implements IIndex {
 			ILinkage[] linkages = Linkage.getIndexerLinkages();
 			for (ILinkage linkage : linkages) {
 				if (filter.acceptLinkage(linkage)) {
-					IIndexFragmentBinding[][] fragmentBindings = new IIndexFragmentBinding[fFragments.length][];
-					for (int i = 0; i < fFragments.length; i++) {
-						try {
-							IBinding[] part = fFragments[i].findBindings(name, filescope,
-									retargetFilter(linkage, filter), monitor);
-							fragmentBindings[i] = new IIndexFragmentBinding[part.length];
-							System.arraycopy(part, 0, fragmentBindings[i], 0, part.length);
-						} catch (CoreException e) {
-							CCorePlugin.log(e);
-							fragmentBindings[i] = IIndexFragmentBinding.EMPTY_INDEX_BINDING_ARRAY;
-						}
-					}
+					final IndexFilter fragmentFilter = retargetFilter(linkage, filter);
+					IIndexFragmentBinding[][] fragmentBindings = findInFragments(filter, monitor, false,
+							(fragment, m) -> fragment.findBindings(name, filescope, fragmentFilter, m));
 					ICompositesFactory factory = getCompositesFactory(linkage.getLinkageID());
 					result.add(factory.getCompositeBindings(fragmentBindings));
 				}
@@ -673,6 +674,94 @@ public class CIndex implements IIndex {
 		}
 	}
 
+	/**
+	 * Runs the query on all fragments, which are read-locked by the caller. The fragments are searched
+	 * in parallel when the filter is known to be thread-safe. With {@code reportProgress}, the monitor
+	 * is a {@link SubMonitor} with one unit of work per fragment, otherwise it is passed on to the
+	 * fragments.
+	 */
+	private IIndexFragmentBinding[][] findInFragments(IndexFilter filter, IProgressMonitor monitor,
+			boolean reportProgress, FragmentQuery query) {
+		final IIndexFragmentBinding[][] fragmentBindings = new IIndexFragmentBinding[fFragments.length][];
+		if (QUERY_EXECUTOR == null || fFragments.length < 2 || !isThreadSafe(filter)) {
+			for (int i = 0; i < fFragments.length; i++) {
+				IProgressMonitor fragmentMonitor = reportProgress ? ((SubMonitor) monitor).newChild(1) : monitor;
+				fragmentBindings[i] = findInFragment(query, fFragments[i], fragmentMonitor);
+			}
+			return fragmentBindings;
+		}
+
+		final IProgressMonitor fragmentMonitor = monitor != null ? new CancellationMonitor(monitor) : null;
+		List<FutureTask<IIndexFragmentBinding[]>> tasks = new ArrayList<>(fFragments.length);
+		for (IIndexFragment fragment : fFragments) {
+			FutureTask<IIndexFragmentBinding[]> task = new FutureTask<>(
+					() -> findInFragment(query, fragment, fragmentMonitor));
+			// The calling thread searches the first fragment
+			if (!tasks.isEmpty())
+				QUERY_EXECUTOR.execute(task);
+			tasks.add(task);
+		}
+		// All tasks are completed before the results are used or a failure is reported, the caller may
+		// release its read lock afterwards.
+		Throwable failure = null;
+		boolean interrupted = false;
+		for (int i = 0; i < tasks.size(); i++) {
+			FutureTask<IIndexFragmentBinding[]> task = tasks.get(i);
+			// Runs the task in the calling thread unless a query thread has started it, such that
+			// nested queries cannot wait for each other.
+			task.run();
+			while (true) {
+				try {
+					fragmentBindings[i] = task.get();
+					break;
+				} catch (ExecutionException e) {
+					if (failure == null)
+						failure = e.getCause();
+					break;
+				} catch (InterruptedException e) {
+					interrupted = true;
+				}
+			}
+		}
+		if (interrupted)
+			Thread.currentThread().interrupt();
+		if (reportProgress)
+			((SubMonitor) monitor).worked(fFragments.length);
+		if (failure instanceof RuntimeException)
+			throw (RuntimeException) failure;
+		if (failure instanceof Error)
+			throw (Error) failure;
+		if (interrupted)
+			throw new OperationCanceledException();
+		return fragmentBindings;
+	}
+
+	/**
+	 * Checks whether the filter is one of the filters provided by {@link IndexFilter}, which do not
+	 * keep state and can be called by multiple threads at the same time.
+	 */
+	private static boolean isThreadSafe(IndexFilter filter) {
+		Class<?> filterClass = filter.getClass();
+		return filterClass.getEnclosingClass() == IndexFilter.class || filterClass == DeclaredBindingsFilter.class;
+	}
+
+	/**
+	 * Runs the query on a single fragment. A fragment that cannot be searched is logged and contributes
+	 * no bindings, such that the other fragments are still searched.
+	 */
+	private static IIndexFragmentBinding[] findInFragment(FragmentQuery query, IIndexFragment fragment,
+			IProgressMonitor monitor) {
+		try {
+			IBinding[] part = query.find(fragment, monitor);
+			IIndexFragmentBinding[] result = new IIndexFragmentBinding[part.length];
+			System.arraycopy(part, 0, result, 0, part.length);
+			return result;
+		} catch (CoreException e) {
+			CCorePlugin.log(e);
+			return IIndexFragmentBinding.EMPTY_INDEX_BINDING_ARRAY;
+		}
+	}
+
 	@Override
 	public IIndexMacro[] findMacros(char[] name, IndexFilter filter, IProgressMonitor monitor) throws CoreException {
 		return findMacros(name, false, true, filter, monitor);
@@ -28,6 +28,7 @@ import org.eclipse.cdt.core.parser.IScannerInfo;
 import org.eclipse.cdt.internal.core.index.IWritableIndex;
 import org.eclipse.cdt.internal.core.index.IWritableIndexFragment;
 import org.eclipse.cdt.internal.core.pdom.IndexerProgress;
+import org.eclipse.cdt.internal.core.pdom.IndexerTelemetry;
 import org.eclipse.cdt.internal.core.pdom.PDOMWriter;
 import org.eclipse.cdt.internal.core.pdom.WritablePDOM;
 import org.eclipse.core.runtime.CoreException;
@@ -366,6 +367,14 @@ public abstract class StandaloneIndexer {
 		return fDelegate != null ? fDelegate.getProgressInformation() : fProgress;
 	}
 
+	/**
+	 * Returns the detailed metrics of the last indexer run, or {@code null} if the indexer has not run yet.
+	 */
+	public IndexerTelemetry getTelemetry() {
+		StandaloneIndexerTask delegate = fDelegate;
+		return delegate != null ? delegate.getTelemetry() : null;
+	}
+
 	/**
 	 * Returns the update options specified.
 	 */
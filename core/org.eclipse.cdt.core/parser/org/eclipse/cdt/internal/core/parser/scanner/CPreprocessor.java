@@ -270,6 +270,7 @@ public class CPreprocessor implements ILexerLog, IScanner, IAdaptable {
 	final private InternalFileContentProvider fFileContentProvider;
 
 	private final IIncludeFileResolutionHeuristics fIncludeFileResolutionHeuristics;
+	private final TokenCache fTokenCache;
 	private final ExpressionEvaluator fExpressionEvaluator;
 	private final MacroDefinitionParser fMacroDefinitionParser;
 	private final MacroExpander fMacroExpander;
@@ -346,6 +347,7 @@ public class CPreprocessor implements ILexerLog, IScanner, IAdaptable {
 		fMacroDefinitionParser = new MacroDefinitionParser();
 		fMacroExpander = new MacroExpander(this, fMacroDictionary, fLocationMap, fLexOptions);
 		fIncludeFileResolutionHeuristics = fFileContentProvider.getIncludeHeuristics();
+		fTokenCache = fFileContentProvider.getTokenCache();
 
 		String contextPath = fFileContentProvider.getContextPath();
 		if (contextPath == null) {
@@ -372,8 +374,14 @@ public class CPreprocessor implements ILexerLog, IScanner, IAdaptable {
 	}
 
 	private char[] detectIncludeGuard(String filePath, AbstractCharArray source, ScannerContext ctx) {
+		return detectIncludeGuard(filePath, source, null, ctx);
+	}
+
+	private char[] detectIncludeGuard(String filePath, AbstractCharArray source, LexedFile lexedSource,
+			ScannerContext ctx) {
 		if (!fFileContentProvider.shouldIndexAllHeaderVersions(filePath)) {
-			final char[] guard = IncludeGuardDetection.detectIncludeGuard(source, fLexOptions, fPPKeywords);
+			final char[] guard = IncludeGuardDetection.detectIncludeGuard(source, lexedSource, fLexOptions,
+					fPPKeywords);
 			if (guard != null) {
 				IFileNomination nom = fLocationMap.reportPragmaOnceSemantics(ctx.getLocationCtx());
 				fFileContentProvider.reportPragmaOnceSemantics(filePath, nom);
@@ -1782,10 +1790,15 @@ public class CPreprocessor implements ILexerLog, IScanner, IAdaptable {
 			if (source != null) {
 				ILocationCtx ctx = fLocationMap.pushInclusion(poundOffset, nameOffsets[0], nameOffsets[1],
 						condEndOffset, source, path, headerName, userInclude, isHeuristic, fi.isSource());
-				ScannerContext fctx = new ScannerContext(ctx, fCurrentContext,
-						new Lexer(source, fLexOptions, this, this));
+				final LexedFile lexedSource = fTokenCache != null
+						? fTokenCache.get(source, fLexOptions, fPPKeywords)
+						: null;
+				final Lexer headerLexer = lexedSource != null
+						? new Lexer(source, lexedSource, fLexOptions, this, this)
+						: new Lexer(source, fLexOptions, this, this);
+				ScannerContext fctx = new ScannerContext(ctx, fCurrentContext, headerLexer);
 				fctx.setFoundOnPath(fi.getFoundOnPath(), includeDirective);
-				detectIncludeGuard(path, source, fctx);
+				detectIncludeGuard(path, source, lexedSource, fctx);
 				fCurrentContext = fctx;
 				stmt = ctx.getInclusionStatement();
 				stmt.setIncludedFileTimestamp(fi.getTimestamp());
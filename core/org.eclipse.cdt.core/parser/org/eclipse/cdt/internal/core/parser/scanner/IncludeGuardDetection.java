@@ -30,7 +30,16 @@ public class IncludeGuardDetection {
 
 	public static char[] detectIncludeGuard(AbstractCharArray content, Lexer.LexerOptions lexOptions,
 			CharArrayIntMap ppKeywords) {
-		Lexer l = new Lexer(content, lexOptions, ILexerLog.NULL, null);
+		return detectIncludeGuard(content, null, lexOptions, ppKeywords);
+	}
+
+	/**
+	 * Detects the include guard, replaying the tokens of the lexed content if it is available.
+	 */
+	public static char[] detectIncludeGuard(AbstractCharArray content, LexedFile lexedContent,
+			Lexer.LexerOptions lexOptions, CharArrayIntMap ppKeywords) {
+		Lexer l = lexedContent != null ? new Lexer(content, lexedContent, lexOptions, ILexerLog.NULL, null)
+				: new Lexer(content, lexOptions, ILexerLog.NULL, null);
 		char[] guard = findIncludeGuard(l, ppKeywords);
 		if (guard != null && currentIfSpansFile(l, ppKeywords)) {
 			return guard;
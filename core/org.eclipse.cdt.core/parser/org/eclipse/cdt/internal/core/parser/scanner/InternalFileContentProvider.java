@@ -52,6 +52,7 @@ public abstract class InternalFileContentProvider extends IncludeFileContentProv
 	}
 
 	private IIncludeFileResolutionHeuristics fIncludeResolutionHeuristics;
+	private TokenCache fTokenCache;
 	private final Map<String, IFileNomination> fPragmaOnce = new HashMap<>();
 	private final Map<String, List<ISignificantMacros>> fLoadedVersions = new HashMap<>();
 
@@ -133,6 +134,17 @@ public abstract class InternalFileContentProvider extends IncludeFileContentProv
 		fIncludeResolutionHeuristics = heuristics;
 	}
 
+	/**
+	 * Returns the cache for lexed headers, or {@code null} if headers shall not be cached.
+	 */
+	public final TokenCache getTokenCache() {
+		return fTokenCache;
+	}
+
+	public final void setTokenCache(TokenCache cache) {
+		fTokenCache = cache;
+	}
+
 	public List<ISignificantMacros> getLoadedVersions(String path) {
 		List<ISignificantMacros> result = fLoadedVersions.get(path);
 		return result == null ? Collections.<ISignificantMacros>emptyList() : result;
@@ -0,0 +1,198 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.internal.core.parser.scanner;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.cdt.core.parser.IPreprocessorDirective;
+import org.eclipse.cdt.core.parser.IToken;
+import org.eclipse.cdt.core.parser.OffsetLimitReachedException;
+import org.eclipse.cdt.core.parser.util.CharArrayIntMap;
+
+/**
+ * The preprocessor tokens of a file together with the comments and problems reported while
+ * lexing it. The tokens do not depend on macro definitions, a {@link Lexer} can replay them
+ * instead of lexing the same content again.
+ * <p>
+ * Header names are recorded for all include directives that start a line, which is where the
+ * preprocessor asks the lexer for a header name. Instances are immutable and can be shared
+ * between threads.
+ */
+public final class LexedFile {
+	// Kinds of events, tokens use their token kind.
+	private static final int BLOCK_COMMENT = -1;
+	private static final int LINE_COMMENT = -2;
+	private static final int PROBLEM = -3;
+
+	// Values for the auxiliary field of tokens.
+	private static final int PLAIN = -1;
+	private static final int DIGRAPH = -2;
+
+	private static final int STRIDE = 4; // Kind, offset, end-offset, aux.
+
+	private final int[] fEvents;
+	private final char[][] fImages;
+	private final int[] fProblemIDs;
+
+	private LexedFile(int[] events, char[][] images, int[] problemIDs) {
+		fEvents = events;
+		fImages = images;
+		fProblemIDs = problemIDs;
+	}
+
+	/**
+	 * Lexes the given content.
+	 * @param ppKeywords the preprocessor keywords used to detect include directives.
+	 */
+	public static LexedFile create(AbstractCharArray input, Lexer.LexerOptions options,
+			CharArrayIntMap ppKeywords) {
+		Recorder recorder = new Recorder();
+		Lexer lexer = new Lexer(input, options, recorder, null);
+		try {
+			int state = 0; // 0: start of line, 1: after '#' at start of line, 2: other.
+			for (;;) {
+				final Token t = lexer.nextToken();
+				recorder.add(t);
+				switch (t.getType()) {
+				case IToken.tEND_OF_INPUT:
+					return recorder.toLexedFile();
+				case Lexer.tNEWLINE:
+					state = 0;
+					break;
+				case IToken.tPOUND:
+					state = state == 0 ? 1 : 2;
+					break;
+				case IToken.tIDENTIFIER:
+					if (state == 1 && isIncludeDirective(ppKeywords.get(t.getCharImage()))) {
+						lexer.setInsideIncludeDirective(true);
+						final Token header = lexer.nextToken();
+						lexer.setInsideIncludeDirective(false);
+						recorder.add(header);
+						if (header.getType() == IToken.tEND_OF_INPUT)
+							return recorder.toLexedFile();
+						state = header.getType() == Lexer.tNEWLINE ? 0 : 2;
+						break;
+					}
+					state = 2;
+					break;
+				default:
+					state = 2;
+					break;
+				}
+			}
+		} catch (OffsetLimitReachedException e) {
+			// Cannot happen outside of content-assist mode.
+			return null;
+		}
+	}
+
+	private static boolean isIncludeDirective(int type) {
+		switch (type) {
+		case IPreprocessorDirective.ppInclude:
+		case IPreprocessorDirective.ppInclude_next:
+		case IPreprocessorDirective.ppImport:
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the number of recorded events. The last event is always the end-of-input token.
+	 */
+	int getEventCount() {
+		return fEvents.length / STRIDE;
+	}
+
+	/**
+	 * Replays the event with the given index. Comments and problems are reported to the log,
+	 * for tokens a new token is returned.
+	 */
+	Token replay(int index, Object source, ILexerLog log, AbstractCharArray input) {
+		final int i = index * STRIDE;
+		final int kind = fEvents[i];
+		final int offset = fEvents[i + 1];
+		final int endOffset = fEvents[i + 2];
+		final int aux = fEvents[i + 3];
+		switch (kind) {
+		case BLOCK_COMMENT:
+		case LINE_COMMENT:
+			log.handleComment(kind == BLOCK_COMMENT, offset, endOffset, input);
+			return null;
+		case PROBLEM:
+			log.handleProblem(fProblemIDs[aux], fImages[aux], offset, endOffset);
+			return null;
+		}
+		switch (aux) {
+		case PLAIN:
+			return new Token(kind, source, offset, endOffset);
+		case DIGRAPH:
+			return new TokenForDigraph(kind, source, offset, endOffset);
+		default:
+			return new TokenWithImage(kind, source, offset, endOffset, fImages[aux]);
+		}
+	}
+
+	private static class Recorder implements ILexerLog {
+		private int[] fEvents = new int[STRIDE * 256];
+		private int fSize;
+		private final List<char[]> fImages = new ArrayList<>();
+		private final List<Integer> fProblemIDs = new ArrayList<>();
+
+		private void add(int kind, int offset, int endOffset, int aux) {
+			if (fSize + STRIDE > fEvents.length) {
+				fEvents = Arrays.copyOf(fEvents, fEvents.length * 2);
+			}
+			fEvents[fSize++] = kind;
+			fEvents[fSize++] = offset;
+			fEvents[fSize++] = endOffset;
+			fEvents[fSize++] = aux;
+		}
+
+		private int addImage(char[] image, int problemID) {
+			fImages.add(image);
+			fProblemIDs.add(problemID);
+			return fImages.size() - 1;
+		}
+
+		void add(Token t) {
+			int aux;
+			if (t instanceof TokenWithImage) {
+				aux = addImage(t.getCharImage(), 0);
+			} else if (t instanceof TokenForDigraph) {
+				aux = DIGRAPH;
+			} else {
+				aux = PLAIN;
+			}
+			add(t.getType(), t.getOffset(), t.getEndOffset(), aux);
+		}
+
+		@Override
+		public void handleComment(boolean isBlockComment, int offset, int endOffset, AbstractCharArray input) {
+			add(isBlockComment ? BLOCK_COMMENT : LINE_COMMENT, offset, endOffset, 0);
+		}
+
+		@Override
+		public void handleProblem(int problemID, char[] info, int offset, int endOffset) {
+			add(PROBLEM, offset, endOffset, addImage(info, problemID));
+		}
+
+		LexedFile toLexedFile() {
+			int[] problemIDs = new int[fProblemIDs.size()];
+			for (int i = 0; i < problemIDs.length; i++) {
+				problemIDs[i] = fProblemIDs.get(i);
+			}
+			return new LexedFile(Arrays.copyOf(fEvents, fSize), fImages.toArray(new char[fImages.size()][]),
+					problemIDs);
+		}
+	}
+}
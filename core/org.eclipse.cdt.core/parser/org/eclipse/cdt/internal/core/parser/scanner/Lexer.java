@@ -111,6 +111,11 @@ final public class Lexer implements ITokenSequence {
 	private boolean fMarkInsideIncludeDirective;
 	private Token fMarkToken;
 	private Token fMarkLastToken;
+	private int fMarkLexedIndex;
+
+	// Tokens are replayed from a lexed file, rather than computed from the input.
+	private LexedFile fLexedFile;
+	private int fLexedIndex;
 
 	public Lexer(char[] input, LexerOptions options, ILexerLog log, Object source) {
 		this(new CharArray(input), 0, input.length, options, log, source);
@@ -131,6 +136,16 @@ final public class Lexer implements ITokenSequence {
 		nextCharPhase3();
 	}
 
+	/**
+	 * Creates a lexer that replays the tokens of a lexed file. The lexed file must have been
+	 * created from the given input with the same options.
+	 */
+	public Lexer(AbstractCharArray input, LexedFile lexedFile, LexerOptions options, ILexerLog log,
+			Object source) {
+		this(input, options, log, source);
+		fLexedFile = lexedFile;
+	}
+
 	private boolean isValidOffset(int pos) {
 		if (fLimit < 0)
 			return fInput.isValidOffset(pos);
@@ -150,6 +165,7 @@ final public class Lexer implements ITokenSequence {
 	 */
 	public void setContentAssistMode(int offset) {
 		fSupportContentAssist = true;
+		fLexedFile = null;
 		if (isValidOffset(offset)) {
 			fLimit = offset;
 		}
@@ -265,6 +281,9 @@ final public class Lexer implements ITokenSequence {
 	 * Computes the next token.
 	 */
 	private Token fetchToken() throws OffsetLimitReachedException {
+		if (fLexedFile != null)
+			return replayToken();
+
 		while (true) {
 			final int start = fOffset;
 			final int c = fCharPhase3;
@@ -720,6 +739,22 @@ final public class Lexer implements ITokenSequence {
 		}
 	}
 
+	/**
+	 * Returns the next token of the lexed file, the end-of-input token is returned repeatedly.
+	 */
+	private Token replayToken() {
+		final int last = fLexedFile.getEventCount() - 1;
+		while (true) {
+			final int idx = fLexedIndex;
+			if (idx < last) {
+				fLexedIndex++;
+			}
+			Token t = fLexedFile.replay(idx, fSource, fLog, fInput);
+			if (t != null)
+				return t;
+		}
+	}
+
 	private Token newToken(int kind, int offset) {
 		return new Token(kind, fSource, offset, fOffset);
 	}
@@ -1476,6 +1511,7 @@ final public class Lexer implements ITokenSequence {
 		fMarkInsideIncludeDirective = fInsideIncludeDirective;
 		fMarkToken = fToken;
 		fMarkLastToken = fLastToken;
+		fMarkLexedIndex = fLexedIndex;
 	}
 
 	public void restoreState() {
@@ -1485,5 +1521,6 @@ final public class Lexer implements ITokenSequence {
 		fInsideIncludeDirective = fMarkInsideIncludeDirective;
 		fToken = fMarkToken;
 		fLastToken = fMarkLastToken;
+		fLexedIndex = fMarkLexedIndex;
 	}
 }
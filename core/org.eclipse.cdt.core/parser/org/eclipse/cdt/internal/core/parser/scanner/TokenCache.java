@@ -0,0 +1,140 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.internal.core.parser.scanner;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.cdt.core.parser.IPreprocessorDirective;
+import org.eclipse.cdt.core.parser.Keywords;
+import org.eclipse.cdt.core.parser.util.CharArrayIntMap;
+
+/**
+ * Cache of lexed headers shared between the translation units of an indexer task. Entries are
+ * keyed by the hash of the file content and the options affecting the lexer, such that a header
+ * is lexed once no matter how often and in which macro context it is included.
+ * The least recently used entries are dropped when the number of cached tokens exceeds the limit.
+ */
+public final class TokenCache {
+	/** Maximum number of tokens kept in a cache, can be configured via a system property. */
+	public static final int DEFAULT_SIZE_LIMIT = Integer.getInteger("org.eclipse.cdt.core.parser.tokenCacheSize", //$NON-NLS-1$
+			2000000);
+
+	private static final class Key {
+		final long fContentsHash;
+		final int fLength;
+		final int fOptions;
+
+		Key(long contentsHash, int length, int options) {
+			fContentsHash = contentsHash;
+			fLength = length;
+			fOptions = options;
+		}
+
+		@Override
+		public int hashCode() {
+			return Long.hashCode(fContentsHash) + 31 * fOptions;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Key))
+				return false;
+			Key other = (Key) obj;
+			return fContentsHash == other.fContentsHash && fLength == other.fLength && fOptions == other.fOptions;
+		}
+	}
+
+	private final int fSizeLimit;
+	private int fSize;
+	private long fHits;
+	private long fMisses;
+	private final LinkedHashMap<Key, LexedFile> fCache = new LinkedHashMap<Key, LexedFile>(64, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Key, LexedFile> eldest) {
+			if (fSize > fSizeLimit) {
+				fSize -= eldest.getValue().getEventCount();
+				return true;
+			}
+			return false;
+		}
+	};
+
+	public TokenCache() {
+		this(DEFAULT_SIZE_LIMIT);
+	}
+
+	public TokenCache(int sizeLimit) {
+		fSizeLimit = sizeLimit;
+	}
+
+	/**
+	 * Returns the lexed form of the given content, lexing it if it is not yet cached.
+	 * @param ppKeywords the preprocessor keywords used to detect include directives.
+	 * @return the lexed content or {@code null} if it cannot be provided.
+	 */
+	public LexedFile get(AbstractCharArray input, Lexer.LexerOptions options, CharArrayIntMap ppKeywords) {
+		if (!input.isValidOffset(0))
+			return null; // Lexing empty files is cheaper than hashing them.
+
+		final Key key = new Key(input.getContentsHash(), input.getLength(), getOptionsKey(options, ppKeywords));
+		synchronized (fCache) {
+			LexedFile result = fCache.get(key);
+			if (result != null) {
+				fHits++;
+				return result;
+			}
+			fMisses++;
+		}
+		// Lex outside of the lock, in the rare case that two threads lex the same file one result
+		// replaces the other.
+		LexedFile result = LexedFile.create(input, options, ppKeywords);
+		if (result != null) {
+			synchronized (fCache) {
+				LexedFile old = fCache.put(key, result);
+				if (old != null) {
+					fSize -= old.getEventCount();
+				}
+				fSize += result.getEventCount();
+			}
+		}
+		return result;
+	}
+
+	private static int getOptionsKey(Lexer.LexerOptions options, CharArrayIntMap ppKeywords) {
+		int key = 0;
+		key = (key << 1) | (options.fSupportDollarInIdentifiers ? 1 : 0);
+		key = (key << 1) | (options.fSupportAtSignInIdentifiers ? 1 : 0);
+		key = (key << 1) | (options.fSupportMinAndMax ? 1 : 0);
+		key = (key << 1) | (options.fCreateImageLocations ? 1 : 0);
+		key = (key << 1) | (options.fSupportSlashPercentComments ? 1 : 0);
+		key = (key << 1) | (options.fSupportUTFLiterals ? 1 : 0);
+		key = (key << 1) | (options.fSupportRawStringLiterals ? 1 : 0);
+		key = (key << 1) | (options.fSupportUserDefinedLiterals ? 1 : 0);
+		key = (key << 1) | (options.fSupportDigitSeparators ? 1 : 0);
+		key = (key << 1) | (options.fSupportThreeWayComparisonOperator ? 1 : 0);
+		key = (key << 1) | (ppKeywords.get(Keywords.cINCLUDE_NEXT) == IPreprocessorDirective.ppInclude_next ? 1 : 0);
+		key = (key << 1) | (ppKeywords.get(Keywords.cIMPORT) == IPreprocessorDirective.ppImport ? 1 : 0);
+		return key;
+	}
+
+	public long getHits() {
+		synchronized (fCache) {
+			return fHits;
+		}
+	}
+
+	public long getMisses() {
+		synchronized (fCache) {
+			return fMisses;
+		}
+	}
+}
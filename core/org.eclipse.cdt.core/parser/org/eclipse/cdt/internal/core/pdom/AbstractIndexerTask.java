@@ -33,6 +33,11 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -75,6 +80,7 @@ import org.eclipse.cdt.internal.core.parser.ParserLogService;
 import org.eclipse.cdt.internal.core.parser.ParserSettings2;
 import org.eclipse.cdt.internal.core.parser.scanner.InternalFileContentProvider;
 import org.eclipse.cdt.internal.core.parser.scanner.InternalFileContentProvider.DependsOnOutdatedFileException;
+import org.eclipse.cdt.internal.core.parser.scanner.TokenCache;
 import org.eclipse.cdt.internal.core.parser.util.LRUCache;
 import org.eclipse.cdt.utils.EFSExtensionManager;
 import org.eclipse.core.runtime.CoreException;
@@ -251,6 +257,61 @@ public abstract class AbstractIndexerTask extends PDOMWriter {
 		}
 	}
 
+	/**
+	 * A required source file that is parsed on one of the parser threads. The resulting AST is
+	 * written to the index by the indexer thread.
+	 */
+	private final class ParseJob implements Runnable {
+		final Object fTu;
+		final AbstractLanguage fLanguage;
+		final IIndexFileLocation fLocation;
+		final IScannerInfo fScannerInfo;
+		final IProgressMonitor fMonitor;
+		FileContent fCodeReader;
+		IASTTranslationUnit fAST;
+		long fParsingTime;
+		boolean fSkipped;
+		Throwable fError;
+
+		ParseJob(Object tu, AbstractLanguage language, IIndexFileLocation ifl, IScannerInfo scannerInfo,
+				IProgressMonitor monitor) {
+			fTu = tu;
+			fLanguage = language;
+			fLocation = ifl;
+			fScannerInfo = scannerInfo;
+			fMonitor = monitor;
+		}
+
+		@Override
+		public void run() {
+			InternalFileContentProvider contentProvider = fParserContentProviders.poll();
+			if (contentProvider == null)
+				contentProvider = createFileContentProvider(fLanguage.getLinkageID());
+			// The pooled provider may have parsed a file of another linkage.
+			configureFileContentProvider(contentProvider, fLanguage.getLinkageID(), null);
+			try {
+				if (fShowActivity) {
+					trace("Indexer: parsing " + getLabel(fLocation).toOSString()); //$NON-NLS-1$
+				}
+				fCodeReader = fResolver.getCodeReader(fTu);
+				long start = System.currentTimeMillis();
+				fAST = createAST(fLanguage, fCodeReader, fScannerInfo, fASTOptions, contentProvider, fMonitor);
+				fParsingTime = System.currentTimeMillis() - start;
+			} catch (OperationCanceledException e) {
+				fSkipped = true;
+			} catch (RuntimeException e) {
+				// A dependency on an outdated file is handled when the file is parsed without context.
+				fSkipped = e.getCause() instanceof DependsOnOutdatedFileException;
+				if (!fSkipped)
+					fError = e;
+			} catch (StackOverflowError | CoreException | AssertionError | OutOfMemoryError e) {
+				fError = e;
+			} finally {
+				fParserContentProviders.add(contentProvider);
+			}
+		}
+	}
+
 	public static class IndexFileContent {
 		private Object[] fPreprocessingDirectives;
 		private ICPPUsingDirective[] fDirectives;
@@ -323,8 +384,11 @@ public abstract class AbstractIndexerTask extends PDOMWriter {
 	private Set<String> fHeadersToIndexAllVersions = Collections.emptySet();
 	private Pattern fPragmaPrivatePattern;
 	private List<LinkageTask> fRequestsPerLinkage = new ArrayList<>();
-	private Map<IIndexFile, IndexFileContent> fIndexContentCache = new LRUCache<>(500);
-	private Map<IIndexFileLocation, IIndexFragmentFile[]> fIndexFilesCache = new LRUCache<>(5000);
+	// The caches are accessed by the parser threads when parsing in parallel.
+	private Map<IIndexFile, IndexFileContent> fIndexContentCache = Collections
+			.synchronizedMap(new LRUCache<>(500));
+	private Map<IIndexFileLocation, IIndexFragmentFile[]> fIndexFilesCache = Collections
+			.synchronizedMap(new LRUCache<>(5000));
 	private Map<IIndexFileLocation, LocationTask> fOneLinkageTasks = new HashMap<>();
 
 	private Object[] fFilesToUpdate;
@@ -339,6 +403,14 @@ public abstract class AbstractIndexerTask extends PDOMWriter {
 	private long fIncludedFileSizeLimit;
 	private InternalFileContentProvider fCodeReaderFactory;
 	private int fSwallowOutOfMemoryError = 5;
+	private int fParserThreads = 1;
+	private ExecutorService fParserExecutor;
+	// Headers are lexed once per task, the cache can be disabled via a system property.
+	private final TokenCache fTokenCache = Boolean
+			.parseBoolean(System.getProperty("org.eclipse.cdt.core.indexer.tokenCache", "true")) //$NON-NLS-1$ //$NON-NLS-2$
+					? new TokenCache()
+					: null;
+	private final ConcurrentLinkedQueue<InternalFileContentProvider> fParserContentProviders = new ConcurrentLinkedQueue<>();
 	/**
 	 * A queue of urgent indexing tasks that contribute additional files to this task.
 	 * The files from the urgent tasks are indexed before all not yet processed files.
@@ -398,6 +470,15 @@ public abstract class AbstractIndexerTask extends PDOMWriter {
 		fPragmaPrivatePattern = pattern;
 	}
 
+	/**
+	 * Sets the number of threads used to parse source files. With more than one thread the
+	 * required sources are parsed concurrently in batches, the ASTs are written to the index
+	 * by the thread running the task.
+	 */
+	public final void setParserThreads(int threads) {
+		fParserThreads = Math.max(1, threads);
+	}
+
 	/**
 	 * @see IPDOMIndexerTask#acceptUrgentTask(IPDOMIndexerTask)
 	 */
@@ -621,10 +702,17 @@ public abstract class AbstractIndexerTask extends PDOMWriter {
 					setResume(false, progress.split(1));
 				} finally {
 					fIndex.flush();
+					fTelemetry.setCacheStatistics(fIndex.getCacheHits(), fIndex.getCacheMisses());
 				}
 			} catch (CoreException e) {
 				logException(e);
 			} finally {
+				if (fParserExecutor != null) {
+					// All parse jobs have completed, the parser threads no longer access the index.
+					fParserExecutor.shutdown();
+					fParserExecutor = null;
+					fParserContentProviders.clear();
+				}
 				fIndex.releaseReadLock();
 			}
 		} finally {
@@ -897,17 +985,22 @@ public abstract class AbstractIndexerTask extends PDOMWriter {
 				continue;
 
 			// First parse the required sources.
-			for (Iterator<IIndexFileLocation> it = filesAtPriority.iterator(); it.hasNext();) {
-				IIndexFileLocation ifl = it.next();
-				LocationTask locTask = map.find(ifl);
-				if (locTask == null || locTask.isCompleted()) {
-					it.remove();
-				} else if (locTask.fKind == UpdateKind.REQUIRED_SOURCE) {
-					if (hasUrgentTasks())
-						return;
-					final Object tu = locTask.fTu;
-					final IScannerInfo scannerInfo = getScannerInfo(linkageID, tu);
-					parseFile(tu, getLanguage(tu, linkageID), ifl, scannerInfo, null, progress.split(1));
+			if (fParserThreads > 1) {
+				if (!parseRequiredSourcesInParallel(linkageID, map, filesAtPriority, progress))
+					return;
+			} else {
+				for (Iterator<IIndexFileLocation> it = filesAtPriority.iterator(); it.hasNext();) {
+					IIndexFileLocation ifl = it.next();
+					LocationTask locTask = map.find(ifl);
+					if (locTask == null || locTask.isCompleted()) {
+						it.remove();
+					} else if (locTask.fKind == UpdateKind.REQUIRED_SOURCE) {
+						if (hasUrgentTasks())
+							return;
+						final Object tu = locTask.fTu;
+						final IScannerInfo scannerInfo = getScannerInfo(linkageID, tu);
+						parseFile(tu, getLanguage(tu, linkageID), ifl, scannerInfo, null, progress.split(1));
+					}
 				}
 			}
 
@@ -1099,12 +1192,14 @@ public abstract class AbstractIndexerTask extends PDOMWriter {
 			FileContent codeReader = fResolver.getCodeReader(tu);
 
 			long start = System.currentTimeMillis();
-			IASTTranslationUnit ast = createAST(lang, codeReader, scanInfo, fASTOptions, ctx, progress.split(10));
-			fStatistics.fParsingTime += System.currentTimeMillis() - start;
+			IASTTranslationUnit ast = createAST(lang, codeReader, scanInfo, fASTOptions,
+					getFileContentProvider(lang.getLinkageID(), ctx), progress.split(10));
+			final long parsingTime = System.currentTimeMillis() - start;
+			fStatistics.fParsingTime += parsingTime;
 			if (ast == null) {
 				++fStatistics.fTooManyTokensCount;
 			} else {
-				writeToIndex(lang.getLinkageID(), ast, codeReader, ctx, progress.split(10));
+				writeToIndex(lang.getLinkageID(), ast, codeReader, ctx, parsingTime, progress.split(10));
 				resultCacheCleared = true; // The cache was cleared while writing to the index.
 			}
 			if (fShowActivity) {
@@ -1208,8 +1303,171 @@ public abstract class AbstractIndexerTask extends PDOMWriter {
 		return e;
 	}
 
+	/**
+	 * Parses the required sources of one priority in batches of {@link #fParserThreads} files.
+	 * The files of a batch are parsed concurrently under the read lock held by this task and
+	 * are then written to the index one after the other by the calling thread.
+	 *
+	 * @return {@code false} if parsing was interrupted in favor of an urgent task.
+	 */
+	private boolean parseRequiredSourcesInParallel(int linkageID, LinkageTask map, List<IIndexFileLocation> files,
+			SubMonitor progress) throws CoreException, InterruptedException {
+		if (fParserExecutor == null) {
+			fParserExecutor = Executors.newFixedThreadPool(fParserThreads, runnable -> {
+				Thread thread = new Thread(runnable, "C/C++ Indexer Parser"); //$NON-NLS-1$
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+		List<ParseJob> batch = new ArrayList<>(fParserThreads);
+		for (Iterator<IIndexFileLocation> it = files.iterator(); it.hasNext();) {
+			IIndexFileLocation ifl = it.next();
+			LocationTask locTask = map.find(ifl);
+			if (locTask == null || locTask.isCompleted()) {
+				it.remove();
+			} else if (locTask.fKind == UpdateKind.REQUIRED_SOURCE) {
+				if (hasUrgentTasks())
+					return false;
+				final Object tu = locTask.fTu;
+				final IScannerInfo scannerInfo = getScannerInfo(linkageID, tu);
+				batch.add(new ParseJob(tu, getLanguage(tu, linkageID), ifl, scannerInfo, progress));
+				if (batch.size() == fParserThreads) {
+					parseBatch(map, batch, progress);
+					batch.clear();
+				}
+			}
+		}
+		if (!batch.isEmpty())
+			parseBatch(map, batch, progress);
+		return true;
+	}
+
+	private void parseBatch(LinkageTask map, List<ParseJob> batch, SubMonitor progress)
+			throws CoreException, InterruptedException {
+		List<Future<?>> futures = new ArrayList<>(batch.size());
+		for (ParseJob job : batch) {
+			futures.add(fParserExecutor.submit(job));
+		}
+		// The parser threads rely on the read lock of this task, so all of them have to be done
+		// before a write lock can be acquired, even if we are interrupted.
+		boolean interrupted = false;
+		for (Future<?> future : futures) {
+			while (true) {
+				try {
+					future.get();
+					break;
+				} catch (InterruptedException e) {
+					interrupted = true;
+					cancel();
+				} catch (ExecutionException e) {
+					logException(e.getCause());
+					break;
+				}
+			}
+		}
+		if (interrupted)
+			throw new InterruptedException();
+
+		for (ParseJob job : batch) {
+			LocationTask locTask = map.find(job.fLocation);
+			if (locTask == null || locTask.isCompleted()) {
+				// The file has been written to the index while writing another AST of the batch.
+				progress.split(1);
+				continue;
+			}
+			writeParsedFile(job, progress.split(1));
+		}
+	}
+
+	private void writeParsedFile(ParseJob job, IProgressMonitor monitor) throws CoreException, InterruptedException {
+		SubMonitor progress = SubMonitor.convert(monitor, 11);
+		boolean resultCacheCleared = false;
+		IPath path = getLabel(job.fLocation);
+		Throwable th = job.fError;
+		if (th == null && !job.fSkipped) {
+			try {
+				progress.subTask(getMessage(MessageKind.parsingFileTask, path.lastSegment(),
+						path.removeLastSegments(1).toString()));
+				fStatistics.fParsingTime += job.fParsingTime;
+				if (job.fAST == null) {
+					++fStatistics.fTooManyTokensCount;
+				} else {
+					long start = System.currentTimeMillis();
+					writeToIndex(job.fLanguage.getLinkageID(), job.fAST, job.fCodeReader, null, job.fParsingTime,
+							progress.split(10));
+					resultCacheCleared = true; // The cache was cleared while writing to the index.
+					if (fShowActivity) {
+						long time = System.currentTimeMillis() - start + job.fParsingTime;
+						trace("Indexer: processed " + path.toOSString() + " [" + time + " ms]"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+					}
+				}
+			} catch (OperationCanceledException e) {
+			} catch (RuntimeException | StackOverflowError | CoreException | AssertionError | OutOfMemoryError e) {
+				th = e;
+			} finally {
+				// Release the AST as early as possible.
+				job.fAST = null;
+			}
+		}
+		if (th instanceof OutOfMemoryError && --fSwallowOutOfMemoryError < 0)
+			throw (OutOfMemoryError) th;
+		if (th != null) {
+			swallowError(path, th);
+		}
+
+		if (!resultCacheCleared) {
+			fIndex.acquireWriteLock(progress.split(1));
+			try {
+				fIndex.clearResultCache();
+			} finally {
+				fIndex.releaseWriteLock();
+			}
+		}
+	}
+
+	/**
+	 * Returns the file content provider used by the indexer thread, configured for the given
+	 * linkage and context.
+	 */
+	private InternalFileContentProvider getFileContentProvider(int linkageID, FileContext ctx) {
+		if (fCodeReaderFactory == null) {
+			fCodeReaderFactory = createFileContentProvider(linkageID);
+		}
+		configureFileContentProvider(fCodeReaderFactory, linkageID, ctx);
+		return fCodeReaderFactory;
+	}
+
+	private void configureFileContentProvider(InternalFileContentProvider provider, int linkageID,
+			FileContext ctx) {
+		if (fIsFastIndexer) {
+			final IIndexFile[] ctx2header = ctx == null ? null : new IIndexFile[] { ctx.fContext, ctx.fOldFile };
+			final IndexBasedFileContentProvider ibfcp = (IndexBasedFileContentProvider) provider;
+			ibfcp.setContextToHeaderGap(ctx2header);
+			ibfcp.setLinkage(linkageID);
+		}
+	}
+
+	private InternalFileContentProvider createFileContentProvider(int linkageID) {
+		InternalFileContentProvider fileContentProvider = createInternalFileContentProvider();
+		InternalFileContentProvider result;
+		if (fIsFastIndexer) {
+			IndexBasedFileContentProvider ibfcp = new IndexBasedFileContentProvider(fIndex, fResolver, linkageID,
+					fileContentProvider, this);
+			ibfcp.setFileSizeLimit(fIncludedFileSizeLimit);
+			ibfcp.setHeadersToIndexAllVersions(fHeadersToIndexAllVersions);
+			ibfcp.setIndexAllHeaderVersions(fIndexAllHeaderVersions);
+			result = ibfcp;
+		} else {
+			result = fileContentProvider;
+		}
+		result.setIncludeResolutionHeuristics(createIncludeHeuristics());
+		result.setTokenCache(fTokenCache);
+		return result;
+	}
+
 	private final IASTTranslationUnit createAST(AbstractLanguage language, FileContent codeReader,
-			IScannerInfo scanInfo, int options, FileContext ctx, IProgressMonitor monitor) throws CoreException {
+			IScannerInfo scanInfo, int options, InternalFileContentProvider contentProvider, IProgressMonitor monitor)
+			throws CoreException {
 		if (codeReader == null) {
 			return null;
 		}
@@ -1220,28 +1478,8 @@ public abstract class AbstractIndexerTask extends PDOMWriter {
 			}
 			return null;
 		}
-		final IIndexFile[] ctx2header = ctx == null ? null : new IIndexFile[] { ctx.fContext, ctx.fOldFile };
-		if (fCodeReaderFactory == null) {
-			InternalFileContentProvider fileContentProvider = createInternalFileContentProvider();
-			if (fIsFastIndexer) {
-				IndexBasedFileContentProvider ibfcp = new IndexBasedFileContentProvider(fIndex, fResolver,
-						language.getLinkageID(), fileContentProvider, this);
-				ibfcp.setContextToHeaderGap(ctx2header);
-				ibfcp.setFileSizeLimit(fIncludedFileSizeLimit);
-				ibfcp.setHeadersToIndexAllVersions(fHeadersToIndexAllVersions);
-				ibfcp.setIndexAllHeaderVersions(fIndexAllHeaderVersions);
-				fCodeReaderFactory = ibfcp;
-			} else {
-				fCodeReaderFactory = fileContentProvider;
-			}
-			fCodeReaderFactory.setIncludeResolutionHeuristics(createIncludeHeuristics());
-		} else if (fIsFastIndexer) {
-			final IndexBasedFileContentProvider ibfcp = (IndexBasedFileContentProvider) fCodeReaderFactory;
-			ibfcp.setContextToHeaderGap(ctx2header);
-			ibfcp.setLinkage(language.getLinkageID());
-		}
 
-		IASTTranslationUnit ast = language.getASTTranslationUnit(codeReader, scanInfo, fCodeReaderFactory, fIndex,
+		IASTTranslationUnit ast = language.getASTTranslationUnit(codeReader, scanInfo, contentProvider, fIndex,
 				options, getLogService());
 		if (monitor.isCanceled()) {
 			throw new OperationCanceledException();
@@ -1258,8 +1496,11 @@ public abstract class AbstractIndexerTask extends PDOMWriter {
 	}
 
 	private void writeToIndex(final int linkageID, IASTTranslationUnit ast, FileContent codeReader, FileContext ctx,
-			IProgressMonitor monitor) throws CoreException, InterruptedException {
+			long parsingTime, IProgressMonitor monitor) throws CoreException, InterruptedException {
 		SubMonitor progress = SubMonitor.convert(monitor, 3);
+		final int resolutionTime = fStatistics.fResolutionTime;
+		final int addToIndexTime = fStatistics.fAddToIndexTime;
+		final int lockWaitTime = fStatistics.fLockWaitTime;
 		HashSet<FileContentKey> enteredFiles = new HashSet<>();
 		ArrayList<FileInAST> orderedFileKeys = new ArrayList<>();
 
@@ -1313,6 +1554,8 @@ public abstract class AbstractIndexerTask extends PDOMWriter {
 				if (storageLinkageID != ILinkage.NO_LINKAGE_ID)
 					addSymbols(data, storageLinkageID, ctx, progress.split(1));
 			}
+			fTelemetry.recordTranslationUnit(ast, parsingTime, fStatistics.fResolutionTime - resolutionTime,
+					fStatistics.fAddToIndexTime - addToIndexTime, fStatistics.fLockWaitTime - lockWaitTime);
 		} catch (CoreException | RuntimeException | Error e) {
 			// Avoid parsing files again, that caused an exception to be thrown.
 			withdrawRequests(linkageID, fileKeys);
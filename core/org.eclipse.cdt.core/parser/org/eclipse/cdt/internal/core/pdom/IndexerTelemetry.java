@@ -0,0 +1,238 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.internal.core.pdom;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.cdt.core.dom.ast.IASTFileLocation;
+import org.eclipse.cdt.core.dom.ast.IASTPreprocessorIncludeStatement;
+import org.eclipse.cdt.core.dom.ast.IASTTranslationUnit;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+/**
+ * Detailed metrics of an indexer task complementing the aggregated {@link IndexerStatistics}:
+ * the timings of each translation unit, the headers that were parsed most often and the
+ * hit ratio of the database cache. All times are in milliseconds.
+ */
+public class IndexerTelemetry {
+	/** Maximum number of headers reported by {@link #toJson()}. */
+	public static final int HOT_HEADER_COUNT = 50;
+
+	/**
+	 * Timings of a single translation unit.
+	 */
+	public static final class FileTiming {
+		public final String fLocation;
+		public final long fParsingTime;
+		public final long fResolutionTime;
+		public final long fAddToIndexTime;
+		public final long fLockWaitTime;
+		public final int fParsedHeaderCount;
+
+		FileTiming(String location, long parsingTime, long resolutionTime, long addToIndexTime, long lockWaitTime,
+				int parsedHeaderCount) {
+			fLocation = location;
+			fParsingTime = parsingTime;
+			fResolutionTime = resolutionTime;
+			fAddToIndexTime = addToIndexTime;
+			fLockWaitTime = lockWaitTime;
+			fParsedHeaderCount = parsedHeaderCount;
+		}
+
+		public long getTotalTime() {
+			return fParsingTime + fResolutionTime + fAddToIndexTime + fLockWaitTime;
+		}
+	}
+
+	/**
+	 * Accumulated cost of a header that was parsed as part of one or more translation units.
+	 * The parsing time of a translation unit is attributed to the parsed files proportional to
+	 * their size, since the parser does not measure the time per file.
+	 */
+	public static final class HeaderCost {
+		public final String fLocation;
+		int fParseCount;
+		long fParsedBytes;
+		double fEstimatedParsingTime;
+
+		HeaderCost(String location) {
+			fLocation = location;
+		}
+
+		public int getParseCount() {
+			return fParseCount;
+		}
+
+		public long getParsedBytes() {
+			return fParsedBytes;
+		}
+
+		public double getEstimatedParsingTime() {
+			return fEstimatedParsingTime;
+		}
+	}
+
+	private final List<FileTiming> fFileTimings = new ArrayList<>();
+	private final Map<String, HeaderCost> fHeaderCosts = new HashMap<>();
+	private long fCacheHits;
+	private long fCacheMisses;
+
+	/**
+	 * Records the timings of a translation unit and attributes its parsing time to the headers
+	 * parsed with it.
+	 */
+	public synchronized void recordTranslationUnit(IASTTranslationUnit ast, long parsingTime, long resolutionTime,
+			long addToIndexTime, long lockWaitTime) {
+		long totalSize = 0;
+		IASTFileLocation location = ast.getFileLocation();
+		if (location != null)
+			totalSize += location.getNodeLength();
+		List<IASTPreprocessorIncludeStatement> parsedHeaders = new ArrayList<>();
+		for (IASTPreprocessorIncludeStatement include : ast.getIncludeDirectives()) {
+			if (include.isActive() && include.isResolved() && include.createsAST()) {
+				parsedHeaders.add(include);
+				totalSize += include.getIncludedFileSize();
+			}
+		}
+		for (IASTPreprocessorIncludeStatement include : parsedHeaders) {
+			final String path = include.getPath();
+			HeaderCost cost = fHeaderCosts.get(path);
+			if (cost == null) {
+				cost = new HeaderCost(path);
+				fHeaderCosts.put(path, cost);
+			}
+			final long size = include.getIncludedFileSize();
+			cost.fParseCount++;
+			cost.fParsedBytes += size;
+			if (totalSize > 0)
+				cost.fEstimatedParsingTime += (double) parsingTime * size / totalSize;
+		}
+		fFileTimings.add(new FileTiming(ast.getFilePath(), parsingTime, resolutionTime, addToIndexTime, lockWaitTime,
+				parsedHeaders.size()));
+	}
+
+	/**
+	 * Sets the number of hits and misses of the database cache during the indexer task.
+	 */
+	public synchronized void setCacheStatistics(long hits, long misses) {
+		fCacheHits = hits;
+		fCacheMisses = misses;
+	}
+
+	/**
+	 * Returns the timings of the translation units in the order in which they were indexed.
+	 */
+	public synchronized List<FileTiming> getFileTimings() {
+		return new ArrayList<>(fFileTimings);
+	}
+
+	/**
+	 * Returns at most {@code max} headers ordered by decreasing estimated parsing time.
+	 */
+	public synchronized List<HeaderCost> getHotHeaders(int max) {
+		List<HeaderCost> result = new ArrayList<>(fHeaderCosts.values());
+		Collections.sort(result, (a, b) -> Double.compare(b.fEstimatedParsingTime, a.fEstimatedParsingTime));
+		return result.size() > max ? new ArrayList<>(result.subList(0, max)) : result;
+	}
+
+	public synchronized long getCacheHits() {
+		return fCacheHits;
+	}
+
+	public synchronized long getCacheMisses() {
+		return fCacheMisses;
+	}
+
+	/**
+	 * Returns the ratio of database cache hits to all cache accesses, or {@code 0} if the
+	 * cache was not accessed.
+	 */
+	public synchronized double getCacheHitRatio() {
+		final long tries = fCacheHits + fCacheMisses;
+		return tries == 0 ? 0.0 : (double) fCacheHits / tries;
+	}
+
+	/**
+	 * Returns the total time spent waiting for the write lock of the index.
+	 */
+	public synchronized long getLockWaitTime() {
+		long result = 0;
+		for (FileTiming timing : fFileTimings) {
+			result += timing.fLockWaitTime;
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the metrics as a JSON document.
+	 */
+	public synchronized String toJson() {
+		JsonObject root = new JsonObject();
+		long parsingTime = 0, resolutionTime = 0, addToIndexTime = 0, lockWaitTime = 0;
+		JsonArray files = new JsonArray();
+		for (FileTiming timing : fFileTimings) {
+			parsingTime += timing.fParsingTime;
+			resolutionTime += timing.fResolutionTime;
+			addToIndexTime += timing.fAddToIndexTime;
+			lockWaitTime += timing.fLockWaitTime;
+			JsonObject file = new JsonObject();
+			file.addProperty("location", timing.fLocation); //$NON-NLS-1$
+			file.addProperty("parse", timing.fParsingTime); //$NON-NLS-1$
+			file.addProperty("resolve", timing.fResolutionTime); //$NON-NLS-1$
+			file.addProperty("write", timing.fAddToIndexTime); //$NON-NLS-1$
+			file.addProperty("lockWait", timing.fLockWaitTime); //$NON-NLS-1$
+			file.addProperty("parsedHeaders", timing.fParsedHeaderCount); //$NON-NLS-1$
+			files.add(file);
+		}
+		JsonObject totals = new JsonObject();
+		totals.addProperty("translationUnits", fFileTimings.size()); //$NON-NLS-1$
+		totals.addProperty("parse", parsingTime); //$NON-NLS-1$
+		totals.addProperty("resolve", resolutionTime); //$NON-NLS-1$
+		totals.addProperty("write", addToIndexTime); //$NON-NLS-1$
+		totals.addProperty("lockWait", lockWaitTime); //$NON-NLS-1$
+		root.add("totals", totals); //$NON-NLS-1$
+
+		JsonObject cache = new JsonObject();
+		cache.addProperty("hits", fCacheHits); //$NON-NLS-1$
+		cache.addProperty("misses", fCacheMisses); //$NON-NLS-1$
+		cache.addProperty("hitRatio", getCacheHitRatio()); //$NON-NLS-1$
+		root.add("cache", cache); //$NON-NLS-1$
+
+		JsonArray headers = new JsonArray();
+		for (HeaderCost cost : getHotHeaders(HOT_HEADER_COUNT)) {
+			JsonObject header = new JsonObject();
+			header.addProperty("location", cost.fLocation); //$NON-NLS-1$
+			header.addProperty("parseCount", cost.fParseCount); //$NON-NLS-1$
+			header.addProperty("parsedBytes", cost.fParsedBytes); //$NON-NLS-1$
+			header.addProperty("estimatedParse", Math.round(cost.fEstimatedParsingTime)); //$NON-NLS-1$
+			headers.add(header);
+		}
+		root.add("hotHeaders", headers); //$NON-NLS-1$
+		root.add("files", files); //$NON-NLS-1$
+		return new GsonBuilder().setPrettyPrinting().create().toJson(root);
+	}
+
+	/**
+	 * Writes the metrics as a JSON document to the given writer.
+	 */
+	public void writeJson(Writer writer) throws IOException {
+		writer.write(toJson());
+	}
+}
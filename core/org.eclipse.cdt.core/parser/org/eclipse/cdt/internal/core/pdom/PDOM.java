@@ -32,6 +32,8 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.regex.Pattern;
 
 import org.eclipse.cdt.core.CCorePlugin;
@@ -115,6 +117,8 @@ public class PDOM extends PlatformObject implements IPDOM {
 	private static final int BLOCKED_WRITE_LOCK_OUTPUT_INTERVAL = 30000;
 	private static final int LONG_WRITE_LOCK_REPORT_THRESHOLD = 1000;
 	private static final int LONG_READ_LOCK_WAIT_REPORT_THRESHOLD = 1000;
+	/** Incremented whenever the content of existing bindings may have changed, in any PDOM. */
+	private static final AtomicLong sBindingModificationStamp = new AtomicLong();
 	static boolean sDEBUG_LOCKS; // Initialized in the PDOMManager, because IBM needs PDOM independent of runtime plugin.
 
 	/**
@@ -449,7 +453,7 @@ public class PDOM extends PlatformObject implements IPDOM {
 
 	private void loadDatabase(File dbPath, ChunkCache cache) throws CoreException {
 		fPath = dbPath;
-		final boolean lockDB = db == null || lockCount != 0;
+		final boolean lockDB = db == null || lockCount.get() != 0;
 
 		clearCaches();
 		db = new Database(fPath, cache, getDefaultVersion(), isPermanentlyReadOnly());
@@ -460,7 +464,7 @@ public class PDOM extends PlatformObject implements IPDOM {
 				readLinkages();
 			}
 		} finally {
-			db.setLocked(lockCount != 0);
+			db.setLocked(lockCount.get() != 0);
 		}
 	}
 
@@ -660,7 +664,7 @@ public class PDOM extends PlatformObject implements IPDOM {
 	}
 
 	protected void clear() throws CoreException {
-		assert lockCount < 0; // needs write-lock.
+		assert lockCount.get() < 0; // needs write-lock.
 
 		// Clear out the database, everything is set to zero.
 		int vers = getDefaultVersion();
@@ -670,7 +674,7 @@ public class PDOM extends PlatformObject implements IPDOM {
 	}
 
 	void reloadFromFile(File file) throws CoreException {
-		assert lockCount < 0; // must have write lock.
+		assert lockCount.get() < 0; // must have write lock.
 		File oldFile = fPath;
 		clearCaches();
 		try {
@@ -1002,50 +1006,95 @@ public class PDOM extends PlatformObject implements IPDOM {
 
 	// Read-write lock rules. Readers don't conflict with other readers,
 	// Writers conflict with readers, and everyone conflicts with writers.
+	// The lock count is the number of read locks, or -1 while the write lock is held. Read locks
+	// are acquired and released with a compare-and-set on the lock count while other read locks
+	// are held. The first read lock is acquired and the last one released under the mutex,
+	// together with the lock of the database, such that the database is locked whenever the lock
+	// count is not zero. The mutex is also used when a reader has to wait for a writer or a writer
+	// has to wait for readers.
 	private final Object mutex = new Object();
-	private int lockCount;
-	private int waitingReaders;
+	private final AtomicInteger lockCount = new AtomicInteger();
+	private volatile int waitingReaders;
+	private volatile int waitingWriters;
 	private long lastWriteAccess = 0;
-	private long lastReadAccess = 0;
+	private volatile long lastReadAccess = 0;
 	private long timeWriteLockAcquired;
 
 	@Override
 	public void acquireReadLock() throws InterruptedException {
 		long t = sDEBUG_LOCKS ? System.nanoTime() : 0;
-		synchronized (mutex) {
-			++waitingReaders;
-			try {
-				while (lockCount < 0)
-					mutex.wait();
-			} finally {
-				--waitingReaders;
+		if (!tryIncrementReadLocks()) {
+			synchronized (mutex) {
+				while (!tryIncrementReadLocks()) {
+					if (lockCount.get() == 0) {
+						// No other thread changes a zero count without the mutex. The database is
+						// locked before readers can add read locks without the mutex.
+						db.setLocked(true);
+						lockCount.set(1);
+						break;
+					}
+					++waitingReaders;
+					try {
+						mutex.wait();
+					} finally {
+						--waitingReaders;
+					}
+				}
 			}
-			++lockCount;
-			db.setLocked(true);
+		}
 
-			if (sDEBUG_LOCKS) {
-				t = (System.nanoTime() - t) / 1000000;
-				if (t >= LONG_READ_LOCK_WAIT_REPORT_THRESHOLD) {
-					System.out.println("Acquired index read lock after " + t + " ms wait."); //$NON-NLS-1$//$NON-NLS-2$
-				}
+		if (sDEBUG_LOCKS) {
+			t = (System.nanoTime() - t) / 1000000;
+			if (t >= LONG_READ_LOCK_WAIT_REPORT_THRESHOLD) {
+				System.out.println("Acquired index read lock after " + t + " ms wait."); //$NON-NLS-1$//$NON-NLS-2$
+			}
+			synchronized (mutex) {
 				incReadLock(fLockDebugging);
 			}
 		}
 	}
 
+	/**
+	 * Adds a read lock if other read locks are held.
+	 */
+	private boolean tryIncrementReadLocks() {
+		int count;
+		do {
+			count = lockCount.get();
+			if (count <= 0)
+				return false;
+		} while (!lockCount.compareAndSet(count, count + 1));
+		return true;
+	}
+
 	@Override
 	public void releaseReadLock() {
-		synchronized (mutex) {
-			assert lockCount > 0 : "No lock to release"; //$NON-NLS-1$
-			if (sDEBUG_LOCKS) {
+		if (sDEBUG_LOCKS) {
+			synchronized (mutex) {
 				decReadLock(fLockDebugging);
 			}
-
-			lastReadAccess = System.currentTimeMillis();
-			if (lockCount > 0)
-				--lockCount;
-			mutex.notifyAll();
-			db.setLocked(lockCount != 0);
+		}
+		int count;
+		do {
+			count = lockCount.get();
+			assert count > 0 : "No lock to release"; //$NON-NLS-1$
+			if (count <= 1)
+				break;
+		} while (!lockCount.compareAndSet(count, count - 1));
+
+		lastReadAccess = System.currentTimeMillis();
+		if (count == 1) {
+			// Possibly the last read lock, no reader can acquire the first one meanwhile.
+			synchronized (mutex) {
+				if (lockCount.decrementAndGet() == 0) {
+					db.setLocked(false);
+				}
+				mutex.notifyAll();
+			}
+		} else if (count > 1 && waitingWriters > 0) {
+			synchronized (mutex) {
+				mutex.notifyAll();
+			}
 		}
 		// A lock release probably means that some AST is going away. The result cache has to be
 		// cleared since it may contain objects belonging to the AST that is going away. A failure
@@ -1080,9 +1129,10 @@ public class PDOM extends PlatformObject implements IPDOM {
 
 			if (giveupReadLocks > 0) {
 				// give up on read locks
-				assert lockCount >= giveupReadLocks : "Not enough locks to release"; //$NON-NLS-1$
-				if (lockCount < giveupReadLocks) {
-					giveupReadLocks = lockCount;
+				final int count = lockCount.get();
+				assert count >= giveupReadLocks : "Not enough locks to release"; //$NON-NLS-1$
+				if (count < giveupReadLocks) {
+					giveupReadLocks = count;
 				}
 			} else {
 				giveupReadLocks = 0;
@@ -1091,20 +1141,26 @@ public class PDOM extends PlatformObject implements IPDOM {
 			// Let the readers go first
 			long start = sDEBUG_LOCKS ? System.currentTimeMillis() : 0;
 			int count = 0;
-			while (lockCount > giveupReadLocks || waitingReaders > 0) {
-				mutex.wait(CANCELLATION_CHECK_INTERVAL);
-				if (monitor != null && monitor.isCanceled()) {
-					throw new OperationCanceledException();
-				}
-				count++;
-				if (monitor != null && count == LONG_WRITE_LOCK_REPORT_THRESHOLD / CANCELLATION_CHECK_INTERVAL) {
-					monitor.subTask(Messages.PDOM_waitingForWriteLock);
-				}
-				if (sDEBUG_LOCKS) {
-					start = reportBlockedWriteLock(start, giveupReadLocks);
+			++waitingWriters;
+			try {
+				// The read locks given up are converted into the write lock, provided that no other
+				// thread holds or waits for a read lock.
+				while (waitingReaders > 0 || !lockCount.compareAndSet(giveupReadLocks, -1)) {
+					mutex.wait(CANCELLATION_CHECK_INTERVAL);
+					if (monitor != null && monitor.isCanceled()) {
+						throw new OperationCanceledException();
+					}
+					count++;
+					if (monitor != null && count == LONG_WRITE_LOCK_REPORT_THRESHOLD / CANCELLATION_CHECK_INTERVAL) {
+						monitor.subTask(Messages.PDOM_waitingForWriteLock);
+					}
+					if (sDEBUG_LOCKS) {
+						start = reportBlockedWriteLock(start, giveupReadLocks);
+					}
 				}
+			} finally {
+				--waitingWriters;
 			}
-			lockCount = -1;
 			if (sDEBUG_LOCKS)
 				timeWriteLockAcquired = System.currentTimeMillis();
 			db.setExclusiveLock();
@@ -1128,7 +1184,7 @@ public class PDOM extends PlatformObject implements IPDOM {
 		} catch (CoreException e) {
 			CCorePlugin.log(e);
 		}
-		assert lockCount == -1;
+		assert lockCount.get() == -1;
 		if (!fEvent.isTrivial())
 			lastWriteAccess = System.currentTimeMillis();
 		final ChangeEvent event = fEvent;
@@ -1142,19 +1198,16 @@ public class PDOM extends PlatformObject implements IPDOM {
 				decWriteLock(establishReadLocks);
 			}
 
-			if (lockCount < 0)
-				lockCount = establishReadLocks;
+			db.setLocked(establishReadLocks != 0);
+			lockCount.compareAndSet(-1, establishReadLocks);
 			mutex.notifyAll();
-			db.setLocked(lockCount != 0);
 		}
 		fireChange(event);
 	}
 
 	@Override
 	public boolean hasWaitingReaders() {
-		synchronized (mutex) {
-			return waitingReaders > 0;
-		}
+		return waitingReaders > 0;
 	}
 
 	@Override
@@ -1511,7 +1564,20 @@ public class PDOM extends PlatformObject implements IPDOM {
 		clearCaches();
 	}
 
+	/**
+	 * Returns a value that changes whenever bindings stored in any PDOM may have been cleared or
+	 * replaced. Caches holding on to PDOM bindings across write locks can use it for invalidation.
+	 */
+	public static long getBindingModificationStamp() {
+		return sBindingModificationStamp.get();
+	}
+
+	protected static void bindingsModified() {
+		sBindingModificationStamp.incrementAndGet();
+	}
+
 	private void clearCaches() {
+		bindingsModified();
 		fileIndex = null;
 		tagIndex = null;
 		indexOfDefectiveFiles = null;
@@ -1889,7 +1955,7 @@ public class PDOM extends PlatformObject implements IPDOM {
 		if (now >= start + BLOCKED_WRITE_LOCK_OUTPUT_INTERVAL) {
 			System.out.println();
 			System.out.println("Blocked writeLock");
-			System.out.println("  lockcount= " + lockCount + ", giveupReadLocks=" + giveupReadLocks
+			System.out.println("  lockcount= " + lockCount.get() + ", giveupReadLocks=" + giveupReadLocks
 					+ ", waitingReaders=" + waitingReaders);
 			outputReadLocks(fLockDebugging);
 			start = now;
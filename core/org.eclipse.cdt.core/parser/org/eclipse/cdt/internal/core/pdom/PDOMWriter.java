@@ -214,6 +214,7 @@ public abstract class PDOMWriter implements IPDOMASTProcessor {
 	private boolean fShowSyntaxProblems;
 	protected boolean fShowActivity;
 	protected final IndexerStatistics fStatistics;
+	protected final IndexerTelemetry fTelemetry;
 	protected final IndexerInputAdapter fResolver;
 	protected final ICanceler fCancelState = new Canceler();
 
@@ -221,9 +222,17 @@ public abstract class PDOMWriter implements IPDOMASTProcessor {
 
 	public PDOMWriter(IndexerInputAdapter resolver) {
 		fStatistics = new IndexerStatistics();
+		fTelemetry = new IndexerTelemetry();
 		fResolver = resolver;
 	}
 
+	/**
+	 * Returns the detailed metrics collected while writing to the index.
+	 */
+	public IndexerTelemetry getTelemetry() {
+		return fTelemetry;
+	}
+
 	protected IndexerInputAdapter getInputAdapter() {
 		return fResolver;
 	}
@@ -371,6 +380,7 @@ public abstract class PDOMWriter implements IPDOMASTProcessor {
 							fileInAST.fileContentKey.getLocation().getURI().getPath()), th));
 				}
 				fStatistics.fAddToIndexTime += lock.getCumulativeLockTime();
+				fStatistics.fLockWaitTime += lock.getCumulativeWaitTime();
 			}
 		}
 	}
@@ -175,6 +175,7 @@ public class WritablePDOM extends PDOM implements IWritableIndexFragment {
 		IIndexFileLocation location = file.getLocation();
 		PDOMFile pdomFile = (PDOMFile) file;
 		pdomFile.clear();
+		bindingsModified();
 		IIndexInclude include = pdomFile.getParsedInContext();
 		if (include != null) {
 			PDOMFile includedBy = (PDOMFile) include.getIncludedBy();
@@ -232,15 +233,18 @@ public class WritablePDOM extends PDOM implements IWritableIndexFragment {
 
 		clearFileIndex();
 		final List<PDOMFile> notConverted = new ArrayList<>();
+		final long[] records = new long[pdomfiles.size()];
+		int count = 0;
 		for (PDOMFile file : pdomfiles) {
 			String internalFormat = newConverter.toInternalFormat(file.getLocation());
 			if (internalFormat != null) {
 				file.setInternalLocation(internalFormat);
-				getFileIndex().insert(file.getRecord());
+				records[count++] = file.getRecord();
 			} else {
 				notConverted.add(file);
 			}
 		}
+		getFileIndex().bulkLoad(records, count);
 
 		// remove content where converter returns null
 		for (PDOMFile file : notConverted) {
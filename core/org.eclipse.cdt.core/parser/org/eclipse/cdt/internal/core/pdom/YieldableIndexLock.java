@@ -27,6 +27,7 @@ public class YieldableIndexLock {
 	private final IProgressMonitor progressMonitor;
 	private long lastLockTime;
 	private long cumulativeLockTime;
+	private long cumulativeWaitTime;
 
 	public YieldableIndexLock(IWritableIndex index, boolean flushIndex, IProgressMonitor monitor) {
 		this.index = index;
@@ -40,8 +41,10 @@ public class YieldableIndexLock {
 	 * @throws InterruptedException
 	 */
 	public void acquire() throws InterruptedException {
+		long start = System.currentTimeMillis();
 		index.acquireWriteLock(progressMonitor);
 		lastLockTime = System.currentTimeMillis();
+		cumulativeWaitTime += lastLockTime - start;
 	}
 
 	/**
@@ -78,4 +81,11 @@ public class YieldableIndexLock {
 	public long getCumulativeLockTime() {
 		return cumulativeLockTime;
 	}
+
+	/**
+	 * @return Total time spent waiting for the lock in milliseconds.
+	 */
+	public long getCumulativeWaitTime() {
+		return cumulativeWaitTime;
+	}
 }
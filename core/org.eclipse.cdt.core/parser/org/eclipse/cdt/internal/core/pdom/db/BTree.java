@@ -215,6 +215,118 @@ public class BTree {
 		return db.malloc((2 * MAX_RECORDS + 1) * Database.INT_SIZE);
 	}
 
+	/**
+	 * Inserts the given records, with the same effect as inserting them one by one. When the
+	 * b-tree is empty, the records are sorted and the nodes are built bottom-up, which is much
+	 * cheaper than inserting them individually. Nodes are filled up to one record less than the
+	 * maximum, such that subsequent inserts do not immediately cause splits.
+	 * <p>
+	 * This is meant for rebuilding a b-tree from a complete set of records, as when the locations
+	 * of the files are rewritten for an export of the index. The indexer does not use it, not even
+	 * for a full rebuild, because it looks up records in the b-trees it is inserting into.
+	 *
+	 * @param records the records to insert, the array is sorted in place
+	 * @param length the number of records to insert from the start of the array
+	 */
+	public void bulkLoad(long[] records, int length) throws CoreException {
+		if (getRoot() != 0) {
+			for (int i = 0; i < length; i++) {
+				insert(records[i]);
+			}
+			return;
+		}
+		if (length == 0)
+			return;
+
+		sort(records, length);
+		// Keep the first of equal records, just like insert does.
+		int count = 1;
+		for (int i = 1; i < length; i++) {
+			if (cmp.compare(records[count - 1], records[i]) != 0) {
+				records[count++] = records[i];
+			}
+		}
+
+		// Build the tree level by level. The records between two nodes of a level become the
+		// records of the next level up.
+		long[] levelRecords = records;
+		long[] levelChildren = null;
+		while (count > MAX_RECORDS) {
+			final int slots = count + 1; // Records plus separators.
+			int nodes = (slots + MAX_RECORDS - 1) / MAX_RECORDS; // Fill up to MAX_RECORDS - 1.
+			nodes = Math.min(nodes, slots / (MIN_RECORDS + 1));
+			final long[] parentRecords = new long[nodes - 1];
+			final long[] parentChildren = new long[nodes];
+			int r = 0;
+			int c = 0;
+			for (int n = 0; n < nodes; n++) {
+				// Distribute the records evenly, each node gets at least MIN_RECORDS.
+				final int size = slots / nodes + (n < slots % nodes ? 1 : 0) - 1;
+				final long node = allocateNode();
+				final Chunk chunk = db.getChunk(node);
+				for (int i = 0; i < size; i++) {
+					putRecord(chunk, node, i, levelRecords[r++]);
+				}
+				if (levelChildren != null) {
+					for (int i = 0; i <= size; i++) {
+						putChild(chunk, node, i, levelChildren[c++]);
+					}
+				}
+				parentChildren[n] = node;
+				if (n < nodes - 1) {
+					parentRecords[n] = levelRecords[r++];
+				}
+			}
+			levelRecords = parentRecords;
+			levelChildren = parentChildren;
+			count = parentRecords.length;
+		}
+
+		final long root = allocateNode();
+		final Chunk chunk = db.getChunk(root);
+		for (int i = 0; i < count; i++) {
+			putRecord(chunk, root, i, levelRecords[i]);
+		}
+		if (levelChildren != null) {
+			for (int i = 0; i <= count; i++) {
+				putChild(chunk, root, i, levelChildren[i]);
+			}
+		}
+		db.putRecPtr(rootPointer, root);
+	}
+
+	/**
+	 * Stable merge sort using the comparator of the b-tree.
+	 */
+	private void sort(long[] records, int length) throws CoreException {
+		long[] src = records;
+		long[] dst = new long[length];
+		for (int width = 1; width < length; width *= 2) {
+			for (int lo = 0; lo < length; lo += 2 * width) {
+				final int mid = Math.min(lo + width, length);
+				final int hi = Math.min(lo + 2 * width, length);
+				int i = lo;
+				int j = mid;
+				int k = lo;
+				while (i < mid && j < hi) {
+					dst[k++] = cmp.compare(src[i], src[j]) <= 0 ? src[i++] : src[j++];
+				}
+				while (i < mid) {
+					dst[k++] = src[i++];
+				}
+				while (j < hi) {
+					dst[k++] = src[j++];
+				}
+			}
+			long[] tmp = src;
+			src = dst;
+			dst = tmp;
+		}
+		if (src != records) {
+			System.arraycopy(src, 0, records, 0, length);
+		}
+	}
+
 	/**
 	 * Deletes the specified record from the B-tree.
 	 * <p>
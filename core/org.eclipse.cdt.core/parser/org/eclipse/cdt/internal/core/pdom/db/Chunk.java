@@ -23,12 +23,18 @@ import org.eclipse.core.runtime.CoreException;
 
 /**
  * Caches the content of a piece of the database.
+ * <p>
+ * The content is either held in a heap buffer that is read from and written to the file
+ * explicitly, or it is a window into a memory-mapped region of the file. Mapped chunks are never
+ * evicted from the {@link ChunkCache}, their content is paged in and out by the operating system.
  */
 final class Chunk {
-	final private byte[] fBuffer = new byte[Database.CHUNK_SIZE];
+	final private ByteBuffer fBuffer;
+	final private int fBase;
 
 	final Database fDatabase;
 	final int fSequenceNumber;
+	final boolean fMapped;
 
 	boolean fCacheHitFlag;
 	boolean fDirty;
@@ -38,11 +44,28 @@ final class Chunk {
 	Chunk(Database db, int sequenceNumber) {
 		fDatabase = db;
 		fSequenceNumber = sequenceNumber;
+		fBuffer = ByteBuffer.wrap(new byte[Database.CHUNK_SIZE]);
+		fBase = 0;
+		fMapped = false;
+	}
+
+	/**
+	 * Creates a chunk for the given part of a memory-mapped region of the database file.
+	 */
+	Chunk(Database db, int sequenceNumber, ByteBuffer region, int offsetInRegion) {
+		fDatabase = db;
+		fSequenceNumber = sequenceNumber;
+		fBuffer = region;
+		fBase = offsetInRegion;
+		fMapped = true;
+		fLocked = true; // Mapped chunks are never released.
 	}
 
 	void read() throws CoreException {
+		if (fMapped)
+			return;
 		try {
-			final ByteBuffer buf = ByteBuffer.wrap(fBuffer);
+			final ByteBuffer buf = ByteBuffer.wrap(fBuffer.array());
 			fDatabase.read(buf, (long) fSequenceNumber * Database.CHUNK_SIZE);
 		} catch (IOException e) {
 			throw new CoreException(new DBStatus(e));
@@ -50,46 +73,50 @@ final class Chunk {
 	}
 
 	void flush() throws CoreException {
-		try {
-			final ByteBuffer buf = ByteBuffer.wrap(fBuffer);
-			fDatabase.write(buf, (long) fSequenceNumber * Database.CHUNK_SIZE);
-		} catch (IOException e) {
-			throw new CoreException(new DBStatus(e));
+		if (fMapped) {
+			// The content is already in the mapped region, the region is forced to disk by the database.
+			fDatabase.regionModified(fSequenceNumber);
+		} else {
+			try {
+				final ByteBuffer buf = ByteBuffer.wrap(fBuffer.array());
+				fDatabase.write(buf, (long) fSequenceNumber * Database.CHUNK_SIZE);
+			} catch (IOException e) {
+				throw new CoreException(new DBStatus(e));
+			}
 		}
 		fDirty = false;
 	}
 
-	private static int recPtrToIndex(final long offset) {
-		return (int) (offset & Database.OFFSET_IN_CHUNK_MASK);
+	private int recPtrToIndex(final long offset) {
+		return fBase + (int) (offset & Database.OFFSET_IN_CHUNK_MASK);
 	}
 
 	public void putByte(final long offset, final byte value) {
 		assert fLocked;
 		fDirty = true;
-		fBuffer[recPtrToIndex(offset)] = value;
+		fBuffer.put(recPtrToIndex(offset), value);
 	}
 
 	public byte getByte(final long offset) {
-		return fBuffer[recPtrToIndex(offset)];
+		return fBuffer.get(recPtrToIndex(offset));
 	}
 
 	public byte[] getBytes(final long offset, final int length) {
 		final byte[] bytes = new byte[length];
-		System.arraycopy(fBuffer, recPtrToIndex(offset), bytes, 0, length);
+		fBuffer.get(recPtrToIndex(offset), bytes, 0, length);
 		return bytes;
 	}
 
 	public void putBytes(final long offset, final byte[] bytes) {
 		assert fLocked;
 		fDirty = true;
-		System.arraycopy(bytes, 0, fBuffer, recPtrToIndex(offset), bytes.length);
+		fBuffer.put(recPtrToIndex(offset), bytes, 0, bytes.length);
 	}
 
 	public void putInt(final long offset, final int value) {
 		assert fLocked;
 		fDirty = true;
-		int idx = recPtrToIndex(offset);
-		putInt(value, fBuffer, idx);
+		fBuffer.putInt(recPtrToIndex(offset), value);
 	}
 
 	static final void putInt(final int value, final byte[] buffer, int idx) {
@@ -100,7 +127,7 @@ final class Chunk {
 	}
 
 	public int getInt(final long offset) {
-		return getInt(fBuffer, recPtrToIndex(offset));
+		return fBuffer.getInt(recPtrToIndex(offset));
 	}
 
 	static final int getInt(final byte[] buffer, int idx) {
@@ -142,8 +169,8 @@ final class Chunk {
 	public void putRecPtr(final long offset, final long value) {
 		assert fLocked;
 		fDirty = true;
-		int idx = recPtrToIndex(offset);
-		Database.putRecPtr(value, fBuffer, idx);
+		final int denseValue = value == 0 ? 0 : compressFreeRecPtr(value - Database.BLOCK_HEADER_SIZE);
+		fBuffer.putInt(recPtrToIndex(offset), denseValue);
 	}
 
 	/**
@@ -153,117 +180,95 @@ final class Chunk {
 	public void putFreeRecPtr(final long offset, final long value) {
 		assert fLocked;
 		fDirty = true;
-		int idx = recPtrToIndex(offset);
-		putInt(compressFreeRecPtr(value), fBuffer, idx);
+		fBuffer.putInt(recPtrToIndex(offset), compressFreeRecPtr(value));
 	}
 
 	public long getRecPtr(final long offset) {
-		final int idx = recPtrToIndex(offset);
-		return Database.getRecPtr(fBuffer, idx);
+		long address = expandToFreeRecPtr(fBuffer.getInt(recPtrToIndex(offset)));
+		return address != 0 ? (address + Database.BLOCK_HEADER_SIZE) : address;
 	}
 
 	public long getFreeRecPtr(final long offset) {
-		final int idx = recPtrToIndex(offset);
-		int value = getInt(fBuffer, idx);
-		return expandToFreeRecPtr(value);
+		return expandToFreeRecPtr(fBuffer.getInt(recPtrToIndex(offset)));
 	}
 
 	public void put3ByteUnsignedInt(final long offset, final int value) {
 		assert fLocked;
 		fDirty = true;
 		int idx = recPtrToIndex(offset);
-		fBuffer[idx] = (byte) (value >> 16);
-		fBuffer[++idx] = (byte) (value >> 8);
-		fBuffer[++idx] = (byte) (value);
+		fBuffer.put(idx, (byte) (value >> 16));
+		fBuffer.put(++idx, (byte) (value >> 8));
+		fBuffer.put(++idx, (byte) (value));
 	}
 
 	public int get3ByteUnsignedInt(final long offset) {
 		int idx = recPtrToIndex(offset);
-		return ((fBuffer[idx] & 0xff) << 16) | ((fBuffer[++idx] & 0xff) << 8) | ((fBuffer[++idx] & 0xff) << 0);
+		return ((fBuffer.get(idx) & 0xff) << 16) | ((fBuffer.get(++idx) & 0xff) << 8)
+				| ((fBuffer.get(++idx) & 0xff) << 0);
 	}
 
 	public void putShort(final long offset, final short value) {
 		assert fLocked;
 		fDirty = true;
-		int idx = recPtrToIndex(offset);
-		fBuffer[idx] = (byte) (value >> 8);
-		fBuffer[++idx] = (byte) (value);
+		fBuffer.putShort(recPtrToIndex(offset), value);
 	}
 
 	public short getShort(final long offset) {
-		int idx = recPtrToIndex(offset);
-		return (short) (((fBuffer[idx] << 8) | (fBuffer[++idx] & 0xff)));
+		return fBuffer.getShort(recPtrToIndex(offset));
 	}
 
 	public long getLong(final long offset) {
-		int idx = recPtrToIndex(offset);
-		return ((((long) fBuffer[idx] & 0xff) << 56) | (((long) fBuffer[++idx] & 0xff) << 48)
-				| (((long) fBuffer[++idx] & 0xff) << 40) | (((long) fBuffer[++idx] & 0xff) << 32)
-				| (((long) fBuffer[++idx] & 0xff) << 24) | (((long) fBuffer[++idx] & 0xff) << 16)
-				| (((long) fBuffer[++idx] & 0xff) << 8) | (((long) fBuffer[++idx] & 0xff) << 0));
+		return fBuffer.getLong(recPtrToIndex(offset));
 	}
 
 	public void putLong(final long offset, final long value) {
 		assert fLocked;
 		fDirty = true;
-		int idx = recPtrToIndex(offset);
-
-		fBuffer[idx] = (byte) (value >> 56);
-		fBuffer[++idx] = (byte) (value >> 48);
-		fBuffer[++idx] = (byte) (value >> 40);
-		fBuffer[++idx] = (byte) (value >> 32);
-		fBuffer[++idx] = (byte) (value >> 24);
-		fBuffer[++idx] = (byte) (value >> 16);
-		fBuffer[++idx] = (byte) (value >> 8);
-		fBuffer[++idx] = (byte) (value);
+		fBuffer.putLong(recPtrToIndex(offset), value);
 	}
 
 	public void putChar(final long offset, final char value) {
 		assert fLocked;
 		fDirty = true;
-		int idx = recPtrToIndex(offset);
-		fBuffer[idx] = (byte) (value >> 8);
-		fBuffer[++idx] = (byte) (value);
+		fBuffer.putChar(recPtrToIndex(offset), value);
 	}
 
 	public void putChars(final long offset, char[] chars, int start, int len) {
 		assert fLocked;
 		fDirty = true;
-		int idx = recPtrToIndex(offset) - 1;
+		int idx = recPtrToIndex(offset);
 		final int end = start + len;
-		for (int i = start; i < end; i++) {
-			char value = chars[i];
-			fBuffer[++idx] = (byte) (value >> 8);
-			fBuffer[++idx] = (byte) (value);
+		for (int i = start; i < end; i++, idx += 2) {
+			fBuffer.putChar(idx, chars[i]);
 		}
 	}
 
 	public void putCharsAsBytes(final long offset, char[] chars, int start, int len) {
 		assert fLocked;
 		fDirty = true;
-		int idx = recPtrToIndex(offset) - 1;
+		int idx = recPtrToIndex(offset);
 		final int end = start + len;
 		for (int i = start; i < end; i++) {
-			char value = chars[i];
-			fBuffer[++idx] = (byte) (value);
+			fBuffer.put(idx++, (byte) chars[i]);
 		}
 	}
 
 	public char getChar(final long offset) {
-		int idx = recPtrToIndex(offset);
-		return (char) (((fBuffer[idx] << 8) | (fBuffer[++idx] & 0xff)));
+		return fBuffer.getChar(recPtrToIndex(offset));
 	}
 
 	public void getChars(final long offset, final char[] result, int start, int len) {
-		final ByteBuffer buf = ByteBuffer.wrap(fBuffer);
-		buf.position(recPtrToIndex(offset));
-		buf.asCharBuffer().get(result, start, len);
+		int idx = recPtrToIndex(offset);
+		final int end = start + len;
+		for (int i = start; i < end; i++, idx += 2) {
+			result[i] = fBuffer.getChar(idx);
+		}
 	}
 
 	public void getCharsFromBytes(final long offset, final char[] result, int start, int len) {
 		final int pos = recPtrToIndex(offset);
 		for (int i = 0; i < len; i++) {
-			result[start + i] = (char) (fBuffer[pos + i] & 0xff);
+			result[start + i] = (char) (fBuffer.get(pos + i) & 0xff);
 		}
 	}
 
@@ -273,7 +278,7 @@ final class Chunk {
 		int idx = recPtrToIndex(offset);
 		final int end = idx + length;
 		for (; idx < end; idx++) {
-			fBuffer[idx] = 0;
+			fBuffer.put(idx, (byte) 0);
 		}
 	}
 
@@ -284,8 +289,7 @@ final class Chunk {
 	void put(final long offset, final byte[] data, int dataPos, final int len) {
 		assert fLocked;
 		fDirty = true;
-		int idx = recPtrToIndex(offset);
-		System.arraycopy(data, dataPos, fBuffer, idx, len);
+		fBuffer.put(recPtrToIndex(offset), data, dataPos, len);
 	}
 
 	public void get(final long offset, byte[] data) {
@@ -293,7 +297,6 @@ final class Chunk {
 	}
 
 	public void get(final long offset, byte[] data, int dataPos, int len) {
-		int idx = recPtrToIndex(offset);
-		System.arraycopy(fBuffer, idx, data, dataPos, len);
+		fBuffer.get(recPtrToIndex(offset), data, dataPos, len);
 	}
 }
@@ -22,17 +22,17 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.RandomAccessFile;
-import java.lang.ref.Reference;
-import java.lang.ref.ReferenceQueue;
-import java.lang.ref.SoftReference;
 import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
 import java.nio.channels.ClosedByInterruptException;
 import java.nio.channels.ClosedChannelException;
 import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
 import java.text.MessageFormat;
 import java.util.ArrayList;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.eclipse.cdt.core.CCorePlugin;
 import org.eclipse.core.runtime.CoreException;
@@ -71,6 +71,14 @@ import org.eclipse.osgi.util.NLS;
  * PREV_OFFSET      | pointer to previous block (of same size) (only in free blocks)
  * NEXT_OFFSET      | pointer to next block (of same size) (only in free blocks)
  *
+ * ===== memory-mapped mode
+ *
+ * When the database is opened with mapRegions set, the part of the file that lies on disk is
+ * memory-mapped in regions of CHUNKS_PER_REGION chunks. Chunks within a mapped region are windows
+ * into the mapping, they are created once and are never evicted, such that they can be obtained
+ * without entering the monitor of the chunk cache. Chunks that are not yet part of a mapped region
+ * (i.e. the ones appended since the file was last flushed) use the cache like in the default mode.
+ * Modified regions are tracked individually and only those are forced to disk on flush.
  */
 public class Database {
 	// Public for tests only, you shouldn't need these.
@@ -99,11 +107,22 @@ public class Database {
 	private static final int BLOCK_PREV_OFFSET = BLOCK_HEADER_SIZE;
 	private static final int BLOCK_NEXT_OFFSET = BLOCK_HEADER_SIZE + INT_SIZE;
 
+	/**
+	 * Whether files can be memory-mapped. Windows refuses to truncate or delete a mapped file, and
+	 * a mapping is only released when its buffer is garbage collected.
+	 */
+	private static final boolean MAPPING_SUPPORTED = !System.getProperty("os.name", "") //$NON-NLS-1$ //$NON-NLS-2$
+			.startsWith("Windows"); //$NON-NLS-1$
+	/** Default for the memory-mapped mode, can be enabled via a system property. */
+	public static final boolean MAP_REGIONS = Boolean.getBoolean("org.eclipse.cdt.core.parser.pdom.mapped"); //$NON-NLS-1$
+	private static final int CHUNKS_PER_REGION = 1 << 14; // 64 MB per region
+	private static final long REGION_SIZE = (long) CHUNKS_PER_REGION * CHUNK_SIZE;
+
 	private final File fLocation;
 	private final boolean fReadOnly;
 	private RandomAccessFile fFile;
 	private boolean fExclusiveLock; // Necessary for any write operation.
-	private boolean fLocked; // Necessary for any operation.
+	private volatile boolean fLocked; // Necessary for any operation.
 	private boolean fIsMarkedIncomplete;
 
 	private int fVersion;
@@ -113,43 +132,54 @@ public class Database {
 	private int fChunksAllocated;
 	private ChunkCache fCache;
 
+	private final boolean fMapRegions;
+	private MappedByteBuffer[] fRegions = new MappedByteBuffer[0];
+	private int fRegionsOnDisk; // Number of regions that are completely stored in the file.
+	private final BitSet fModifiedRegions = new BitSet();
+
 	private long malloced;
 	private long freed;
-	private long cacheHits;
-	private long cacheMisses;
+	private final LongAdder cacheHits = new LongAdder();
+	private final LongAdder cacheMisses = new LongAdder();
 
-	/** Soft reference wrapper to keep track of the record for disposed strings. */
-	private static class SoftStringRef extends SoftReference<IString> {
-		private final long record;
+	/** Number of strings kept in the string cache, can be configured via a system property. */
+	public static final int STRING_CACHE_SIZE = Integer.getInteger("org.eclipse.cdt.core.parser.pdom.stringCacheSize", //$NON-NLS-1$
+			1 << 16);
 
-		public SoftStringRef(IString referent, ReferenceQueue<? super IString> q) {
-			super(referent, q);
-			record = referent.getRecord();
-		}
+	// A cache for strings which is used for btree lookups.
+	private final StringCache stringCache = new StringCache(STRING_CACHE_SIZE);
 
-		public long getRecord() {
-			return record;
-		}
+	/**
+	 * Construct a new Database object, creating a backing file if necessary.
+	 * @param location the local file path for the database
+	 * @param cache the cache to be used optimization
+	 * @param version the version number to store in the database (only applicable for new databases)
+	 * @param openReadOnly whether this Database object will ever need writing to
+	 * @throws CoreException
+	 */
+	public Database(File location, ChunkCache cache, int version, boolean openReadOnly) throws CoreException {
+		this(location, cache, version, openReadOnly, MAP_REGIONS);
 	}
 
-	// a cache for strings which is used for btree lookups; soft refs ensure garbage collection
-	private final Map<Long, Reference<IString>> stringCache = new ConcurrentHashMap<>();
-	private final ReferenceQueue<IString> stringDisposal = new ReferenceQueue<>();
-
 	/**
 	 * Construct a new Database object, creating a backing file if necessary.
 	 * @param location the local file path for the database
 	 * @param cache the cache to be used optimization
 	 * @param version the version number to store in the database (only applicable for new databases)
 	 * @param openReadOnly whether this Database object will ever need writing to
+	 * @param mapRegions whether the file content is accessed via memory-mapped regions, ignored on
+	 *     platforms where a mapped file cannot be truncated or deleted
 	 * @throws CoreException
 	 */
-	public Database(File location, ChunkCache cache, int version, boolean openReadOnly) throws CoreException {
+	public Database(File location, ChunkCache cache, int version, boolean openReadOnly, boolean mapRegions)
+			throws CoreException {
 		try {
 			fLocation = location;
 			fReadOnly = openReadOnly;
 			fCache = cache;
+			fMapRegions = mapRegions && MAPPING_SUPPORTED;
 			openFile();
+			updateRegionsOnDisk();
 
 			int nChunksOnDisk = (int) (fFile.length() / CHUNK_SIZE);
 			fHeaderChunk = new Chunk(this, 0);
@@ -199,6 +229,59 @@ public class Database {
 		}
 	}
 
+	private void updateRegionsOnDisk() throws IOException {
+		if (fMapRegions) {
+			fRegionsOnDisk = (int) (fFile.length() / REGION_SIZE);
+		}
+	}
+
+	/**
+	 * Drops all mapped regions. Must be called before the file is truncated. The mappings stay
+	 * valid until the buffers are garbage collected, no chunk may be accessed through them anymore.
+	 */
+	private void unmapRegions() {
+		fRegions = new MappedByteBuffer[0];
+		fRegionsOnDisk = 0;
+		fModifiedRegions.clear();
+	}
+
+	/**
+	 * Returns the mapped region for the chunk with the given index, or {@code null} if the chunk
+	 * is not part of a region that is completely stored on disk. Must be called while holding the
+	 * monitor of the cache.
+	 */
+	private MappedByteBuffer getRegion(int chunkIndex) throws IOException {
+		final int region = chunkIndex / CHUNKS_PER_REGION;
+		if (region >= fRegionsOnDisk)
+			return null;
+		if (region >= fRegions.length) {
+			fRegions = Arrays.copyOf(fRegions, fRegionsOnDisk);
+		}
+		MappedByteBuffer buffer = fRegions[region];
+		if (buffer == null) {
+			buffer = fFile.getChannel().map(fReadOnly ? MapMode.READ_ONLY : MapMode.READ_WRITE,
+					region * REGION_SIZE, REGION_SIZE);
+			fRegions[region] = buffer;
+		}
+		return buffer;
+	}
+
+	/**
+	 * Called by a mapped chunk when it is flushed, the containing region will be forced to disk.
+	 */
+	void regionModified(int chunkIndex) {
+		fModifiedRegions.set(chunkIndex / CHUNKS_PER_REGION);
+	}
+
+	private void forceModifiedRegions() {
+		for (int i = fModifiedRegions.nextSetBit(0); i >= 0; i = fModifiedRegions.nextSetBit(i + 1)) {
+			if (i < fRegions.length && fRegions[i] != null) {
+				fRegions[i].force();
+			}
+		}
+		fModifiedRegions.clear();
+	}
+
 	private void reopen(ClosedChannelException e, int attempt) throws ClosedChannelException, FileNotFoundException {
 		// Only if the current thread was not interrupted we try to reopen the file.
 		if (e instanceof ClosedByInterruptException || attempt >= 20) {
@@ -240,6 +323,7 @@ public class Database {
 	public void clear(int version) throws CoreException {
 		assert fExclusiveLock;
 		removeChunksFromCache();
+		unmapRegions();
 
 		fVersion = version;
 		// Clear the first chunk.
@@ -295,22 +379,50 @@ public class Database {
 		}
 		long long_index = offset / CHUNK_SIZE;
 		assert long_index < Integer.MAX_VALUE;
+		final int index = (int) long_index;
+
+		if (fMapRegions) {
+			// Mapped chunks are never released, they can be looked up without synchronization.
+			// A stale view of fChunks is harmless, the lookup falls back to the synchronized path.
+			final Chunk[] chunks = fChunks;
+			if (index > 0 && index < chunks.length) {
+				final Chunk chunk = chunks[index];
+				if (chunk != null && chunk.fMapped) {
+					cacheHits.increment();
+					return chunk;
+				}
+			}
+		}
 
 		synchronized (fCache) {
 			assert fLocked;
-			final int index = (int) long_index;
 			if (index < 0 || index >= fChunks.length) {
 				databaseCorruptionDetected();
 			}
 			Chunk chunk = fChunks[index];
 			if (chunk == null) {
-				cacheMisses++;
+				cacheMisses.increment();
+				if (fMapRegions) {
+					try {
+						final MappedByteBuffer region = getRegion(index);
+						if (region != null) {
+							chunk = new Chunk(this, index, region, (index % CHUNKS_PER_REGION) * CHUNK_SIZE);
+							fChunks[index] = chunk;
+							return chunk;
+						}
+					} catch (IOException e) {
+						throw new CoreException(new DBStatus(e));
+					}
+				}
 				chunk = new Chunk(this, index);
 				chunk.read();
 				// Put the chunk in fChunks after it was read successfully.
 				fChunks[index] = chunk;
+			} else if (chunk.fMapped) {
+				cacheHits.increment();
+				return chunk;
 			} else {
-				cacheHits++;
+				cacheHits.increment();
 			}
 			fCache.add(chunk, fExclusiveLock);
 			return chunk;
@@ -608,12 +720,9 @@ public class Database {
 	}
 
 	public IString getString(long offset) throws CoreException {
-		final Reference<IString> cachedStringReference = stringCache.get(offset);
-		if (cachedStringReference != null) {
-			final IString cachedString = cachedStringReference.get();
-			if (cachedString != null) {
-				return cachedString; // string already cached, no need to re-retrieve it :-)
-			}
+		final IString cachedString = stringCache.get(offset);
+		if (cachedString != null) {
+			return cachedString; // string already cached, no need to re-retrieve it :-)
 		}
 		final int l = getInt(offset);
 		int bytelen = l < 0 ? -l : 2 * l;
@@ -624,16 +733,7 @@ public class Database {
 	}
 
 	private IString addStringToCache(IString string) {
-		// add string to cache
-		stringCache.put(string.getRecord(), new SoftStringRef(string, stringDisposal));
-		// also remove keys from cache list upon garbage collection
-		if (stringDisposal != null) {
-			Reference<? extends IString> disposedRef = stringDisposal.poll();
-			while (disposedRef instanceof SoftStringRef) {
-				stringCache.remove(((SoftStringRef) disposedRef).getRecord());
-				disposedRef = stringDisposal.poll();
-			}
-		}
+		stringCache.put(string);
 		return string;
 	}
 
@@ -674,6 +774,7 @@ public class Database {
 		fHeaderChunk.fDirty = false;
 		fChunks = new Chunk[] { null };
 		fChunksUsed = fChunksAllocated = fChunks.length;
+		unmapRegions();
 		try {
 			fFile.close();
 		} catch (IOException e) {
@@ -689,6 +790,13 @@ public class Database {
 		return fLocation;
 	}
 
+	/**
+	 * This method is public for testing purposes only.
+	 */
+	public boolean isLocked() {
+		return fLocked;
+	}
+
 	/**
 	 * Called from any thread via the cache, protected by {@link #fCache}.
 	 */
@@ -713,6 +821,16 @@ public class Database {
 	public void setExclusiveLock() {
 		fExclusiveLock = true;
 		fLocked = true;
+		if (fMapRegions && fRegionsOnDisk > 0) {
+			// Modified pages of a mapped region may be written to disk at any time.
+			try {
+				synchronized (fHeaderChunk) {
+					markFileIncomplete();
+				}
+			} catch (CoreException e) {
+				CCorePlugin.log(e);
+			}
+		}
 	}
 
 	public void setLocked(boolean val) {
@@ -727,7 +845,12 @@ public class Database {
 					for (int i = 1; i < fChunksUsed; i++) {
 						Chunk chunk = fChunks[i];
 						if (chunk != null) {
-							if (chunk.fCacheIndex < 0) {
+							if (chunk.fMapped) {
+								// Mapped chunk, stays locked in fChunks.
+								if (chunk.fDirty && flush) {
+									dirtyChunks.add(chunk);
+								}
+							} else if (chunk.fCacheIndex < 0) {
 								// Locked chunk that has been removed from cache.
 								if (chunk.fDirty) {
 									dirtyChunks.add(chunk); // Keep in fChunks until it is flushed.
@@ -789,8 +912,6 @@ public class Database {
 
 	private void clearStringCache() {
 		stringCache.clear();
-		while (stringDisposal.poll() != null) {
-		}
 	}
 
 	private void flushAndUnlockChunks(final ArrayList<Chunk> dirtyChunks, boolean isComplete) throws CoreException {
@@ -806,15 +927,24 @@ public class Database {
 						chunk.flush();
 					}
 				}
+				forceModifiedRegions();
 
 				// Only after the chunks are flushed we may unlock and release them.
 				synchronized (fCache) {
 					for (Chunk chunk : dirtyChunks) {
+						if (chunk.fMapped)
+							continue;
 						chunk.fLocked = false;
 						if (chunk.fCacheIndex < 0) {
 							fChunks[chunk.fSequenceNumber] = null;
 						}
 					}
+					try {
+						// Appended chunks may have completed a region.
+						updateRegionsOnDisk();
+					} catch (IOException e) {
+						throw new CoreException(new DBStatus(e));
+					}
 				}
 			}
 
@@ -841,15 +971,25 @@ public class Database {
 	}
 
 	public void resetCacheCounters() {
-		cacheHits = cacheMisses = 0;
+		cacheHits.reset();
+		cacheMisses.reset();
+		stringCache.resetCounters();
 	}
 
 	public long getCacheHits() {
-		return cacheHits;
+		return cacheHits.sum();
 	}
 
 	public long getCacheMisses() {
-		return cacheMisses;
+		return cacheMisses.sum();
+	}
+
+	public long getStringCacheHits() {
+		return stringCache.getHits();
+	}
+
+	public long getStringCacheMisses() {
+		return stringCache.getMisses();
 	}
 
 	public long getSizeBytes() {
@@ -0,0 +1,98 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.internal.core.pdom.db;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded cache for the strings of a database, keyed by their record. The cache is a two-way
+ * set-associative table of fixed size, lookups neither box the key nor allocate.
+ * <p>
+ * The table is accessed without synchronization. Strings are immutable with respect to their
+ * record, such that a racy read either finds the correct string or misses. A racy write may drop
+ * an entry, which is acceptable for a cache. Records must be removed while no other thread accesses
+ * the cache, i.e. while holding the exclusive lock on the database.
+ */
+final class StringCache {
+	private final IString[] fTable;
+	private final int fMask;
+	private final LongAdder fHits = new LongAdder();
+	private final LongAdder fMisses = new LongAdder();
+
+	/**
+	 * @param size the maximum number of strings held by the cache, rounded up to a power of two.
+	 */
+	StringCache(int size) {
+		int capacity = Integer.highestOneBit(Math.max(2, size - 1)) << 1;
+		fTable = new IString[capacity];
+		fMask = capacity - 2; // Index of the first entry of a set.
+	}
+
+	private int getSet(long record) {
+		// Records are aligned to the block size, mix in the upper bits.
+		long h = record * 0x9E3779B97F4A7C15L;
+		return (int) (h >>> 32) & fMask;
+	}
+
+	IString get(long record) {
+		final int set = getSet(record);
+		IString string = fTable[set];
+		if (string != null && string.getRecord() == record) {
+			fHits.increment();
+			return string;
+		}
+		string = fTable[set + 1];
+		if (string != null && string.getRecord() == record) {
+			fHits.increment();
+			return string;
+		}
+		fMisses.increment();
+		return null;
+	}
+
+	void put(IString string) {
+		final int set = getSet(string.getRecord());
+		final IString first = fTable[set];
+		if (first != null && first.getRecord() != string.getRecord()) {
+			// Keep the most recently added string in the first entry of the set.
+			fTable[set + 1] = first;
+		}
+		fTable[set] = string;
+	}
+
+	void remove(long record) {
+		final int set = getSet(record);
+		for (int i = set; i < set + 2; i++) {
+			IString string = fTable[i];
+			if (string != null && string.getRecord() == record) {
+				fTable[i] = null;
+			}
+		}
+	}
+
+	void clear() {
+		Arrays.fill(fTable, null);
+	}
+
+	long getHits() {
+		return fHits.sum();
+	}
+
+	long getMisses() {
+		return fMisses.sum();
+	}
+
+	void resetCounters() {
+		fHits.reset();
+		fMisses.reset();
+	}
+}
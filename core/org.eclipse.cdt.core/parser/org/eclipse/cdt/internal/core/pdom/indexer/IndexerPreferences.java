@@ -63,6 +63,7 @@ public class IndexerPreferences {
 	public static final String KEY_UPDATE_POLICY = "updatePolicy"; //$NON-NLS-1$
 	public static final String KEY_SKIP_FILES_LARGER_THAN_MB = "skipFilesLargerThanMB"; //$NON-NLS-1$
 	public static final String KEY_SKIP_INCLUDED_FILES_LARGER_THAN_MB = "skipIncludedFilesLargerThanMB"; //$NON-NLS-1$
+	public static final String KEY_PARSER_THREADS = "parserThreads"; //$NON-NLS-1$
 
 	private static final String KEY_INDEXER_PREFS_SCOPE = "preferenceScope"; //$NON-NLS-1$
 	private static final String KEY_INDEX_IMPORT_LOCATION = "indexImportLocation"; //$NON-NLS-1$
@@ -76,6 +77,7 @@ public class IndexerPreferences {
 	private static final int DEFAULT_UPDATE_POLICY = 0;
 	public static final int DEFAULT_FILE_SIZE_LIMIT_MB = 8;
 	public static final int DEFAULT_INCLUDED_FILE_SIZE_LIMIT_MB = 16;
+	public static final int DEFAULT_PARSER_THREADS = 1;
 
 	private static final String QUALIFIER = CCorePlugin.PLUGIN_ID;
 	private static final String INDEXER_NODE = "indexer"; //$NON-NLS-1$
@@ -335,6 +337,7 @@ public class IndexerPreferences {
 		prefs.putBoolean(KEY_SKIP_MACRO_REFERENCES, false);
 		prefs.put(KEY_INDEX_IMPORT_LOCATION, DEFAULT_INDEX_IMPORT_LOCATION);
 		prefs.putBoolean(KEY_INDEX_ALL_HEADER_VERSIONS, false);
+		prefs.putInt(KEY_PARSER_THREADS, DEFAULT_PARSER_THREADS);
 	}
 
 	public static void setDefaultIndexerId(String defaultId) {
@@ -416,6 +419,30 @@ public class IndexerPreferences {
 		return DEFAULT_UPDATE_POLICY;
 	}
 
+	/**
+	 * Returns the number of threads the indexer uses to parse translation units. Values larger
+	 * than one enable parallel parsing, the index is still written by a single thread. The value
+	 * is an explicit choice of the user and is therefore not limited to the number of processors.
+	 */
+	public static int getParserThreads(IProject project) {
+		// no support for project specific thread counts
+		Preferences[] prefs = getInstancePreferencesArray();
+		String val = Platform.getPreferencesService().get(KEY_PARSER_THREADS, null, prefs);
+		if (val != null) {
+			try {
+				int result = Integer.parseInt(val);
+				return Math.max(1, result);
+			} catch (NumberFormatException e) {
+				CCorePlugin.log(e);
+			}
+		}
+		return DEFAULT_PARSER_THREADS;
+	}
+
+	public static void setParserThreads(int threads) {
+		getInstancePreferences().put(KEY_PARSER_THREADS, String.valueOf(threads));
+	}
+
 	public static boolean preferDefaultLanguage(IProject project) {
 		IPreferencesService prefService = Platform.getPreferencesService();
 		Preferences[] prefs = IndexerPreferences.getPreferences(project);
@@ -16,6 +16,12 @@
  *******************************************************************************/
 package org.eclipse.cdt.internal.core.pdom.indexer;
 
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.text.NumberFormat;
 import java.util.Arrays;
 import java.util.Calendar;
@@ -40,6 +46,7 @@ import org.eclipse.cdt.internal.core.model.CProject;
 import org.eclipse.cdt.internal.core.pdom.AbstractIndexerTask;
 import org.eclipse.cdt.internal.core.pdom.ITodoTaskUpdater;
 import org.eclipse.cdt.internal.core.pdom.IndexerProgress;
+import org.eclipse.cdt.internal.core.pdom.IndexerTelemetry;
 import org.eclipse.cdt.internal.core.pdom.db.ChunkCache;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.runtime.CoreException;
@@ -54,6 +61,11 @@ import org.eclipse.osgi.util.NLS;
  */
 public abstract class PDOMIndexerTask extends AbstractIndexerTask implements IPDOMIndexerTask {
 	private static final String TRUE = Boolean.TRUE.toString();
+	/**
+	 * System property naming a directory to which the {@link IndexerTelemetry} of each indexer
+	 * task is written as a JSON file.
+	 */
+	private static final String TELEMETRY_DIRECTORY_PROPERTY = "org.eclipse.cdt.core.indexer.telemetryDirectory"; //$NON-NLS-1$
 
 	private AbstractPDOMIndexer fIndexer;
 	private boolean fWriteInfoToLog;
@@ -71,6 +83,7 @@ public abstract class PDOMIndexerTask extends AbstractIndexerTask implements IPD
 		final long fileLimit = getIntProperty(IndexerPreferences.KEY_SKIP_FILES_LARGER_THAN_MB, 0);
 		final long includedFileLimit = getIntProperty(IndexerPreferences.KEY_SKIP_INCLUDED_FILES_LARGER_THAN_MB, 0);
 		setFileSizeLimits(fileLimit * 1024 * 1024, includedFileLimit * 1024 * 1024);
+		setParserThreads(IndexerPreferences.getParserThreads(getCProject().getProject()));
 		setIndexAllHeaderVersions(checkProperty(IndexerPreferences.KEY_INDEX_ALL_HEADER_VERSIONS));
 		setHeadersToIndexAllVersions(getStringSet(IndexerPreferences.KEY_INDEX_ALL_VERSIONS_SPECIFIC_HEADERS));
 		if (checkProperty(IndexerPreferences.KEY_SKIP_ALL_REFERENCES)) {
@@ -291,7 +304,8 @@ public abstract class PDOMIndexerTask extends AbstractIndexerTask implements IPD
 					+ totalTime + " total, " //$NON-NLS-1$
 					+ fStatistics.fParsingTime + " parser, " //$NON-NLS-1$
 					+ fStatistics.fResolutionTime + " resolution, " //$NON-NLS-1$
-					+ fStatistics.fAddToIndexTime + " index update."); //$NON-NLS-1$
+					+ fStatistics.fAddToIndexTime + " index update, " //$NON-NLS-1$
+					+ fStatistics.fLockWaitTime + " waiting for write lock."); //$NON-NLS-1$
 			System.out.println(indent + " Errors: " //$NON-NLS-1$
 					+ fStatistics.fErrorCount + " internal, " //$NON-NLS-1$
 					+ fStatistics.fUnresolvedIncludesCount + " include, " //$NON-NLS-1$
@@ -368,6 +382,18 @@ public abstract class PDOMIndexerTask extends AbstractIndexerTask implements IPD
 				System.out.println(sep0);
 			}
 		}
+
+		// Export of the detailed metrics.
+		final String telemetryDirectory = System.getProperty(TELEMETRY_DIRECTORY_PROPERTY);
+		if (telemetryDirectory != null && !wasCancelled) {
+			File file = new File(telemetryDirectory,
+					"indexer-" + getCProject().getElementName() + '-' + start + ".json"); //$NON-NLS-1$ //$NON-NLS-2$
+			try (Writer writer = new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8)) {
+				fTelemetry.writeJson(writer);
+			} catch (IOException e) {
+				CCorePlugin.log(e);
+			}
+		}
 	}
 
 	protected ICProject getCProject() {
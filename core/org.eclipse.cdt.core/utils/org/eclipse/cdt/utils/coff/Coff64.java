@@ -419,7 +419,8 @@ public class Coff64 {
 		 */
 		public ByteBuffer mapSectionData() throws IOException {
 			long size = s_paddr == 0 ? s_size : s_paddr;
-			return sfile.getChannel().map(MapMode.READ_ONLY, s_scnptr + objOffset, size).load().asReadOnlyBuffer();
+			// The pages of the section are read when they are accessed, debug sections can be huge.
+			return sfile.getChannel().map(MapMode.READ_ONLY, s_scnptr + objOffset, size).asReadOnlyBuffer();
 		}
 	}
 
@@ -214,6 +214,8 @@ public class Dwarf implements AutoCloseable {
 
 		Elf.Section[] sections = exe.getSections();
 		IPath debugInfoPath = new Path(exe.getFilename());
+		// The file with the debug info, if separate. It stays open until its sections are mapped.
+		Elf debugInfo = null;
 		// Look for a .gnu_debuglink section which will have the name of the debug info file
 		Elf.Section gnuDebugLink = exe.getSectionByName(DWARF_GNU_DEBUGLINK);
 		if (gnuDebugLink != null) {
@@ -237,9 +239,8 @@ public class Dwarf implements AutoCloseable {
 						}
 						if (debugFile.exists()) {
 							// if the debug file exists from above, open it and get the section info from it
-							try (Elf debugInfo = new Elf(debugFile.getCanonicalPath())) {
-								sections = debugInfo.getSections();
-							}
+							debugInfo = new Elf(debugFile.getCanonicalPath());
+							sections = debugInfo.getSections();
 							debugInfoPath = new Path(debugFile.getCanonicalPath());
 						}
 					}
@@ -298,6 +299,10 @@ public class Dwarf implements AutoCloseable {
 				}
 			}
 		}
+		// The mapped sections remain valid after the file is closed.
+		if (debugInfo != null) {
+			debugInfo.dispose();
+		}
 	}
 
 	/**
@@ -566,69 +571,89 @@ public class Dwarf implements AutoCloseable {
 			ByteBuffer data = dwarfSections.get(DWARF_DEBUG_ABBREV);
 			if (data != null) {
 				data.position(header.abbreviationOffset);
-				while (data.remaining() > 0) {
-					long code = read_unsigned_leb128(data);
-					if (code == 0) {
-						break;
-					}
-					long tag = read_unsigned_leb128(data);
-					byte hasChildren = data.get();
-					AbbreviationEntry entry = new AbbreviationEntry(code, tag, hasChildren);
-
-					if (printEnabled)
-						System.out.println(
-								"\tAbrev Entry: " + code + " " + Long.toHexString(entry.tag) + " " + entry.hasChildren); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
-
-					// attributes
-					long name = 0;
-					long form = 0;
-					do {
-						name = read_unsigned_leb128(data);
-						form = read_unsigned_leb128(data);
-						long value = 0;
-						if (DwarfConstants.DW_FORM_implicit_const == form) {
-							value = read_signed_leb128(data);
-						}
-						if (name != 0) {
-							entry.attributes.add(new Attribute(name, form, value));
-						}
-						if (printEnabled)
-							System.out.println("\t\t " + Long.toHexString(name) //$NON-NLS-1$
-									+ " " + Long.toHexString(form) //$NON-NLS-1$
-									+ " " + Long.toHexString(value)); //$NON-NLS-1$
-					} while (name != 0 && form != 0);
-					abbrevs.put(Long.valueOf(code), entry);
+				AbbreviationEntry entry;
+				while ((entry = readAbbreviationEntry(data)) != null) {
+					abbrevs.put(Long.valueOf(entry.code), entry);
 				}
 			}
 		}
 		return abbrevs;
 	}
 
+	/**
+	 * Reads the abbreviation at the position of the buffer.
+	 * @return the abbreviation, or null at the end of the abbreviation table
+	 */
+	AbbreviationEntry readAbbreviationEntry(ByteBuffer data) throws IOException {
+		if (data.remaining() == 0) {
+			return null;
+		}
+		long code = read_unsigned_leb128(data);
+		if (code == 0) {
+			return null;
+		}
+		long tag = read_unsigned_leb128(data);
+		byte hasChildren = data.get();
+		AbbreviationEntry entry = new AbbreviationEntry(code, tag, hasChildren);
+
+		if (printEnabled)
+			System.out.println(
+					"\tAbrev Entry: " + code + " " + Long.toHexString(entry.tag) + " " + entry.hasChildren); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+
+		// attributes
+		long name = 0;
+		long form = 0;
+		do {
+			name = read_unsigned_leb128(data);
+			form = read_unsigned_leb128(data);
+			long value = 0;
+			if (DwarfConstants.DW_FORM_implicit_const == form) {
+				value = read_signed_leb128(data);
+			}
+			if (name != 0) {
+				entry.attributes.add(new Attribute(name, form, value));
+			}
+			if (printEnabled)
+				System.out.println("\t\t " + Long.toHexString(name) //$NON-NLS-1$
+						+ " " + Long.toHexString(form) //$NON-NLS-1$
+						+ " " + Long.toHexString(value)); //$NON-NLS-1$
+		} while (name != 0 && form != 0);
+		return entry;
+	}
+
 	void parseDebugInfoEntry(IDebugEntryRequestor requestor, ByteBuffer in, Map<Long, AbbreviationEntry> abbrevs,
 			CompilationUnitHeader header) throws IOException {
 		while (in.remaining() > 0) {
 			long code = read_unsigned_leb128(in);
 			AbbreviationEntry entry = abbrevs.get(Long.valueOf(code));
 			if (entry != null) {
-				int len = entry.attributes.size();
-				List<AttributeValue> list = new ArrayList<>(len);
-				try {
-					for (int i = 0; i < len; i++) {
-						Attribute attr = entry.attributes.get(i);
-						Object obj;
-						if (DwarfConstants.DW_FORM_implicit_const == attr.form) {
-							obj = Long.valueOf(attr.value);
-						} else {
-							obj = readAttribute((int) attr.form, in, header);
-						}
-						list.add(new AttributeValue(attr, obj));
-					}
-				} catch (IOException e) {
-					//break;
+				readDebugInfoEntry(requestor, in, entry, header);
+			}
+		}
+	}
+
+	/**
+	 * Reads the attributes of a debug info entry and processes the entry.
+	 */
+	void readDebugInfoEntry(IDebugEntryRequestor requestor, ByteBuffer in, AbbreviationEntry entry,
+			CompilationUnitHeader header) {
+		int len = entry.attributes.size();
+		List<AttributeValue> list = new ArrayList<>(len);
+		try {
+			for (int i = 0; i < len; i++) {
+				Attribute attr = entry.attributes.get(i);
+				Object obj;
+				if (DwarfConstants.DW_FORM_implicit_const == attr.form) {
+					obj = Long.valueOf(attr.value);
+				} else {
+					obj = readAttribute((int) attr.form, in, header);
 				}
-				processDebugInfoEntry(requestor, entry, list);
+				list.add(new AttributeValue(attr, obj));
 			}
+		} catch (IOException e) {
+			//break;
 		}
+		processDebugInfoEntry(requestor, entry, list);
 	}
 
 	int oldForm = 0;
@@ -23,6 +23,7 @@ import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -60,7 +61,7 @@ public class DwarfReader extends Dwarf implements ISymbolReader, ICompileOptions
 	private String[] m_fileNames = null;
 	private boolean m_parsed = false;
 	private boolean m_macros_parsed = false;
-	private final ArrayList<Integer> m_parsedLineTableOffsets = new ArrayList<>();
+	private final Set<Integer> m_parsedLineTableOffsets = new HashSet<>();
 	private long m_parsedLineTableSize = 0;
 
 	private class ContentForm {
@@ -94,6 +95,8 @@ public class DwarfReader extends Dwarf implements ISymbolReader, ICompileOptions
 		Elf.Section[] sections = exe.getSections();
 
 		boolean have_build_id = false;
+		// The file with the debug info, if separate. It stays open until its sections are mapped.
+		Elf debugInfo = null;
 
 		// Look for a special GNU build-id note which means the debug data resides in a separate
 		// file with a name based on the build-id.
@@ -130,9 +133,8 @@ public class DwarfReader extends Dwarf implements ISymbolReader, ICompileOptions
 							File buildIdFile = buildIdPath.toFile();
 							if (buildIdFile.exists()) {
 								// if the debug file exists from above, open it and get the section info from it
-								try (Elf debugInfo = new Elf(buildIdFile.getCanonicalPath())) {
-									sections = debugInfo.getSections();
-								}
+								debugInfo = new Elf(buildIdFile.getCanonicalPath());
+								sections = debugInfo.getSections();
 								have_build_id = true;
 								debugInfoPath = new Path(buildIdFile.getCanonicalPath()).removeLastSegments(1);
 								break;
@@ -182,9 +184,8 @@ public class DwarfReader extends Dwarf implements ISymbolReader, ICompileOptions
 							}
 							if (debugFile.exists()) {
 								// if the debug file exists from above, open it and get the section info from it
-								try (Elf debugInfo = new Elf(debugFile.getCanonicalPath())) {
-									sections = debugInfo.getSections();
-								}
+								debugInfo = new Elf(debugFile.getCanonicalPath());
+								sections = debugInfo.getSections();
 								debugInfoPath = new Path(debugFile.getCanonicalPath()).removeLastSegments(1);
 							}
 						}
@@ -250,6 +251,10 @@ public class DwarfReader extends Dwarf implements ISymbolReader, ICompileOptions
 				}
 			}
 		}
+		// The mapped sections remain valid after the file is closed.
+		if (debugInfo != null) {
+			debugInfo.dispose();
+		}
 
 		// Don't print during parsing.
 		printEnabled = false;
@@ -702,6 +707,33 @@ public class DwarfReader extends Dwarf implements ISymbolReader, ICompileOptions
 		return fullName;
 	}
 
+	// Override parent: the abbreviation of the TAG_Compile_Unit is looked up by
+	// parseDebugInfoEntry(), the others are not needed.
+	@Override
+	Map<Long, AbbreviationEntry> parseDebugAbbreviation(CompilationUnitHeader header) {
+		return Collections.emptyMap();
+	}
+
+	// Override parent: only the first entry of a compilation unit is needed, the
+	// TAG_Compile_Unit. The other entries are skipped without being decoded, the
+	// parent continues with the next compilation unit.
+	@Override
+	void parseDebugInfoEntry(IDebugEntryRequestor requestor, ByteBuffer in, Map<Long, AbbreviationEntry> abbrevs,
+			CompilationUnitHeader header) throws IOException {
+		ByteBuffer data = dwarfSections.get(DWARF_DEBUG_ABBREV);
+		if (data == null || in.remaining() == 0)
+			return;
+		long code = read_unsigned_leb128(in);
+		data.position(header.abbreviationOffset);
+		AbbreviationEntry entry;
+		while ((entry = readAbbreviationEntry(data)) != null) {
+			if (entry.code == code) {
+				readDebugInfoEntry(requestor, in, entry, header);
+				return;
+			}
+		}
+	}
+
 	// Override parent: only handle TAG_Compile_Unit.
 	@Override
 	void processDebugInfoEntry(IDebugEntryRequestor requestor, AbbreviationEntry entry,
@@ -356,7 +356,8 @@ public class Elf implements AutoCloseable {
 		 */
 		public ByteBuffer mapSectionData() throws IOException {
 			makeSureNotCompressed();
-			return efile.getChannel().map(MapMode.READ_ONLY, sh_offset + objOffset, sh_size).load().asReadOnlyBuffer();
+			// The pages of the section are read when they are accessed, debug sections can be huge.
+			return efile.getChannel().map(MapMode.READ_ONLY, sh_offset + objOffset, sh_size).asReadOnlyBuffer();
 		}
 
 		public byte[] loadSectionData() throws IOException {
@@ -15,12 +15,19 @@
 package org.eclipse.cdt.utils.elf.parser;
 
 import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
+import org.eclipse.cdt.core.IAddress;
 import org.eclipse.cdt.core.IAddressFactory;
 import org.eclipse.cdt.core.IBinaryParser;
 import org.eclipse.cdt.core.IBinaryParser.IBinaryFile;
@@ -28,6 +35,7 @@ import org.eclipse.cdt.core.IBinaryParser.ISymbol;
 import org.eclipse.cdt.core.ISymbolReader;
 import org.eclipse.cdt.utils.AR;
 import org.eclipse.cdt.utils.Addr32Factory;
+import org.eclipse.cdt.utils.Addr64Factory;
 import org.eclipse.cdt.utils.BinaryObjectAdapter;
 import org.eclipse.cdt.utils.Symbol;
 import org.eclipse.cdt.utils.elf.Elf;
@@ -112,12 +120,125 @@ public class ElfBinaryObject extends BinaryObjectAdapter {
 	}
 
 	protected void loadAll() throws IOException {
+		String key = getCacheKey();
+		if (key != null) {
+			SymbolTableCache.Entry entry = SymbolTableCache.get(key);
+			if (entry != null) {
+				loadAll(entry);
+				return;
+			}
+		}
 		try (ElfHelper helper = getElfHelper()) {
 			loadInfo(helper);
 			loadSymbols(helper);
 		}
+		if (key != null) {
+			SymbolTableCache.put(key, createCacheEntry());
+		}
 	}
 
+	/**
+	 * Returns the key of the binary in the symbol table cache, or null if the
+	 * cache is not used.
+	 */
+	private String getCacheKey() {
+		if (!SymbolTableCache.ENABLED || !usesSymbolTableCache()) {
+			return null;
+		}
+		File file = getPath().toFile();
+		String stamp = file.getAbsolutePath() + ':' + (header != null ? header.getObjectDataOffset() : 0) + ':'
+				+ file.length() + ':' + file.lastModified();
+		String key = SymbolTableCache.getKey(getClass(), stamp);
+		if (key == null) {
+			try {
+				InputStream contents = header != null ? new ByteArrayInputStream(header.getObjectData())
+						: new FileInputStream(file);
+				key = SymbolTableCache.computeKey(getClass(), stamp, contents);
+			} catch (IOException e) {
+				return null;
+			}
+		}
+		return key;
+	}
+
+	private void loadAll(SymbolTableCache.Entry entry) {
+		info = new BinaryObjectInfo();
+		info.needed = entry.needed;
+		info.bss = entry.bss;
+		info.data = entry.data;
+		info.text = entry.text;
+		info.soname = entry.soname;
+		info.isLittleEndian = entry.isLittleEndian;
+		info.hasDebug = entry.hasDebug;
+		info.cpu = entry.cpu;
+		addressFactory = entry.is64 ? new Addr64Factory() : new Addr32Factory();
+		fElfAttributes = null;
+
+		symbols = new ISymbol[entry.names.length];
+		for (int i = 0; i < symbols.length; i++) {
+			IAddress addr = addressFactory
+					.createAddress(new BigInteger(Long.toUnsignedString(entry.addresses[i])));
+			symbols[i] = new Symbol(this, entry.names[i], entry.types[i], addr, entry.sizes[i]);
+		}
+	}
+
+	private SymbolTableCache.Entry createCacheEntry() {
+		SymbolTableCache.Entry entry = new SymbolTableCache.Entry(symbols.length);
+		entry.needed = info.needed;
+		entry.bss = info.bss;
+		entry.data = info.data;
+		entry.text = info.text;
+		entry.soname = info.soname;
+		entry.isLittleEndian = info.isLittleEndian;
+		entry.hasDebug = info.hasDebug;
+		entry.cpu = info.cpu;
+		entry.is64 = addressFactory instanceof Addr64Factory;
+		for (int i = 0; i < symbols.length; i++) {
+			ISymbol symbol = symbols[i];
+			entry.names[i] = symbol.getName();
+			entry.types[i] = symbol.getType();
+			entry.addresses[i] = symbol.getAddress().getValue().longValue();
+			entry.sizes[i] = symbol.getSize();
+		}
+		return entry;
+	}
+
+	/**
+	 * Returns whether the symbols and the information read by this binary object
+	 * depend only on the contents of the binary, such that they can be kept in the
+	 * symbol table cache. By default this is the case unless a subclass of another
+	 * package overrides the methods reading the binary, in which case it has to
+	 * override this method as well to use the cache.
+	 *
+	 * @since 8.5
+	 */
+	protected boolean usesSymbolTableCache() {
+		return READS_CONTENTS_ONLY.get(getClass());
+	}
+
+	/** Whether the classes of binary objects read the binary with the methods of this package. */
+	private static final ClassValue<Boolean> READS_CONTENTS_ONLY = new ClassValue<>() {
+		@Override
+		protected Boolean computeValue(Class<?> type) {
+			for (Class<?> c = type; c != ElfBinaryObject.class; c = c.getSuperclass()) {
+				if (c.getPackage() == ElfBinaryObject.class.getPackage()) {
+					continue;
+				}
+				for (Method method : c.getDeclaredMethods()) {
+					switch (method.getName()) {
+					case "getElfHelper": //$NON-NLS-1$
+					case "loadAll": //$NON-NLS-1$
+					case "loadInfo": //$NON-NLS-1$
+					case "loadSymbols": //$NON-NLS-1$
+					case "addSymbols": //$NON-NLS-1$
+						return false;
+					}
+				}
+			}
+			return true;
+		}
+	};
+
 	protected void loadInfo() throws IOException {
 		try (ElfHelper helper = getElfHelper()) {
 			loadInfo(helper);
@@ -161,20 +282,26 @@ public class ElfBinaryObject extends BinaryObjectAdapter {
 	}
 
 	protected void addSymbols(Elf.Symbol[] array, int type, List<Symbol> list) {
+		Set<IAddress> addresses = null;
 		for (org.eclipse.cdt.utils.elf.Elf.Symbol element : array) {
 			// Multiple function symbol entries for the same address are generated
 			// do not add duplicate symbols with 0 size to the list
 			boolean duplicateAddressFound = false;
 			if (type == ISymbol.FUNCTION && element.st_size == 0) {
-				for (Symbol s : list) {
-					if (s.getAddress().equals(element.st_value)) {
-						duplicateAddressFound = true;
-						break;
+				if (addresses == null) {
+					addresses = new HashSet<>();
+					for (Symbol s : list) {
+						addresses.add(s.getAddress());
 					}
 				}
+				duplicateAddressFound = addresses.contains(element.st_value);
 			}
-			if (!duplicateAddressFound)
+			if (!duplicateAddressFound) {
 				list.add(new Symbol(this, element.toString(), type, element.st_value, element.st_size));
+				if (addresses != null) {
+					addresses.add(element.st_value);
+				}
+			}
 		}
 	}
 
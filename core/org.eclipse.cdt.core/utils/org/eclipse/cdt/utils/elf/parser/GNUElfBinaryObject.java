@@ -195,6 +195,15 @@ public class GNUElfBinaryObject extends ElfBinaryObject {
 		}
 	}
 
+	/**
+	 * The names and source locations of the symbols come from c++filt and addr2line,
+	 * which depend on the configuration of the binary parser and on the environment.
+	 */
+	@Override
+	protected boolean usesSymbolTableCache() {
+		return false;
+	}
+
 	@Override
 	@SuppressWarnings("unchecked")
 	public <T> T getAdapter(Class<T> adapter) {
@@ -0,0 +1,425 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.utils.elf.parser;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.cdt.core.CCorePlugin;
+import org.eclipse.core.runtime.IPath;
+
+/**
+ * Cache of the symbol tables and object information of ELF binaries, so that
+ * the binaries are not parsed again each time the C model creates binary
+ * objects for them, in this session or, from the state location of the core
+ * plug-in, in the next ones.
+ * <p>
+ * The entries are keyed by a hash of the contents of the binary and the class of
+ * the binary object, which determines how the symbols are read, so a changed
+ * binary gets a new entry. The keys are kept by the location, size and
+ * modification time of the binaries next to the entries, so that an unchanged
+ * binary is not read again to compute its key in the next sessions. Only binary
+ * objects whose symbols depend on nothing but the contents of the binary use the
+ * cache, not the ones running external tools. The entries and the keys that
+ * were not used for a while are removed from the state location.
+ *
+ * @noreference This class is not intended to be referenced by clients.
+ */
+public final class SymbolTableCache {
+	/** Whether the cache is used. */
+	static final boolean ENABLED = !Boolean.getBoolean("org.eclipse.cdt.core.binaryParser.disableSymbolCache"); //$NON-NLS-1$
+	/** Maximum number of entries kept in memory. */
+	private static final int SIZE_LIMIT = Integer.getInteger("org.eclipse.cdt.core.binaryParser.symbolCacheSize", //$NON-NLS-1$
+			256);
+	/** Time after which an unused entry is removed from the state location. */
+	private static final long EXPIRATION = TimeUnit.DAYS.toMillis(30);
+	private static final int VERSION = 2;
+	private static final String DIRECTORY = "symbolCache"; //$NON-NLS-1$
+	private static final String EXTENSION = ".dat"; //$NON-NLS-1$
+	private static final String KEY_EXTENSION = ".key"; //$NON-NLS-1$
+
+	/**
+	 * The information and the symbols of a binary. The symbols are sorted by address.
+	 */
+	static class Entry {
+		long bss;
+		long data;
+		long text;
+		boolean hasDebug;
+		boolean isLittleEndian;
+		boolean is64;
+		String soname;
+		String cpu;
+		String[] needed;
+
+		String[] names;
+		int[] types;
+		long[] addresses;
+		long[] sizes;
+
+		Entry(int symbolCount) {
+			names = new String[symbolCount];
+			types = new int[symbolCount];
+			addresses = new long[symbolCount];
+			sizes = new long[symbolCount];
+		}
+	}
+
+	private static final Map<String, Entry> fEntries = new LinkedHashMap<>(16, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+			return size() > SIZE_LIMIT;
+		}
+	};
+	/** The keys of the binaries by their stamp. */
+	private static final Map<String, String> fKeys = new LinkedHashMap<>(16, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+			return size() > 4 * SIZE_LIMIT;
+		}
+	};
+	private static File fDirectory;
+	private static boolean fDirectoryInitialized;
+	private static long fHits;
+	private static long fLoads;
+	private static long fStores;
+	private static long fKeyComputations;
+
+	private SymbolTableCache() {
+	}
+
+	/**
+	 * Returns the key of the entry of a binary that was computed in this session or
+	 * in a previous one, or null if the key was not computed or the binary changed
+	 * since then.
+	 *
+	 * @param kind the class of the binary object
+	 * @param stamp the location, size and modification time of the binary
+	 */
+	static String getKey(Class<?> kind, String stamp) {
+		String name = kind.getName() + ':' + stamp;
+		synchronized (fKeys) {
+			String key = fKeys.get(name);
+			if (key != null) {
+				return key;
+			}
+		}
+		File directory = getDirectory();
+		if (directory == null) {
+			return null;
+		}
+		String key = null;
+		File file;
+		try {
+			file = new File(directory, hash(createDigest(), name) + KEY_EXTENSION);
+			if (!file.isFile()) {
+				return null;
+			}
+			try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+				if (in.readInt() == VERSION && in.readUTF().equals(name)) {
+					key = in.readUTF();
+				}
+			}
+		} catch (IOException e) {
+			return null;
+		}
+		if (key == null) {
+			file.delete();
+			return null;
+		}
+		// Marks the key as used
+		file.setLastModified(System.currentTimeMillis());
+		synchronized (fKeys) {
+			fKeys.put(name, key);
+		}
+		return key;
+	}
+
+	/**
+	 * Computes the key of the entry of a binary from its contents.
+	 *
+	 * @param kind the class of the binary object
+	 * @param stamp the location, size and modification time of the binary
+	 * @param contents the contents of the binary, closed by this method
+	 */
+	static String computeKey(Class<?> kind, String stamp, InputStream contents) throws IOException {
+		MessageDigest digest = createDigest();
+		digest.update(kind.getName().getBytes(StandardCharsets.UTF_8));
+		try (InputStream in = contents) {
+			byte[] buffer = new byte[8192];
+			int n;
+			while ((n = in.read(buffer)) > 0) {
+				digest.update(buffer, 0, n);
+			}
+		}
+		String key = hash(digest, null);
+		String name = kind.getName() + ':' + stamp;
+		synchronized (fKeys) {
+			fKeys.put(name, key);
+			fKeyComputations++;
+		}
+		File directory = getDirectory();
+		if (directory != null) {
+			store(directory, hash(digest, name) + KEY_EXTENSION, out -> {
+				out.writeInt(VERSION);
+				out.writeUTF(name);
+				out.writeUTF(key);
+			});
+		}
+		return key;
+	}
+
+	private static MessageDigest createDigest() throws IOException {
+		try {
+			return MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+		} catch (NoSuchAlgorithmException e) {
+			throw new IOException(e);
+		}
+	}
+
+	/**
+	 * Returns the hexadecimal digest of the given text, or of the data already given
+	 * to the digest if the text is null. The digest is reset.
+	 */
+	private static String hash(MessageDigest digest, String text) {
+		if (text != null) {
+			digest.update(text.getBytes(StandardCharsets.UTF_8));
+		}
+		StringBuilder result = new StringBuilder();
+		for (byte b : digest.digest()) {
+			result.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+		}
+		return result.toString();
+	}
+
+	/**
+	 * Returns the entry with the given key from memory or from the state location,
+	 * or null if there is none.
+	 */
+	static Entry get(String key) {
+		synchronized (fEntries) {
+			Entry entry = fEntries.get(key);
+			if (entry != null) {
+				fHits++;
+				return entry;
+			}
+		}
+		File directory = getDirectory();
+		if (directory == null) {
+			return null;
+		}
+		File file = new File(directory, key + EXTENSION);
+		if (!file.isFile()) {
+			return null;
+		}
+		Entry entry;
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+			entry = read(in);
+		} catch (IOException e) {
+			file.delete();
+			return null;
+		}
+		if (entry == null) {
+			file.delete();
+			return null;
+		}
+		// Marks the entry as used
+		file.setLastModified(System.currentTimeMillis());
+		synchronized (fEntries) {
+			fEntries.put(key, entry);
+			fLoads++;
+		}
+		return entry;
+	}
+
+	/**
+	 * Stores an entry in memory and in the state location.
+	 */
+	static void put(String key, Entry entry) {
+		synchronized (fEntries) {
+			fEntries.put(key, entry);
+			fStores++;
+		}
+		File directory = getDirectory();
+		if (directory != null) {
+			store(directory, key + EXTENSION, out -> write(entry, out));
+		}
+	}
+
+	private interface Content {
+		void write(DataOutputStream out) throws IOException;
+	}
+
+	/**
+	 * Writes a file of the state location, which is complete or missing for the
+	 * concurrent readers.
+	 */
+	private static void store(File directory, String name, Content content) {
+		File tmp = null;
+		try {
+			tmp = File.createTempFile(name, ".tmp", directory); //$NON-NLS-1$
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmp)))) {
+				content.write(out);
+			}
+			Files.move(tmp.toPath(), new File(directory, name).toPath(), StandardCopyOption.REPLACE_EXISTING,
+					StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException e) {
+			// The file stays in memory only, for example with names too long to be written
+			if (tmp != null) {
+				tmp.delete();
+			}
+		}
+	}
+
+	/**
+	 * Returns the number of entries found in memory, loaded from the state location
+	 * and stored, and the number of binaries read to compute their keys, in this
+	 * order.
+	 * <p>
+	 * public for testing purposes only.
+	 */
+	public static long[] getStatistics() {
+		long keyComputations;
+		synchronized (fKeys) {
+			keyComputations = fKeyComputations;
+		}
+		synchronized (fEntries) {
+			return new long[] { fHits, fLoads, fStores, keyComputations };
+		}
+	}
+
+	/**
+	 * Removes the entries and the keys from memory, but not from the state location.
+	 * <p>
+	 * public for testing purposes only.
+	 */
+	public static void clear() {
+		synchronized (fEntries) {
+			fEntries.clear();
+		}
+		synchronized (fKeys) {
+			fKeys.clear();
+		}
+	}
+
+	/**
+	 * Returns the directory of the entries in the state location, or null if the
+	 * core plug-in is not running. The expired entries are removed when the
+	 * directory is first used.
+	 */
+	private static synchronized File getDirectory() {
+		if (!fDirectoryInitialized) {
+			fDirectoryInitialized = true;
+			CCorePlugin plugin = CCorePlugin.getDefault();
+			if (plugin != null && plugin.getBundle() != null) {
+				try {
+					IPath location = plugin.getStateLocation().append(DIRECTORY);
+					File directory = location.toFile();
+					if (directory.isDirectory() || directory.mkdirs()) {
+						fDirectory = directory;
+						removeExpiredEntries(directory);
+					}
+				} catch (IllegalStateException e) {
+					// No state location, the cache is in memory only
+				}
+			}
+		}
+		return fDirectory;
+	}
+
+	private static void removeExpiredEntries(File directory) {
+		File[] files = directory.listFiles();
+		if (files == null) {
+			return;
+		}
+		long expired = System.currentTimeMillis() - EXPIRATION;
+		for (File file : files) {
+			if (file.lastModified() < expired) {
+				file.delete();
+			}
+		}
+	}
+
+	private static void write(Entry entry, DataOutputStream out) throws IOException {
+		out.writeInt(VERSION);
+		out.writeLong(entry.bss);
+		out.writeLong(entry.data);
+		out.writeLong(entry.text);
+		out.writeBoolean(entry.hasDebug);
+		out.writeBoolean(entry.isLittleEndian);
+		out.writeBoolean(entry.is64);
+		out.writeUTF(entry.soname);
+		out.writeUTF(entry.cpu);
+		out.writeInt(entry.needed.length);
+		for (String needed : entry.needed) {
+			out.writeUTF(needed);
+		}
+		int count = entry.names.length;
+		out.writeInt(count);
+		for (int i = 0; i < count; i++) {
+			out.writeUTF(entry.names[i]);
+			out.writeInt(entry.types[i]);
+			out.writeLong(entry.addresses[i]);
+			out.writeLong(entry.sizes[i]);
+		}
+	}
+
+	private static Entry read(DataInputStream in) throws IOException {
+		if (in.readInt() != VERSION) {
+			return null;
+		}
+		long bss = in.readLong();
+		long data = in.readLong();
+		long text = in.readLong();
+		boolean hasDebug = in.readBoolean();
+		boolean isLittleEndian = in.readBoolean();
+		boolean is64 = in.readBoolean();
+		String soname = in.readUTF();
+		String cpu = in.readUTF();
+		String[] needed = new String[in.readInt()];
+		for (int i = 0; i < needed.length; i++) {
+			needed[i] = in.readUTF();
+		}
+		int count = in.readInt();
+		Entry entry = new Entry(count);
+		entry.bss = bss;
+		entry.data = data;
+		entry.text = text;
+		entry.hasDebug = hasDebug;
+		entry.isLittleEndian = isLittleEndian;
+		entry.is64 = is64;
+		entry.soname = soname;
+		entry.cpu = cpu;
+		entry.needed = needed;
+		for (int i = 0; i < count; i++) {
+			entry.names[i] = in.readUTF();
+			entry.types[i] = in.readInt();
+			entry.addresses[i] = in.readLong();
+			entry.sizes[i] = in.readLong();
+		}
+		return entry;
+	}
+}
@@ -0,0 +1,95 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.dsf.gdb.benchmarks;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.cdt.dsf.concurrent.DefaultDsfExecutor;
+import org.eclipse.cdt.dsf.concurrent.DsfExecutor;
+import org.eclipse.cdt.dsf.concurrent.LockFreeDsfExecutor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the number of runnables per second that a DSF executor runs when they are submitted
+ * by several threads at once, like the UI threads and the reader of the GDB output submit the
+ * work of a debug session.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class DsfExecutorBenchmark {
+	private static final int RUNNABLES = 1000;
+
+	/** The {@link DefaultDsfExecutor}. */
+	public static final String DEFAULT = "default";
+	/** The {@link LockFreeDsfExecutor}. */
+	public static final String LOCK_FREE = "lockFree";
+	/** The {@link LockFreeDsfExecutor}, collecting statistics. */
+	public static final String STATISTICS = "statistics";
+
+	@Param({ DEFAULT, LOCK_FREE, STATISTICS })
+	public String executor;
+
+	private DsfExecutor fExecutor;
+	// Accessed in the executor thread only
+	private long fExecuted;
+
+	@State(Scope.Thread)
+	public static class Producer {
+		CountDownLatch fDone;
+	}
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		if (DEFAULT.equals(executor)) {
+			fExecutor = new DefaultDsfExecutor();
+		} else {
+			fExecutor = new LockFreeDsfExecutor("DSF Executor", STATISTICS.equals(executor));
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws Exception {
+		fExecutor.shutdown();
+		fExecutor.awaitTermination(1, TimeUnit.MINUTES);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(RUNNABLES)
+	public void submit(Producer producer) throws Exception {
+		producer.fDone = new CountDownLatch(1);
+		for (int i = 1; i < RUNNABLES; i++) {
+			fExecutor.execute(() -> fExecuted++);
+		}
+		fExecutor.execute(producer.fDone::countDown);
+		if (!producer.fDone.await(1, TimeUnit.MINUTES))
+			throw new IllegalStateException("Runnables did not complete");
+	}
+}
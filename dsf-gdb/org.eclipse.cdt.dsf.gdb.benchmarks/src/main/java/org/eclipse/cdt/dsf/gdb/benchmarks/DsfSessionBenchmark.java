@@ -0,0 +1,150 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.dsf.gdb.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.cdt.dsf.concurrent.DefaultDsfExecutor;
+import org.eclipse.cdt.dsf.service.DsfServiceEventHandler;
+import org.eclipse.cdt.dsf.service.DsfSession;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the number of service events per second that a session dispatches to its listeners,
+ * for the suspended and resumed events of the threads of a program in non-stop mode. The
+ * listeners handle different parts of the event hierarchy, like the services and view models of
+ * a debug session.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DsfSessionBenchmark {
+	private static final int EVENTS = 1000;
+
+	public interface Event {
+	}
+
+	public interface ExecutionEvent extends Event {
+	}
+
+	public static final class SuspendedEvent implements ExecutionEvent {
+	}
+
+	public static final class ResumedEvent implements ExecutionEvent {
+	}
+
+	public static final class ThreadExitedEvent implements Event {
+	}
+
+	public static final class RunControlListener {
+		int fEvents;
+
+		@DsfServiceEventHandler
+		public void eventDispatched(SuspendedEvent e) {
+			fEvents++;
+		}
+
+		@DsfServiceEventHandler
+		public void eventDispatched(ResumedEvent e) {
+			fEvents++;
+		}
+
+		@DsfServiceEventHandler
+		public void eventDispatched(ThreadExitedEvent e) {
+			fEvents++;
+		}
+	}
+
+	public static final class CacheListener {
+		int fEvents;
+
+		@DsfServiceEventHandler
+		public void eventDispatched(ExecutionEvent e) {
+			fEvents++;
+		}
+	}
+
+	public static final class ViewModelListener {
+		int fEvents;
+
+		@DsfServiceEventHandler
+		public void eventDispatched(Event e) {
+			fEvents++;
+		}
+	}
+
+	public static final class ExitListener {
+		int fEvents;
+
+		@DsfServiceEventHandler
+		public void eventDispatched(ThreadExitedEvent e) {
+			fEvents++;
+		}
+	}
+
+	/** Number of listeners of each kind in the session. */
+	@Param({ "10" })
+	public int listeners;
+
+	private DefaultDsfExecutor executor;
+	private DsfSession session;
+	private final Event[] events = new Event[EVENTS];
+
+	@Setup(Level.Trial)
+	public void setUp() throws Exception {
+		executor = new DefaultDsfExecutor();
+		session = executor.submit(() -> DsfSession.startSession(executor, "org.eclipse.cdt.dsf.gdb.benchmarks"))
+				.get();
+		executor.submit(() -> {
+			for (int i = 0; i < listeners; i++) {
+				session.addServiceEventListener(new RunControlListener(), null);
+				session.addServiceEventListener(new CacheListener(), null);
+				session.addServiceEventListener(new ViewModelListener(), null);
+				session.addServiceEventListener(new ExitListener(), null);
+			}
+		}).get();
+		for (int i = 0; i < events.length; i++) {
+			events[i] = i % 2 == 0 ? new SuspendedEvent() : new ResumedEvent();
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws Exception {
+		executor.submit(() -> DsfSession.endSession(session)).get();
+		executor.shutdown();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(EVENTS)
+	public void dispatch() throws Exception {
+		for (Event event : events) {
+			session.dispatchEvent(event, null);
+		}
+		// The events are dispatched in order, wait for the last one
+		executor.submit(() -> null).get(1, TimeUnit.MINUTES);
+	}
+}
@@ -0,0 +1,184 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.dsf.gdb.benchmarks;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.cdt.dsf.concurrent.CountingRequestMonitor;
+import org.eclipse.cdt.dsf.concurrent.DataRequestMonitor;
+import org.eclipse.cdt.dsf.concurrent.DefaultDsfExecutor;
+import org.eclipse.cdt.dsf.debug.service.command.ICommandControlService.ICommandControlDMContext;
+import org.eclipse.cdt.dsf.mi.service.command.AbstractMIControl;
+import org.eclipse.cdt.dsf.mi.service.command.CommandFactory;
+import org.eclipse.cdt.dsf.mi.service.command.MIControlDMContext;
+import org.eclipse.cdt.dsf.mi.service.command.commands.MICommand;
+import org.eclipse.cdt.dsf.mi.service.command.output.MIAsyncRecord;
+import org.eclipse.cdt.dsf.mi.service.command.output.MIInfo;
+import org.eclipse.cdt.dsf.mi.service.command.output.MIOOBRecord;
+import org.eclipse.cdt.dsf.mi.service.command.output.MIOutput;
+import org.eclipse.cdt.dsf.service.DsfSession;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.osgi.framework.BundleContext;
+
+/**
+ * Measures the latency of a step in a debug session: the time from sending {@code -exec-next}
+ * until the queries that the services send after the suspended event are answered. The MI
+ * control talks to a {@link ScriptedGdb} that replays the recorded session.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MIControlBenchmark {
+	/**
+	 * The queries of the services after a suspended event, in the order of a typical refresh of
+	 * the Debug, Variables, Registers and Disassembly views. Different services ask for the same
+	 * data, e.g. the stack depth and the threads.
+	 */
+	private static final String[][] REFRESH = { //
+			{ "-thread-info" }, //
+			{ "-stack-info-depth", "11" }, //
+			{ "-stack-list-frames" }, //
+			{ "-thread-info" }, //
+			{ "-stack-info-depth", "11" }, //
+			{ "-stack-list-arguments", "1", "0", "1" }, //
+			{ "-stack-list-locals", "1" }, //
+			{ "-stack-list-frames" }, //
+			{ "-data-list-register-names" }, //
+			{ "-data-list-register-values", "x", "0", "1", "2", "3", "4", "5", "6", "7", "16", "17" }, //
+			{ "-data-read-memory-bytes", "-o", "0", "0x4172b0", "32" }, //
+			{ "-data-disassemble", "-s", "0x401266", "-e", "0x401286", "--", "0" }, //
+			{ "-thread-info" }, //
+			{ "-var-update", "1", "var1" } };
+
+	/** Time in microseconds that GDB takes for each command. */
+	@Param({ "0", "100" })
+	public int gdbLatency;
+
+	private DefaultDsfExecutor executor;
+	private DsfSession session;
+	private ScriptedGdb gdb;
+	private Control control;
+	private volatile CountDownLatch stepDone;
+
+	private static final class Control extends AbstractMIControl {
+		private final ICommandControlDMContext fContext;
+
+		Control(DsfSession session) {
+			super(session, true, new CommandFactory());
+			fContext = new MIControlDMContext(session.getId(), "benchmark");
+		}
+
+		@Override
+		protected boolean isConcurrentCommandsSupported() {
+			return true;
+		}
+
+		void start(ScriptedGdb gdb) {
+			startCommandProcessing(gdb.getInputStream(), gdb.getOutputStream());
+		}
+
+		void stop() {
+			stopCommandProcessing();
+		}
+
+		@Override
+		public MIControlDMContext getControlDMContext() {
+			return (MIControlDMContext) fContext;
+		}
+
+		@Override
+		public ICommandControlDMContext getContext() {
+			return fContext;
+		}
+
+		@Override
+		public String getId() {
+			return fContext.getCommandControlId();
+		}
+
+		@Override
+		protected BundleContext getBundleContext() {
+			return null;
+		}
+	}
+
+	@Setup(Level.Trial)
+	public void setUp() throws Exception {
+		executor = new DefaultDsfExecutor();
+		session = DsfSession.startSession(executor, "org.eclipse.cdt.dsf.gdb.benchmarks");
+		gdb = new ScriptedGdb(gdbLatency);
+		control = executor.submit(() -> {
+			Control c = new Control(session);
+			c.start(gdb);
+			c.addEventListener(this::eventReceived);
+			return c;
+		}).get();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws Exception {
+		executor.submit(() -> control.stop()).get();
+		gdb.close();
+		executor.submit(() -> DsfSession.endSession(session)).get();
+		executor.shutdown();
+	}
+
+	@Benchmark
+	public void step() throws Exception {
+		stepDone = new CountDownLatch(1);
+		executor.execute(() -> control.queueCommand(
+				new MICommand<MIInfo>(control.getContext(), "-exec-next", new String[] { "1" }),
+				new DataRequestMonitor<MIInfo>(executor, null)));
+		if (!stepDone.await(10, TimeUnit.SECONDS))
+			throw new IllegalStateException("Step did not complete");
+	}
+
+	private void eventReceived(Object output) {
+		for (MIOOBRecord oob : ((MIOutput) output).getMIOOBRecords()) {
+			if (oob instanceof MIAsyncRecord && "stopped".equals(((MIAsyncRecord) oob).getAsyncClass())) {
+				refresh();
+			}
+		}
+	}
+
+	private void refresh() {
+		final CountDownLatch latch = stepDone;
+		CountingRequestMonitor crm = new CountingRequestMonitor(executor, null) {
+			@Override
+			protected void handleCompleted() {
+				latch.countDown();
+			}
+		};
+		crm.setDoneCount(REFRESH.length);
+		for (String[] query : REFRESH) {
+			String[] parameters = new String[query.length - 1];
+			System.arraycopy(query, 1, parameters, 0, parameters.length);
+			control.queueCommand(new MICommand<MIInfo>(control.getContext(), query[0], parameters),
+					new DataRequestMonitor<MIInfo>(executor, crm));
+		}
+	}
+}
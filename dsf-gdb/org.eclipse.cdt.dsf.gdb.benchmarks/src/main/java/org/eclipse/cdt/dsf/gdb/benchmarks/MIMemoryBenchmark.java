@@ -0,0 +1,159 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.dsf.gdb.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.cdt.core.IAddress;
+import org.eclipse.cdt.dsf.concurrent.DataRequestMonitor;
+import org.eclipse.cdt.dsf.concurrent.DefaultDsfExecutor;
+import org.eclipse.cdt.dsf.datamodel.IDMContext;
+import org.eclipse.cdt.dsf.mi.service.MIMemory;
+import org.eclipse.cdt.dsf.service.DsfSession;
+import org.eclipse.cdt.utils.Addr64;
+import org.eclipse.debug.core.model.MemoryByte;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how long the memory views wait for the memory of the target while they are browsed,
+ * with the memory cache of {@link MIMemory} in front of a target that takes the given time for
+ * each read. The cache is empty at the start of each browse, as after a step.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MIMemoryBenchmark {
+	/** A view of 1 KiB scrolled through 64 KiB, four lines of 16 bytes at a time. */
+	public static final String SCROLL = "scroll";
+	/** Views of 256 bytes at 1024 random addresses of 64 MiB, each address visited twice. */
+	public static final String JUMP = "jump";
+
+	private static final long BASE = 0x601000;
+
+	@Param({ SCROLL, JUMP })
+	public String pattern;
+
+	/** Time in microseconds that the target takes for each read. */
+	@Param({ "0", "100" })
+	public int gdbLatency;
+
+	private DefaultDsfExecutor executor;
+	private DsfSession session;
+	private Memory memory;
+	private IAddress[] addresses;
+	private int[] lengths;
+
+	private final class Memory extends MIMemory {
+		private final MIMemoryCache fCache = new MIMemoryCache();
+
+		Memory(DsfSession session) {
+			super(session);
+		}
+
+		void reset() {
+			fCache.reset();
+		}
+
+		void getMemory(IAddress address, int count, DataRequestMonitor<MemoryByte[]> drm) {
+			fCache.getMemory(null, address, 1, count, drm);
+		}
+
+		@Override
+		protected void readMemoryBlock(IDMContext dmc, IAddress address, long offset, int wordSize, int wordCount,
+				DataRequestMonitor<MemoryByte[]> drm) {
+			Runnable reply = () -> {
+				MemoryByte[] block = new MemoryByte[wordSize * wordCount];
+				for (int i = 0; i < block.length; i++) {
+					block[i] = new MemoryByte((byte) i);
+				}
+				drm.setData(block);
+				drm.done();
+			};
+			if (gdbLatency > 0) {
+				getExecutor().schedule(reply, gdbLatency, TimeUnit.MICROSECONDS);
+			} else {
+				getExecutor().execute(reply);
+			}
+		}
+	}
+
+	@Setup(Level.Trial)
+	public void setUp() throws Exception {
+		executor = new DefaultDsfExecutor();
+		session = executor.submit(() -> DsfSession.startSession(executor, "org.eclipse.cdt.dsf.gdb.benchmarks"))
+				.get();
+		memory = new Memory(session);
+		if (SCROLL.equals(pattern)) {
+			addresses = new IAddress[1024];
+			lengths = new int[addresses.length];
+			for (int i = 0; i < addresses.length; i++) {
+				addresses[i] = new Addr64(Long.toString(BASE + i * 64));
+				lengths[i] = 1024;
+			}
+		} else {
+			Random random = new Random(42);
+			addresses = new IAddress[2048];
+			lengths = new int[addresses.length];
+			for (int i = 0; i < 1024; i++) {
+				addresses[i] = addresses[i + 1024] = new Addr64(Long.toString(BASE + random.nextInt(64 << 20)));
+				lengths[i] = lengths[i + 1024] = 256;
+			}
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws Exception {
+		executor.submit(() -> DsfSession.endSession(session)).get();
+		executor.shutdown();
+	}
+
+	@Benchmark
+	public void browse() throws Exception {
+		CountDownLatch done = new CountDownLatch(1);
+		executor.execute(() -> {
+			memory.reset();
+			request(0, done);
+		});
+		if (!done.await(1, TimeUnit.MINUTES))
+			throw new IllegalStateException("Browsing did not complete");
+	}
+
+	// The views ask for the next memory when they got the previous one
+	private void request(int index, CountDownLatch done) {
+		if (index == addresses.length) {
+			done.countDown();
+			return;
+		}
+		memory.getMemory(addresses[index], lengths[index], new DataRequestMonitor<MemoryByte[]>(executor, null) {
+			@Override
+			protected void handleCompleted() {
+				request(index + 1, done);
+			}
+		});
+	}
+}
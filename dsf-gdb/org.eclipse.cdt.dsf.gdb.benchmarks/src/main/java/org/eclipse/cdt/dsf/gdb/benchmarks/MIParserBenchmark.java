@@ -0,0 +1,114 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.dsf.gdb.benchmarks;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.cdt.dsf.mi.service.command.output.MIAsyncRecord;
+import org.eclipse.cdt.dsf.mi.service.command.output.MIConst;
+import org.eclipse.cdt.dsf.mi.service.command.output.MIList;
+import org.eclipse.cdt.dsf.mi.service.command.output.MIParser;
+import org.eclipse.cdt.dsf.mi.service.command.output.MIResult;
+import org.eclipse.cdt.dsf.mi.service.command.output.MIResultRecord;
+import org.eclipse.cdt.dsf.mi.service.command.output.MITuple;
+import org.eclipse.cdt.dsf.mi.service.command.output.MIValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the throughput of parsing the output of GDB with {@link MIParser}, once as the
+ * receiver thread of the MI control does it and once with access to every value of the records,
+ * which materializes the values that are parsed lazily.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MIParserBenchmark {
+	@Param({ Transcript.SESSION, Transcript.STACK_FRAMES, Transcript.THREAD_INFO, Transcript.MEMORY })
+	public String transcript;
+
+	private List<String> lines;
+	private MIParser parser;
+
+	@Setup
+	public void setUp() throws IOException {
+		lines = Transcript.get(transcript).getLines();
+		parser = new MIParser();
+	}
+
+	@Benchmark
+	public void parse(Blackhole blackhole) {
+		for (String line : lines) {
+			blackhole.consume(parseLine(line));
+		}
+	}
+
+	@Benchmark
+	public void parseAndAccess(Blackhole blackhole) {
+		for (String line : lines) {
+			Object record = parseLine(line);
+			if (record instanceof MIResultRecord) {
+				access(((MIResultRecord) record).getMIResults(), blackhole);
+			} else if (record instanceof MIAsyncRecord) {
+				access(((MIAsyncRecord) record).getMIResults(), blackhole);
+			}
+		}
+	}
+
+	private Object parseLine(String line) {
+		switch (parser.getRecordType(line)) {
+		case ResultRecord:
+			return parser.parseMIResultRecord(line);
+		case OOBRecord:
+			return parser.parseMIOOBRecord(line);
+		default:
+			return null;
+		}
+	}
+
+	private static void access(MIResult[] results, Blackhole blackhole) {
+		for (MIResult result : results) {
+			blackhole.consume(result.getVariable());
+			access(result.getMIValue(), blackhole);
+		}
+	}
+
+	private static void access(MIValue value, Blackhole blackhole) {
+		if (value instanceof MIConst) {
+			blackhole.consume(((MIConst) value).getCString());
+		} else if (value instanceof MITuple) {
+			access(((MITuple) value).getMIResults(), blackhole);
+			for (MIValue v : ((MITuple) value).getMIValues()) {
+				access(v, blackhole);
+			}
+		} else if (value instanceof MIList) {
+			access(((MIList) value).getMIResults(), blackhole);
+			for (MIValue v : ((MIList) value).getMIValues()) {
+				access(v, blackhole);
+			}
+		}
+	}
+}
@@ -0,0 +1,113 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.dsf.gdb.benchmarks;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.Pipe;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A stand-in for GDB that answers the commands of an MI control with the replies of the
+ * recorded session. GDB handles one command after the other, each one takes the given time.
+ * Commands that are not in the session are answered with {@code ^done}.
+ */
+public final class ScriptedGdb {
+	private static final Pattern COMMAND = Pattern.compile("^(\\d*)(-\\S+)");
+	private static final Pattern RESULT = Pattern.compile("^\\d*(\\^.*)");
+
+	/** The records GDB sends for a command, by operation. Result records have no token. */
+	private final Map<String, List<String>> fReplies = new HashMap<>();
+	private final long fLatencyNanos;
+	private final Pipe fToGdb;
+	private final Pipe fFromGdb;
+
+	/**
+	 * @param latency time in microseconds that GDB takes for each command.
+	 */
+	public ScriptedGdb(long latency) throws IOException {
+		fLatencyNanos = TimeUnit.MICROSECONDS.toNanos(latency);
+		List<String> replies = null;
+		for (String line : Transcript.readSession()) {
+			Matcher command = COMMAND.matcher(line);
+			if (command.find()) {
+				replies = fReplies.containsKey(command.group(2)) ? null : new ArrayList<>();
+				if (replies != null)
+					fReplies.put(command.group(2), replies);
+			} else if (replies != null && !line.isEmpty() && !line.startsWith("(gdb)")) {
+				Matcher result = RESULT.matcher(line);
+				replies.add(result.matches() ? result.group(1) : line);
+			}
+		}
+		fToGdb = Pipe.open();
+		fFromGdb = Pipe.open();
+		Thread thread = new Thread(this::run, "Scripted GDB");
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	/** Returns the stream to which GDB writes its output. */
+	public InputStream getInputStream() {
+		return Channels.newInputStream(fFromGdb.source());
+	}
+
+	/** Returns the stream from which GDB reads the commands. */
+	public OutputStream getOutputStream() {
+		return Channels.newOutputStream(fToGdb.sink());
+	}
+
+	public void close() throws IOException {
+		fToGdb.sink().close();
+		fFromGdb.sink().close();
+	}
+
+	private void run() {
+		try (BufferedReader in = new BufferedReader(
+				new InputStreamReader(Channels.newInputStream(fToGdb.source()), StandardCharsets.UTF_8));
+				Writer out = new OutputStreamWriter(Channels.newOutputStream(fFromGdb.sink()),
+						StandardCharsets.UTF_8)) {
+			String line;
+			while ((line = in.readLine()) != null) {
+				Matcher command = COMMAND.matcher(line);
+				if (!command.find())
+					continue;
+				if (fLatencyNanos > 0)
+					LockSupport.parkNanos(fLatencyNanos);
+				List<String> replies = fReplies.get(command.group(2));
+				if (replies == null || replies.isEmpty()) {
+					out.write(command.group(1) + "^done\n");
+				} else {
+					for (String reply : replies) {
+						out.write(reply.startsWith("^") ? command.group(1) + reply + '\n' : reply + '\n');
+					}
+				}
+				out.write("(gdb) \n");
+				out.flush();
+			}
+		} catch (IOException e) {
+			// The control was shut down.
+		}
+	}
+}
@@ -0,0 +1,172 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.dsf.gdb.benchmarks;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * The lines GDB sent to CDT in a debug session, i.e. the input of the MI parser.
+ * <p>
+ * Transcripts are read from the GDB traces console of CDT, with lines of the form
+ * {@code 123,456 *stopped,...}, or from a plain log of the MI output of GDB. Lines that the
+ * traces console split are joined, commands sent to GDB and prompts are dropped.
+ */
+public final class Transcript {
+	/** Recorded session: breakpoints, stepping, stack and variable queries of a small program. */
+	public static final String SESSION = "session";
+	/** Generated -stack-list-frames reply with 10000 frames. */
+	public static final String STACK_FRAMES = "stack-frames";
+	/** Generated -thread-info reply for a process with 2000 threads. */
+	public static final String THREAD_INFO = "thread-info";
+	/** Generated -data-read-memory-bytes reply for 64 KiB. */
+	public static final String MEMORY = "memory";
+
+	private static final Pattern TIME_STAMP = Pattern.compile("^\\d{3},\\d{3} ");
+	private static final Pattern COMMAND = Pattern.compile("^\\d*-");
+	private static final int SPLIT_LENGTH = 100;
+
+	private final List<String> fLines;
+
+	private Transcript(List<String> lines) {
+		fLines = lines;
+	}
+
+	public List<String> getLines() {
+		return fLines;
+	}
+
+	/**
+	 * Returns the transcript with the given name, or reads the transcript from the file with the
+	 * given path.
+	 */
+	public static Transcript get(String name) throws IOException {
+		switch (name) {
+		case STACK_FRAMES:
+			return generate(Transcript::appendStackFrames);
+		case THREAD_INFO:
+			return generate(Transcript::appendThreadInfo);
+		case MEMORY:
+			return generate(Transcript::appendMemory);
+		case SESSION:
+			return new Transcript(filter(readSession()));
+		default:
+			Path path = Paths.get(name);
+			if (!Files.isRegularFile(path))
+				throw new IllegalArgumentException("Unknown transcript: " + name);
+			return new Transcript(filter(read(Files.newBufferedReader(path, StandardCharsets.UTF_8))));
+		}
+	}
+
+	/**
+	 * Returns all lines of the recorded session, including the commands sent to GDB and the prompts.
+	 */
+	static List<String> readSession() throws IOException {
+		try (InputStream in = Transcript.class.getResourceAsStream("transcripts/" + SESSION + ".txt")) {
+			return read(new InputStreamReader(in, StandardCharsets.UTF_8));
+		}
+	}
+
+	private static List<String> filter(List<String> lines) {
+		List<String> result = new ArrayList<>();
+		for (String line : lines) {
+			if (!line.isEmpty() && !line.startsWith("(gdb)") && !COMMAND.matcher(line).find())
+				result.add(line);
+		}
+		return result;
+	}
+
+	private static List<String> read(Reader reader) throws IOException {
+		List<String> lines = new ArrayList<>();
+		try (BufferedReader in = new BufferedReader(reader)) {
+			StringBuilder line = new StringBuilder();
+			String part;
+			while ((part = in.readLine()) != null) {
+				// The traces console splits long lines into chunks of 100 characters followed by a backslash.
+				final boolean continued = part.length() == SPLIT_LENGTH + 1 && part.endsWith("\\");
+				if (continued)
+					part = part.substring(0, SPLIT_LENGTH);
+				if (line.length() == 0)
+					part = TIME_STAMP.matcher(part).replaceFirst("");
+				line.append(part);
+				if (continued)
+					continue;
+				lines.add(line.toString());
+				line.setLength(0);
+			}
+		}
+		return lines;
+	}
+
+	private interface Generator {
+		void append(StringBuilder buffer);
+	}
+
+	private static Transcript generate(Generator generator) {
+		StringBuilder buffer = new StringBuilder();
+		generator.append(buffer);
+		List<String> lines = new ArrayList<>();
+		lines.add(buffer.toString());
+		return new Transcript(lines);
+	}
+
+	private static void appendFrame(StringBuilder buffer, int level) {
+		buffer.append("frame={level=\"").append(level)
+				.append("\",addr=\"0x").append(Long.toHexString(0x400000L + level * 64L))
+				.append("\",func=\"recurse_").append(level % 17)
+				.append("\",file=\"src/recursion.cpp\",fullname=\"/home/user/project/src/recursion.cpp\",line=\"")
+				.append(10 + level % 50).append("\",arch=\"i386:x86-64\"}");
+	}
+
+	private static void appendStackFrames(StringBuilder buffer) {
+		buffer.append("25^done,stack=[");
+		for (int level = 0; level < 10000; level++) {
+			if (level > 0)
+				buffer.append(',');
+			appendFrame(buffer, level);
+		}
+		buffer.append(']');
+	}
+
+	private static void appendThreadInfo(StringBuilder buffer) {
+		buffer.append("31^done,threads=[");
+		for (int id = 1; id <= 2000; id++) {
+			if (id > 1)
+				buffer.append(',');
+			buffer.append("{id=\"").append(id).append("\",target-id=\"Thread 0x7ffff7").append(id)
+					.append(" (LWP ").append(4000 + id).append(")\",name=\"worker-").append(id)
+					.append("\",frame={level=\"0\",addr=\"0x00007ffff7bc8f6d\",func=\"pthread_cond_wait\",")
+					.append("args=[{name=\"cond\",value=\"0x601040 <cond>\"},{name=\"mutex\",value=\"0x601080\"}],")
+					.append("from=\"/lib64/libpthread.so.0\",arch=\"i386:x86-64\"},state=\"stopped\",core=\"")
+					.append(id % 8).append("\"}");
+		}
+		buffer.append("],current-thread-id=\"1\"");
+	}
+
+	private static void appendMemory(StringBuilder buffer) {
+		buffer.append("40^done,memory=[{begin=\"0x0000000000601000\",offset=\"0x0000000000000000\",")
+				.append("end=\"0x0000000000611000\",contents=\"");
+		for (int i = 0; i < 65536; i++) {
+			buffer.append(Character.forDigit((i >> 4) & 0xf, 16)).append(Character.forDigit(i & 0xf, 16));
+		}
+		buffer.append("\"}]");
+	}
+}
@@ -0,0 +1,260 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.dsf.mi.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.cdt.core.IAddress;
+import org.eclipse.cdt.dsf.concurrent.DataRequestMonitor;
+import org.eclipse.cdt.dsf.concurrent.DefaultDsfExecutor;
+import org.eclipse.cdt.dsf.datamodel.IDMContext;
+import org.eclipse.cdt.dsf.service.DsfSession;
+import org.eclipse.cdt.utils.Addr64;
+import org.eclipse.debug.core.model.MemoryByte;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the memory cache of {@link MIMemory} against a target whose memory holds the low byte of
+ * the address at each address. The reads of the target are completed by the tests.
+ */
+public class MIMemoryCacheTest {
+	private static final int PAGE_SIZE = 1024;
+	private static final int PREFETCH = 4 * PAGE_SIZE;
+
+	private static class Read {
+		final long fAddress;
+		final int fCount;
+		final DataRequestMonitor<MemoryByte[]> fDrm;
+
+		Read(long address, int count, DataRequestMonitor<MemoryByte[]> drm) {
+			fAddress = address;
+			fCount = count;
+			fDrm = drm;
+		}
+	}
+
+	private class TestMemory extends MIMemory {
+		TestMemory(DsfSession session) {
+			super(session);
+		}
+
+		@Override
+		protected void readMemoryBlock(IDMContext dmc, IAddress address, long offset, int wordSize, int wordCount,
+				DataRequestMonitor<MemoryByte[]> drm) {
+			fReads.add(new Read(address.getValue().longValue() + offset, wordCount, drm));
+		}
+	}
+
+	private DefaultDsfExecutor fExecutor;
+	private DsfSession fSession;
+	private MIMemory.MIMemoryCache fCache;
+	private final List<Read> fReads = new ArrayList<>();
+	// Addresses at and above which reads fail as a whole
+	private long fInaccessible = Long.MAX_VALUE;
+
+	@Before
+	public void setUp() throws Exception {
+		fExecutor = new DefaultDsfExecutor();
+		fSession = fExecutor.submit(() -> DsfSession.startSession(fExecutor, "org.eclipse.cdt.dsf.gdb.tests")).get();
+		fCache = new TestMemory(fSession).new MIMemoryCache();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		fExecutor.submit(() -> DsfSession.endSession(fSession)).get();
+		fExecutor.shutdown();
+	}
+
+	private CompletableFuture<MemoryByte[]> request(long address, int count) throws Exception {
+		CompletableFuture<MemoryByte[]> result = new CompletableFuture<>();
+		fExecutor.submit(() -> fCache.getMemory(null, new Addr64(Long.toString(address)), 1, count,
+				new DataRequestMonitor<MemoryByte[]>(fExecutor, null) {
+					@Override
+					protected void handleCompleted() {
+						if (isSuccess()) {
+							result.complete(getData());
+						} else {
+							result.completeExceptionally(new AssertionError(getStatus().getMessage()));
+						}
+					}
+				})).get();
+		return result;
+	}
+
+	private List<Read> takeReads() throws Exception {
+		return fExecutor.submit(() -> {
+			List<Read> reads = new ArrayList<>(fReads);
+			fReads.clear();
+			return reads;
+		}).get();
+	}
+
+	private void complete(Read read, MemoryByte value) throws Exception {
+		fExecutor.submit(() -> {
+			MemoryByte[] block = new MemoryByte[read.fCount];
+			if (value != null) {
+				Arrays.fill(block, value);
+			} else if (read.fAddress + read.fCount > fInaccessible) {
+				Arrays.fill(block, new MemoryByte((byte) 0, (byte) 0));
+			} else {
+				for (int i = 0; i < block.length; i++) {
+					block[i] = new MemoryByte((byte) (read.fAddress + i));
+				}
+			}
+			read.fDrm.setData(block);
+			read.fDrm.done();
+		}).get();
+	}
+
+	// Completes the reads of the target until the request is done
+	private MemoryByte[] get(CompletableFuture<MemoryByte[]> request) throws Exception {
+		while (!request.isDone()) {
+			for (Read read : takeReads()) {
+				complete(read, null);
+			}
+			// Reading the result from the cache is posted to the executor
+			fExecutor.submit(() -> null).get();
+		}
+		return request.get(10, TimeUnit.SECONDS);
+	}
+
+	private static void assertContents(long address, MemoryByte[] block) {
+		for (int i = 0; i < block.length; i++) {
+			assertTrue(block[i].isReadable());
+			assertEquals((byte) (address + i), block[i].getValue());
+		}
+	}
+
+	private static void assertRead(long address, int count, Read read) {
+		assertEquals(Long.toHexString(address), Long.toHexString(read.fAddress));
+		assertEquals(count, read.fCount);
+	}
+
+	@Test
+	public void readsWholePages() throws Exception {
+		CompletableFuture<MemoryByte[]> request = request(0x1010, 16);
+		List<Read> reads = takeReads();
+		assertEquals(1, reads.size());
+		assertRead(0x1000, PAGE_SIZE, reads.get(0));
+		complete(reads.get(0), null);
+		assertContents(0x1010, get(request));
+
+		// Only the part that is not cached is read
+		request = request(0x1300, 0x200);
+		reads = takeReads();
+		assertEquals(1, reads.size());
+		assertRead(0x1400, PAGE_SIZE, reads.get(0));
+		complete(reads.get(0), null);
+		assertContents(0x1300, get(request));
+
+		// The rest of the pages is cached
+		assertContents(0x1000, get(request(0x1000, 2 * PAGE_SIZE)));
+		assertEquals(0, takeReads().size());
+	}
+
+	@Test
+	public void prefetchesSequentialReads() throws Exception {
+		assertContents(0x10000, get(request(0x10000, 0x100)));
+		assertContents(0x10300, get(request(0x10300, 0x100)));
+
+		// Scrolling down reads ahead
+		CompletableFuture<MemoryByte[]> request = request(0x10380, 0x100);
+		List<Read> reads = takeReads();
+		assertEquals(1, reads.size());
+		assertRead(0x10400, PAGE_SIZE + PREFETCH, reads.get(0));
+		complete(reads.get(0), null);
+		assertContents(0x10380, get(request));
+		assertContents(0x10400, get(request(0x10400, PAGE_SIZE + PREFETCH)));
+		assertEquals(0, takeReads().size());
+
+		// Scrolling up reads ahead, up to the cached memory
+		assertContents(0x20000, get(request(0x20000, 0x100)));
+		takeReads();
+		request = request(0x1ff80, 0x100);
+		reads = takeReads();
+		assertEquals(1, reads.size());
+		assertRead(0x1ff80 - 0x380 - PREFETCH, 0x400 + PREFETCH, reads.get(0));
+	}
+
+	@Test
+	public void prefetchStopsAtCachedMemory() throws Exception {
+		assertContents(0x4000, get(request(0x4000, 16)));
+		assertContents(0x3000, get(request(0x3000, 0x100)));
+		CompletableFuture<MemoryByte[]> request = request(0x3080, 0x400);
+		List<Read> reads = takeReads();
+		assertEquals(1, reads.size());
+		assertRead(0x3400, 0x4000 - 0x3400, reads.get(0));
+		complete(reads.get(0), null);
+		assertContents(0x3080, get(request));
+	}
+
+	@Test
+	public void rereadsGapWhenWiderReadFails() throws Exception {
+		fInaccessible = 0x2100;
+		CompletableFuture<MemoryByte[]> request = request(0x2010, 16);
+		List<Read> reads = takeReads();
+		assertRead(0x2000, PAGE_SIZE, reads.get(0));
+		complete(reads.get(0), null);
+		reads = takeReads();
+		assertEquals(1, reads.size());
+		assertRead(0x2010, 16, reads.get(0));
+		complete(reads.get(0), null);
+		assertContents(0x2010, get(request));
+	}
+
+	@Test
+	public void overlappingReadsReplaceCachedMemory() throws Exception {
+		CompletableFuture<MemoryByte[]> first = request(0x0, 0x10);
+		CompletableFuture<MemoryByte[]> second = request(0x8, 0x10);
+		List<Read> reads = takeReads();
+		assertEquals(2, reads.size());
+		assertRead(0x0, PAGE_SIZE, reads.get(0));
+		assertRead(0x0, PAGE_SIZE + PREFETCH, reads.get(1));
+
+		// The read of the first request completes last and replaces part of the second one
+		complete(reads.get(1), null);
+		complete(reads.get(0), null);
+		assertContents(0x0, get(first));
+		assertContents(0x8, get(second));
+		assertContents(0x0, get(request(0x0, PAGE_SIZE + PREFETCH)));
+		assertEquals(0, takeReads().size());
+	}
+
+	@Test
+	public void evictsLeastRecentlyUsedMemory() throws Exception {
+		// The default cache size is 16 MiB
+		final int blockSize = 1 << 20;
+		MemoryByte value = new MemoryByte((byte) 1);
+		for (int i = 0; i <= 16; i++) {
+			CompletableFuture<MemoryByte[]> request = request(2L * i * blockSize, blockSize);
+			for (Read read : takeReads()) {
+				complete(read, value);
+			}
+			request.get(10, TimeUnit.SECONDS);
+		}
+
+		request(32L * blockSize, blockSize);
+		assertEquals(0, takeReads().size());
+		request(2L * blockSize, blockSize);
+		assertEquals(0, takeReads().size());
+		request(0, blockSize);
+		assertEquals(1, takeReads().size());
+	}
+}
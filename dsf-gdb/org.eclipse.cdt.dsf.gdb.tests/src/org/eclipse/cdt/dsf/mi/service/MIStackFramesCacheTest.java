@@ -0,0 +1,279 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.dsf.mi.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.cdt.dsf.concurrent.DefaultDsfExecutor;
+import org.eclipse.cdt.dsf.mi.service.MIStack.FrameData;
+import org.eclipse.cdt.dsf.mi.service.MIStack.FramesCacheInfo;
+import org.eclipse.cdt.dsf.mi.service.command.output.MIOOBRecord;
+import org.eclipse.cdt.dsf.mi.service.command.output.MIOutput;
+import org.eclipse.cdt.dsf.mi.service.command.output.MIParser;
+import org.eclipse.cdt.dsf.mi.service.command.output.MIStackListFramesInfo;
+import org.eclipse.cdt.dsf.service.DsfSession;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests that the frames cache of {@link MIStack} takes over the frames of the previous stop after
+ * a step only where they are certain to be the same. A stack is given as its frames, top first,
+ * each as "function:address".
+ */
+public class MIStackFramesCacheTest {
+	private static final String THREAD_ID = "1";
+	private static final int WINDOW = MIStack.FRAME_WINDOW;
+
+	private DefaultDsfExecutor fExecutor;
+	private DsfSession fSession;
+	private MIStack fStack;
+
+	@Before
+	public void setUp() throws Exception {
+		fExecutor = new DefaultDsfExecutor();
+		fSession = fExecutor.submit(() -> DsfSession.startSession(fExecutor, "org.eclipse.cdt.dsf.gdb.tests")).get();
+		fStack = new MIStack(fSession);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		fExecutor.submit(() -> DsfSession.endSession(fSession)).get();
+		fExecutor.shutdown();
+	}
+
+	private static String frame(String function, int address) {
+		return function + ":0x" + Integer.toHexString(address);
+	}
+
+	/**
+	 * Returns a chain of calls from main, stopped in the top function
+	 */
+	private static List<String> calls(int depth) {
+		List<String> stack = new ArrayList<>();
+		for (int level = 0; level < depth; level++) {
+			int function = depth - 1 - level;
+			// The top frame is stopped at the start of its function, the others at a return address
+			int address = 0x1000 * (function + 1) + (level == 0 ? 0 : 0x40);
+			stack.add(frame(function == 0 ? "main" : "f" + function, address));
+		}
+		return stack;
+	}
+
+	/**
+	 * Returns the stack after a step from the top frame into the given function
+	 */
+	private static List<String> stepInto(List<String> stack, String function) {
+		List<String> result = new ArrayList<>(stack);
+		result.set(0, stack.get(0).replaceAll("000$", "040"));
+		result.add(0, frame(function, 0x100000));
+		return result;
+	}
+
+	/**
+	 * Returns the stack after a step out of the top frame
+	 */
+	private static List<String> stepReturn(List<String> stack) {
+		List<String> result = new ArrayList<>(stack.subList(1, stack.size()));
+		result.set(0, result.get(0).replaceAll("040$", "044"));
+		return result;
+	}
+
+	/**
+	 * Returns a recursion of the given depth from main, stopped at the start of the innermost call
+	 */
+	private static List<String> recursion(int depth) {
+		List<String> stack = new ArrayList<>();
+		stack.add(frame("recurse", 0x2000));
+		for (int level = 1; level < depth - 1; level++) {
+			stack.add(frame("recurse", 0x2040));
+		}
+		stack.add(frame("main", 0x1040));
+		return stack;
+	}
+
+	/**
+	 * Returns the frames cache of a stop with the given stack, whose exact depth is known and whose
+	 * frames are fetched down to the given level
+	 */
+	private FramesCacheInfo stop(List<String> stack, int fetched) {
+		MIStack.FramesCache cache = fStack.new FramesCache();
+		cache.update(THREAD_ID, listFrames(stack, Math.min(fetched, stack.size())));
+		return cache.update(THREAD_ID, stack.size(), 0);
+	}
+
+	/**
+	 * Returns the frames cache of a stop with the given stack whose top window only is fetched, and
+	 * whose depth is only known to be at least the given depth
+	 */
+	private FramesCacheInfo limitedStop(List<String> stack, int depth) {
+		MIStack.FramesCache cache = fStack.new FramesCache();
+		cache.update(THREAD_ID, listFrames(stack, WINDOW));
+		return cache.update(THREAD_ID, depth, depth);
+	}
+
+	private static MIStackListFramesInfo listFrames(List<String> stack, int count) {
+		StringBuilder output = new StringBuilder("^done,stack=[");
+		for (int level = 0; level < count; level++) {
+			String[] frame = stack.get(level).split(":");
+			if (level > 0) {
+				output.append(',');
+			}
+			output.append("frame={level=\"").append(level).append("\",addr=\"").append(frame[1])
+					.append("\",func=\"").append(frame[0]).append("\"}");
+		}
+		output.append(']');
+		return new MIStackListFramesInfo(
+				new MIOutput(new MIParser().parseMIResultRecord(output.toString()), new MIOOBRecord[0]));
+	}
+
+	private static String frame(FramesCacheInfo info, int level) {
+		FrameData frame = info.getFrameData(level);
+		return frame != null ? frame.getFunction() + ':' + frame.getMIFrame().getAddress() : null;
+	}
+
+	/**
+	 * Asserts that the cache holds all the frames of the stack
+	 */
+	private static void assertFrames(List<String> stack, FramesCacheInfo info) {
+		for (int level = 0; level < stack.size(); level++) {
+			assertEquals("Level " + level, stack.get(level), frame(info, level));
+		}
+		assertNull(info.getFrameData(stack.size()));
+	}
+
+	@Test
+	public void reusesFramesAfterStepIntoCall() throws Exception {
+		List<String> before = calls(100);
+		List<String> after = stepInto(before, "g");
+		FramesCacheInfo info = stop(after, WINDOW);
+		assertNull(info.getFrameData(WINDOW));
+
+		assertTrue(info.reuse(stop(before, before.size())));
+		assertFrames(after, info);
+	}
+
+	@Test
+	public void reusesFramesAfterReturnFromCall() throws Exception {
+		List<String> before = stepInto(calls(100), "g");
+		List<String> after = stepReturn(before);
+		FramesCacheInfo info = stop(after, WINDOW);
+
+		assertTrue(info.reuse(stop(before, before.size())));
+		assertFrames(after, info);
+	}
+
+	@Test
+	public void alignsIdenticalFramesOfRecursion() throws Exception {
+		List<String> before = recursion(200);
+		FramesCacheInfo previous = stop(before, before.size());
+
+		// One more call, all the frames between the top and main are the same
+		List<String> after = recursion(201);
+		FramesCacheInfo info = stop(after, WINDOW);
+		assertTrue(info.reuse(previous));
+		assertFrames(after, info);
+		assertEquals(frame("main", 0x1040), frame(info, 200));
+
+		// One call less
+		after = recursion(199);
+		info = stop(after, WINDOW);
+		assertTrue(info.reuse(previous));
+		assertFrames(after, info);
+	}
+
+	@Test
+	public void doesNotReuseFramesWithoutExactDepth() throws Exception {
+		List<String> before = recursion(200);
+		FramesCacheInfo previous = stop(before, before.size());
+
+		// The frames of the recursion match with the shift given by the known depth, a wrong one
+		FramesCacheInfo info = limitedStop(recursion(201), 2 * WINDOW);
+		assertFalse(info.reuse(previous));
+		assertNull(info.getFrameData(WINDOW));
+
+		info = stop(recursion(2 * WINDOW + 1), WINDOW);
+		assertFalse(info.reuse(limitedStop(before, 2 * WINDOW)));
+		assertNull(info.getFrameData(WINDOW));
+	}
+
+	@Test
+	public void doesNotReuseFramesOfOtherCalls() throws Exception {
+		List<String> before = calls(100);
+		List<String> after = stepInto(before, "g");
+		// A frame in the middle of the top window returned to another address
+		after.set(WINDOW / 2, after.get(WINDOW / 2).replaceAll("040$", "080"));
+		FramesCacheInfo info = stop(after, WINDOW);
+
+		assertFalse(info.reuse(stop(before, before.size())));
+		assertNull(info.getFrameData(WINDOW));
+	}
+
+	@Test
+	public void doesNotReuseFramesOfStackWithinWindow() throws Exception {
+		List<String> before = calls(WINDOW);
+		List<String> after = stepInto(before, "g");
+		FramesCacheInfo info = stop(after, WINDOW);
+
+		// The previous stack has no frames below the top window to take over
+		assertFalse(info.reuse(stop(before, before.size())));
+		assertNull(info.getFrameData(WINDOW));
+	}
+
+	@Test
+	public void comparesAtLeastHalfWindow() throws Exception {
+		List<String> before = calls(2 * WINDOW);
+		FramesCacheInfo previous = stop(before, before.size());
+
+		// Half of the top window is the same as before
+		List<String> after = before;
+		for (int i = 0; i < WINDOW / 2 - 1; i++) {
+			after = stepInto(after, "g" + i);
+		}
+		FramesCacheInfo info = stop(after, WINDOW);
+		assertTrue(info.reuse(previous));
+		assertFrames(after, info);
+
+		// Less than half of the top window is
+		after = stepInto(after, "h");
+		info = stop(after, WINDOW);
+		assertFalse(info.reuse(previous));
+		assertNull(info.getFrameData(WINDOW));
+	}
+
+	@Test
+	public void reusesOnlyFetchedFrames() throws Exception {
+		List<String> before = calls(3 * WINDOW);
+		List<String> after = stepInto(before, "g");
+		FramesCacheInfo info = stop(after, WINDOW);
+
+		// Only the top window was fetched at the previous stop
+		assertTrue(info.reuse(stop(before, WINDOW)));
+		assertEquals(after.get(WINDOW), frame(info, WINDOW));
+		assertNull(info.getFrameData(WINDOW + 1));
+
+		// The frames fetched since the step are kept
+		info = stop(after, 2 * WINDOW);
+		List<String> previous = new ArrayList<>(before);
+		previous.set(2 * WINDOW - 1, frame("other", 0x4000));
+		assertTrue(info.reuse(stop(previous, previous.size())));
+		assertEquals(after.get(2 * WINDOW - 1), frame(info, 2 * WINDOW - 1));
+		assertEquals(frame("other", 0x4000), frame(info, 2 * WINDOW));
+		assertNotNull(info.getFrameData(after.size() - 1));
+	}
+}
@@ -0,0 +1,374 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.dsf.mi.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.cdt.dsf.concurrent.DataRequestMonitor;
+import org.eclipse.cdt.dsf.concurrent.DefaultDsfExecutor;
+import org.eclipse.cdt.dsf.debug.service.IExpressions;
+import org.eclipse.cdt.dsf.debug.service.IStack;
+import org.eclipse.cdt.dsf.debug.service.command.ICommand;
+import org.eclipse.cdt.dsf.debug.service.command.ICommandControl;
+import org.eclipse.cdt.dsf.debug.service.command.ICommandResult;
+import org.eclipse.cdt.dsf.mi.service.MIExpressions.ExpressionInfo;
+import org.eclipse.cdt.dsf.mi.service.MIExpressions.MIExpressionDMC;
+import org.eclipse.cdt.dsf.mi.service.MIVariableManager.ExprMetaGetChildrenRange;
+import org.eclipse.cdt.dsf.mi.service.MIVariableManager.MIVariableObject;
+import org.eclipse.cdt.dsf.mi.service.command.CommandFactory;
+import org.eclipse.cdt.dsf.mi.service.command.MIControlDMContext;
+import org.eclipse.cdt.dsf.mi.service.command.commands.ExprMetaGetChildren;
+import org.eclipse.cdt.dsf.mi.service.command.commands.ExprMetaGetVar;
+import org.eclipse.cdt.dsf.mi.service.command.commands.MICommand;
+import org.eclipse.cdt.dsf.mi.service.command.output.MIInfo;
+import org.eclipse.cdt.dsf.mi.service.command.output.MIOOBRecord;
+import org.eclipse.cdt.dsf.mi.service.command.output.MIOutput;
+import org.eclipse.cdt.dsf.mi.service.command.output.MIParser;
+import org.eclipse.cdt.dsf.service.DsfServicesTracker;
+import org.eclipse.cdt.dsf.service.DsfSession;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.osgi.framework.BundleContext;
+
+/**
+ * Tests the children of arrays fetched by range and the eviction of the variable objects by
+ * {@link MIVariableManager}, against a back-end that keeps track of the variable objects it holds.
+ * Its program has arrays named "arr" and "a0" to "a49", structs named "s0" to "s499" with the
+ * fields x and y, and ints otherwise.
+ */
+public class MIVariableManagerTest {
+	private static final String PLUGIN_ID = "org.eclipse.cdt.dsf.gdb.tests";
+	private static final int PAGE_SIZE = 100;
+	private static final int PAGES = 16;
+	private static final int MAX_VARIABLES = 1000;
+
+	private static final Map<String, Integer> ARRAY_LENGTHS = new HashMap<>();
+	static {
+		ARRAY_LENGTHS.put("arr", 100000);
+		for (int i = 0; i < 50; i++) {
+			ARRAY_LENGTHS.put("a" + i, PAGE_SIZE * PAGES);
+		}
+	}
+
+	/** The variable objects of the back-end, by name, with their expressions */
+	private final Map<String, String> fVariables = new HashMap<>();
+	private final List<String> fOperations = new ArrayList<>();
+	private int fLastId;
+
+	private DefaultDsfExecutor fExecutor;
+	private DsfSession fSession;
+	private MIControlDMContext fControlDmc;
+	private MIVariableManager fManager;
+
+	@Before
+	public void setUp() throws Exception {
+		fExecutor = new DefaultDsfExecutor();
+		fSession = fExecutor.submit(() -> DsfSession.startSession(fExecutor, PLUGIN_ID)).get();
+		fControlDmc = new MIControlDMContext(fSession.getId(), "gdb");
+		BundleContext bundleContext = stub(BundleContext.class, (method, args) -> null);
+		ICommandControl commandControl = stub(IMICommandControl.class, (method, args) -> {
+			switch (method) {
+			case "getCommandFactory":
+				return new CommandFactory();
+			case "queueCommand":
+				queueCommand((MICommand<?>) args[0], (DataRequestMonitor<?>) args[1]);
+				return null;
+			}
+			return null;
+		});
+		DsfServicesTracker tracker = new DsfServicesTracker(bundleContext, fSession.getId()) {
+			@Override
+			public <V> V getService(Class<V> serviceClass, String filter) {
+				if (serviceClass == ICommandControl.class || serviceClass == IMICommandControl.class) {
+					return serviceClass.cast(commandControl);
+				}
+				if (serviceClass == IStack.class || serviceClass == IExpressions.class) {
+					return stub(serviceClass, (method, args) -> null);
+				}
+				return null;
+			}
+		};
+		fManager = fExecutor.submit(() -> new MIVariableManager(fSession, tracker)).get();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		fExecutor.submit(() -> {
+			fManager.dispose();
+			DsfSession.endSession(fSession);
+		}).get();
+		fExecutor.shutdown();
+	}
+
+	private interface Handler {
+		Object invoke(String method, Object[] args);
+	}
+
+	private static <T> T stub(Class<T> type, Handler handler) {
+		return type.cast(Proxy.newProxyInstance(MIVariableManagerTest.class.getClassLoader(), new Class<?>[] { type },
+				(proxy, method, args) -> {
+					switch (method.getName()) {
+					case "equals":
+						return proxy == args[0];
+					case "hashCode":
+						return System.identityHashCode(proxy);
+					}
+					Object result = handler.invoke(method.getName(), args);
+					if (result == null && method.getReturnType() == boolean.class) {
+						return false;
+					}
+					return result;
+				}));
+	}
+
+	/**
+	 * Answers a command as GDB would, after the command is queued
+	 */
+	@SuppressWarnings("unchecked")
+	private <V extends MIInfo> void queueCommand(MICommand<V> command, DataRequestMonitor<?> rm) {
+		fOperations.add(command.getOperation());
+		String output = answer(command.getOperation(), command.getParameters());
+		DataRequestMonitor<V> drm = (DataRequestMonitor<V>) rm;
+		fExecutor.execute(() -> {
+			if (output.startsWith("^error")) {
+				drm.setStatus(new Status(IStatus.ERROR, PLUGIN_ID, output));
+			} else {
+				drm.setData((V) command.getResult(
+						new MIOutput(new MIParser().parseMIResultRecord(output), new MIOOBRecord[0])));
+			}
+			drm.done();
+		});
+	}
+
+	private String answer(String operation, String[] params) {
+		if (operation.equals("-var-create")) {
+			String name = "var" + ++fLastId;
+			String expression = params[2];
+			fVariables.put(name, expression);
+			return "^done,name=\"" + name + "\"," + describe(expression) + ",has_more=\"0\"";
+		}
+
+		String name = operation.equals("-var-update") ? params[1] : params[0];
+		String expression = fVariables.get(name);
+		if (expression == null) {
+			return "^error,msg=\"Variable object not found: " + name + "\"";
+		}
+		switch (operation) {
+		case "-var-list-children":
+			StringBuilder children = new StringBuilder();
+			if (expression.matches("s\\d+")) {
+				for (String field : new String[] { "x", "y" }) {
+					String child = name + '.' + field;
+					fVariables.put(child, '(' + expression + ")." + field);
+					children.append(children.length() == 0 ? "" : ",").append("child={name=\"").append(child)
+							.append("\",exp=\"").append(field).append("\",numchild=\"0\",type=\"int\"}");
+				}
+			}
+			return "^done,numchild=\"" + (children.length() == 0 ? 0 : 2) + "\",children=[" + children
+					+ "],has_more=\"0\"";
+		case "-var-info-path-expression":
+			return "^done,path_expr=\"" + expression + "\"";
+		case "-var-update":
+			return "^done,changelist=[]";
+		case "-var-delete":
+			int deleted = 0;
+			for (String variable : new ArrayList<>(fVariables.keySet())) {
+				if (variable.equals(name) || variable.startsWith(name + '.')) {
+					fVariables.remove(variable);
+					deleted++;
+				}
+			}
+			return "^done,ndeleted=\"" + deleted + "\"";
+		}
+		return "^error,msg=\"Unexpected command " + operation + "\"";
+	}
+
+	private static String describe(String expression) {
+		Integer length = ARRAY_LENGTHS.get(expression);
+		if (length != null) {
+			return "numchild=\"" + length + "\",value=\"[" + length + "]\",type=\"int [" + length + "]\"";
+		}
+		if (expression.matches("s\\d+")) {
+			return "numchild=\"2\",value=\"{...}\",type=\"struct point\"";
+		}
+		return "numchild=\"0\",value=\"0\",type=\"int\"";
+	}
+
+	private MIExpressionDMC expression(String expression) {
+		return expression(new ExpressionInfo(expression, expression));
+	}
+
+	private MIExpressionDMC expression(ExpressionInfo info) {
+		return new MIExpressionDMC(fSession.getId(), info, fControlDmc);
+	}
+
+	private <V extends ICommandResult> V execute(ICommand<V> command) throws Exception {
+		CompletableFuture<V> result = new CompletableFuture<>();
+		fExecutor.submit(() -> fManager.queueCommand(command, new DataRequestMonitor<V>(fExecutor, null) {
+			@Override
+			protected void handleCompleted() {
+				if (isSuccess()) {
+					result.complete(getData());
+				} else {
+					result.completeExceptionally(new AssertionError(getStatus().getMessage()));
+				}
+			}
+		})).get();
+		return result.get(10, TimeUnit.SECONDS);
+	}
+
+	private ExpressionInfo[] getChildren(String expression, int start, int length) throws Exception {
+		return execute(new ExprMetaGetChildrenRange(expression(expression), start, length)).getChildrenExpressions();
+	}
+
+	/**
+	 * Returns the children of the expression, after reading the first one as a variable object
+	 */
+	private ExpressionInfo[] readChildren(String expression) throws Exception {
+		ExpressionInfo[] children = execute(new ExprMetaGetChildren(expression(expression))).getChildrenExpressions();
+		execute(new ExprMetaGetVar(expression(children[0])));
+		return children;
+	}
+
+	private static void assertChildren(String expression, int start, int length, ExpressionInfo[] children) {
+		assertEquals(length, children.length);
+		for (int i = 0; i < length; i++) {
+			String child = expression + '[' + (start + i) + ']';
+			assertEquals(child, children[i].getFullExpr());
+			assertEquals(child, children[i].getRelExpr());
+			assertEquals(start + i, children[i].getIndexInParentExpression());
+			assertEquals(expression, children[i].getParent().getFullExpr());
+		}
+	}
+
+	/**
+	 * Asserts that the variable objects in the cache are those of the back-end: the ones in the
+	 * cache exist in the back-end with their parents, and the roots of the back-end are in the cache.
+	 */
+	private void assertNoOrphans() throws Exception {
+		fExecutor.submit(() -> {
+			Set<MIVariableObject> cached = Collections.newSetFromMap(new IdentityHashMap<>());
+			cached.addAll(fManager.getLRUCache().values());
+			Set<String> roots = new HashSet<>();
+			for (MIVariableObject varObj : cached) {
+				assertTrue(varObj.getGdbName() + " was deleted", fVariables.containsKey(varObj.getGdbName()));
+				if (varObj.getParent() != null) {
+					assertTrue(varObj.getGdbName() + " has lost its parent", cached.contains(varObj.getParent()));
+				} else {
+					roots.add(varObj.getGdbName());
+				}
+			}
+			for (String variable : fVariables.keySet()) {
+				assertTrue(variable + " was not deleted", variable.contains(".") || roots.contains(variable));
+			}
+			assertTrue(cached.size() <= MAX_VARIABLES);
+		}).get();
+	}
+
+	@Test
+	public void fetchesArrayChildrenAcrossPages() throws Exception {
+		assertChildren("arr", 95, 10, getChildren("arr", 95, 10));
+		assertChildren("arr", 150, 3 * PAGE_SIZE, getChildren("arr", 150, 3 * PAGE_SIZE));
+		assertChildren("arr", 99995, 5, getChildren("arr", 99995, 10));
+		assertEquals(0, getChildren("arr", 100000, 10).length);
+
+		// The children are created for the ranges only, without listing them in the back-end
+		assertEquals(List.of("-var-create"), fOperations);
+		assertEquals(1, fVariables.size());
+	}
+
+	@Test
+	public void keepsLimitedPagesOfArrayChildren() throws Exception {
+		ExpressionInfo[] children = getChildren("arr", 95, 10);
+		assertSame(children[0], getChildren("arr", 95, 1)[0]);
+		assertSame(children[5], getChildren("arr", 100, 1)[0]);
+
+		// Pages 0 and 1 are used, the 15 other pages push out the least recently used one
+		ExpressionInfo[] firstChildren = new ExpressionInfo[PAGES + 1];
+		for (int page = 2; page <= PAGES; page++) {
+			firstChildren[page] = getChildren("arr", page * PAGE_SIZE, PAGE_SIZE)[0];
+		}
+		assertSame(firstChildren[2], getChildren("arr", 2 * PAGE_SIZE, 1)[0]);
+		assertSame(children[5], getChildren("arr", 100, 1)[0]);
+		ExpressionInfo[] again = getChildren("arr", 95, 10);
+		assertChildren("arr", 95, 10, again);
+		assertNotSame(children[0], again[0]);
+		assertSame(children[5], again[5]);
+
+		// Page 3 is pushed out in turn
+		assertSame(firstChildren[2], getChildren("arr", 2 * PAGE_SIZE, 1)[0]);
+		assertNotSame(firstChildren[3], getChildren("arr", 3 * PAGE_SIZE, 1)[0]);
+
+		// The children of the pages that are pushed out are still read in the back-end
+		execute(new ExprMetaGetVar(expression(again[0])));
+		assertTrue(fVariables.containsValue("arr[95]"));
+		assertNoOrphans();
+	}
+
+	@Test
+	public void evictionLeavesNoOrphanedVariableObjects() throws Exception {
+		// Each struct and its fields are three variable objects, more than the cache keeps
+		for (int i = 0; i < 400; i++) {
+			readChildren("s" + i);
+		}
+		assertNoOrphans();
+		assertFalse(fVariables.containsValue("s0"));
+		assertFalse(fVariables.containsValue("(s0).x"));
+
+		// The evicted struct and its fields are created again
+		ExpressionInfo[] fields = readChildren("s0");
+		assertEquals("(s0).x", fields[0].getFullExpr());
+		assertEquals("x", fields[0].getRelExpr());
+		assertTrue(fVariables.containsValue("(s0).x"));
+		assertNoOrphans();
+	}
+
+	@Test
+	public void evictionLimitsSizeOfArrayChildren() throws Exception {
+		readChildren("s0");
+		// All the pages of 50 arrays are more than the estimated size the cache keeps
+		for (int i = 0; i < 50; i++) {
+			String array = "a" + i;
+			assertChildren(array, 0, PAGE_SIZE * PAGES, getChildren(array, 0, PAGE_SIZE * PAGES));
+			execute(new ExprMetaGetVar(expression(array + "[0]")));
+		}
+		assertNoOrphans();
+		assertTrue(fManager.getLRUCache().size() < MAX_VARIABLES);
+		assertFalse(fVariables.containsValue("s0"));
+		assertFalse(fVariables.containsValue("a0"));
+		assertTrue(fVariables.containsValue("a49"));
+		assertTrue(fVariables.containsValue("a49[0]"));
+
+		// The children of an evicted array are created again
+		assertChildren("a0", 1550, 50, getChildren("a0", 1550, 100));
+		assertTrue(fVariables.containsValue("a0"));
+		assertNoOrphans();
+	}
+}
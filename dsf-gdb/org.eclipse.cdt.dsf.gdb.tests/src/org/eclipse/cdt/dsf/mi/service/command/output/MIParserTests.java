@@ -0,0 +1,109 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.dsf.mi.service.command.output;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class MIParserTests {
+	private final MIParser parser = new MIParser();
+
+	@Test
+	public void testRecordTypes() {
+		assertEquals(MIParser.RecordType.ResultRecord, parser.getRecordType("12^done")); //$NON-NLS-1$
+		assertEquals(MIParser.RecordType.PrimaryPrompt, parser.getRecordType("(gdb) ")); //$NON-NLS-1$
+		assertEquals(MIParser.RecordType.OOBRecord, parser.getRecordType("*stopped")); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testResultRecord() {
+		MIResultRecord rr = parser.parseMIResultRecord(
+				"42^done,stack=[frame={level=\"0\",func=\"main\"},frame={level=\"1\",func=\"start\"}]"); //$NON-NLS-1$
+		assertEquals(42, rr.getToken());
+		assertEquals(MIResultRecord.DONE, rr.getResultClass());
+		MIResult[] results = rr.getMIResults();
+		assertEquals(1, results.length);
+		assertEquals("stack", results[0].getVariable()); //$NON-NLS-1$
+		MIList stack = (MIList) results[0].getMIValue();
+		MIResult[] frames = stack.getMIResults();
+		assertEquals(2, frames.length);
+		assertEquals(0, stack.getMIValues().length);
+		MITuple frame = (MITuple) frames[1].getMIValue();
+		assertEquals("1", ((MIConst) frame.getField("level")).getCString()); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals("start", ((MIConst) frame.getField("func")).getCString()); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	@Test
+	public void testListOfValues() {
+		MIResultRecord rr = parser.parseMIResultRecord("^done,thread-ids={thread-id=\"2\"},ids=[\"1\",\"2\",[]]"); //$NON-NLS-1$
+		MIList ids = (MIList) rr.getField("ids"); //$NON-NLS-1$
+		MIValue[] values = ids.getMIValues();
+		assertEquals(3, values.length);
+		assertEquals("2", ((MIConst) values[1]).getCString()); //$NON-NLS-1$
+		assertEquals(0, ((MIList) values[2]).getMIValues().length);
+		MITuple threadIds = (MITuple) rr.getField("thread-ids"); //$NON-NLS-1$
+		assertEquals("2", ((MIConst) threadIds.getField("thread-id")).getCString()); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	@Test
+	public void testEscapedStrings() {
+		MIResultRecord rr = parser.parseMIResultRecord("^done,value=\"a \\\"quoted\\\" \\\\ \\n\",empty=\"\""); //$NON-NLS-1$
+		assertEquals("a \"quoted\" \\ \\n", ((MIConst) rr.getField("value")).getCString()); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals("", ((MIConst) rr.getField("empty")).getCString()); //$NON-NLS-1$ //$NON-NLS-2$
+
+		// Backslashes within stream records are not escaped.
+		MIOOBRecord oob = parser.parseMIOOBRecord("~\"C:\\\\dir \\\"x\\\"\\n\""); //$NON-NLS-1$
+		assertTrue(oob instanceof MIConsoleStreamOutput);
+		assertEquals("C:\\\\dir \"x\"\\n", ((MIStreamRecord) oob).getCString()); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testAsyncRecord() {
+		MIOOBRecord oob = parser.parseMIOOBRecord("*stopped,reason=\"breakpoint-hit\",frame={addr=\"0x1\",args=[]}"); //$NON-NLS-1$
+		assertTrue(oob instanceof MIExecAsyncOutput);
+		MIExecAsyncOutput async = (MIExecAsyncOutput) oob;
+		assertEquals("stopped", async.getAsyncClass()); //$NON-NLS-1$
+		MIResult[] results = async.getMIResults();
+		assertEquals(2, results.length);
+		assertEquals("breakpoint-hit", ((MIConst) results[0].getMIValue()).getCString()); //$NON-NLS-1$
+		assertEquals("{addr=\"0x1\",args=[]}", results[1].getMIValue().toString()); //$NON-NLS-1$
+
+		async = (MIExecAsyncOutput) parser.parseMIOOBRecord("*running"); //$NON-NLS-1$
+		assertEquals("running", async.getAsyncClass()); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testMalformedOutput() {
+		// Content after a value that is not terminated is consumed by the value.
+		MIResultRecord rr = parser.parseMIResultRecord("^done,a={b=\"1\",c=[\"2\""); //$NON-NLS-1$
+		MITuple a = (MITuple) rr.getField("a"); //$NON-NLS-1$
+		assertEquals(1, rr.getMIResults().length);
+		assertEquals("[2]", a.getField("c").toString()); //$NON-NLS-1$ //$NON-NLS-2$
+
+		MIOOBRecord oob = parser.parseMIOOBRecord("no mi output"); //$NON-NLS-1$
+		assertEquals("no mi output\n", ((MIStreamRecord) oob).getCString()); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testModifiedValues() {
+		MIResultRecord rr = parser.parseMIResultRecord("^done,t={a=\"1\"},l=[\"2\"]"); //$NON-NLS-1$
+		MITuple t = (MITuple) rr.getField("t"); //$NON-NLS-1$
+		t.setMIValues(new MIValue[] { new MIConst() });
+		assertEquals(1, t.getMIResults().length);
+		assertEquals(1, t.getMIValues().length);
+		MIList l = (MIList) rr.getField("l"); //$NON-NLS-1$
+		l.setMIResults(new MIResult[] { new MIResult() });
+		assertEquals(1, l.getMIValues().length);
+		assertEquals(1, l.getMIResults().length);
+	}
+}
@@ -50,6 +50,7 @@ import org.eclipse.cdt.dsf.concurrent.DsfRunnable;
 import org.eclipse.cdt.dsf.concurrent.IDsfStatusConstants;
 import org.eclipse.cdt.dsf.concurrent.ImmediateExecutor;
 import org.eclipse.cdt.dsf.concurrent.ImmediateRequestMonitor;
+import org.eclipse.cdt.dsf.concurrent.LockFreeDsfExecutor;
 import org.eclipse.cdt.dsf.concurrent.RequestMonitor;
 import org.eclipse.cdt.dsf.concurrent.Sequence;
 import org.eclipse.cdt.dsf.concurrent.Sequence.Step;
@@ -101,7 +102,13 @@ import org.eclipse.launchbar.core.target.launch.ITargetedLaunch;
  */
 @ThreadSafe
 public class GdbLaunch extends DsfLaunch implements ITracedLaunch, ITargetedLaunch {
-	private DefaultDsfExecutor fExecutor;
+	/**
+	 * Whether the session uses a {@link LockFreeDsfExecutor} instead of a {@link DefaultDsfExecutor}.
+	 */
+	private static final boolean USE_LOCK_FREE_EXECUTOR = Boolean
+			.getBoolean("org.eclipse.cdt.dsf.gdb.lockFreeExecutor"); //$NON-NLS-1$
+
+	private DsfExecutor fExecutor;
 	private DsfSession fSession;
 	private DsfServicesTracker fTracker;
 	private boolean fInitialized = false;
@@ -118,9 +125,13 @@ public class GdbLaunch extends DsfLaunch implements ITracedLaunch, ITargetedLaun
 
 		// Create the dispatch queue to be used by debugger control and services
 		// that belong to this launch
-		final DefaultDsfExecutor dsfExecutor = new DefaultDsfExecutor(GdbLaunchDelegate.GDB_DEBUG_MODEL_ID);
-		dsfExecutor.prestartCoreThread();
-		fExecutor = dsfExecutor;
+		if (USE_LOCK_FREE_EXECUTOR) {
+			fExecutor = new LockFreeDsfExecutor(GdbLaunchDelegate.GDB_DEBUG_MODEL_ID);
+		} else {
+			final DefaultDsfExecutor dsfExecutor = new DefaultDsfExecutor(GdbLaunchDelegate.GDB_DEBUG_MODEL_ID);
+			dsfExecutor.prestartCoreThread();
+			fExecutor = dsfExecutor;
+		}
 		fSession = DsfSession.startSession(fExecutor, GdbLaunchDelegate.GDB_DEBUG_MODEL_ID);
 	}
 
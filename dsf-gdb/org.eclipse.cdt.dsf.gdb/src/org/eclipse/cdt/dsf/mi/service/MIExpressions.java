@@ -1903,6 +1903,11 @@ public class MIExpressions extends AbstractDsfService implements IMIExpressions,
 	void getRealSubExpressions(final IExpressionDMContext exprCtx, int startIndex, int length,
 			final DataRequestMonitor<IExpressionDMContext[]> rm) {
 
+		if (startIndex >= 0 && length > 0) {
+			getRealSubExpressionsRange(exprCtx, startIndex, length, rm);
+			return;
+		}
+
 		ExprMetaGetChildren getChildren = (startIndex < 0 || length < 0) ? new ExprMetaGetChildren(exprCtx)
 				: new ExprMetaGetChildren(exprCtx, startIndex + length);
 		final int startIndex1 = (startIndex < 0) ? 0 : startIndex;
@@ -1931,6 +1936,35 @@ public class MIExpressions extends AbstractDsfService implements IMIExpressions,
 		});
 	}
 
+	/**
+	 * Retrieves the children in the given range only, such that the children of large arrays
+	 * are not all created to show some of them.
+	 */
+	private void getRealSubExpressionsRange(final IExpressionDMContext exprCtx, int startIndex, int length,
+			final DataRequestMonitor<IExpressionDMContext[]> rm) {
+		fExpressionCache.execute(new MIVariableManager.ExprMetaGetChildrenRange(exprCtx, startIndex, length),
+				new DataRequestMonitor<ExprMetaGetChildrenInfo>(getExecutor(), rm) {
+					@Override
+					protected void handleSuccess() {
+						ExpressionInfo[] childrenExpr = getData().getChildrenExpressions();
+
+						if (childrenExpr.length == 0) {
+							rm.setStatus(new Status(IStatus.ERROR, GdbPlugin.PLUGIN_ID, REQUEST_FAILED,
+									"Invalid range for evaluating sub expressions.", null)); //$NON-NLS-1$
+							rm.done();
+							return;
+						}
+
+						IExpressionDMContext[] childrenArray = new IExpressionDMContext[childrenExpr.length];
+						for (int i = 0; i < childrenExpr.length; i++) {
+							childrenArray[i] = createExpression(exprCtx.getParents()[0], childrenExpr[i]);
+						}
+						rm.setData(childrenArray);
+						rm.done();
+					}
+				});
+	}
+
 	/**
 	 * Returns the number of "real" children if it is less or equal to the partition size,
 	 * otherwise returns the number of partitions.
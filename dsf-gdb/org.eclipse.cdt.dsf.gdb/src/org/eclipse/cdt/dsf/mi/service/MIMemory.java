@@ -21,13 +21,17 @@
  *******************************************************************************/
 package org.eclipse.cdt.dsf.mi.service;
 
+import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Hashtable;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.ListIterator;
 import java.util.Map;
+import java.util.TreeMap;
 
 import org.eclipse.cdt.core.IAddress;
 import org.eclipse.cdt.dsf.concurrent.CountingRequestMonitor;
@@ -77,6 +81,15 @@ public class MIMemory extends AbstractDsfService implements IMemory, ICachingSer
 	//data-read-memory write is deprecated, its description could be ambiguous for e.g. 16 bit addressable systems
 	private static final String DATA_WRITE_MEMORY_16_NOT_SUPPORTED = "data-write-memory with word-size != 1 not supported"; //$NON-NLS-1$
 
+	// Size, in addressable units, of the pages in which the memory cache reads the target memory
+	private static final int CACHE_PAGE_SIZE = Math.max(1,
+			Integer.getInteger("org.eclipse.cdt.dsf.gdb.memoryCachePageSize", 1024)); //$NON-NLS-1$
+	// Number of pages that the memory cache reads ahead when the memory is read sequentially
+	private static final int CACHE_PREFETCH_PAGES = Integer
+			.getInteger("org.eclipse.cdt.dsf.gdb.memoryCachePrefetch", 4); //$NON-NLS-1$
+	// Number of octets after which the memory cache evicts the least recently used memory
+	private static final long CACHE_SIZE = Long.getLong("org.eclipse.cdt.dsf.gdb.memoryCacheSize", 16 << 20); //$NON-NLS-1$
+
 	public class MemoryChangedEvent extends AbstractDMEvent<IMemoryDMContext> implements IMemoryChangedEvent {
 		private IAddress[] fAddresses;
 
@@ -532,7 +545,7 @@ public class MIMemory extends AbstractDsfService implements IMemory, ICachingSer
 	}
 
 	///////////////////////////////////////////////////////////////////////////
-	// SortedLinkedlist
+	// MemoryBlockMap
 	///////////////////////////////////////////////////////////////////////////
 
 	// This class is really the equivalent of a C struct (old habits die hard...)
@@ -542,6 +555,8 @@ public class MIMemory extends AbstractDsfService implements IMemory, ICachingSer
 		public long fLengthInAddressableUnits;
 		public long fLengthInOctets;
 		public MemoryByte[] fBlock;
+		// Value of the cache clock when the block was last used
+		public long fLastUse;
 
 		public MemoryBlock(IAddress address, long lengthInOctets, long lengthInAddressableUnits, MemoryByte[] block) {
 			// A memory block is expected to be populated with the contents of a defined range of addresses
@@ -554,92 +569,140 @@ public class MIMemory extends AbstractDsfService implements IMemory, ICachingSer
 		}
 	}
 
+	private static IAddress endOf(MemoryBlock block) {
+		return block.fAddress.add(block.fLengthInAddressableUnits);
+	}
+
 	// Address-ordered data structure to cache the memory blocks.
-	// Contiguous blocks are merged if possible.
-	@SuppressWarnings("serial")
-	private static class SortedMemoryBlockList extends LinkedList<MemoryBlock> {
+	// The blocks do not overlap: a new block replaces the cached memory it overlaps.
+	// Contiguous blocks are merged as long as the result does not exceed the maximum
+	// block size, so that the least recently used memory can be evicted in parts.
+	private static class MemoryBlockMap {
+		private final TreeMap<BigInteger, MemoryBlock> fBlocks = new TreeMap<>();
+		private final long fMaxBlockSize;
+		// The number of cached octets
+		private long fSize;
+		// Ticks on every use of a block, to find the least recently used blocks
+		private long fClock;
+
+		public MemoryBlockMap(long maxBlockSize) {
+			fMaxBlockSize = maxBlockSize;
+		}
 
-		public SortedMemoryBlockList() {
-			super();
+		public void clear() {
+			fBlocks.clear();
+			fSize = 0;
 		}
 
-		// Insert the block in the sorted linked list and merge contiguous
-		// blocks if necessary
-		@Override
-		public boolean add(MemoryBlock block) {
+		public void touch(MemoryBlock block) {
+			block.fLastUse = ++fClock;
+		}
 
-			// If the list is empty, just store the block
-			if (isEmpty()) {
-				addFirst(block);
-				return true;
+		// The cached blocks in address order, starting with the block that contains the given address
+		public Iterable<MemoryBlock> from(IAddress address) {
+			Map.Entry<BigInteger, MemoryBlock> floor = fBlocks.floorEntry(address.getValue());
+			if (floor != null && address.distanceTo(endOf(floor.getValue())).signum() > 0) {
+				return fBlocks.tailMap(floor.getKey(), true).values();
 			}
+			return fBlocks.tailMap(address.getValue(), true).values();
+		}
+
+		// The last block that starts before the given address
+		public MemoryBlock before(IAddress address) {
+			Map.Entry<BigInteger, MemoryBlock> entry = fBlocks.lowerEntry(address.getValue());
+			return entry != null ? entry.getValue() : null;
+		}
 
-			// Insert the block at the correct location and then
-			// merge the blocks if possible
-			ListIterator<MemoryBlock> it = listIterator();
-			while (it.hasNext()) {
-				int index = it.nextIndex();
-				MemoryBlock item = it.next();
-				if (block.fAddress.compareTo(item.fAddress) < 0) {
-					add(index, block);
-					compact(index);
-					return true;
+		// The first block that starts at or after the given address
+		public MemoryBlock after(IAddress address) {
+			Map.Entry<BigInteger, MemoryBlock> entry = fBlocks.ceilingEntry(address.getValue());
+			return entry != null ? entry.getValue() : null;
+		}
+
+		public void add(MemoryBlock block) {
+			IAddress start = block.fAddress;
+			IAddress end = endOf(block);
+
+			// Cut out the part of the cached blocks that the new block overlaps
+			MemoryBlock prevBlock = before(start);
+			if (prevBlock != null && start.distanceTo(endOf(prevBlock)).signum() > 0) {
+				remove(prevBlock);
+				put(slice(prevBlock, 0, prevBlock.fAddress.distanceTo(start).longValue()));
+				if (end.distanceTo(endOf(prevBlock)).signum() > 0) {
+					put(slice(prevBlock, prevBlock.fAddress.distanceTo(end).longValue(),
+							prevBlock.fLengthInAddressableUnits));
+				}
+			}
+			for (MemoryBlock cachedBlock : new ArrayList<>(
+					fBlocks.subMap(start.getValue(), end.getValue()).values())) {
+				remove(cachedBlock);
+				if (end.distanceTo(endOf(cachedBlock)).signum() > 0) {
+					put(slice(cachedBlock, cachedBlock.fAddress.distanceTo(end).longValue(),
+							cachedBlock.fLengthInAddressableUnits));
 				}
 			}
 
-			// Put at the end of the list and merge if necessary
-			addLast(block);
-			compact(size() - 1);
-			return true;
+			touch(block);
+			put(block);
+
+			// Merge the block with its contiguous neighbors (if any)
+			block = merge(before(start), block);
+			merge(block, after(end));
 		}
 
-		// Merge this block with its contiguous neighbors (if any)
-		// Note: Merge is not performed if resulting block size would exceed MAXINT
-		private void compact(int index) {
-
-			MemoryBlock newBlock = get(index);
-
-			// Case where the block is to be merged with the previous block
-			if (index > 0) {
-				MemoryBlock prevBlock = get(index - 1);
-				IAddress endOfPreviousBlock = prevBlock.fAddress.add(prevBlock.fLengthInAddressableUnits);
-				if (endOfPreviousBlock.distanceTo(newBlock.fAddress).longValue() == 0) {
-					long newLengthInOctets = prevBlock.fLengthInOctets + newBlock.fLengthInOctets;
-					long newLengthInAddressableUnits = prevBlock.fLengthInAddressableUnits
-							+ newBlock.fLengthInAddressableUnits;
-					if (newLengthInOctets <= Integer.MAX_VALUE) {
-						MemoryByte[] block = new MemoryByte[(int) newLengthInOctets];
-						System.arraycopy(prevBlock.fBlock, 0, block, 0, (int) prevBlock.fLengthInOctets);
-						System.arraycopy(newBlock.fBlock, 0, block, (int) prevBlock.fLengthInOctets,
-								(int) newBlock.fLengthInOctets);
-						newBlock = new MemoryBlock(prevBlock.fAddress, newLengthInOctets, newLengthInAddressableUnits,
-								block);
-						remove(index);
-						index -= 1;
-						set(index, newBlock);
-					}
+		// Evict the least recently used blocks until at most the given number of octets are cached
+		public void trim(long maxSize) {
+			if (fSize <= maxSize) {
+				return;
+			}
+			List<MemoryBlock> blocks = new ArrayList<>(fBlocks.values());
+			blocks.sort(Comparator.comparingLong(block -> block.fLastUse));
+			for (MemoryBlock block : blocks) {
+				if (fSize <= maxSize) {
+					break;
 				}
+				remove(block);
 			}
+		}
 
-			// Case where the block is to be merged with the following block
-			int lastIndex = size() - 1;
-			if (index < lastIndex) {
-				MemoryBlock nextBlock = get(index + 1);
-				IAddress endOfNewBlock = newBlock.fAddress.add(newBlock.fLengthInAddressableUnits);
-				if (endOfNewBlock.distanceTo(nextBlock.fAddress).longValue() == 0) {
-					long newLength = newBlock.fLengthInOctets + nextBlock.fLengthInOctets;
-					long newAddressesLength = newBlock.fLengthInAddressableUnits + nextBlock.fLengthInAddressableUnits;
-					if (newLength <= Integer.MAX_VALUE) {
-						MemoryByte[] block = new MemoryByte[(int) newLength];
-						System.arraycopy(newBlock.fBlock, 0, block, 0, (int) newBlock.fLengthInOctets);
-						System.arraycopy(nextBlock.fBlock, 0, block, (int) newBlock.fLengthInOctets,
-								(int) nextBlock.fLengthInOctets);
-						newBlock = new MemoryBlock(newBlock.fAddress, newLength, newAddressesLength, block);
-						set(index, newBlock);
-						remove(index + 1);
-					}
-				}
+		private void put(MemoryBlock block) {
+			fBlocks.put(block.fAddress.getValue(), block);
+			fSize += block.fLengthInOctets;
+		}
+
+		private void remove(MemoryBlock block) {
+			fBlocks.remove(block.fAddress.getValue());
+			fSize -= block.fLengthInOctets;
+		}
+
+		// Returns the part of the block between the given offsets (in addressable units)
+		private static MemoryBlock slice(MemoryBlock block, long from, long to) {
+			long wordSize = block.fLengthInOctets / block.fLengthInAddressableUnits;
+			MemoryByte[] bytes = Arrays.copyOfRange(block.fBlock, (int) (from * wordSize), (int) (to * wordSize));
+			MemoryBlock part = new MemoryBlock(block.fAddress.add(from), bytes.length, to - from, bytes);
+			part.fLastUse = block.fLastUse;
+			return part;
+		}
+
+		// Merges two contiguous blocks and returns the block that now holds the second one
+		private MemoryBlock merge(MemoryBlock first, MemoryBlock second) {
+			if (first == null || second == null || endOf(first).distanceTo(second.fAddress).signum() != 0) {
+				return second;
+			}
+			long newLengthInOctets = first.fLengthInOctets + second.fLengthInOctets;
+			if (newLengthInOctets > fMaxBlockSize) {
+				return second;
 			}
+			MemoryByte[] block = new MemoryByte[(int) newLengthInOctets];
+			System.arraycopy(first.fBlock, 0, block, 0, (int) first.fLengthInOctets);
+			System.arraycopy(second.fBlock, 0, block, (int) first.fLengthInOctets, (int) second.fLengthInOctets);
+			MemoryBlock newBlock = new MemoryBlock(first.fAddress, newLengthInOctets,
+					first.fLengthInAddressableUnits + second.fLengthInAddressableUnits, block);
+			newBlock.fLastUse = Math.max(first.fLastUse, second.fLastUse);
+			remove(first);
+			remove(second);
+			put(newBlock);
+			return newBlock;
 		}
 	}
 
@@ -650,16 +713,24 @@ public class MIMemory extends AbstractDsfService implements IMemory, ICachingSer
 	/** @since 4.2 */
 	protected class MIMemoryCache {
 		// The memory cache data structure
-		private SortedMemoryBlockList fMemoryBlockList;
+		private MemoryBlockMap fMemoryBlocks;
+
+		// The number of memory requests that have not taken their result from the cache yet.
+		// Blocks are only evicted when there are none, so no request loses the blocks it waits for.
+		private int fPendingRequests;
+
+		// The previous request, to recognize sequential reads
+		private IAddress fLastRequestStart;
+		private IAddress fLastRequestEnd;
 
 		public MIMemoryCache() {
 			// Create the memory block cache
-			fMemoryBlockList = new SortedMemoryBlockList();
+			fMemoryBlocks = new MemoryBlockMap(Math.min(Integer.MAX_VALUE, Math.max(1, CACHE_SIZE / 8)));
 		}
 
 		public void reset() {
 			// Clear the memory cache
-			fMemoryBlockList.clear();
+			fMemoryBlocks.clear();
 		}
 
 		/**
@@ -705,14 +776,15 @@ public class MIMemory extends AbstractDsfService implements IMemory, ICachingSer
 		 *      At this point, the updated requested block starts just beyond the cached block
 		 *      for the next iteration.
 		 *
-		 *  We iterate over the cached blocks list until there is no entry left or until
+		 *  We iterate over the cached blocks list, starting with the block that contains
+		 *  the start of the requested block, until there is no entry left or until
 		 *  the remaining requested block count is <= 0, meaning the result list contains
 		 *  only the sub-blocks needed to fill the gap(s), if any.
 		 *
 		 *  (As is often the case, it takes much more typing to explain it than to just do it :-)
 		 *
-		 *  What is missing is a parameter that indicates the minimal block size that is worth fetching.
-		 *  This is target-specific and straight in the realm of the coalescing function...
+		 *  The sub-blocks are exactly the gaps; {@link #getBlockToRead} widens them to the
+		 *  minimal block size that is worth fetching.
 		 *
 		 * @param reqBlockStart The address of the requested block
 		 * @param count Its length
@@ -723,7 +795,7 @@ public class MIMemory extends AbstractDsfService implements IMemory, ICachingSer
 			int octetCount = wordCount * wordSize;
 
 			LinkedList<MemoryBlock> list = new LinkedList<>();
-			ListIterator<MemoryBlock> it = fMemoryBlockList.listIterator();
+			Iterator<MemoryBlock> it = fMemoryBlocks.from(reqBlockStart).iterator();
 
 			// Look for holes in the list of memory blocks
 			while (it.hasNext() && octetCount > 0) {
@@ -798,13 +870,16 @@ public class MIMemory extends AbstractDsfService implements IMemory, ICachingSer
 
 			IAddress reqBlockEnd = reqBlockStart.add(wordCount);
 			MemoryByte[] resultBlock = new MemoryByte[count];
-			ListIterator<MemoryBlock> iter = fMemoryBlockList.listIterator();
-
-			while (iter.hasNext()) {
-				MemoryBlock cachedBlock = iter.next();
+			for (MemoryBlock cachedBlock : fMemoryBlocks.from(reqBlockStart)) {
 				IAddress cachedBlockStart = cachedBlock.fAddress;
 				IAddress cachedBlockEnd = cachedBlock.fAddress.add(cachedBlock.fLengthInAddressableUnits);
 
+				// The remaining blocks are beyond the requested memory block
+				if (reqBlockEnd.distanceTo(cachedBlockStart).longValue() >= 0) {
+					break;
+				}
+				fMemoryBlocks.touch(cachedBlock);
+
 				// Case where the cached block overlaps completely the requested memory block
 				if (cachedBlockStart.distanceTo(reqBlockStart).longValue() >= 0
 						&& reqBlockEnd.distanceTo(cachedBlockEnd).longValue() >= 0) {
@@ -842,14 +917,17 @@ public class MIMemory extends AbstractDsfService implements IMemory, ICachingSer
 		 */
 		private void updateMemoryCache(IAddress modBlockStart, int wordCount, MemoryByte[] modBlock, int wordSize) {
 			IAddress modBlockEnd = modBlockStart.add(wordCount);
-			ListIterator<MemoryBlock> iter = fMemoryBlockList.listIterator();
 			int count = wordCount * wordSize;
 
-			while (iter.hasNext()) {
-				MemoryBlock cachedBlock = iter.next();
+			for (MemoryBlock cachedBlock : fMemoryBlocks.from(modBlockStart)) {
 				IAddress cachedBlockStart = cachedBlock.fAddress;
 				IAddress cachedBlockEnd = cachedBlock.fAddress.add(cachedBlock.fLengthInAddressableUnits);
 
+				// The remaining blocks are beyond the modified memory block
+				if (modBlockEnd.distanceTo(cachedBlockStart).longValue() >= 0) {
+					break;
+				}
+
 				// For now, we only bother to update bytes already cached.
 				// Note: In a better implementation (v1.1), we would augment
 				// the cache with the missing memory blocks since we went
@@ -889,6 +967,46 @@ public class MIMemory extends AbstractDsfService implements IMemory, ICachingSer
 			return;
 		}
 
+		/**
+		 * Returns the block of memory to read to fill the given gap of the cache: the gap is
+		 * widened to page boundaries and, if the memory is read sequentially, by the prefetch
+		 * distance in the direction of the reads. The result does not overlap cached memory.
+		 *
+		 * @param missingBlock a gap of the cache, see {@link #getListOfMissingBlocks}
+		 * @param wordSize	the size, in bytes, of an addressable item
+		 * @param prefetchAfter	the number of addressable units to read after the gap
+		 * @param prefetchBefore the number of addressable units to read before the gap
+		 */
+		private MemoryBlock getBlockToRead(MemoryBlock missingBlock, int wordSize, long prefetchAfter,
+				long prefetchBefore) {
+			BigInteger pageSize = BigInteger.valueOf(CACHE_PAGE_SIZE);
+			BigInteger start = missingBlock.fAddress.getValue();
+			BigInteger end = start.add(BigInteger.valueOf(missingBlock.fLengthInAddressableUnits));
+			BigInteger readStart = start.subtract(start.mod(pageSize)).subtract(BigInteger.valueOf(prefetchBefore));
+			BigInteger readEnd = end.add(pageSize.subtract(end.mod(pageSize)).mod(pageSize))
+					.add(BigInteger.valueOf(prefetchAfter));
+
+			// Stay in the address space and do not read what is already cached
+			readStart = readStart.max(BigInteger.ZERO);
+			readEnd = readEnd.min(missingBlock.fAddress.getMaxOffset().add(BigInteger.ONE));
+			MemoryBlock prevBlock = fMemoryBlocks.before(missingBlock.fAddress);
+			if (prevBlock != null) {
+				readStart = readStart.max(endOf(prevBlock).getValue());
+			}
+			MemoryBlock nextBlock = fMemoryBlocks.after(missingBlock.fAddress);
+			if (nextBlock != null) {
+				readEnd = readEnd.min(nextBlock.fAddress.getValue());
+			}
+
+			long lengthInAddressableUnits = readEnd.subtract(readStart).longValue();
+			if (lengthInAddressableUnits * wordSize > Integer.MAX_VALUE
+					|| lengthInAddressableUnits == missingBlock.fLengthInAddressableUnits) {
+				return missingBlock;
+			}
+			return new MemoryBlock(missingBlock.fAddress.add(readStart.subtract(start)),
+					lengthInAddressableUnits * wordSize, lengthInAddressableUnits, new MemoryByte[0]);
+		}
+
 		/**
 		 * @param memoryDMC
 		 * @param address	the memory block address (on the target)
@@ -896,14 +1014,35 @@ public class MIMemory extends AbstractDsfService implements IMemory, ICachingSer
 		 * @param wordCount the number of addressable units to read
 		 * @param drm		the asynchronous data request monitor
 		 */
-		public void getMemory(IMemoryDMContext memoryDMC, final IAddress address, final int wordSize,
+		public void getMemory(final IMemoryDMContext memoryDMC, final IAddress address, final int wordSize,
 				final int wordCount, final DataRequestMonitor<MemoryByte[]> drm) {
 			// Determine the number of read requests to issue
 			List<MemoryBlock> missingBlocks = getListOfMissingBlocks(address, wordCount, wordSize);
 			int numberOfRequests = missingBlocks.size();
 
+			// Prefetch when the memory is read sequentially, i.e. when this request
+			// continues the previous one, upwards or downwards
+			IAddress end = address.add(wordCount);
+			long prefetch = Math.max((long) CACHE_PREFETCH_PAGES * CACHE_PAGE_SIZE, wordCount);
+			long prefetchAfter = 0;
+			long prefetchBefore = 0;
+			if (fLastRequestStart != null && CACHE_PREFETCH_PAGES > 0) {
+				if (fLastRequestStart.distanceTo(address).signum() > 0
+						&& address.distanceTo(fLastRequestEnd).signum() >= 0
+						&& fLastRequestEnd.distanceTo(end).signum() > 0) {
+					prefetchAfter = prefetch;
+				} else if (address.distanceTo(fLastRequestStart).signum() > 0
+						&& fLastRequestStart.distanceTo(end).signum() >= 0
+						&& end.distanceTo(fLastRequestEnd).signum() > 0) {
+					prefetchBefore = prefetch;
+				}
+			}
+			fLastRequestStart = address;
+			fLastRequestEnd = end;
+
 			// A read request will be issued for each block needed
 			// so we need to keep track of the count
+			fPendingRequests++;
 			final CountingRequestMonitor countingRM = new CountingRequestMonitor(getExecutor(), drm) {
 				@Override
 				protected void handleSuccess() {
@@ -911,29 +1050,71 @@ public class MIMemory extends AbstractDsfService implements IMemory, ICachingSer
 					drm.setData(getMemoryBlockFromCache(address, wordCount, wordSize));
 					drm.done();
 				}
+
+				@Override
+				protected void handleCompleted() {
+					super.handleCompleted();
+					if (--fPendingRequests == 0) {
+						fMemoryBlocks.trim(CACHE_SIZE);
+					}
+				}
 			};
 			countingRM.setDoneCount(numberOfRequests);
 
 			// Issue the read requests
 			for (int i = 0; i < numberOfRequests; i++) {
-				MemoryBlock block = missingBlocks.get(i);
-				final IAddress startAddress = block.fAddress;
-				final int length = (int) block.fLengthInAddressableUnits;
-				readMemoryBlock(memoryDMC, startAddress, 0, wordSize, length,
-						new DataRequestMonitor<MemoryByte[]>(getSession().getExecutor(), drm) {
+				final MemoryBlock missingBlock = missingBlocks.get(i);
+				final MemoryBlock block = getBlockToRead(missingBlock, wordSize,
+						i == numberOfRequests - 1 ? prefetchAfter : 0, i == 0 ? prefetchBefore : 0);
+				readMemoryBlock(memoryDMC, block.fAddress, 0, wordSize, (int) block.fLengthInAddressableUnits,
+						new DataRequestMonitor<MemoryByte[]>(getSession().getExecutor(), countingRM) {
 							@Override
 							protected void handleSuccess() {
-								MemoryByte[] block = getData();
-								int lenghtInaddressableUnits = block.length / wordSize;
-								MemoryBlock memoryBlock = new MemoryBlock(startAddress, block.length,
-										lenghtInaddressableUnits, block);
-								fMemoryBlockList.add(memoryBlock);
+								MemoryByte[] data = getData();
+								// With -data-read-memory, a read fails as a whole if part of the memory
+								// is not accessible. Don't let the memory around the gap spoil it.
+								if (block != missingBlock && !isReadable(data,
+										(int) block.fAddress.distanceTo(missingBlock.fAddress).longValue() * wordSize,
+										(int) missingBlock.fLengthInOctets)) {
+									readMissingBlock(memoryDMC, missingBlock, wordSize, countingRM);
+									return;
+								}
+								addToCache(block.fAddress, data, wordSize);
 								countingRM.done();
 							}
 						});
 			}
 		}
 
+		private void readMissingBlock(IMemoryDMContext memoryDMC, final MemoryBlock missingBlock, final int wordSize,
+				final RequestMonitor rm) {
+			readMemoryBlock(memoryDMC, missingBlock.fAddress, 0, wordSize,
+					(int) missingBlock.fLengthInAddressableUnits,
+					new DataRequestMonitor<MemoryByte[]>(getSession().getExecutor(), rm) {
+						@Override
+						protected void handleSuccess() {
+							addToCache(missingBlock.fAddress, getData(), wordSize);
+							rm.done();
+						}
+					});
+		}
+
+		private void addToCache(IAddress address, MemoryByte[] block, int wordSize) {
+			int lengthInAddressableUnits = block.length / wordSize;
+			if (lengthInAddressableUnits > 0) {
+				fMemoryBlocks.add(new MemoryBlock(address, block.length, lengthInAddressableUnits, block));
+			}
+		}
+
+		private boolean isReadable(MemoryByte[] block, int offset, int length) {
+			for (int i = offset; i < offset + length && i < block.length; i++) {
+				if (!block[i].isReadable()) {
+					return false;
+				}
+			}
+			return true;
+		}
+
 		/**
 		 * @param memoryDMC
 		 * @param address	the memory block address (on the target)
@@ -1008,7 +1189,8 @@ public class MIMemory extends AbstractDsfService implements IMemory, ICachingSer
 							MemoryByte[] newBlock = getData();
 							boolean blocksDiffer = false;
 							for (int i = 0; i < oldBlock.length; i++) {
-								if (oldBlock[i].getValue() != newBlock[i].getValue()) {
+								// The old block has holes where the memory is not cached
+								if (oldBlock[i] == null || oldBlock[i].getValue() != newBlock[i].getValue()) {
 									blocksDiffer = true;
 									break;
 								}
@@ -23,6 +23,7 @@ import java.util.Hashtable;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 import org.eclipse.cdt.core.IAddress;
 import org.eclipse.cdt.dsf.concurrent.CountingRequestMonitor;
@@ -69,6 +70,10 @@ import org.osgi.framework.BundleContext;
 
 public class MIStack extends AbstractDsfService implements IStack, ICachingService {
 	private static final int DEFAULT_STACK_DEPTH = 5;
+	// Number of frames that are fetched at once when the data of a frame is not cached. The windows
+	// are aligned, so that the requests for neighboring frames share one command.
+	static final int FRAME_WINDOW = Math.max(1,
+			Integer.getInteger("org.eclipse.cdt.dsf.gdb.stackFrameWindow", 64)); //$NON-NLS-1$
 
 	protected static class MIFrameDMC extends AbstractDMContext implements IFrameDMContext {
 		private final int fLevel;
@@ -189,7 +194,7 @@ public class MIStack extends AbstractDsfService implements IStack, ICachingServi
 	/**
 	 * Class to track stack depth and debug frames for our internal cache
 	 */
-	private static class FramesCacheInfo {
+	static class FramesCacheInfo {
 		// If this set to true our knowledge of stack depths is limited to current depth, i.e
 		// we only know that stack depth is at least "stackDepth" but it could be more
 		private boolean limited = true;
@@ -250,16 +255,62 @@ public class MIStack extends AbstractDsfService implements IStack, ICachingServi
 				if (stackDepth < level + 1) {
 					stackDepth = level + 1;
 				}
-				while (level >= frames.size()) {
-					frames.add(null);
-				}
-				frames.set(level, frame);
+				setFrameData(level, frame);
 			} catch (Exception e) {
 				// cannot afford throwing runtime exceptions
 				GdbPlugin.log(e);
 			}
 		}
 
+		private void setFrameData(int level, FrameData frame) {
+			while (level >= frames.size()) {
+				frames.add(null);
+			}
+			frames.set(level, frame);
+		}
+
+		/**
+		 * Takes over the frames of the previous stop that a step did not change.
+		 *
+		 * A step only changes the top of the stack: it moves within the top frame, enters a
+		 * function or returns from one. Once the depth of the stack is known before and after
+		 * the step, the frames below the top window must be the previous frames, shifted by the
+		 * change of depth, if the frames of the top window are.  The top frame itself is left
+		 * out of the comparison since it has moved.
+		 *
+		 * @return whether the frames of the previous stop were taken over
+		 */
+		public boolean reuse(FramesCacheInfo previous) {
+			int count = Math.min(FRAME_WINDOW, stackDepth);
+			if (limited || previous.limited || previous.stackDepth <= count) {
+				return false;
+			}
+			int shift = stackDepth - previous.stackDepth;
+			int overlap = 0;
+			for (int level = 1; level < count; level++) {
+				if (level - shift < 1) {
+					// A frame of a function that the step entered
+					continue;
+				}
+				FrameData frame = getFrameData(level);
+				FrameData previousFrame = previous.getFrameData(level - shift);
+				if (frame == null || previousFrame == null || !frame.isSameFrame(previousFrame)) {
+					return false;
+				}
+				overlap++;
+			}
+			if (overlap < count / 2) {
+				return false;
+			}
+			for (int level = count - shift; level < previous.frames.size(); level++) {
+				FrameData frame = previous.getFrameData(level);
+				if (frame != null && getFrameData(level + shift) == null) {
+					setFrameData(level + shift, frame);
+				}
+			}
+			return true;
+		}
+
 		public FrameData getFrameData(int level) {
 			try {
 				if (level < 0 || level >= frames.size()) {
@@ -296,7 +347,7 @@ public class MIStack extends AbstractDsfService implements IStack, ICachingServi
 	   it will eliminate the issue with invalid data on subsequent invocations. We don't cache errors.
 	 */
 	@SuppressWarnings("serial")
-	private class FramesCache extends HashMap<String, FramesCacheInfo> {
+	class FramesCache extends HashMap<String, FramesCacheInfo> {
 		public void clear(IDMContext context) {
 			final IMIExecutionDMContext execDmc = DMContexts.getAncestorOfType(context, IMIExecutionDMContext.class);
 			if (execDmc != null) {
@@ -333,6 +384,8 @@ public class MIStack extends AbstractDsfService implements IStack, ICachingServi
 	}
 
 	private FramesCache fFramesCache = new FramesCache();
+	// The frames of the previous stop, if the thread stopped after a step
+	private FramesCache fPreviousFramesCache = new FramesCache();
 
 	private MIStoppedEvent fCachedStoppedEvent;
 	private IRunControl fRunControl;
@@ -358,9 +411,19 @@ public class MIStack extends AbstractDsfService implements IStack, ICachingServi
 	 * Base class for the IFrameDMData object that uses an MIFrame object to
 	 * provide the data.  Sub-classes must provide the MIFrame object
 	 */
-	private abstract class FrameData implements IFrameDMData {
+	abstract class FrameData implements IFrameDMData {
 		protected abstract MIFrame getMIFrame();
 
+		/**
+		 * Whether both frames are at the same address of the same function, regardless of their level.
+		 */
+		public boolean isSameFrame(FrameData other) {
+			MIFrame frame = getMIFrame();
+			MIFrame otherFrame = other.getMIFrame();
+			return Objects.equals(frame.getAddress(), otherFrame.getAddress())
+					&& Objects.equals(frame.getFunction(), otherFrame.getFunction());
+		}
+
 		@Override
 		public IAddress getAddress() {
 			String addr = getMIFrame().getAddress();
@@ -579,8 +642,13 @@ public class MIStack extends AbstractDsfService implements IStack, ICachingServi
 		return frameDMCs;
 	}
 
-	private ICommand<MIStackListFramesInfo> createMIStackListFrames(final IMIExecutionDMContext execDmc) {
-		return fCommandFactory.createMIStackListFrames(execDmc);
+	// Takes over the frames of the previous stop that the step did not change,
+	// once the depth of the stack and its top frames are known
+	private void reusePreviousFrames(String threadId) {
+		FramesCacheInfo previous = fPreviousFramesCache.get(threadId);
+		if (previous != null && fFramesCache.getThreadFramesCache(threadId).reuse(previous)) {
+			fPreviousFramesCache.remove(threadId);
+		}
 	}
 
 	private ICommand<MIStackListFramesInfo> createMIStackListFrames(final IMIExecutionDMContext execDmc,
@@ -667,12 +735,20 @@ public class MIStack extends AbstractDsfService implements IStack, ICachingServi
 			}
 		}
 
-		// If not, retrieve the full list of frame data.
-		fMICommandCache.execute(createMIStackListFrames(execDmc),
+		// If not, retrieve the window of frames that contains the requested frame.
+		// Deep stacks are never downloaded as a whole.
+		final int firstLevel = frameLevel - frameLevel % FRAME_WINDOW;
+		fMICommandCache.execute(createMIStackListFrames(execDmc, firstLevel, firstLevel + FRAME_WINDOW - 1),
 				new DataRequestMonitor<MIStackListFramesInfo>(getExecutor(), rm) {
 					@Override
 					protected void handleSuccess() {
 						FramesCacheInfo info = fFramesCache.update(threadId, getData());
+						int count = getData().getMIFrames().length;
+						if (count > 0 && count < FRAME_WINDOW) {
+							// The window ends at the bottom of the stack
+							info.setStackDepth(firstLevel + count, firstLevel + FRAME_WINDOW);
+						}
+						reusePreviousFrames(threadId);
 						FrameData frameData = info.getFrameData(frameLevel);
 						if (frameData == null) {
 							rm.done(new Status(IStatus.ERROR, GdbPlugin.PLUGIN_ID, INVALID_HANDLE,
@@ -1082,6 +1158,7 @@ public class MIStack extends AbstractDsfService implements IStack, ICachingServi
 					// Store result in our internal cache
 					int stackDepth = getData().getDepth();
 					fFramesCache.update(threadId, stackDepth, maxDepth);
+					reusePreviousFrames(threadId);
 					rm.setData(stackDepth);
 					rm.done();
 				}
@@ -1141,6 +1218,7 @@ public class MIStack extends AbstractDsfService implements IStack, ICachingServi
 			fCachedStoppedEvent = null;
 			fMICommandCache.reset();
 			fFramesCache.clear();
+			fPreviousFramesCache.clear();
 		}
 
 		handleReturnValues(e);
@@ -1176,7 +1254,14 @@ public class MIStack extends AbstractDsfService implements IStack, ICachingServi
 	public void eventDispatched(ISuspendedDMEvent e) {
 		fMICommandCache.setContextAvailable(e.getDMContext(), true);
 		fMICommandCache.reset();
-		fFramesCache.clear();
+		if (e.getReason() == StateChangeReason.STEP) {
+			// Keep the frames of the previous stop, the step did not change most of them
+			fPreviousFramesCache = fFramesCache;
+			fFramesCache = new FramesCache();
+		} else {
+			fPreviousFramesCache.clear();
+			fFramesCache.clear();
+		}
 
 		handleReturnValues(e);
 	}
@@ -1252,6 +1337,7 @@ public class MIStack extends AbstractDsfService implements IStack, ICachingServi
 	public void flushCache(IDMContext context) {
 		fMICommandCache.reset(context);
 		fFramesCache.clear(context);
+		fPreviousFramesCache.clear(context);
 		fCachedStoppedEvent = null;
 	}
 
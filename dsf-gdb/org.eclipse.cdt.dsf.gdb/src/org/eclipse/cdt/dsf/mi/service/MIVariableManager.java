@@ -26,6 +26,7 @@ package org.eclipse.cdt.dsf.mi.service;
 
 import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
@@ -258,6 +259,49 @@ import org.eclipse.core.runtime.Status;
  */
 public class MIVariableManager implements ICommandControl {
 
+	/**
+	 * Number of children of an array that are created at once, when only some of the children
+	 * are asked for.
+	 */
+	private static final int ARRAY_CHILDREN_PAGE_SIZE = 100;
+
+	/** Maximum number of pages of children that are kept for each array. */
+	private static final int ARRAY_CHILDREN_PAGES = 16;
+
+	/**
+	 * Asks for the children of an expression in the given range only. The result holds the
+	 * children of the range, the first one being the child at the start index. The children of
+	 * arrays are then created for the range, instead of for all the elements of the array.
+	 */
+	static class ExprMetaGetChildrenRange extends ExprMetaGetChildren {
+		private final int fStartIndex;
+		private final int fLength;
+
+		ExprMetaGetChildrenRange(IExpressionDMContext ctx, int startIndex, int length) {
+			super(ctx, startIndex + length);
+			fStartIndex = startIndex;
+			fLength = length;
+		}
+
+		int getStartIndex() {
+			return fStartIndex;
+		}
+
+		int getLength() {
+			return fLength;
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * super.hashCode() + fStartIndex;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return super.equals(obj) && fStartIndex == ((ExprMetaGetChildrenRange) obj).fStartIndex;
+		}
+	}
+
 	/**
 	 * Stores the information about children of a variable object.
 	 *
@@ -385,6 +429,11 @@ public class MIVariableManager implements ICommandControl {
 		private ExpressionInfo[] fChildren = null;
 		// we need to keep track of fake children because they are in the LRU and need to be removed in some cases.
 		private List<ExpressionInfo> fFakeChildren = new ArrayList<>(3);
+		// The children of an array that were asked for by range, in pages by page index, the least
+		// recently used first. Null if no range was asked for.
+		private LinkedHashMap<Integer, ExpressionInfo[]> fArrayChildrenPages = null;
+		// The size of this object that the LRU counts, or -1 if the object is not in the LRU
+		private long fCacheSize = -1;
 		private boolean fHasMore = false;
 		private MIDisplayHint fDisplayHint = MIDisplayHint.NONE;
 
@@ -678,7 +727,10 @@ public class MIVariableManager implements ICommandControl {
 			fChildren = c;
 			if (fChildren != null) {
 				fNumChildrenHint = fChildren.length;
+			} else {
+				fArrayChildrenPages = null;
 			}
+			lruVariableList.resize(this);
 
 			if (fChildren != null) {
 				for (ExpressionInfo child : fChildren) {
@@ -706,6 +758,7 @@ public class MIVariableManager implements ICommandControl {
 			}
 
 			fNumChildrenHint = fChildren.length;
+			lruVariableList.resize(this);
 
 			for (ExpressionInfo child : fChildren) {
 				assert (child != null);
@@ -753,6 +806,7 @@ public class MIVariableManager implements ICommandControl {
 
 				fChildren = new ExpressionInfo[newNumChildren];
 				System.arraycopy(oldChildren, 0, fChildren, 0, newNumChildren);
+				lruVariableList.resize(this);
 			}
 
 			fNumChildrenHint = newNumChildren;
@@ -793,6 +847,8 @@ public class MIVariableManager implements ICommandControl {
 				fChildren = null;
 				fNumChildrenHint = 0;
 			}
+			fArrayChildrenPages = null;
+			lruVariableList.resize(this);
 			for (ExpressionInfo fakeChild : fFakeChildren) {
 				cleanupChild(fakeChild);
 			}
@@ -1347,6 +1403,91 @@ public class MIVariableManager implements ICommandControl {
 			}
 		}
 
+		/**
+		 * Returns the children of this variable object in the given range. The children of an
+		 * array are created for the range only, unless all of them are known already. They are
+		 * kept in pages, a limited number of pages for each array.
+		 */
+		private void getChildren(final IExpressionDMContext exprDmc, final int startIndex, final int length,
+				final DataRequestMonitor<ExpressionInfo[]> rm) {
+			if (isArray() && getChildren() == null) {
+				int end = Math.min(startIndex + length, getNumChildrenHint());
+				ExpressionInfo[] children = new ExpressionInfo[Math.max(end - startIndex, 0)];
+				for (int i = startIndex; i < end;) {
+					ExpressionInfo[] page = getArrayChildrenPage(exprDmc, i / ARRAY_CHILDREN_PAGE_SIZE);
+					int offset = i % ARRAY_CHILDREN_PAGE_SIZE;
+					int count = Math.min(page.length - offset, end - i);
+					System.arraycopy(page, offset, children, i - startIndex, count);
+					i += count;
+				}
+				rm.setData(children);
+				rm.done();
+				return;
+			}
+
+			getChildren(exprDmc, startIndex + length, new DataRequestMonitor<ChildrenInfo>(fSession.getExecutor(), rm) {
+				@Override
+				protected void handleSuccess() {
+					ExpressionInfo[] children = getData().getChildren();
+					int end = Math.min(startIndex + length, children.length);
+					rm.setData(Arrays.copyOfRange(children, Math.min(startIndex, end), end));
+					rm.done();
+				}
+			});
+		}
+
+		private ExpressionInfo[] getArrayChildrenPage(IExpressionDMContext exprDmc, int pageIndex) {
+			if (fArrayChildrenPages == null) {
+				fArrayChildrenPages = new LinkedHashMap<>(ARRAY_CHILDREN_PAGES, 0.75f, true);
+			}
+			ExpressionInfo[] page = fArrayChildrenPages.get(pageIndex);
+			if (page == null) {
+				int from = pageIndex * ARRAY_CHILDREN_PAGE_SIZE;
+				page = createArrayChildren(exprDmc, from,
+						Math.min(ARRAY_CHILDREN_PAGE_SIZE, getNumChildrenHint() - from));
+				fArrayChildrenPages.put(pageIndex, page);
+				if (fArrayChildrenPages.size() > ARRAY_CHILDREN_PAGES) {
+					Iterator<Integer> eldest = fArrayChildrenPages.keySet().iterator();
+					eldest.next();
+					eldest.remove();
+				}
+				lruVariableList.resize(this);
+			}
+			return page;
+		}
+
+		/** Creates the children of an array, for the elements of the given range. */
+		private ExpressionInfo[] createArrayChildren(IExpressionDMContext exprDmc, int from, int count) {
+			ExpressionInfo[] childrenOfArray = new ExpressionInfo[count];
+			String exprName = exprDmc.getExpression();
+
+			int castingIndex = 0;
+			// in case of casts, need to resolve that before dereferencing, to be safe
+			if (exprDmc instanceof ICastedExpressionDMContext) {
+				castingIndex = ((ICastedExpressionDMContext) exprDmc).getCastInfo().getArrayStartIndex();
+			}
+			if (exprDmc instanceof IIndexedPartitionDMContext) {
+				castingIndex = ((IIndexedPartitionDMContext) exprDmc).getIndex();
+			}
+
+			String relExprName;
+			if (exprDmc instanceof MIExpressionDMC) {
+				relExprName = ((MIExpressionDMC) exprDmc).getRelativeExpression();
+			} else {
+				// Unexpected, but avoid exception
+				relExprName = exprDmc.getExpression();
+			}
+
+			for (int i = 0; i < count; i++) {
+				int index = from + i;
+				String fullExpr = exprName + "[" + index + "]";//$NON-NLS-1$//$NON-NLS-2$
+				String relExpr = relExprName + "[" + (castingIndex + index) + "]";//$NON-NLS-1$//$NON-NLS-2$
+
+				childrenOfArray[i] = new ExpressionInfo(fullExpr, relExpr, false, fExprInfo, index);
+			}
+			return childrenOfArray;
+		}
+
 		/**
 		 * Fetch the out-standing children.
 		 *
@@ -1391,31 +1532,7 @@ public class MIVariableManager implements ICommandControl {
 			// never need.  Using -var-list-children will create a variable object for every child
 			// immediately, that is why we don't want to use it for arrays.
 			if (isArray()) {
-				ExpressionInfo[] childrenOfArray = new ExpressionInfo[getNumChildrenHint()];
-				String exprName = exprDmc.getExpression();
-
-				int castingIndex = 0;
-				// in case of casts, need to resolve that before dereferencing, to be safe
-				if (exprDmc instanceof ICastedExpressionDMContext) {
-					castingIndex = ((ICastedExpressionDMContext) exprDmc).getCastInfo().getArrayStartIndex();
-				}
-				if (exprDmc instanceof IIndexedPartitionDMContext) {
-					castingIndex = ((IIndexedPartitionDMContext) exprDmc).getIndex();
-				}
-				for (int i = 0; i < childrenOfArray.length; i++) {
-					String fullExpr = exprName + "[" + i + "]";//$NON-NLS-1$//$NON-NLS-2$
-
-					String relExpr;
-					if (exprDmc instanceof MIExpressionDMC) {
-						relExpr = ((MIExpressionDMC) exprDmc).getRelativeExpression();
-					} else {
-						// Unexpected, but avoid exception
-						relExpr = exprDmc.getExpression();
-					}
-					relExpr = relExpr + "[" + (castingIndex + i) + "]";//$NON-NLS-1$//$NON-NLS-2$
-
-					childrenOfArray[i] = new ExpressionInfo(fullExpr, relExpr, false, fExprInfo, i);
-				}
+				ExpressionInfo[] childrenOfArray = createArrayChildren(exprDmc, 0, getNumChildrenHint());
 
 				// First store these children, for the next time
 				setChildren(childrenOfArray);
@@ -2551,6 +2668,8 @@ public class MIVariableManager implements ICommandControl {
 	 * children are always older than their parents, to guarantee the children will
 	 * always be delete before their parents.
 	 *
+	 * Besides the number of variable objects, the LRU limits the estimated size of the
+	 * variable objects and of the children that they know of.
 	 */
 	private static class LRUVariableCache extends LinkedHashMap<VariableObjectId, MIVariableObject> {
 		public static final long serialVersionUID = 0;
@@ -2558,6 +2677,18 @@ public class MIVariableManager implements ICommandControl {
 		// Maximum allowed concurrent variables
 		private static final int MAX_VARIABLE_LIST = 1000;
 
+		// Maximum estimated size in bytes of the variables and their children
+		private static final long MAX_SIZE = Long.getLong("org.eclipse.cdt.dsf.gdb.variableCacheSize", //$NON-NLS-1$
+				8L << 20);
+
+		// Estimated size in bytes of a variable, without its children
+		private static final int VARIABLE_SIZE = 512;
+
+		// Estimated size in bytes of a child of a variable, with its expressions
+		private static final int CHILD_SIZE = 128;
+
+		private long fSize = 0;
+
 		public LRUVariableCache() {
 			super(0, // Initial load capacity
 					0.75f, // Load factor as defined in JAVA 1.5
@@ -2576,18 +2707,39 @@ public class MIVariableManager implements ICommandControl {
 			MIVariableObject varObj = super.get(key);
 			touchAncestors(varObj);
 
-			// If we're over our max size, attempt to remove eldest entry.
-			if (size() > MAX_VARIABLE_LIST) {
+			// If we're over our max size, attempt to remove eldest entries.
+			while (!isEmpty() && (size() > MAX_VARIABLE_LIST || fSize > MAX_SIZE)) {
 				Map.Entry<VariableObjectId, MIVariableObject> eldest = entrySet().iterator().next();
 				// First make sure we are not deleting ourselves!
-				if (!eldest.getValue().equals(varObj)
-						&& eldest.getValue().currentState == MIVariableObject.STATE_READY) {
-					remove(eldest.getKey());
+				if (eldest.getValue().equals(varObj) || eldest.getValue().currentState != MIVariableObject.STATE_READY) {
+					break;
 				}
+				remove(eldest.getKey());
 			}
 			return varObj;
 		}
 
+		private static long sizeOf(MIVariableObject varObj) {
+			long numChildren = varObj.fChildren == null ? 0 : varObj.fChildren.length;
+			if (varObj.fArrayChildrenPages != null) {
+				for (ExpressionInfo[] page : varObj.fArrayChildrenPages.values()) {
+					numChildren += page.length;
+				}
+			}
+			return VARIABLE_SIZE + numChildren * CHILD_SIZE;
+		}
+
+		/**
+		 * Updates the size of the given variable, after its children changed.
+		 */
+		public void resize(MIVariableObject varObj) {
+			if (varObj.fCacheSize >= 0) {
+				long size = sizeOf(varObj);
+				fSize += size - varObj.fCacheSize;
+				varObj.fCacheSize = size;
+			}
+		}
+
 		private void touchAncestors(MIVariableObject varObj) {
 			while (varObj != null) {
 				varObj = varObj.getParent();
@@ -2601,6 +2753,12 @@ public class MIVariableManager implements ICommandControl {
 		@Override
 		public MIVariableObject put(VariableObjectId key, MIVariableObject varObj) {
 			MIVariableObject retVal = super.put(key, varObj);
+			if (retVal != null) {
+				fSize -= retVal.fCacheSize;
+				retVal.fCacheSize = -1;
+			}
+			varObj.fCacheSize = sizeOf(varObj);
+			fSize += varObj.fCacheSize;
 
 			// Touch all parents of this element so as
 			// to guarantee they are not deleted before their children.
@@ -2613,10 +2771,21 @@ public class MIVariableManager implements ICommandControl {
 		public MIVariableObject remove(Object key) {
 			MIVariableObject varObj = super.remove(key);
 			if (varObj != null) {
+				fSize -= varObj.fCacheSize;
+				varObj.fCacheSize = -1;
 				varObj.deleteInGdb();
 			}
 			return varObj;
 		}
+
+		@Override
+		public void clear() {
+			for (MIVariableObject varObj : values()) {
+				varObj.fCacheSize = -1;
+			}
+			fSize = 0;
+			super.clear();
+		}
 	}
 
 	private GDBTypeParser fGDBTypeParser = null;
@@ -3035,6 +3204,27 @@ public class MIVariableManager implements ICommandControl {
 				}
 			});
 
+		} else if (command instanceof ExprMetaGetChildrenRange) {
+			@SuppressWarnings("unchecked")
+			final DataRequestMonitor<ExprMetaGetChildrenInfo> drm = (DataRequestMonitor<ExprMetaGetChildrenInfo>) rm;
+			final MIExpressionDMC exprCtx = (MIExpressionDMC) (command.getContext());
+			final ExprMetaGetChildrenRange range = (ExprMetaGetChildrenRange) command;
+
+			getVariable(exprCtx, new DataRequestMonitor<MIVariableObject>(fSession.getExecutor(), drm) {
+				@Override
+				protected void handleSuccess() {
+					getData().getChildren(exprCtx, range.getStartIndex(), range.getLength(),
+							new DataRequestMonitor<ExpressionInfo[]>(fSession.getExecutor(), drm) {
+								@Override
+								protected void handleSuccess() {
+									drm.setData(new ExprMetaGetChildrenInfo(getData()));
+									drm.done();
+									processCommandDone(token, drm.getData());
+								}
+							});
+				}
+			});
+
 		} else if (command instanceof ExprMetaGetChildren) {
 			@SuppressWarnings("unchecked")
 			final DataRequestMonitor<ExprMetaGetChildrenInfo> drm = (DataRequestMonitor<ExprMetaGetChildrenInfo>) rm;
@@ -3186,11 +3376,7 @@ public class MIVariableManager implements ICommandControl {
 		// fails miserably because all objects will have the same depth and we will confuse
 		// them.  Until we find a good solution, we have to clear our entire list of
 		// of variable objects (and delete them in GDB to avoid having too many).
-		Iterator<Map.Entry<VariableObjectId, MIVariableObject>> iterator = lruVariableList.entrySet().iterator();
-		while (iterator.hasNext()) {
-			iterator.next();
-			iterator.remove();
-		}
+		lruVariableList.clear();
 	}
 
 	/**
@@ -98,8 +98,47 @@ import org.eclipse.osgi.util.NLS;
 public abstract class AbstractMIControl extends AbstractDsfService implements IMICommandControl {
 	private static final String MI_TRACE_IDENTIFIER = "[MI]"; //$NON-NLS-1$
 	private static final int NUMBER_CONCURRENT_COMMANDS = 3;
+	/**
+	 * Number of commands on the wire up to which queries are still sent to the backend. Queries
+	 * are pipelined deeper than other commands since they do not change the state of the backend.
+	 * Their results are correlated with the commands by the token.
+	 */
+	private static final int NUMBER_CONCURRENT_QUERIES = Integer
+			.getInteger("org.eclipse.cdt.dsf.gdb.concurrentQueries", 8); //$NON-NLS-1$
 	private static final int DEVELOPMENT_TRACE_LIMIT_CHARS = 5000;
 
+	/**
+	 * Operations of the commands that only query the state of the backend. An identical query
+	 * that is still queued, e.g. because several services refresh their data after a suspended
+	 * event, is sent only once and its result is given to all requesters.
+	 */
+	private static final Set<String> QUERY_OPERATIONS = new HashSet<>(Arrays.asList("-break-list", //$NON-NLS-1$
+			"-data-disassemble", //$NON-NLS-1$
+			"-data-list-register-names", //$NON-NLS-1$
+			"-data-list-register-values", //$NON-NLS-1$
+			"-data-read-memory", //$NON-NLS-1$
+			"-data-read-memory-bytes", //$NON-NLS-1$
+			"-gdb-show", //$NON-NLS-1$
+			"-info-os", //$NON-NLS-1$
+			"-list-features", //$NON-NLS-1$
+			"-list-target-features", //$NON-NLS-1$
+			"-list-thread-groups", //$NON-NLS-1$
+			"-stack-info-depth", //$NON-NLS-1$
+			"-stack-info-frame", //$NON-NLS-1$
+			"-stack-list-arguments", //$NON-NLS-1$
+			"-stack-list-frames", //$NON-NLS-1$
+			"-stack-list-locals", //$NON-NLS-1$
+			"-stack-list-variables", //$NON-NLS-1$
+			"-symbol-list-lines", //$NON-NLS-1$
+			"-thread-info", //$NON-NLS-1$
+			"-thread-list-ids", //$NON-NLS-1$
+			"-var-info-expression", //$NON-NLS-1$
+			"-var-info-num-children", //$NON-NLS-1$
+			"-var-info-path-expression", //$NON-NLS-1$
+			"-var-info-type", //$NON-NLS-1$
+			"-var-show-attributes", //$NON-NLS-1$
+			"-var-show-format")); //$NON-NLS-1$
+
 	/*
 	 *  Thread control variables for the transmit and receive threads.
 	 */
@@ -108,6 +147,7 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 	private RxThread fRxThread;
 	private ErrorThread fErrorThread;
 	private final int fNumberOfConcurrentCommands;
+	private final int fNumberOfConcurrentQueries;
 
 	// MI did not always support the --thread/--frame options
 	// This boolean is used to know if we should use -thread-select and -stack-select-frame instead
@@ -200,8 +240,10 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 
 		if (isConcurrentCommandsSupported()) {
 			fNumberOfConcurrentCommands = NUMBER_CONCURRENT_COMMANDS;
+			fNumberOfConcurrentQueries = Math.max(NUMBER_CONCURRENT_QUERIES, NUMBER_CONCURRENT_COMMANDS);
 		} else {
 			fNumberOfConcurrentCommands = 1;
+			fNumberOfConcurrentQueries = 1;
 		}
 	}
 
@@ -312,10 +354,7 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 		 *  First go through the commands which have been queueud and not yet sent to the backend.
 		 */
 		for (CommandHandle commandHandle : fCommandQueue) {
-			if (commandHandle.getRequestMonitor() == null)
-				continue;
-			commandHandle.getRequestMonitor().setStatus(genStatus("Connection is shut down")); //$NON-NLS-1$
-			commandHandle.getRequestMonitor().done();
+			commandShutDown(commandHandle);
 		}
 		fCommandQueue.clear();
 
@@ -330,10 +369,7 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 		List<CommandHandle> txCommands = new ArrayList<>();
 		fTxCommands.drainTo(txCommands);
 		for (CommandHandle commandHandle : txCommands) {
-			if (commandHandle.getRequestMonitor() == null)
-				continue;
-			commandHandle.getRequestMonitor().setStatus(genStatus("Connection is shut down")); //$NON-NLS-1$
-			commandHandle.getRequestMonitor().done();
+			commandShutDown(commandHandle);
 		}
 
 		// Queue a null value to tell the send thread to shut down.
@@ -347,10 +383,19 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 			fRxCommands.clear();
 		}
 		for (CommandHandle commandHandle : rxCommandsCopy.values()) {
-			if (commandHandle.getRequestMonitor() == null)
+			commandShutDown(commandHandle);
+		}
+	}
+
+	/**
+	 * Fails the given command and the identical queries that share its result.
+	 */
+	private void commandShutDown(CommandHandle commandHandle) {
+		for (CommandHandle handle : commandHandle.getHandles()) {
+			if (handle.getRequestMonitor() == null)
 				continue;
-			commandHandle.getRequestMonitor().setStatus(genStatus("Connection is shut down")); //$NON-NLS-1$
-			commandHandle.getRequestMonitor().done();
+			handle.getRequestMonitor().setStatus(genStatus("Connection is shut down")); //$NON-NLS-1$
+			handle.getRequestMonitor().done();
 		}
 	}
 
@@ -385,9 +430,17 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 			rm.setStatus(genStatus("Connection is shut down")); //$NON-NLS-1$
 			rm.done();
 		} else {
+			CommandHandle identicalQuery = findIdenticalQueuedQuery(miCommand);
+			if (identicalQuery != null) {
+				// Share the result of the query that is already queued instead of sending the same query twice.
+				identicalQuery.addDuplicate(handle);
+				processCommandQueued(handle);
+				return handle;
+			}
+
 			/*
-			 *  We only allow three outstanding commands to be on the wire to the backend
-			 *  at any one time. This allows for coalescing as well as canceling
+			 *  We only allow three outstanding commands (or a few more queries) to be on the wire
+			 *  to the backend at any one time. This allows for coalescing as well as canceling
 			 *  existing commands on a state change. So we add it to the waiting list and let
 			 *  the user know they can now work with this item if need be.
 			 */
@@ -407,11 +460,43 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 		return handle;
 	}
 
+	/**
+	 * Returns the queued command that is identical to the given query, or <code>null</code> if there
+	 * is none. Only commands that do not change the state of the backend may be queued after the
+	 * returned command, such that sending the given query in its place gives the same result.
+	 */
+	private CommandHandle findIdenticalQueuedQuery(MICommand<MIInfo> command) {
+		if (!isQuery(command))
+			return null;
+		for (int i = fCommandQueue.size() - 1; i >= 0; i--) {
+			CommandHandle handle = fCommandQueue.get(i);
+			if (!isQuery(handle.getCommand()))
+				return null;
+			if (handle.getCommand().equals(command))
+				return handle;
+		}
+		return null;
+	}
+
+	private static boolean isQuery(MICommand<MIInfo> command) {
+		return !(command instanceof RawCommand) && QUERY_OPERATIONS.contains(command.getOperation());
+	}
+
+	/**
+	 * Sends queued commands until the maximum number of commands are on the wire, the transmitter
+	 * thread writes them to the backend without waiting for their results.
+	 */
 	private void processNextQueuedCommand() {
-		if (!fCommandQueue.isEmpty() && fRxCommands.size() < fNumberOfConcurrentCommands) {
+		while (!fCommandQueue.isEmpty()) {
+			final int limit = isQuery(fCommandQueue.get(0).getCommand()) ? fNumberOfConcurrentQueries
+					: fNumberOfConcurrentCommands;
+			if (fRxCommands.size() + fTxCommands.size() >= limit)
+				break;
 			final CommandHandle handle = fCommandQueue.remove(0);
 			if (handle != null) {
-				processCommandSent(handle);
+				for (CommandHandle sentHandle : handle.getHandles()) {
+					processCommandSent(sentHandle);
+				}
 
 				// Older debuggers didn't support the --thread/--frame options
 				// Also, not all commands support those options (e.g., CLI commands)
@@ -477,11 +562,24 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 
 		synchronized (fCommandQueue) {
 
-			for (CommandHandle handle : fCommandQueue) {
+			for (int i = 0; i < fCommandQueue.size(); i++) {
+				CommandHandle handle = fCommandQueue.get(i);
+				CommandHandle removedHandle = null;
 				if (handle.equals(token)) {
-					fCommandQueue.remove(handle);
+					// The identical queries that share the result of the removed command take its place.
+					CommandHandle nextHandle = handle.removeDuplicates();
+					if (nextHandle != null) {
+						fCommandQueue.set(i, nextHandle);
+					} else {
+						fCommandQueue.remove(i);
+					}
+					removedHandle = handle;
+				} else if (handle.removeDuplicate(token)) {
+					removedHandle = (CommandHandle) token;
+				}
 
-					final CommandHandle finalHandle = handle;
+				if (removedHandle != null) {
+					final CommandHandle finalHandle = removedHandle;
 					getExecutor().execute(new DsfRunnable() {
 						@Override
 						public void run() {
@@ -656,6 +754,8 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 		private MICommand<MIInfo> fCommand;
 		private DataRequestMonitor<MIInfo> fRequestMonitor;
 		private int fTokenId;
+		// Identical queries that were queued after this command and get its result.
+		private List<CommandHandle> fDuplicates;
 
 		CommandHandle(MICommand<MIInfo> c, DataRequestMonitor<MIInfo> d) {
 			fCommand = c;
@@ -663,6 +763,43 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 			fTokenId = -1; // Only initialize to a real value when needed
 		}
 
+		void addDuplicate(CommandHandle handle) {
+			if (fDuplicates == null)
+				fDuplicates = new ArrayList<>();
+			fDuplicates.add(handle);
+		}
+
+		boolean removeDuplicate(ICommandToken token) {
+			return fDuplicates != null && fDuplicates.remove(token);
+		}
+
+		/**
+		 * Removes the duplicates of this command and returns the first of them, which holds the others
+		 * as its duplicates, or <code>null</code> if there are none.
+		 */
+		CommandHandle removeDuplicates() {
+			if (fDuplicates == null || fDuplicates.isEmpty())
+				return null;
+			CommandHandle first = fDuplicates.remove(0);
+			for (CommandHandle handle : fDuplicates) {
+				first.addDuplicate(handle);
+			}
+			fDuplicates = null;
+			return first;
+		}
+
+		/**
+		 * Returns this command followed by its duplicates.
+		 */
+		List<CommandHandle> getHandles() {
+			if (fDuplicates == null)
+				return Collections.singletonList(this);
+			List<CommandHandle> handles = new ArrayList<>(fDuplicates.size() + 1);
+			handles.add(this);
+			handles.addAll(fDuplicates);
+			return handles;
+		}
+
 		@Override
 		public MICommand<MIInfo> getCommand() {
 			return fCommand;
@@ -731,62 +868,66 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 
 		@Override
 		public void run() {
-			while (true) {
-				CommandHandle commandHandle = null;
-
+			List<CommandHandle> commandHandles = new ArrayList<>();
+			boolean shutDown = false;
+			while (!shutDown) {
+				commandHandles.clear();
 				try {
-					commandHandle = fTxCommands.take();
+					commandHandles.add(fTxCommands.take());
 				} catch (InterruptedException e) {
 					break; // Shutting down.
 				}
+				// Write all commands that are ready in one go, GDB reads them one by one.
+				fTxCommands.drainTo(commandHandles);
+
+				StringBuilder commands = new StringBuilder();
+				for (CommandHandle commandHandle : commandHandles) {
+					if (commandHandle == fTerminatorHandle) {
+						shutDown = true;
+						break;
+					}
 
-				if (commandHandle == fTerminatorHandle) {
-					// There is a small possibility that a new command was inserted
-					// in the fRxCommands map after we cleared that map.
-					// Just to be safe, clear it again.
-					// We do this to avoid synchronizing the handling of fRxCommands
-					// because this is more efficient, as it happens only once at shutdown.
-					cancelRxCommands();
-					break; // Null command is an indicator that we're shutting down.
-				}
-
-				/*
-				 *  We note that this is an outstanding request at this point.
-				 */
-				if (!(commandHandle.getCommand() instanceof RawCommand)) {
-					// RawCommands will not get an answer, so we cannot put them in the receive queue.
-					fRxCommands.put(commandHandle.getTokenId(), commandHandle);
-				}
+					/*
+					 *  We note that this is an outstanding request at this point.
+					 */
+					if (!(commandHandle.getCommand() instanceof RawCommand)) {
+						// RawCommands will not get an answer, so we cannot put them in the receive queue.
+						fRxCommands.put(commandHandle.getTokenId(), commandHandle);
+					}
 
-				/*
-				 *   Construct the new command and push this command out the pipeline.
-				 */
+					/*
+					 *   Construct the new command and push this command out the pipeline.
+					 */
 
-				final String str;
-				if (commandHandle.getCommand() instanceof RawCommand) {
-					// RawCommands CANNOT have a token id: GDB would read it as part of the RawCommand!
-					str = commandHandle.getCommand().constructCommand();
-				} else if (fUseThreadGroupOption) {
-					// Implies that fUseThreadAndFrameOptions == true
-					str = commandHandle.getTokenId() + commandHandle.getCommand().constructCommand(
-							commandHandle.getGroupId(), commandHandle.getThreadId(), commandHandle.getStackFrameId());
-				} else if (fUseThreadAndFrameOptions) {
-					str = commandHandle.getTokenId() + commandHandle.getCommand()
-							.constructCommand(commandHandle.getThreadId(), commandHandle.getStackFrameId());
-				} else {
-					str = commandHandle.getTokenId() + commandHandle.getCommand().constructCommand();
-				}
+					final String str;
+					if (commandHandle.getCommand() instanceof RawCommand) {
+						// RawCommands CANNOT have a token id: GDB would read it as part of the RawCommand!
+						str = commandHandle.getCommand().constructCommand();
+					} else if (fUseThreadGroupOption) {
+						// Implies that fUseThreadAndFrameOptions == true
+						str = commandHandle.getTokenId() + commandHandle.getCommand().constructCommand(
+								commandHandle.getGroupId(), commandHandle.getThreadId(),
+								commandHandle.getStackFrameId());
+					} else if (fUseThreadAndFrameOptions) {
+						str = commandHandle.getTokenId() + commandHandle.getCommand()
+								.constructCommand(commandHandle.getThreadId(), commandHandle.getStackFrameId());
+					} else {
+						str = commandHandle.getTokenId() + commandHandle.getCommand().constructCommand();
+					}
 
-				try {
 					if (fOutputStream != null) {
-
 						if (GdbDebugOptions.DEBUG) {
 							GdbDebugOptions.trace(
 									String.format("%s %s  %s", GdbPlugin.getDebugTime(), MI_TRACE_IDENTIFIER, str)); //$NON-NLS-1$
 						}
 						writeToTracingStream(true, str);
+					}
+					commands.append(str);
+				}
 
-						fOutputStream.write(str.getBytes());
+				try {
+					if (fOutputStream != null && commands.length() > 0) {
+						fOutputStream.write(commands.toString().getBytes());
 						fOutputStream.flush();
 					}
 				} catch (IOException e) {
@@ -794,6 +935,14 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 					break;
 				}
 			}
+			if (shutDown) {
+				// There is a small possibility that a new command was inserted
+				// in the fRxCommands map after we cleared that map.
+				// Just to be safe, clear it again.
+				// We do this to avoid synchronizing the handling of fRxCommands
+				// because this is more efficient, as it happens only once at shutdown.
+				cancelRxCommands();
+			}
 			// Must close the stream here to avoid leaking
 			// Bug 345164 and Bug 339379
 			try {
@@ -995,81 +1144,84 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 				 */
 				int id = rr.getToken();
 
-				final CommandHandle commandHandle = fRxCommands.remove(id);
+				final CommandHandle sentHandle = fRxCommands.remove(id);
 
-				if (commandHandle != null) {
+				if (sentHandle != null) {
 					final MIOutput response = new MIOutput(rr,
 							fAccumulatedOOBRecords.toArray(new MIOOBRecord[fAccumulatedOOBRecords.size()]));
 					fAccumulatedOOBRecords.clear();
 					fAccumulatedStreamRecords.clear();
 
-					MIInfo result = commandHandle.getCommand().getResult(response);
-					DataRequestMonitor<MIInfo> rm = commandHandle.getRequestMonitor();
-
-					/*
-					 *  Not all users want to get there results. They indicate so by not having
-					 *  a completion object.
-					 */
-					if (rm != null) {
-						rm.setData(result);
+					// Identical queries that were not sent get the same result.
+					for (final CommandHandle commandHandle : sentHandle.getHandles()) {
+						MIInfo result = commandHandle.getCommand().getResult(response);
+						DataRequestMonitor<MIInfo> rm = commandHandle.getRequestMonitor();
 
 						/*
-						 * We need to indicate if this request had an error or not.
+						 *  Not all users want to get there results. They indicate so by not having
+						 *  a completion object.
 						 */
-						String errorResult = rr.getResultClass();
-
-						if (errorResult.equals(MIResultRecord.ERROR)) {
-							String status = getStatusString(commandHandle.getCommand(), response);
-							String message = getBackendMessage(response);
-							Exception exception = new Exception(message);
-							rm.setStatus(
-									new Status(IStatus.ERROR, GdbPlugin.PLUGIN_ID, REQUEST_FAILED, status, exception));
-						}
+						if (rm != null) {
+							rm.setData(result);
+
+							/*
+							 * We need to indicate if this request had an error or not.
+							 */
+							String errorResult = rr.getResultClass();
+
+							if (errorResult.equals(MIResultRecord.ERROR)) {
+								String status = getStatusString(commandHandle.getCommand(), response);
+								String message = getBackendMessage(response);
+								Exception exception = new Exception(message);
+								rm.setStatus(new Status(IStatus.ERROR, GdbPlugin.PLUGIN_ID, REQUEST_FAILED, status,
+										exception));
+							}
 
-						/*
-						 *  We need to complete the command on the DSF thread for data security.
-						 */
-						final ICommandResult finalResult = result;
-						getExecutor().execute(new DsfRunnable() {
-							@Override
-							public void run() {
-								/*
-								 *  Complete the specific command.
-								 */
-								if (commandHandle.getRequestMonitor() != null) {
-									commandHandle.getRequestMonitor().done();
+							/*
+							 *  We need to complete the command on the DSF thread for data security.
+							 */
+							final ICommandResult finalResult = result;
+							getExecutor().execute(new DsfRunnable() {
+								@Override
+								public void run() {
+									/*
+									 *  Complete the specific command.
+									 */
+									if (commandHandle.getRequestMonitor() != null) {
+										commandHandle.getRequestMonitor().done();
+									}
+
+									/*
+									 *  Now tell the generic listeners about it.
+									 */
+									processCommandDone(commandHandle, finalResult);
 								}
 
-								/*
-								 *  Now tell the generic listeners about it.
-								 */
-								processCommandDone(commandHandle, finalResult);
-							}
-
-							@Override
-							public String toString() {
-								return "MI command output received for: " + commandHandle.getCommand(); //$NON-NLS-1$
-							}
-						});
-					} else {
-						/*
-						 *  While the specific requestor did not care about the completion  we
-						 *  need to call any listeners. This could have been a CLI command for
-						 *  example and  the CommandDone listeners there handle the IO as part
-						 *  of the work.
-						 */
-						final ICommandResult finalResult = result;
-						getExecutor().execute(new DsfRunnable() {
-							@Override
-							public void run() {
-								processCommandDone(commandHandle, finalResult);
-							}
+								@Override
+								public String toString() {
+									return "MI command output received for: " + commandHandle.getCommand(); //$NON-NLS-1$
+								}
+							});
+						} else {
+							/*
+							 *  While the specific requestor did not care about the completion  we
+							 *  need to call any listeners. This could have been a CLI command for
+							 *  example and  the CommandDone listeners there handle the IO as part
+							 *  of the work.
+							 */
+							final ICommandResult finalResult = result;
+							getExecutor().execute(new DsfRunnable() {
+								@Override
+								public void run() {
+									processCommandDone(commandHandle, finalResult);
+								}
 
-							@Override
-							public String toString() {
-								return "MI command output received for: " + commandHandle.getCommand(); //$NON-NLS-1$
-							}
-						});
+								@Override
+								public String toString() {
+									return "MI command output received for: " + commandHandle.getCommand(); //$NON-NLS-1$
+								}
+							});
+						}
 					}
 				} else {
 					/*
@@ -1244,18 +1396,20 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 		resultRecord.setMIResults(new MIResult[] { result });
 		MIOutput miOutput = new MIOutput(resultRecord, new MIOOBRecord[0]);
 
-		final MIInfo info = commandHandle.getCommand().getResult(miOutput);
-		DataRequestMonitor<MIInfo> rm = commandHandle.getRequestMonitor();
+		for (CommandHandle handle : h.getHandles()) {
+			final MIInfo info = handle.getCommand().getResult(miOutput);
+			DataRequestMonitor<MIInfo> rm = handle.getRequestMonitor();
 
-		if (rm != null) {
-			rm.setData(info);
-			rm.setStatus(new Status(IStatus.ERROR, GdbPlugin.PLUGIN_ID, statusCode, errorMessage, null));
-			rm.done();
+			if (rm != null) {
+				rm.setData(info);
+				rm.setStatus(new Status(IStatus.ERROR, GdbPlugin.PLUGIN_ID, statusCode, errorMessage, null));
+				rm.done();
 
-			/*
-			 *  Now tell the generic listeners about it.
-			 */
-			processCommandDone(commandHandle, info);
+				/*
+				 *  Now tell the generic listeners about it.
+				 */
+				processCommandDone(handle, info);
+			}
 		}
 	}
 
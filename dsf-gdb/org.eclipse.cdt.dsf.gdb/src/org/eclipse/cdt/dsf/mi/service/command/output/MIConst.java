@@ -25,12 +25,37 @@ public class MIConst extends MIValue {
 
 	private String cstring = ""; //$NON-NLS-1$
 
+	// The line containing the string while it has not been translated.
+	private volatile String line;
+	private int start;
+
+	public MIConst() {
+	}
+
+	/**
+	 * Creates a constant that is translated from the given line when it is accessed.
+	 * @param start the position following the opening double quote.
+	 */
+	MIConst(String line, int start) {
+		this.line = line;
+		this.start = start;
+	}
+
 	public String getCString() {
+		if (line != null) {
+			synchronized (this) {
+				if (line != null) {
+					cstring = MIParser.translateCString(line, start);
+					line = null;
+				}
+			}
+		}
 		return cstring;
 	}
 
 	public void setCString(String str) {
 		cstring = str;
+		line = null;
 	}
 
 	/**
@@ -38,7 +63,7 @@ public class MIConst extends MIValue {
 	 * @return The translated string.
 	 */
 	public String getString() {
-		return MIStringHandler.translateCString(cstring, true);
+		return MIStringHandler.translateCString(getCString(), true);
 	}
 
 	public static String getString(String str) {
@@ -15,6 +15,9 @@
 
 package org.eclipse.cdt.dsf.mi.service.command.output;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * GDB/MI list semantic.
  */
@@ -26,24 +29,60 @@ public class MIList extends MIValue {
 	MIResult[] results = nullResults;
 	MIValue[] values = nullValues;
 
+	// The line containing the list while its content has not been parsed.
+	private volatile String line;
+	private int start;
+
+	public MIList() {
+	}
+
+	/**
+	 * Creates a list that is parsed from the given line when its content is accessed.
+	 * @param start the position following the opening bracket.
+	 */
+	MIList(String line, int start) {
+		this.line = line;
+		this.start = start;
+	}
+
+	private void materialize() {
+		if (line != null) {
+			synchronized (this) {
+				if (line != null) {
+					List<MIValue> valueList = new ArrayList<>();
+					List<MIResult> resultList = new ArrayList<>();
+					MIParser.parseContent(line, start, ']', valueList, resultList);
+					values = valueList.toArray(new MIValue[valueList.size()]);
+					results = resultList.toArray(new MIResult[resultList.size()]);
+					line = null;
+				}
+			}
+		}
+	}
+
 	public MIResult[] getMIResults() {
+		materialize();
 		return results;
 	}
 
 	public void setMIResults(MIResult[] res) {
+		materialize();
 		results = res;
 	}
 
 	public MIValue[] getMIValues() {
+		materialize();
 		return values;
 	}
 
 	public void setMIValues(MIValue[] vals) {
+		materialize();
 		values = vals;
 	}
 
 	@Override
 	public String toString() {
+		materialize();
 		StringBuilder buffer = new StringBuilder();
 		buffer.append('[');
 		for (int i = 0; i < results.length; i++) {
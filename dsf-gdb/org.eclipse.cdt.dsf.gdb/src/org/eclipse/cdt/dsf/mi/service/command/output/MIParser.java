@@ -126,37 +126,37 @@ public class MIParser {
 	 *
 	 */
 	public MIResultRecord parseMIResultRecord(String line) {
-		StringBuffer buffer = new StringBuffer(line);
+		Input input = new Input(line, 0);
 		// Fetch the Token/Id
-		int id = parseToken(buffer);
+		int id = parseToken(input);
 		// Consume the '^'
-		buffer.deleteCharAt(0);
+		input.pos++;
 
 		MIResultRecord rr = new MIResultRecord();
 		rr.setToken(id);
-		if (buffer.toString().startsWith(MIResultRecord.DONE)) {
+		if (input.startsWith(MIResultRecord.DONE)) {
 			rr.setResultClass(MIResultRecord.DONE);
-			buffer.delete(0, MIResultRecord.DONE.length());
-		} else if (buffer.toString().startsWith(MIResultRecord.ERROR)) {
+			input.pos += MIResultRecord.DONE.length();
+		} else if (input.startsWith(MIResultRecord.ERROR)) {
 			rr.setResultClass(MIResultRecord.ERROR);
-			buffer.delete(0, MIResultRecord.ERROR.length());
-		} else if (buffer.toString().startsWith(MIResultRecord.EXIT)) {
+			input.pos += MIResultRecord.ERROR.length();
+		} else if (input.startsWith(MIResultRecord.EXIT)) {
 			rr.setResultClass(MIResultRecord.EXIT);
-			buffer.delete(0, MIResultRecord.EXIT.length());
-		} else if (buffer.toString().startsWith(MIResultRecord.RUNNING)) {
+			input.pos += MIResultRecord.EXIT.length();
+		} else if (input.startsWith(MIResultRecord.RUNNING)) {
 			rr.setResultClass(MIResultRecord.RUNNING);
-			buffer.delete(0, MIResultRecord.RUNNING.length());
-		} else if (buffer.toString().startsWith(MIResultRecord.CONNECTED)) {
+			input.pos += MIResultRecord.RUNNING.length();
+		} else if (input.startsWith(MIResultRecord.CONNECTED)) {
 			rr.setResultClass(MIResultRecord.CONNECTED);
-			buffer.delete(0, MIResultRecord.CONNECTED.length());
+			input.pos += MIResultRecord.CONNECTED.length();
 		} else {
 			// Error throw an exception?
 		}
 
 		// Results are separated by commas.
-		if (buffer.length() > 0 && buffer.charAt(0) == ',') {
-			buffer.deleteCharAt(0);
-			MIResult[] res = processMIResults(new FSB(buffer));
+		if (input.length() > 0 && input.charAt(0) == ',') {
+			input.pos++;
+			MIResult[] res = processMIResults(input);
 			rr.setMIResults(res);
 		}
 		return rr;
@@ -166,13 +166,13 @@ public class MIParser {
 	 * Find OutOfBand Records depending on the starting token.
 	 */
 	public MIOOBRecord parseMIOOBRecord(String line) {
-		StringBuffer buffer = new StringBuffer(line);
-		int id = parseToken(buffer);
+		Input input = new Input(line, 0);
+		int id = parseToken(input);
 		MIOOBRecord oob = null;
-		char c = buffer.length() != 0 ? buffer.charAt(0) : 0;
+		char c = input.length() != 0 ? input.charAt(0) : 0;
 		if (c == '*' || c == '+' || c == '=') {
 			// Consume the first char
-			buffer.deleteCharAt(0);
+			input.pos++;
 			MIAsyncRecord async = null;
 			switch (c) {
 			case '*':
@@ -192,22 +192,22 @@ public class MIParser {
 			}
 			async.setToken(id);
 			// Extract the Async-Class
-			int i = buffer.toString().indexOf(',');
+			int i = line.indexOf(',', input.pos);
 			if (i != -1) {
-				String asyncClass = buffer.substring(0, i);
+				String asyncClass = line.substring(input.pos, i);
 				async.setAsyncClass(asyncClass);
 				// Consume the async-class and the comma
-				buffer.delete(0, i + 1);
+				input.pos = i + 1;
 			} else {
-				async.setAsyncClass(buffer.toString().trim());
-				buffer.setLength(0);
+				async.setAsyncClass(line.substring(input.pos).trim());
+				input.pos = line.length();
 			}
-			MIResult[] res = processMIResults(new FSB(buffer));
+			MIResult[] res = processMIResults(input);
 			async.setMIResults(res);
 			oob = async;
 		} else if (c == '~' || c == '@' || c == '&') {
 			// Consume the first char
-			buffer.deleteCharAt(0);
+			input.pos++;
 			MIStreamRecord stream = null;
 			switch (c) {
 			case '~':
@@ -225,13 +225,13 @@ public class MIParser {
 				assert false;
 				stream = new MIConsoleStreamOutput();
 			}
-			// translateCString() assumes that the leading " is deleted
-			if (buffer.length() > 0 && buffer.charAt(0) == '"') {
-				buffer.deleteCharAt(0);
+			// translateCString() assumes that the leading " is consumed
+			if (input.length() > 0 && input.charAt(0) == '"') {
+				input.pos++;
 			}
 			// Don't parse any backslashes - backslashes within stream records
 			// aren't escaped.
-			stream.setCString(translateCString(new FSB(buffer), false));
+			stream.setCString(translateCString(input, false));
 			oob = stream;
 		} else {
 			// Badly format MI line, just pass it to the user as target stream
@@ -242,38 +242,57 @@ public class MIParser {
 		return oob;
 	}
 
-	private int parseToken(StringBuffer buffer) {
+	private int parseToken(Input input) {
 		int id = -1;
 		// Fetch the Token/Id
-		if (Character.isDigit(buffer.charAt(0))) {
+		if (input.length() > 0 && Character.isDigit(input.charAt(0))) {
 			int i = 1;
-			while (i < buffer.length() && Character.isDigit(buffer.charAt(i))) {
+			while (i < input.length() && Character.isDigit(input.charAt(i))) {
 				i++;
 			}
-			String numbers = buffer.substring(0, i);
+			String numbers = input.substring(i);
 			try {
 				id = Integer.parseInt(numbers);
 			} catch (NumberFormatException e) {
 			}
 			// Consume the token.
-			buffer.delete(0, i);
+			input.pos += i;
 		}
 		return id;
 	}
 
+	/**
+	 * Parses the values and results of a tuple or a list up to the closing bracket. Used to
+	 * materialize the content of lazily parsed values.
+	 * @param line the line the value was parsed from.
+	 * @param start the position following the opening bracket.
+	 * @param close the closing bracket.
+	 */
+	static void parseContent(String line, int start, char close, List<MIValue> values, List<MIResult> results) {
+		processMIContent(new Input(line, start), close, values, results);
+	}
+
+	/**
+	 * Translates the C string starting at the given position, which follows the opening double
+	 * quote, of the given line. Used to materialize lazily parsed constants.
+	 */
+	static String translateCString(String line, int start) {
+		return translateCString(new Input(line, start), true);
+	}
+
 	/**
 	 * Assuming that the usual leading comma was consumed.
 	 * Extract the MI Result comma seperated responses.
 	 */
-	private MIResult[] processMIResults(FSB buffer) {
+	private static MIResult[] processMIResults(Input input) {
 		List<MIResult> aList = new ArrayList<>();
-		MIResult result = processMIResult(buffer);
+		MIResult result = processMIResult(input);
 		if (result != null) {
 			aList.add(result);
 		}
-		while (buffer.length() > 0 && buffer.charAt(0) == ',') {
-			buffer.deleteCharAt(0);
-			result = processMIResult(buffer);
+		while (input.length() > 0 && input.charAt(0) == ',') {
+			input.pos++;
+			result = processMIResult(input);
 			if (result != null) {
 				aList.add(result);
 			}
@@ -282,153 +301,144 @@ public class MIParser {
 	}
 
 	/**
-	 * Construct the DsfMIResult.  Characters will be consume/delete
+	 * Construct the DsfMIResult.  Characters will be consumed
 	 * moving forward constructing the AST.
 	 */
-	private MIResult processMIResult(FSB buffer) {
-		MIResult result = new MIResult();
+	private static MIResult processMIResult(Input input) {
 		int equal;
-		if (buffer.length() > 0 && Character.isLetter(buffer.charAt(0)) && (equal = buffer.indexOf('=')) != -1) {
+		if (input.length() > 0 && Character.isLetter(input.charAt(0)) && (equal = input.indexOf('=')) != -1) {
 			// Result is a variable and value
-			String variable = buffer.substring(0, equal);
+			String variable = input.skip ? null : input.substring(equal);
+			input.pos += equal + 1;
+			MIValue value = processMIValue(input);
+			if (input.skip)
+				return SKIPPED_RESULT;
+			MIResult result = new MIResult();
 			result.setVariable(variable);
-			buffer.delete(0, equal + 1);
-			MIValue value = processMIValue(buffer);
+			result.setMIValue(value);
+			return result;
+		}
+		MIValue value = processMIValue(input);
+		if (input.skip) {
+			if (value == null)
+				input.pos = input.line.length();
+			return SKIPPED_RESULT;
+		}
+		MIResult result = new MIResult();
+		if (value != null) {
+			// Result is a value only (bug 527419)
 			result.setMIValue(value);
 		} else {
-			MIValue value = processMIValue(buffer);
-			if (value != null) {
-				// Result is a value only (bug 527419)
-				result.setMIValue(value);
-			} else {
-				result.setVariable(buffer.toString());
-				result.setMIValue(new MIConst()); // Empty string:???
-				buffer.setLength(0);
-			}
+			result.setVariable(input.line.substring(input.pos));
+			result.setMIValue(new MIConst()); // Empty string:???
+			input.pos = input.line.length();
 		}
 		return result;
 	}
 
 	/**
-	 * Find a DsfMIValue implementation or return null.
+	 * Find a DsfMIValue implementation or return null. Tuples, lists and constants are
+	 * materialized lazily, only their position in the line is recorded.
 	 */
-	private MIValue processMIValue(FSB buffer) {
-		MIValue value = null;
-		if (buffer.length() > 0) {
-			if (buffer.charAt(0) == '{') {
-				buffer.deleteCharAt(0);
-				value = processMITuple(buffer);
-			} else if (buffer.charAt(0) == '[') {
-				buffer.deleteCharAt(0);
-				value = processMIList(buffer);
-			} else if (buffer.charAt(0) == '"') {
-				buffer.deleteCharAt(0);
-				MIConst cnst = new MIConst();
+	private static MIValue processMIValue(Input input) {
+		if (input.length() > 0) {
+			final char c = input.charAt(0);
+			if (c == '{' || c == '[') {
+				input.pos++;
+				final char close = c == '{' ? '}' : ']';
+				if (input.skip) {
+					processMIContent(input, close, null, null);
+					return SKIPPED_VALUE;
+				}
+				final int start = input.pos;
+				input.skip = true;
+				processMIContent(input, close, null, null);
+				input.skip = false;
+				return c == '{' ? new MITuple(input.line, start) : new MIList(input.line, start);
+			} else if (c == '"') {
+				input.pos++;
+				final int start = input.pos;
 				// Parse backslashes - backslashes within result
 				// and out of band records are escaped.
-				cnst.setCString(translateCString(buffer, true));
-				value = cnst;
-			}
-		}
-		return value;
-	}
-
-	/**
-	 * Assuming the starting '{' was deleted form the StringBuffer,
-	 * go to the closing '}' consuming/deleting all the characters.
-	 * This is usually call by processMIvalue();
-	 */
-	private MIValue processMITuple(FSB buffer) {
-		MITuple tuple = new MITuple();
-		List<MIValue> valueList = new ArrayList<>();
-		List<MIResult> resultList = new ArrayList<>();
-		// Catch closing '}'
-		while (buffer.length() > 0 && buffer.charAt(0) != '}') {
-			// Try for the DsfMIValue first
-			MIValue value = processMIValue(buffer);
-			if (value != null) {
-				valueList.add(value);
-			} else {
-				MIResult result = processMIResult(buffer);
-				if (result != null) {
-					resultList.add(result);
+				if (input.skip) {
+					translateCString(input, true);
+					return SKIPPED_VALUE;
 				}
-			}
-			if (buffer.length() > 0 && buffer.charAt(0) == ',') {
-				buffer.deleteCharAt(0);
+				input.skip = true;
+				translateCString(input, true);
+				input.skip = false;
+				return new MIConst(input.line, start);
 			}
 		}
-		if (buffer.length() > 0 && buffer.charAt(0) == '}') {
-			buffer.deleteCharAt(0);
-		}
-		MIValue[] values = valueList.toArray(new MIValue[valueList.size()]);
-		MIResult[] res = resultList.toArray(new MIResult[resultList.size()]);
-		tuple.setMIValues(values);
-		tuple.setMIResults(res);
-		return tuple;
+		return null;
 	}
 
 	/**
-	 * Assuming the leading '[' was deleted, find the closing
-	 * ']' consuming/delete chars from the StringBuffer.
+	 * Assuming the opening bracket was consumed, go to the closing
+	 * bracket consuming all the characters.
+	 * This is usually called by processMIValue();
 	 */
-	private MIValue processMIList(FSB buffer) {
-		MIList list = new MIList();
-		List<MIValue> valueList = new ArrayList<>();
-		List<MIResult> resultList = new ArrayList<>();
-		// catch closing ']'
-		while (buffer.length() > 0 && buffer.charAt(0) != ']') {
+	private static void processMIContent(Input input, char close, List<MIValue> values, List<MIResult> results) {
+		// Catch closing bracket
+		while (input.length() > 0 && input.charAt(0) != close) {
 			// Try for the DsfMIValue first
-			MIValue value = processMIValue(buffer);
+			MIValue value = processMIValue(input);
 			if (value != null) {
-				valueList.add(value);
+				if (!input.skip) {
+					values.add(value);
+				}
 			} else {
-				MIResult result = processMIResult(buffer);
-				if (result != null) {
-					resultList.add(result);
+				MIResult result = processMIResult(input);
+				if (result != null && !input.skip) {
+					results.add(result);
 				}
 			}
-			if (buffer.length() > 0 && buffer.charAt(0) == ',') {
-				buffer.deleteCharAt(0);
+			if (input.length() > 0 && input.charAt(0) == ',') {
+				input.pos++;
 			}
 		}
-		if (buffer.length() > 0 && buffer.charAt(0) == ']') {
-			buffer.deleteCharAt(0);
+		if (input.length() > 0 && input.charAt(0) == close) {
+			input.pos++;
 		}
-		MIValue[] values = valueList.toArray(new MIValue[valueList.size()]);
-		MIResult[] res = resultList.toArray(new MIResult[resultList.size()]);
-		list.setMIValues(values);
-		list.setMIResults(res);
-		return list;
 	}
 
 	/**
 	 * MI C-String rather MIConst values are enclosed in double quotes
 	 * and any double quotes or backslashes in the string are escaped.
-	 * Assuming the starting double quote was removed. This method will
+	 * Assuming the starting double quote was consumed. This method will
 	 * stop at the closing double quote, remove the extra backslash escaping
 	 * and return the string __without__ the enclosing double quotes. The
-	 * original string buffer will move forward.
-	 * @param buffer The string buffer to read from.
+	 * input will move forward.
+	 * @param input The input to read from.
 	 * @param parseBackslashes Defines whether backslashes should be parsed.
 	 * This parameter is necessary to differentiate between records which
 	 * contain escaped backslashes and records which do not.
-	 * @return The translated C string.
+	 * @return The translated C string, or {@code null} when the input is skipped.
 	 */
-	private String translateCString(FSB buffer, boolean parseBackslashes) {
+	private static String translateCString(Input input, boolean parseBackslashes) {
+		final String line = input.line;
+		final int end = line.length();
+		final int start = input.pos;
 		boolean escape = false;
 		boolean closingQuotes = false;
 
-		StringBuffer sb = new StringBuffer();
+		// Only strings with escape sequences are copied character by character.
+		StringBuilder sb = null;
 
-		int index = 0;
-		for (; index < buffer.length() && !closingQuotes; index++) {
-			char c = buffer.charAt(index);
+		int index = start;
+		for (; index < end && !closingQuotes; index++) {
+			char c = line.charAt(index);
 			if (c == '\\') {
+				if (sb == null && !input.skip) {
+					sb = new StringBuilder(line.length() - start);
+					sb.append(line, start, index);
+				}
 				if (escape) {
-					sb.append(c);
-					if (!parseBackslashes) {
+					if (sb != null) {
 						sb.append(c);
+						if (!parseBackslashes) {
+							sb.append(c);
+						}
 					}
 					escape = false;
 				} else {
@@ -436,22 +446,29 @@ public class MIParser {
 				}
 			} else if (c == '"') {
 				if (escape) {
-					sb.append(c);
+					if (sb != null)
+						sb.append(c);
 					escape = false;
 				} else {
 					// Bail out.
 					closingQuotes = true;
 				}
 			} else {
-				if (escape) {
-					sb.append('\\');
+				if (sb != null) {
+					if (escape) {
+						sb.append('\\');
+					}
+					sb.append(c);
 				}
-				sb.append(c);
 				escape = false;
 			}
 		}
-		buffer.delete(0, index);
-		return sb.toString();
+		input.pos = index;
+		if (input.skip)
+			return null;
+		if (sb != null)
+			return sb.toString();
+		return line.substring(start, closingQuotes ? index - 1 : index);
 	}
 
 	/**
@@ -478,13 +495,15 @@ public class MIParser {
 	}
 
 	/**
-	 * Fast String Buffer class. MIParser does a lot
+	 * Fast String Buffer class. MIParser did a lot
 	 * of deleting off the front of a string, that's clearly
 	 * an order N operation for StringBuffer which makes
 	 * the MIParser an order N^2 operation. There are "issues"
 	 * with this for large arrays. Use of FSB rather than String
 	 * Buffer makes MIParser N rather than N^2 because FSB can
 	 * delete from the front in constant time.
+	 * <p>
+	 * The parser no longer uses this class, it moves a position in the line being parsed instead.
 	 */
 	public class FSB {
 		StringBuffer buf;
@@ -584,4 +603,50 @@ public class MIParser {
 			return true;
 		}
 	}
+
+	/**
+	 * The line being parsed together with the current position in it. The parser moves the
+	 * position forward instead of deleting characters, such that no copies of the line are made.
+	 * In skip mode the parser only moves the position past a value without creating any objects,
+	 * this is used to find the end of a value that is materialized lazily.
+	 */
+	private static final class Input {
+		final String line;
+		int pos;
+		boolean skip;
+
+		Input(String line, int pos) {
+			this.line = line;
+			this.pos = pos;
+		}
+
+		int length() {
+			int res = line.length() - pos;
+			if (res < 0)
+				return 0;
+
+			return res;
+		}
+
+		char charAt(int index) {
+			return line.charAt(index + pos);
+		}
+
+		String substring(int end) {
+			return line.substring(pos, end + pos);
+		}
+
+		int indexOf(char c) {
+			int i = line.indexOf(c, pos);
+			return i == -1 ? -1 : i - pos;
+		}
+
+		boolean startsWith(String s) {
+			return line.startsWith(s, pos);
+		}
+	}
+
+	/** Returned while skipping values, never added to the output. */
+	private static final MIValue SKIPPED_VALUE = new MIConst();
+	private static final MIResult SKIPPED_RESULT = new MIResult();
 }
@@ -16,7 +16,9 @@
 
 package org.eclipse.cdt.dsf.mi.service.command.output;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -31,16 +33,50 @@ public class MITuple extends MIValue {
 	private MIValue[] values = NULL_VALUES;
 	private Map<String, MIValue> name2value;
 
+	// The line containing the tuple while its content has not been parsed.
+	private volatile String line;
+	private int start;
+
+	public MITuple() {
+	}
+
+	/**
+	 * Creates a tuple that is parsed from the given line when its content is accessed.
+	 * @param start the position following the opening brace.
+	 */
+	MITuple(String line, int start) {
+		this.line = line;
+		this.start = start;
+	}
+
+	private void materialize() {
+		if (line != null) {
+			synchronized (this) {
+				if (line != null) {
+					List<MIValue> valueList = new ArrayList<>();
+					List<MIResult> resultList = new ArrayList<>();
+					MIParser.parseContent(line, start, '}', valueList, resultList);
+					values = valueList.toArray(new MIValue[valueList.size()]);
+					results = resultList.toArray(new MIResult[resultList.size()]);
+					line = null;
+				}
+			}
+		}
+	}
+
 	public MIResult[] getMIResults() {
+		materialize();
 		return results;
 	}
 
 	public void setMIResults(MIResult[] res) {
+		materialize();
 		results = res;
 		name2value = null;
 	}
 
 	public MIValue[] getMIValues() {
+		materialize();
 		return values;
 	}
 
@@ -50,6 +86,7 @@ public class MITuple extends MIValue {
 	 */
 	public MIValue getField(String name) {
 		if (name2value == null) {
+			materialize();
 			name2value = new HashMap<>();
 			for (MIResult r : results) {
 				name2value.put(r.getVariable(), r.getMIValue());
@@ -59,6 +96,7 @@ public class MITuple extends MIValue {
 	}
 
 	public void setMIValues(MIValue[] vals) {
+		materialize();
 		values = vals;
 	}
 
@@ -71,6 +109,7 @@ public class MITuple extends MIValue {
 	// Intentionally package private, should only be used by ourselves and
 	// MIResultRecord.
 	String toString(String start, String end) {
+		materialize();
 		StringBuilder buffer = new StringBuilder();
 		buffer.append(start);
 		for (int i = 0; i < results.length; i++) {
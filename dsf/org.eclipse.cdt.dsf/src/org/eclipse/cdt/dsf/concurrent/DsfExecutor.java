@@ -33,4 +33,14 @@ public interface DsfExecutor extends ScheduledExecutorService {
 	 * @return true if in DSF executor's dispatch thread
 	 */
 	public boolean isInExecutorThread();
+
+	/**
+	 * Returns the statistics of the runnables and callables that this executor
+	 * executed so far, if the executor collects them.
+	 * @return the statistics, or null if this executor does not collect any
+	 * @since 2.13
+	 */
+	public default DsfExecutorStatistics getStatistics() {
+		return null;
+	}
 }
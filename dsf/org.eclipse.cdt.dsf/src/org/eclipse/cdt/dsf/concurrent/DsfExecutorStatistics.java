@@ -0,0 +1,154 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.dsf.concurrent;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Statistics of the runnables and callables executed by a DSF executor, as
+ * returned by {@link DsfExecutor#getStatistics()}. The executables are grouped
+ * by their class, which for the anonymous classes and lambdas used with DSF
+ * identifies the code that submitted them.
+ * <p>
+ * The statistics are a snapshot taken while the executor is running, so the
+ * numbers of different executables may be off by the executions that were in
+ * progress at the time.
+ *
+ * @since 2.13
+ */
+@Immutable
+public class DsfExecutorStatistics {
+	/**
+	 * Statistics of the executables of one class.
+	 */
+	@Immutable
+	public static class Entry {
+		private final String fName;
+		private final long fCount;
+		private final long fRunTime;
+		private final long fMaxRunTime;
+		private final long fWaitTime;
+		private final long fMaxWaitTime;
+
+		public Entry(String name, long count, long runTime, long maxRunTime, long waitTime, long maxWaitTime) {
+			fName = name;
+			fCount = count;
+			fRunTime = runTime;
+			fMaxRunTime = maxRunTime;
+			fWaitTime = waitTime;
+			fMaxWaitTime = maxWaitTime;
+		}
+
+		/** Returns the name of the class of the executables. */
+		public String getName() {
+			return fName;
+		}
+
+		/** Returns the number of executions. */
+		public long getCount() {
+			return fCount;
+		}
+
+		/** Returns the time in nanoseconds that the executables ran in total. */
+		public long getRunTime() {
+			return fRunTime;
+		}
+
+		/** Returns the longest time in nanoseconds that one of the executables ran. */
+		public long getMaxRunTime() {
+			return fMaxRunTime;
+		}
+
+		/**
+		 * Returns the time in nanoseconds that the executables waited in the
+		 * queue of the executor in total, from the time they were due until
+		 * they started running.
+		 */
+		public long getWaitTime() {
+			return fWaitTime;
+		}
+
+		/** Returns the longest time in nanoseconds that one of the executables waited. */
+		public long getMaxWaitTime() {
+			return fMaxWaitTime;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("%-60s %10d %10d %10d %10d %10d", fName, fCount, micros(fRunTime), //$NON-NLS-1$
+					micros(fMaxRunTime), micros(fWaitTime), micros(fMaxWaitTime));
+		}
+	}
+
+	private final long fExecutedCount;
+	private final int fQueueDepth;
+	private final int fMaxQueueDepth;
+	private final List<Entry> fEntries;
+
+	/**
+	 * @param executedCount number of executables executed so far
+	 * @param queueDepth number of executables waiting to be executed
+	 * @param maxQueueDepth largest number of executables that were waiting
+	 * @param entries statistics of the executables, one entry per class
+	 */
+	public DsfExecutorStatistics(long executedCount, int queueDepth, int maxQueueDepth, List<Entry> entries) {
+		fExecutedCount = executedCount;
+		fQueueDepth = queueDepth;
+		fMaxQueueDepth = maxQueueDepth;
+		List<Entry> sorted = new ArrayList<>(entries);
+		sorted.sort((e1, e2) -> Long.compare(e2.getRunTime(), e1.getRunTime()));
+		fEntries = Collections.unmodifiableList(sorted);
+	}
+
+	/** Returns the number of executables executed so far. */
+	public long getExecutedCount() {
+		return fExecutedCount;
+	}
+
+	/** Returns the number of executables that are waiting to be executed. */
+	public int getQueueDepth() {
+		return fQueueDepth;
+	}
+
+	/** Returns the largest number of executables that were waiting to be executed at once. */
+	public int getMaxQueueDepth() {
+		return fMaxQueueDepth;
+	}
+
+	/**
+	 * Returns the statistics of the executables by class, the classes that
+	 * took the most time of the executor thread first.
+	 */
+	public List<Entry> getEntries() {
+		return fEntries;
+	}
+
+	private static long micros(long nanos) {
+		return TimeUnit.NANOSECONDS.toMicros(nanos);
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		builder.append("Executed: ").append(fExecutedCount); //$NON-NLS-1$
+		builder.append(", queue depth: ").append(fQueueDepth); //$NON-NLS-1$
+		builder.append(", max queue depth: ").append(fMaxQueueDepth).append('\n'); //$NON-NLS-1$
+		builder.append(String.format("%-60s %10s %10s %10s %10s %10s", //$NON-NLS-1$
+				"Executable", "Count", "Run (us)", "Max run", "Wait (us)", "Max wait")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$
+		for (Entry entry : fEntries) {
+			builder.append('\n').append(entry);
+		}
+		return builder.toString();
+	}
+}
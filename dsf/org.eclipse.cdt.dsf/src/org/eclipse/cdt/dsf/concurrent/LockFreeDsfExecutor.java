@@ -0,0 +1,583 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.dsf.concurrent;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RunnableFuture;
+import java.util.concurrent.RunnableScheduledFuture;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * DSF executor that queues the submitted runnables and callables in a
+ * lock-free queue, so that the threads submitting to it do not contend on a
+ * lock with each other or with the executor's dispatch thread. The queue has
+ * many producers and a single consumer, the dispatch thread, which executes
+ * the queued executables in the order they were submitted.
+ * <p>
+ * Delayed and periodic executables are kept by the dispatch thread until they
+ * are due. As with {@link DefaultDsfExecutor}, delayed executables still run
+ * after the executor is shut down, periodic ones are cancelled.
+ * <p>
+ * The executor can collect {@link #getStatistics() statistics} of the time
+ * the executables wait in the queue and run in the dispatch thread. The
+ * statistics are collected if requested in the constructor or if the system
+ * property {@code org.eclipse.cdt.dsf.executorStatistics} is true.
+ * <p>
+ * Unlike {@link DefaultDsfExecutor}, this executor does not support the
+ * tracing of the executables with the {@code org.eclipse.cdt.dsf/debug/executor}
+ * debug option.
+ *
+ * @since 2.13
+ */
+@ThreadSafe
+public class LockFreeDsfExecutor extends AbstractExecutorService implements DsfExecutor {
+	/**
+	 * Instance counter for DSF executors.  Used in the executor's thread name.
+	 */
+	private static final AtomicInteger fgInstanceCounter = new AtomicInteger();
+
+	private static final boolean COLLECT_STATISTICS = Boolean
+			.getBoolean("org.eclipse.cdt.dsf.executorStatistics"); //$NON-NLS-1$
+
+	// Indexes of the counters of the dispatch thread in fCounters.
+	private static final int TAKEN = 0;
+	private static final int EXECUTED = 1;
+	private static final int MAX_QUEUE_DEPTH = 2;
+
+	/** Node of the queue of submitted executables. */
+	private static final class Node {
+		static final AtomicReferenceFieldUpdater<Node, Runnable> TASK = AtomicReferenceFieldUpdater
+				.newUpdater(Node.class, Runnable.class, "fTask"); //$NON-NLS-1$
+
+		volatile Runnable fTask;
+		volatile Node fNext;
+		/** Time the executable was submitted, if statistics are collected. */
+		long fSubmitTime;
+
+		Node(Runnable task) {
+			fTask = task;
+		}
+	}
+
+	/** Statistics of the executables of one class, written by the dispatch thread only. */
+	private static final class Profile {
+		static final int COUNT = 0;
+		static final int RUN_TIME = 1;
+		static final int MAX_RUN_TIME = 2;
+		static final int WAIT_TIME = 3;
+		static final int MAX_WAIT_TIME = 4;
+
+		final String fName;
+		final AtomicLongArray fValues = new AtomicLongArray(5);
+
+		Profile(Class<?> executableClass) {
+			String name = executableClass.getName();
+			// Strip the address of the hidden class of a lambda
+			int slash = name.indexOf('/');
+			fName = slash < 0 ? name : name.substring(0, slash);
+		}
+
+		void add(long waitTime, long runTime) {
+			fValues.lazySet(COUNT, fValues.get(COUNT) + 1);
+			fValues.lazySet(RUN_TIME, fValues.get(RUN_TIME) + runTime);
+			fValues.lazySet(WAIT_TIME, fValues.get(WAIT_TIME) + waitTime);
+			if (runTime > fValues.get(MAX_RUN_TIME)) {
+				fValues.lazySet(MAX_RUN_TIME, runTime);
+			}
+			if (waitTime > fValues.get(MAX_WAIT_TIME)) {
+				fValues.lazySet(MAX_WAIT_TIME, waitTime);
+			}
+		}
+
+		DsfExecutorStatistics.Entry toEntry() {
+			return new DsfExecutorStatistics.Entry(fName, fValues.get(COUNT), fValues.get(RUN_TIME),
+					fValues.get(MAX_RUN_TIME), fValues.get(WAIT_TIME), fValues.get(MAX_WAIT_TIME));
+		}
+	}
+
+	/**
+	 * Future of the executables submitted with {@code submit()} and
+	 * {@code schedule()}.
+	 */
+	private class Task<V> extends FutureTask<V> implements RunnableScheduledFuture<V> {
+		/** The runnable or callable, for the statistics. */
+		final Object fExecutable;
+		final boolean fScheduled;
+		/** Period of a periodic task in nanoseconds, negative for a fixed delay. */
+		final long fPeriod;
+		final long fSequenceNumber;
+		/** Time the task is due, if scheduled. */
+		long fTime;
+
+		Task(Callable<V> callable) {
+			super(callable);
+			fExecutable = callable;
+			fScheduled = false;
+			fPeriod = 0;
+			fSequenceNumber = 0;
+		}
+
+		Task(Runnable runnable, V result) {
+			super(runnable, result);
+			fExecutable = runnable;
+			fScheduled = false;
+			fPeriod = 0;
+			fSequenceNumber = 0;
+		}
+
+		Task(Callable<V> callable, long time) {
+			super(callable);
+			fExecutable = callable;
+			fScheduled = true;
+			fPeriod = 0;
+			fSequenceNumber = fSequencer.getAndIncrement();
+			fTime = time;
+		}
+
+		Task(Runnable runnable, V result, long time, long period) {
+			super(runnable, result);
+			fExecutable = runnable;
+			fScheduled = true;
+			fPeriod = period;
+			fSequenceNumber = fSequencer.getAndIncrement();
+			fTime = time;
+		}
+
+		@Override
+		public boolean isPeriodic() {
+			return fPeriod != 0;
+		}
+
+		@Override
+		public long getDelay(TimeUnit unit) {
+			return fScheduled ? unit.convert(fTime - System.nanoTime(), TimeUnit.NANOSECONDS) : 0;
+		}
+
+		@Override
+		public int compareTo(Delayed other) {
+			if (other == this)
+				return 0;
+			if (other instanceof Task) {
+				Task<?> task = (Task<?>) other;
+				long diff = fTime - task.fTime;
+				if (diff != 0)
+					return diff < 0 ? -1 : 1;
+				return fSequenceNumber < task.fSequenceNumber ? -1 : 1;
+			}
+			return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+		}
+
+		@Override
+		public void run() {
+			if (fPeriod == 0) {
+				super.run();
+			} else if (runAndReset()) {
+				fTime = fPeriod > 0 ? fTime + fPeriod : System.nanoTime() - fPeriod;
+				if (fShutdown) {
+					cancel(false);
+				} else {
+					fDelayedTasks.add(this);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Name of the executor, used in the executor's thread name.
+	 */
+	private final String fName;
+
+	private final Thread fThread;
+
+	/** Last node of the queue, appended to by the submitting threads. */
+	private final AtomicReference<Node> fTail;
+
+	/** Node before the first queued executable. Accessed by the dispatch thread only. */
+	private Node fHead;
+
+	/** Scheduled tasks waiting to be due. Accessed by the dispatch thread only. */
+	private final PriorityQueue<Task<?>> fDelayedTasks = new PriorityQueue<>();
+
+	private final AtomicInteger fSequencer = new AtomicInteger();
+
+	/** Whether the dispatch thread is about to park or parked, waiting for executables. */
+	private volatile boolean fWaiting;
+
+	private volatile boolean fShutdown;
+	private volatile boolean fStopped;
+
+	/** Set by the dispatch thread when it takes no more executables from the queue. */
+	private volatile boolean fTerminated;
+
+	private final CountDownLatch fTerminationLatch = new CountDownLatch(1);
+
+	/** Executables that did not run when the executor was stopped with {@link #shutdownNow()}. */
+	private List<Runnable> fNotExecuted = Collections.emptyList();
+
+	private final boolean fCollectStatistics;
+	private final Map<Class<?>, Profile> fProfiles;
+	private final LongAdder fSubmitted;
+	private final AtomicLongArray fCounters;
+
+	public LockFreeDsfExecutor() {
+		this("DSF Executor"); //$NON-NLS-1$
+	}
+
+	/**
+	 * Creates a new DSF Executor with the given name, which collects statistics
+	 * if the {@code org.eclipse.cdt.dsf.executorStatistics} system property is
+	 * true.
+	 * @param name Name used to create executor's thread.
+	 */
+	public LockFreeDsfExecutor(String name) {
+		this(name, COLLECT_STATISTICS);
+	}
+
+	/**
+	 * Creates a new DSF Executor with the given name.
+	 * @param name Name used to create executor's thread.
+	 * @param collectStatistics whether to collect the statistics of the executables
+	 */
+	public LockFreeDsfExecutor(String name, boolean collectStatistics) {
+		fName = name;
+		fHead = new Node(null);
+		fTail = new AtomicReference<>(fHead);
+		fCollectStatistics = collectStatistics;
+		fProfiles = collectStatistics ? new ConcurrentHashMap<>() : null;
+		fSubmitted = collectStatistics ? new LongAdder() : null;
+		fCounters = collectStatistics ? new AtomicLongArray(3) : null;
+		fThread = new DefaultDsfExecutor.DsfThreadFactory(name + " - " + fgInstanceCounter.getAndIncrement()) //$NON-NLS-1$
+				.newThread(this::dispatch);
+		fThread.start();
+	}
+
+	protected String getName() {
+		return fName;
+	}
+
+	@Override
+	public boolean isInExecutorThread() {
+		return Thread.currentThread() == fThread;
+	}
+
+	@Override
+	public void execute(Runnable command) {
+		if (command == null)
+			throw new NullPointerException();
+		enqueue(command);
+	}
+
+	@Override
+	protected <T> RunnableFuture<T> newTaskFor(Runnable runnable, T value) {
+		return new Task<>(runnable, value);
+	}
+
+	@Override
+	protected <T> RunnableFuture<T> newTaskFor(Callable<T> callable) {
+		return new Task<>(callable);
+	}
+
+	@Override
+	public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+		if (command == null || unit == null)
+			throw new NullPointerException();
+		Task<?> task = new Task<>(command, null, dueTime(delay, unit), 0);
+		enqueue(task);
+		return task;
+	}
+
+	@Override
+	public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
+		if (callable == null || unit == null)
+			throw new NullPointerException();
+		Task<V> task = new Task<>(callable, dueTime(delay, unit));
+		enqueue(task);
+		return task;
+	}
+
+	@Override
+	public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period, TimeUnit unit) {
+		if (command == null || unit == null)
+			throw new NullPointerException();
+		if (period <= 0)
+			throw new IllegalArgumentException();
+		Task<?> task = new Task<>(command, null, dueTime(initialDelay, unit), unit.toNanos(period));
+		enqueue(task);
+		return task;
+	}
+
+	@Override
+	public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay, TimeUnit unit) {
+		if (command == null || unit == null)
+			throw new NullPointerException();
+		if (delay <= 0)
+			throw new IllegalArgumentException();
+		Task<?> task = new Task<>(command, null, dueTime(initialDelay, unit), -unit.toNanos(delay));
+		enqueue(task);
+		return task;
+	}
+
+	private static long dueTime(long delay, TimeUnit unit) {
+		// Keep the due times comparable by their difference
+		return System.nanoTime() + Math.min(unit.toNanos(Math.max(delay, 0)), Long.MAX_VALUE >> 1);
+	}
+
+	private void enqueue(Runnable task) {
+		if (fShutdown)
+			reject(task);
+		Node node = new Node(task);
+		if (fCollectStatistics) {
+			node.fSubmitTime = System.nanoTime();
+			fSubmitted.increment();
+		}
+		Node previous = fTail.getAndSet(node);
+		previous.fNext = node;
+		// If the executor terminated in the meantime, the task will not run unless the
+		// dispatch thread took it already.
+		if (fTerminated && Node.TASK.compareAndSet(node, task, null))
+			reject(task);
+		if (fWaiting)
+			LockSupport.unpark(fThread);
+	}
+
+	private void reject(Runnable task) {
+		if (task instanceof Future) {
+			((Future<?>) task).cancel(false);
+		}
+		throw new RejectedExecutionException("Executor " + fName + " is shut down"); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	/** Main loop of the dispatch thread. */
+	private void dispatch() {
+		boolean shutdown = false;
+		while (!fStopped) {
+			long delay = -1;
+			if (!fDelayedTasks.isEmpty()) {
+				Task<?> task = fDelayedTasks.peek();
+				long now = System.nanoTime();
+				delay = task.fTime - now;
+				if (delay <= 0) {
+					fDelayedTasks.poll();
+					run(task, task.fTime, now);
+					continue;
+				}
+			}
+
+			Node next = fHead.fNext;
+			if (next != null) {
+				fHead = next;
+				Runnable task = next.fTask;
+				Node.TASK.lazySet(next, null);
+				take(task, next.fSubmitTime);
+				continue;
+			}
+			if (fTail.get() != fHead) {
+				// A submitting thread is linking its node into the queue
+				Thread.onSpinWait();
+				continue;
+			}
+
+			if (fShutdown) {
+				if (!shutdown) {
+					shutdown = true;
+					fDelayedTasks.removeIf(task -> task.isCancelled() || task.isPeriodic() && task.cancel(false));
+					continue;
+				}
+				if (fDelayedTasks.isEmpty())
+					break;
+			}
+
+			// Check the queue again after announcing the wait, the submitting
+			// threads check for it after they queued their executable.
+			fWaiting = true;
+			if (fTail.get() == fHead) {
+				Thread.interrupted();
+				if (delay < 0) {
+					LockSupport.park(this);
+				} else {
+					LockSupport.parkNanos(this, delay);
+				}
+			}
+			fWaiting = false;
+		}
+		terminate();
+	}
+
+	/** Runs or schedules an executable taken from the queue. */
+	private void take(Runnable task, long submitTime) {
+		if (fCollectStatistics) {
+			long taken = fCounters.get(TAKEN) + 1;
+			fCounters.lazySet(TAKEN, taken);
+			long depth = fSubmitted.sum() - taken + 1;
+			if (depth > fCounters.get(MAX_QUEUE_DEPTH)) {
+				fCounters.lazySet(MAX_QUEUE_DEPTH, depth);
+			}
+		}
+		if (task instanceof Task && ((Task<?>) task).fScheduled) {
+			Task<?> scheduled = (Task<?>) task;
+			if (fShutdown && scheduled.isPeriodic()) {
+				scheduled.cancel(false);
+			} else if (!scheduled.isCancelled()) {
+				fDelayedTasks.add(scheduled);
+			}
+		} else {
+			run(task, submitTime, fCollectStatistics ? System.nanoTime() : 0);
+		}
+	}
+
+	/**
+	 * Runs the given executable.
+	 * @param readyTime time the executable was ready to run
+	 * @param now current time, if statistics are collected
+	 */
+	private void run(Runnable task, long readyTime, long now) {
+		try {
+			task.run();
+		} catch (RuntimeException | Error e) {
+			// Because there is no one else to catch it, it is a programming error.
+			DefaultDsfExecutor.logException(e);
+		}
+		if (fCollectStatistics) {
+			long end = System.nanoTime();
+			Object executable = task instanceof Task ? ((Task<?>) task).fExecutable : task;
+			Profile profile = fProfiles.get(executable.getClass());
+			if (profile == null) {
+				profile = new Profile(executable.getClass());
+				fProfiles.put(executable.getClass(), profile);
+			}
+			profile.add(Math.max(now - readyTime, 0), end - now);
+			fCounters.lazySet(EXECUTED, fCounters.get(EXECUTED) + 1);
+		}
+	}
+
+	private void terminate() {
+		fTerminated = true;
+		// Executables submitted while the executor terminated run, unless their
+		// submitters took them back or the executor was stopped.
+		List<Runnable> notExecuted = new ArrayList<>();
+		while (true) {
+			Node next = fHead.fNext;
+			if (next == null) {
+				if (fTail.get() == fHead)
+					break;
+				Thread.onSpinWait();
+				continue;
+			}
+			fHead = next;
+			Runnable task = Node.TASK.getAndSet(next, null);
+			if (task == null)
+				continue;
+			if (fStopped) {
+				notExecuted.add(task);
+			} else if (task instanceof Task && ((Task<?>) task).fScheduled) {
+				((Task<?>) task).cancel(false);
+			} else {
+				run(task, next.fSubmitTime, fCollectStatistics ? System.nanoTime() : 0);
+			}
+		}
+		notExecuted.addAll(fDelayedTasks);
+		fDelayedTasks.clear();
+		fNotExecuted = notExecuted;
+		fTerminationLatch.countDown();
+	}
+
+	@Override
+	public void shutdown() {
+		fShutdown = true;
+		LockSupport.unpark(fThread);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * If called outside of the executor's thread, this method waits for the
+	 * executable that is running in the executor's thread to return.
+	 */
+	@Override
+	public List<Runnable> shutdownNow() {
+		fShutdown = true;
+		fStopped = true;
+		if (isInExecutorThread()) {
+			// Called by the running executable, take the queued ones here.
+			List<Runnable> notExecuted = new ArrayList<>();
+			for (Node next = fHead.fNext; next != null; next = next.fNext) {
+				fHead = next;
+				notExecuted.add(next.fTask);
+				Node.TASK.lazySet(next, null);
+			}
+			notExecuted.addAll(fDelayedTasks);
+			fDelayedTasks.clear();
+			return notExecuted;
+		}
+		fThread.interrupt();
+		LockSupport.unpark(fThread);
+		boolean interrupted = false;
+		while (true) {
+			try {
+				fTerminationLatch.await();
+				break;
+			} catch (InterruptedException e) {
+				interrupted = true;
+			}
+		}
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+		return fNotExecuted;
+	}
+
+	@Override
+	public boolean isShutdown() {
+		return fShutdown;
+	}
+
+	@Override
+	public boolean isTerminated() {
+		return fTerminationLatch.getCount() == 0;
+	}
+
+	@Override
+	public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+		return fTerminationLatch.await(timeout, unit);
+	}
+
+	@Override
+	public DsfExecutorStatistics getStatistics() {
+		if (!fCollectStatistics)
+			return null;
+		List<DsfExecutorStatistics.Entry> entries = new ArrayList<>(fProfiles.size());
+		for (Profile profile : fProfiles.values()) {
+			entries.add(profile.toEntry());
+		}
+		long queueDepth = Math.max(fSubmitted.sum() - fCounters.get(TAKEN), 0);
+		return new DsfExecutorStatistics(fCounters.get(EXECUTED), (int) Math.min(queueDepth, Integer.MAX_VALUE),
+				(int) Math.min(fCounters.get(MAX_QUEUE_DEPTH), Integer.MAX_VALUE), entries);
+	}
+}
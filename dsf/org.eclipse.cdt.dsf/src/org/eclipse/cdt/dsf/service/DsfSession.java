@@ -13,6 +13,9 @@
  *******************************************************************************/
 package org.eclipse.cdt.dsf.service;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
@@ -22,11 +25,10 @@ import java.util.Dictionary;
 import java.util.Formatter;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.SortedMap;
-import java.util.TreeMap;
 
 import org.eclipse.cdt.dsf.concurrent.ConfinedToDsfExecutor;
 import org.eclipse.cdt.dsf.concurrent.DsfExecutor;
@@ -274,6 +276,82 @@ public class DsfSession {
 		}
 	}
 
+	/**
+	 * An event handler method of a listener class, with a method handle that calls it with the
+	 * listener and the event.
+	 */
+	private static class EventHandler {
+		private static final MethodType HANDLER_TYPE = MethodType.methodType(void.class, Object.class,
+				Object.class);
+
+		final Method fMethod;
+		final Class<?> fEventType;
+		/** Null if the method is not accessible, it is then called reflectively to report the error. */
+		final MethodHandle fHandle;
+
+		EventHandler(Method method) {
+			fMethod = method;
+			fEventType = method.getParameterTypes()[0];
+			MethodHandle handle;
+			try {
+				handle = MethodHandles.publicLookup().unreflect(method).asType(HANDLER_TYPE);
+			} catch (IllegalAccessException e) {
+				handle = null;
+			}
+			fHandle = handle;
+		}
+
+		void invoke(Object listener, Object event) throws IllegalAccessException, InvocationTargetException {
+			if (fHandle == null) {
+				fMethod.invoke(listener, event);
+				return;
+			}
+			try {
+				fHandle.invokeExact(listener, event);
+			} catch (Throwable e) {
+				throw new InvocationTargetException(e);
+			}
+		}
+	}
+
+	/** The handler methods of a listener that accept events of a given class. */
+	private static class EventDispatch {
+		final ListenerEntry fEntry;
+		final EventHandler[] fHandlers;
+
+		EventDispatch(ListenerEntry entry, EventHandler[] handlers) {
+			fEntry = entry;
+			fHandlers = handlers;
+		}
+	}
+
+	/**
+	 * The event handler methods of the listener classes, looked up once for each class.
+	 * @see #getEventHandlerMethods(Class)
+	 */
+	private static final ClassValue<EventHandler[]> fgEventHandlers = new ClassValue<EventHandler[]>() {
+		@Override
+		protected EventHandler[] computeValue(Class<?> listenerClass) {
+			return getEventHandlerMethods(listenerClass);
+		}
+	};
+
+	/**
+	 * Services receive the events before the other listeners, in the order in which they were
+	 * started. The other listeners receive them in the order in which they were added.
+	 */
+	private static final Comparator<EventDispatch> fgDispatchOrder = new Comparator<EventDispatch>() {
+		@Override
+		public int compare(EventDispatch d1, EventDispatch d2) {
+			Object l1 = d1.fEntry.fListener;
+			Object l2 = d2.fEntry.fListener;
+			if (l1 instanceof IDsfService && l2 instanceof IDsfService) {
+				return Integer.compare(((IDsfService) l1).getStartupNumber(), ((IDsfService) l2).getStartupNumber());
+			}
+			return Boolean.compare(l2 instanceof IDsfService, l1 instanceof IDsfService);
+		}
+	};
+
 	/** ID (plugin ID preferably) of the owner of this session */
 	private final String fOwnerId;
 
@@ -286,8 +364,15 @@ public class DsfSession {
 	/** Service start-up counter for this session */
 	private int fServiceInstanceCounter;
 
-	/** Map of registered event listeners. */
-	private Map<ListenerEntry, Method[]> fListeners = new HashMap<>();
+	/** Map of registered event listeners, in the order in which they were added. */
+	private Map<ListenerEntry, EventHandler[]> fListeners = new LinkedHashMap<>();
+
+	/**
+	 * The listeners that receive events of a class and their handler methods, in the order in
+	 * which they are called. Built on the first dispatch of an event of the class, and discarded
+	 * when the listeners or the order of the services change.
+	 */
+	private Map<Class<?>, EventDispatch[]> fDispatchTable = new HashMap<>();
 
 	/**
 	 * Map of registered adapters, for implementing the <code>IDMContext.getAdapter()</code>
@@ -348,7 +433,8 @@ public class DsfSession {
 
 			DsfPlugin.debug(msg);
 		}
-		fListeners.put(entry, getEventHandlerMethods(listener));
+		fListeners.put(entry, fgEventHandlers.get(listener.getClass()));
+		fDispatchTable.clear();
 	}
 
 	/**
@@ -370,7 +456,9 @@ public class DsfSession {
 
 			DsfPlugin.debug(msg);
 		}
-		fListeners.remove(entry);
+		if (fListeners.remove(entry) != null) {
+			fDispatchTable.clear();
+		}
 	}
 
 	/**
@@ -381,6 +469,7 @@ public class DsfSession {
 	 * @return current startup counter value
 	 */
 	public int getAndIncrementServiceStartupCounter() {
+		fDispatchTable.clear();
 		return fServiceInstanceCounter++;
 	}
 
@@ -484,61 +573,20 @@ public class DsfSession {
 		@SuppressWarnings("unchecked")
 		Dictionary<String, ?> serviceProperties = (Dictionary<String, ?>) _serviceProperties;
 
-		// Build a list of listeners;
-		SortedMap<ListenerEntry, List<Method>> listeners = new TreeMap<>(new Comparator<ListenerEntry>() {
-			@Override
-			public int compare(ListenerEntry o1, ListenerEntry o2) {
-				if (o1.fListener == o2.fListener) {
-					return 0;
-				}
-				if (o1.fListener instanceof IDsfService && !(o2.fListener instanceof IDsfService)) {
-					return -1;
-				} else if (o2.fListener instanceof IDsfService && !(o1.fListener instanceof IDsfService)) {
-					return 1;
-				} else if ((o1.fListener instanceof IDsfService) && (o2.fListener instanceof IDsfService)) {
-					return ((IDsfService) o1.fListener).getStartupNumber()
-							- ((IDsfService) o2.fListener).getStartupNumber();
-				}
-				return 1;
-			}
-
-			@Override
-			public boolean equals(Object obj) {
-				return obj == this;
-			}
-		});
-
-		// Build a list of listeners and methods that are registered for this event class.
-		Class<?> eventClass = event.getClass();
-		for (Map.Entry<ListenerEntry, Method[]> entry : fListeners.entrySet()) {
-			if (entry.getKey().fFilter != null && !entry.getKey().fFilter.match(serviceProperties)) {
+		for (EventDispatch dispatch : getEventDispatch(event.getClass())) {
+			ListenerEntry entry = dispatch.fEntry;
+			if (entry.fFilter != null && !entry.fFilter.match(serviceProperties)) {
 				// Dispatching service doesn't match the listener's filter, skip it.
 				continue;
 			}
-			Method[] allMethods = entry.getValue();
-			List<Method> matchingMethods = new ArrayList<>();
-			for (Method method : allMethods) {
-				assert method.getParameterTypes().length > 0 : eventClass.getName() + "." + method.getName() //$NON-NLS-1$
-						+ " signature contains zero parameters"; //$NON-NLS-1$
-				if (method.getParameterTypes()[0].isAssignableFrom(eventClass)) {
-					matchingMethods.add(method);
-				}
-			}
-			if (!matchingMethods.isEmpty()) {
-				listeners.put(entry.getKey(), matchingMethods);
-			}
-		}
-
-		// Call the listeners
-		for (Map.Entry<ListenerEntry, List<Method>> entry : listeners.entrySet()) {
-			for (Method method : entry.getValue()) {
+			for (EventHandler handler : dispatch.fHandlers) {
 				try {
 					if (DEBUG_SESSION_DISPATCHES) {
 						DsfPlugin.debug(DsfPlugin.getDebugTime() + " Listener " //$NON-NLS-1$
-								+ LoggingUtils.toString(entry.getKey().fListener) + " invoked with event " //$NON-NLS-1$
+								+ LoggingUtils.toString(entry.fListener) + " invoked with event " //$NON-NLS-1$
 								+ LoggingUtils.toString(event));
 					}
-					method.invoke(entry.getKey().fListener, new Object[] { event });
+					handler.invoke(entry.fListener, event);
 				} catch (IllegalAccessException e) {
 					DsfPlugin.getDefault().getLog().log(new Status(IStatus.ERROR, DsfPlugin.PLUGIN_ID, -1,
 							"Security exception when calling a service event handler method", e)); //$NON-NLS-1$
@@ -553,6 +601,36 @@ public class DsfSession {
 		}
 	}
 
+	/**
+	 * Returns the listeners whose handler methods accept events of the given class, with those
+	 * methods, in the order in which they are called. The filters of the listeners are not
+	 * applied, they depend on the service that dispatches the event.
+	 */
+	private EventDispatch[] getEventDispatch(Class<?> eventClass) {
+		EventDispatch[] dispatches = fDispatchTable.get(eventClass);
+		if (dispatches == null) {
+			List<EventDispatch> matching = new ArrayList<>();
+			List<EventHandler> matchingHandlers = new ArrayList<>();
+			for (Map.Entry<ListenerEntry, EventHandler[]> entry : fListeners.entrySet()) {
+				for (EventHandler handler : entry.getValue()) {
+					if (handler.fEventType.isAssignableFrom(eventClass)) {
+						matchingHandlers.add(handler);
+					}
+				}
+				if (!matchingHandlers.isEmpty()) {
+					matching.add(new EventDispatch(entry.getKey(),
+							matchingHandlers.toArray(new EventHandler[matchingHandlers.size()])));
+					matchingHandlers.clear();
+				}
+			}
+			// The sort is stable and keeps the other listeners in the order in which they were added
+			matching.sort(fgDispatchOrder);
+			dispatches = matching.toArray(new EventDispatch[matching.size()]);
+			fDispatchTable.put(eventClass, dispatches);
+		}
+		return dispatches;
+	}
+
 	/**
 	 * DSF event handlers don't implement any particular interfaces. They
 	 * declare one or more methods that are annotated with
@@ -565,14 +643,14 @@ public class DsfSession {
 	 * checked to ensure it takes a single parameter; an
 	 * {@link IllegalArgumentException} is thrown otherwise.
 	 *
-	 * @param listener
-	 *            an object which should contain handler methods
+	 * @param listenerClass
+	 *            the class of an object which should contain handler methods
 	 * @return the collection of handler methods
 	 */
-	private Method[] getEventHandlerMethods(Object listener) {
-		List<Method> retVal = new ArrayList<>();
+	private static EventHandler[] getEventHandlerMethods(Class<?> listenerClass) {
+		List<EventHandler> retVal = new ArrayList<>();
 		try {
-			Method[] methods = listener.getClass().getMethods();
+			Method[] methods = listenerClass.getMethods();
 			for (Method method : methods) {
 				if (method.isAnnotationPresent(DsfServiceEventHandler.class)) {
 					Class<?>[] paramTypes = method.getParameterTypes();
@@ -580,7 +658,7 @@ public class DsfSession {
 						throw new IllegalArgumentException(
 								"@DsfServiceEventHandler method has incorrect number of parameters"); //$NON-NLS-1$
 					}
-					retVal.add(method);
+					retVal.add(new EventHandler(method));
 				}
 			}
 		} catch (SecurityException e) {
@@ -591,7 +669,7 @@ public class DsfSession {
 			throw new IllegalArgumentException(
 					"No methods annotated with @DsfServiceEventHandler in listener, is listener declared public?"); //$NON-NLS-1$
 		}
-		return retVal.toArray(new Method[retVal.size()]);
+		return retVal.toArray(new EventHandler[retVal.size()]);
 	}
 
 	/**
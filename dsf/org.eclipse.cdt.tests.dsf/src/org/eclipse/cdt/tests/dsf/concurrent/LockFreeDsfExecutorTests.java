@@ -0,0 +1,213 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.tests.dsf.concurrent;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.cdt.dsf.concurrent.DataRequestMonitor;
+import org.eclipse.cdt.dsf.concurrent.DsfExecutorStatistics;
+import org.eclipse.cdt.dsf.concurrent.LockFreeDsfExecutor;
+import org.eclipse.cdt.dsf.concurrent.Query;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests that exercise the LockFreeDsfExecutor.
+ */
+public class LockFreeDsfExecutorTests {
+	LockFreeDsfExecutor fExecutor;
+
+	@Before
+	public void startExecutor() {
+		fExecutor = new LockFreeDsfExecutor("LockFreeDsfExecutorTests", true);
+	}
+
+	@After
+	public void shutdownExecutor() throws InterruptedException {
+		fExecutor.shutdown();
+		assertTrue(fExecutor.awaitTermination(10, TimeUnit.SECONDS));
+		fExecutor = null;
+	}
+
+	@Test
+	public void executesInOrderOfSubmission() throws Exception {
+		final int producers = 4;
+		final int count = 10000;
+		// Accessed in the executor thread only
+		final int[] next = new int[producers];
+		final List<String> errors = new ArrayList<>();
+		List<Thread> threads = new ArrayList<>();
+		for (int i = 0; i < producers; i++) {
+			final int producer = i;
+			threads.add(new Thread(() -> {
+				for (int j = 0; j < count; j++) {
+					final int sequence = j;
+					fExecutor.execute(() -> {
+						if (!fExecutor.isInExecutorThread() || next[producer]++ != sequence) {
+							errors.add("Executed " + producer + ':' + sequence + " out of order");
+						}
+					});
+				}
+			}));
+		}
+		for (Thread thread : threads) {
+			thread.start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		fExecutor.submit(() -> {
+			for (int i = 0; i < producers; i++) {
+				assertEquals(count, next[i]);
+			}
+			assertTrue(errors.toString(), errors.isEmpty());
+		}).get(10, TimeUnit.SECONDS);
+		assertFalse(fExecutor.isInExecutorThread());
+	}
+
+	@Test
+	public void runsQueries() throws Exception {
+		Query<Integer> q = new Query<>() {
+			@Override
+			protected void execute(DataRequestMonitor<Integer> rm) {
+				rm.setData(1);
+				rm.done();
+			}
+		};
+		fExecutor.execute(q);
+		assertEquals(1, (int) q.get(10, TimeUnit.SECONDS));
+
+		Future<Integer> f = fExecutor.submit(() -> {
+			throw new IllegalStateException();
+		});
+		try {
+			f.get(10, TimeUnit.SECONDS);
+			fail("Expected ExecutionException");
+		} catch (ExecutionException e) {
+			assertTrue(e.getCause() instanceof IllegalStateException);
+		}
+	}
+
+	@Test
+	public void schedulesDelayedAndPeriodicTasks() throws Exception {
+		long start = System.nanoTime();
+		ScheduledFuture<Long> delayed = fExecutor.schedule(() -> System.nanoTime(), 50, TimeUnit.MILLISECONDS);
+		ScheduledFuture<?> cancelled = fExecutor.schedule(() -> fail("Cancelled task executed"), 10,
+				TimeUnit.MILLISECONDS);
+		cancelled.cancel(false);
+
+		CountDownLatch latch = new CountDownLatch(5);
+		ScheduledFuture<?> periodic = fExecutor.scheduleAtFixedRate(latch::countDown, 0, 5, TimeUnit.MILLISECONDS);
+		assertTrue(latch.await(10, TimeUnit.SECONDS));
+		periodic.cancel(false);
+
+		assertTrue(delayed.get(10, TimeUnit.SECONDS) - start >= TimeUnit.MILLISECONDS.toNanos(50));
+		assertTrue(cancelled.isCancelled());
+	}
+
+	@Test
+	public void shutdownRunsQueuedTasks() throws Exception {
+		final AtomicInteger executed = new AtomicInteger();
+		final CountDownLatch blocked = new CountDownLatch(1);
+		fExecutor.execute(() -> {
+			try {
+				blocked.await();
+			} catch (InterruptedException e) {
+			}
+		});
+		Runnable increment = executed::incrementAndGet;
+		for (int i = 0; i < 100; i++) {
+			fExecutor.execute(increment);
+		}
+		Future<?> delayed = fExecutor.schedule(increment, 20, TimeUnit.MILLISECONDS);
+		ScheduledFuture<?> periodic = fExecutor.scheduleWithFixedDelay(increment, 1, 1, TimeUnit.HOURS);
+		fExecutor.shutdown();
+		try {
+			fExecutor.execute(increment);
+			fail("Expected RejectedExecutionException");
+		} catch (RejectedExecutionException e) {
+		}
+		blocked.countDown();
+
+		assertTrue(fExecutor.awaitTermination(10, TimeUnit.SECONDS));
+		assertTrue(delayed.isDone());
+		assertTrue(periodic.isCancelled());
+		assertEquals(101, executed.get());
+	}
+
+	@Test
+	public void shutdownNowReturnsQueuedTasks() throws Exception {
+		final CountDownLatch started = new CountDownLatch(1);
+		final CountDownLatch interrupted = new CountDownLatch(1);
+		fExecutor.execute(() -> {
+			started.countDown();
+			try {
+				Thread.sleep(TimeUnit.SECONDS.toMillis(10));
+			} catch (InterruptedException e) {
+				interrupted.countDown();
+			}
+		});
+		for (int i = 0; i < 10; i++) {
+			fExecutor.execute(() -> fail("Queued task executed"));
+		}
+		assertTrue(started.await(10, TimeUnit.SECONDS));
+		assertEquals(10, fExecutor.shutdownNow().size());
+		assertTrue(interrupted.await(0, TimeUnit.SECONDS));
+		assertTrue(fExecutor.isTerminated());
+	}
+
+	@Test
+	public void collectsStatistics() throws Exception {
+		for (int i = 0; i < 10; i++) {
+			fExecutor.execute(new Runnable() {
+				@Override
+				public void run() {
+					long end = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(1);
+					while (System.nanoTime() < end) {
+						Thread.onSpinWait();
+					}
+				}
+			});
+		}
+		fExecutor.submit(() -> null).get(10, TimeUnit.SECONDS);
+
+		DsfExecutorStatistics statistics = fExecutor.getStatistics();
+		assertNotNull(statistics);
+		assertTrue(statistics.getExecutedCount() >= 10);
+		assertEquals(0, statistics.getQueueDepth());
+		assertTrue(statistics.getMaxQueueDepth() > 1);
+		DsfExecutorStatistics.Entry busiest = statistics.getEntries().get(0);
+		assertTrue(busiest.getName(), busiest.getName().startsWith(getClass().getName() + '$'));
+		assertEquals(10, busiest.getCount());
+		assertTrue(busiest.getRunTime() >= TimeUnit.MILLISECONDS.toNanos(10));
+		assertTrue(busiest.getWaitTime() >= busiest.getMaxWaitTime());
+
+		LockFreeDsfExecutor executor = new LockFreeDsfExecutor("LockFreeDsfExecutorTests", false);
+		assertNull(executor.getStatistics());
+		executor.shutdown();
+	}
+}
@@ -250,4 +250,47 @@ public class EventTest {
 			}
 		}).get();
 	}
+
+	/**
+	 * Tests dispatching event 1 while the listeners change. The goal of the
+	 * test is to make sure that the recipients of the event follow the
+	 * listeners, and that services are still called in the order in which
+	 * they were started, not in the order in which they were added as
+	 * listeners.
+	 */
+	@Test
+	public void listenersChangedTest() throws ExecutionException, InterruptedException {
+		fService1.dispatchEvent1();
+		fExecutor.submit(new DsfRunnable() {
+			@Override
+			public void run() {
+				Assert.assertTrue(2 == fService2.fEvent1RecipientNumber);
+				fService1.fEvent1RecipientNumber = fService2.fEvent1RecipientNumber = fService3.fEvent1RecipientNumber = 0;
+				fSession.removeServiceEventListener(fService2);
+			}
+		}).get();
+
+		fService1.dispatchEvent1();
+		fExecutor.submit(new DsfRunnable() {
+			@Override
+			public void run() {
+				Assert.assertTrue(1 == fService1.fEvent1RecipientNumber);
+				Assert.assertTrue(0 == fService2.fEvent1RecipientNumber);
+				Assert.assertTrue(2 == fService3.fEvent1RecipientNumber);
+				fService1.fEvent1RecipientNumber = fService3.fEvent1RecipientNumber = 0;
+				fSession.addServiceEventListener(fService2, null);
+			}
+		}).get();
+
+		fService1.dispatchEvent1();
+		fExecutor.submit(new DsfRunnable() {
+			@Override
+			public void run() {
+				Assert.assertTrue(1 == fService1.fEvent1RecipientNumber);
+				Assert.assertTrue(2 == fService2.fEvent1RecipientNumber);
+				Assert.assertTrue(3 == fService3.fEvent1RecipientNumber);
+				Assert.assertTrue(0 == fService4.fEvent1RecipientNumber);
+			}
+		}).get();
+	}
 }